@@ -6,17 +6,24 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaBuilder.In;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.geode.addon.cluster.util.HibernatePool;
+import org.apache.geode.addon.cluster.util.LoadCoalescer;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheLoaderException;
@@ -27,6 +34,9 @@ import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.LoaderHelper;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.RegionExistsException;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.distributed.DistributedLockService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hibernate.Session;
@@ -69,6 +79,51 @@ import org.hibernate.query.Query;
  * prevent the database connection getting timed out.</td>
  * <td>1000</td>
  * <tr>
+ * <td>entity.load.coalesce</td>
+ * <td>true to coalesce concurrent load() calls of the same key into a single
+ * database query. The other callers wait for and share its result.</td>
+ * <td>true</td>
+ * </tr>
+ * <tr>
+ * <td>entity.load.negative.ttl</td>
+ * <td>Time in milliseconds to remember the keys that are not found in the
+ * database. Repeated load() misses of the remembered keys are answered
+ * without querying the database. The keys written by beforeCreate() and
+ * beforeUpdate() are forgotten by this object and by the region's cache
+ * loader, which is a separate instance if the cache-loader and cache-writer
+ * are declared separately. If <= 0 then the misses are not remembered.</td>
+ * <td>0</td>
+ * </tr>
+ * <tr>
+ * <td>entity.load.negative.max.size</td>
+ * <td>Maximum number of keys remembered as not found. Once reached, the new
+ * misses are not remembered until the expired keys are purged.</td>
+ * <td>100000</td>
+ * </tr>
+ * <tr>
+ * <td>entity.delta.column</td>
+ * <td>Optional entity attribute name of a change timestamp or version column,
+ * e.g., "updatedAt", that is set to a greater value whenever a row is
+ * inserted or updated. If specified, the rows changed since the last delta
+ * load are periodically reloaded into the region. region.path is required.
+ * See <b>Delta Load</b> below.</td>
+ * <td>N/A</td>
+ * </tr>
+ * <tr>
+ * <td>entity.delta.interval</td>
+ * <td>Delta load interval in milliseconds. If <= 0 then the delta load is not
+ * scheduled and it runs only when {@link #loadDeltaFromDb()} or
+ * {@link DbUtil#loadDelta()} is invoked.</td>
+ * <td>60000</td>
+ * </tr>
+ * <tr>
+ * <td>entity.delta.watermark.region</td>
+ * <td>Name of the replicated region that holds the delta watermark, i.e., the
+ * greatest entity.delta.column value loaded so far, of each region path. The
+ * region is created on each member that schedules delta loads.</td>
+ * <td>padogrid_delta_watermarks</td>
+ * </tr>
+ * <tr>
  * <td>entity.db.isRead</td>
  * <td>true to read from the database if there is a cache miss, false to ignore
  * cache misses</td>
@@ -86,6 +141,30 @@ import org.hibernate.query.Query;
  * </tr>
  * </table>
  * <p>
+ * <b>Delta Load:</b> If entity.delta.column is specified, then one member,
+ * elected by a distributed lock, queries the primary keys of the rows whose
+ * entity.delta.column value is greater than the watermark every
+ * entity.delta.interval milliseconds, in the ascending order of the value and
+ * in batches of entity.load.batch.size keys. Each batch is loaded and put into
+ * the region by putAll() without writing it back to the database, and the
+ * watermark is advanced to the last value of the batch and put in the
+ * entity.delta.watermark.region region. The region is replicated to all the
+ * members that schedule delta loads so that the member that takes over the
+ * delta lock after a failure continues from the last watermark. The cost
+ * of a delta load is therefore proportional to the number of changed rows
+ * rather than the table size. The watermark is initialized to the greatest
+ * value in the table by {@link #loadAllFromDb()} before it reads the keys, or
+ * by the first delta load if the watermark is not found. Note the following:
+ * <ul>
+ * <li>Deleted rows are not detected. Use soft deletes or destroy the region
+ * entries separately.</li>
+ * <li>Rows with a null value are never loaded by delta loads.</li>
+ * <li>A row committed with a value less than the watermark after the watermark
+ * has passed it is not loaded. Set the value at commit time, e.g., by a
+ * database trigger or a version column, if long transactions update the
+ * table.</li>
+ * </ul>
+ * <p>
  * <b>Limitations:</b>
  * <ul>
  * <li>CacheWrtierLoaderDbImpl can be connected to only a single database system due to
@@ -167,10 +246,24 @@ import org.hibernate.query.Query;
  */
 public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, CacheLoader<K, V>, Declarable {
 
+	/**
+	 * Callback argument of the region puts made by delta loads. The entries put
+	 * with this argument are not written to the database.
+	 */
+	public static final String DELTA_LOAD_CALLBACK_ARGUMENT = "CacheWriterLoaderPkDbImpl.deltaLoad";
+
+	private static final String DELTA_LOCK_SERVICE_NAME = "CacheWriterLoaderPkDbImpl-delta";
+
 	private final String PROPERTY_REGION_PATH = "region.path";
 	private final String PROPERTY_ENTITY_CLASS = "entity.class";
 	private final String PROPERTY_LIMIT = "entity.load.limit";
 	private final String PROPERTY_LOAD_BATCH_SIZE = "entity.load.batch.size";
+	private final String PROPERTY_LOAD_COALESCE = "entity.load.coalesce";
+	private final String PROPERTY_LOAD_NEGATIVE_TTL = "entity.load.negative.ttl";
+	private final String PROPERTY_LOAD_NEGATIVE_MAX_SIZE = "entity.load.negative.max.size";
+	private final String PROPERTY_DELTA_COLUMN = "entity.delta.column";
+	private final String PROPERTY_DELTA_INTERVAL = "entity.delta.interval";
+	private final String PROPERTY_DELTA_WATERMARK_REGION = "entity.delta.watermark.region";
 	private final String PROPERTY_IS_READ = "entity.db.isRead";
 	private final String PROPERTY_IS_WRITE = "entity.db.isWrite";
 	private final String PROPERTY_IS_DELETE = "entity.db.isDelete";
@@ -180,10 +273,22 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 	private Class<?> entityClass;
 	private int initialKeyLimit = 1000;
 	private int loadBatchSize = 1000;
+	private boolean isLoadCoalesce = true;
+	private long loadNegativeTtl = 0;
+	private int loadNegativeMaxSize = 100000;
+	private String deltaColumn;
+	private long deltaInterval = 60000;
+	private String deltaWatermarkRegionName = "padogrid_delta_watermarks";
 	private boolean isDbRead = true;
 	private boolean isDbWrite = false;
 	private boolean isDbDelete = false;
 
+	// Coalesces concurrent load() calls and remembers misses. null if disabled.
+	private LoadCoalescer<K, V> loadCoalescer;
+
+	// Runs the delta loads. null if not scheduled.
+	private ScheduledExecutorService deltaExecutor;
+
 	private Logger logger = LogManager.getLogger(this.getClass());
 
 	@Override
@@ -208,18 +313,67 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 		} catch (NumberFormatException ex) {
 			loadBatchSize = 1000;
 		}
+		isLoadCoalesce = Boolean.valueOf(properties.getProperty(PROPERTY_LOAD_COALESCE, "true"));
+		try {
+			loadNegativeTtl = Long.valueOf(properties.getProperty(PROPERTY_LOAD_NEGATIVE_TTL, "0"));
+		} catch (NumberFormatException ex) {
+			loadNegativeTtl = 0;
+		}
+		try {
+			loadNegativeMaxSize = Integer.valueOf(properties.getProperty(PROPERTY_LOAD_NEGATIVE_MAX_SIZE, "100000"));
+		} catch (NumberFormatException ex) {
+			loadNegativeMaxSize = 100000;
+		}
+		if (isLoadCoalesce || loadNegativeTtl > 0) {
+			loadCoalescer = new LoadCoalescer<K, V>(loadNegativeTtl, loadNegativeMaxSize);
+		}
 		isDbRead = Boolean.valueOf(properties.getProperty(PROPERTY_IS_READ, "true"));
 		isDbWrite = Boolean.valueOf(properties.getProperty(PROPERTY_IS_WRITE, "false"));
 		isDbDelete = Boolean.valueOf(properties.getProperty(PROPERTY_IS_DELETE, "false"));
 
 		this.regionPath = properties.getProperty(PROPERTY_REGION_PATH);
 
+		deltaColumn = properties.getProperty(PROPERTY_DELTA_COLUMN);
+		if (deltaColumn != null) {
+			deltaColumn = deltaColumn.trim();
+			if (deltaColumn.length() == 0) {
+				deltaColumn = null;
+			} else if (regionPath == null) {
+				logger.error(PROPERTY_DELTA_COLUMN + " ignored. " + PROPERTY_REGION_PATH + " undefined.");
+				deltaColumn = null;
+			}
+		}
+		try {
+			deltaInterval = Long.valueOf(properties.getProperty(PROPERTY_DELTA_INTERVAL, "60000"));
+		} catch (NumberFormatException ex) {
+			deltaInterval = 60000;
+		}
+		deltaWatermarkRegionName = properties.getProperty(PROPERTY_DELTA_WATERMARK_REGION, deltaWatermarkRegionName);
+		if (deltaColumn != null) {
+			if (isDbRead && deltaInterval > 0) {
+				deltaExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "CacheWriterLoaderPkDbImpl-" + regionPath + "-delta");
+					thread.setDaemon(true);
+					return thread;
+				});
+				deltaExecutor.scheduleWithFixedDelay(this::runScheduledDeltaLoad, deltaInterval, deltaInterval,
+						TimeUnit.MILLISECONDS);
+			}
+		}
+
 		logger.info("Configured CacheWriter/Loader " + this.getClass().getName() + " for the region " + this.regionPath);
 	}
 
+	@Override
+	public void close() {
+		if (deltaExecutor != null) {
+			deltaExecutor.shutdownNow();
+		}
+	}
+
 	private List<String> getPrimaryKeys(Class<?> clazz, int limit) {
-		try {
-			Session session = HibernatePool.getHibernatePool().takeSession();
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
 			CriteriaBuilder cb = session.getCriteriaBuilder();
 			CriteriaQuery<String> cr = cb.createQuery(String.class);
 			Root<?> root = cr.from(clazz);
@@ -229,9 +383,7 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 			if (limit > 0) {
 				query.setMaxResults(limit);
 			}
-			List<String> pkList = query.getResultList();
-			HibernatePool.getHibernatePool().offerSession(session);
-			return pkList;
+			return query.getResultList();
 		} catch (InterruptedException ex) {
 			logger.fatal(this.getClass().getSimpleName() + ".getPrimaryKeys() DB session interrupted", ex);
 		} catch (Exception ex) {
@@ -253,9 +405,8 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 		Map<K, V> result = new HashMap<K, V>();
 		String getterMethodName = null;
 		if (isDbRead) {
-			Session session = null;
-			try {
-				session = HibernatePool.getHibernatePool().takeSession();
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
 				CriteriaBuilder cb = session.getCriteriaBuilder();
 				CriteriaQuery<?> cr = cb.createQuery(entityClass);
 				Root root = cr.from(entityClass);
@@ -304,9 +455,6 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 			} catch (Exception ex) {
 				logger.fatal(ex);
 			}
-			if (session != null) {
-				HibernatePool.getHibernatePool().offerSession(session);
-			}
 		}
 		return result;
 	}
@@ -323,20 +471,280 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 		if (region == null) {
 			return;
 		}
+		if (deltaColumn != null) {
+			initDeltaWatermark();
+		}
 		List pkList = getPrimaryKeys(entityClass, initialKeyLimit);
 		Map map = loadFromDb(pkList);
 		region.putAll(map);
 	}
+
+	/**
+	 * Puts the greatest entity.delta.column value in the table in the watermark
+	 * region. Invoked before the initial load reads the keys so that the rows
+	 * changed during the initial load are reloaded by the next delta load.
+	 * Errors are logged and do not stop the initial load.
+	 */
+	private void initDeltaWatermark() {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Comparable<?> watermark = selectMaxDeltaValue(lease.getSession());
+			if (watermark != null) {
+				getWatermarkRegion().put(regionPath, watermark);
+			}
+		} catch (Exception ex) {
+			logger.warn(this.getClass().getSimpleName() + " Unable to initialize the delta watermark of the region "
+					+ regionPath, ex);
+		}
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Comparable<?> selectMaxDeltaValue(Session session) {
+		CriteriaBuilder cb = session.getCriteriaBuilder();
+		CriteriaQuery<Object> cr = cb.createQuery();
+		Root<?> root = cr.from(entityClass);
+		Path<Comparable> deltaPath = root.get(deltaColumn);
+		cr.select(cb.greatest(deltaPath));
+		return (Comparable<?>) session.createQuery(cr).getSingleResult();
+	}
+
+	/**
+	 * Returns the primary keys and entity.delta.column values of up to the
+	 * specified number of rows whose value is greater than the watermark in the
+	 * ascending order of the value.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private List<Object[]> selectChangedKeys(Session session, Comparable watermark, int maxResults) {
+		CriteriaBuilder cb = session.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cr = cb.createQuery(Object[].class);
+		Root<?> root = cr.from(entityClass);
+		String pk = root.getModel().getId(String.class).getName();
+		Path<Comparable> deltaPath = root.get(deltaColumn);
+		cr.multiselect(root.get(pk), deltaPath).where(cb.greaterThan(deltaPath, watermark))
+				.orderBy(cb.asc(deltaPath));
+		Query<Object[]> query = session.createQuery(cr);
+		query.setMaxResults(maxResults);
+		return query.getResultList();
+	}
+
+	/**
+	 * Returns the primary keys of up to the specified number of rows with the
+	 * specified entity.delta.column value whose primary key is greater than the
+	 * specified key in the ascending order of the primary key.
+	 * 
+	 * @param session    Hibernate session
+	 * @param value      entity.delta.column value
+	 * @param lastKey    Last primary key of the previous page. null for the first
+	 *                   page.
+	 * @param maxResults Maximum number of keys to return
+	 */
+	private List<String> selectKeysByDeltaValue(Session session, Object value, String lastKey, int maxResults) {
+		CriteriaBuilder cb = session.getCriteriaBuilder();
+		CriteriaQuery<String> cr = cb.createQuery(String.class);
+		Root<?> root = cr.from(entityClass);
+		String pk = root.getModel().getId(String.class).getName();
+		Path<String> pkPath = root.get(pk);
+		Predicate predicate = cb.equal(root.get(deltaColumn), value);
+		if (lastKey != null) {
+			predicate = cb.and(predicate, cb.greaterThan(pkPath, lastKey));
+		}
+		cr.select(pkPath).where(predicate).orderBy(cb.asc(pkPath));
+		Query<String> query = session.createQuery(cr);
+		query.setMaxResults(maxResults);
+		return query.getResultList();
+	}
+
+	/**
+	 * Loads the rows with the specified entity.delta.column value that are not
+	 * in the specified key set into the region, in pages of
+	 * entity.load.batch.size keys, so that any number of rows sharing the value
+	 * is loaded without reading all their keys at once.
+	 * 
+	 * @param region    Region to put the entries into
+	 * @param value     entity.delta.column value
+	 * @param loadedSet Keys already loaded
+	 * @return Number of entries loaded
+	 * @throws InterruptedException Thrown if interrupted while waiting for a
+	 *                              session
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private long loadKeysByDeltaValue(Region region, Object value, Set<K> loadedSet) throws InterruptedException {
+		long count = 0;
+		String lastKey = null;
+		int keyCount;
+		do {
+			List<String> pageList;
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				pageList = selectKeysByDeltaValue(lease.getSession(), value, lastKey, loadBatchSize);
+			}
+			keyCount = pageList.size();
+			if (keyCount == 0) {
+				break;
+			}
+			List<K> keyList = new ArrayList<K>(keyCount);
+			for (String key : pageList) {
+				if (loadedSet.contains(key) == false) {
+					keyList.add((K) key);
+				}
+			}
+			if (keyList.isEmpty() == false) {
+				Map<K, V> map = loadFromDb(keyList);
+				region.putAll(map, DELTA_LOAD_CALLBACK_ARGUMENT);
+				count += map.size();
+			}
+			lastKey = pageList.get(keyCount - 1);
+		} while (keyCount == loadBatchSize);
+		return count;
+	}
+
+	/**
+	 * Returns the replicated region that holds the delta watermarks. The region
+	 * is created if it does not exist so that this member receives the
+	 * watermarks put by the other members.
+	 */
+	private Region<String, Object> getWatermarkRegion() {
+		Region<String, Object> region = cache.getRegion(deltaWatermarkRegionName);
+		if (region == null) {
+			try {
+				region = cache.<String, Object>createRegionFactory(RegionShortcut.REPLICATE)
+						.create(deltaWatermarkRegionName);
+			} catch (RegionExistsException ex) {
+				region = cache.getRegion(deltaWatermarkRegionName);
+			}
+		}
+		return region;
+	}
+
+	/**
+	 * Runs the delta load if this object is the region's cache loader and this
+	 * member holds the delta lock of the region, so that only one member
+	 * queries the database. The lock is held until the member leaves the
+	 * distributed system. The watermark region is created on every member that
+	 * runs this method so that the watermark survives the lock holder.
+	 */
+	@SuppressWarnings("rawtypes")
+	private void runScheduledDeltaLoad() {
+		try {
+			Region region = cache.getRegion(regionPath);
+			if (region == null || region.getAttributes().getCacheLoader() != this) {
+				return;
+			}
+			getWatermarkRegion();
+			DistributedLockService lockService = DistributedLockService.getServiceNamed(DELTA_LOCK_SERVICE_NAME);
+			if (lockService == null) {
+				try {
+					lockService = DistributedLockService.create(DELTA_LOCK_SERVICE_NAME, cache.getDistributedSystem());
+				} catch (IllegalArgumentException ex) {
+					// Created by another region
+					lockService = DistributedLockService.getServiceNamed(DELTA_LOCK_SERVICE_NAME);
+				}
+			}
+			if (lockService.isHeldByCurrentThread(regionPath) || lockService.lock(regionPath, 0, -1)) {
+				loadDeltaFromDb();
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} catch (Exception ex) {
+			logger.warn(this.getClass().getSimpleName() + ".loadDeltaFromDb() failed for the region " + regionPath,
+					ex);
+		}
+	}
+
+	/**
+	 * Loads the rows changed since the delta watermark into the region and
+	 * advances the watermark. The keys are read in batches of
+	 * entity.load.batch.size in the ascending order of entity.delta.column. The
+	 * rows that share the last value of a full batch are loaded after the batch
+	 * in pages of entity.load.batch.size keys ordered by the primary key so that
+	 * no rows with the same value are skipped. Each batch is put into the region
+	 * without writing it back to the database. If the watermark is not found,
+	 * then it is initialized to the greatest value in the table and no rows are
+	 * loaded. The watermark is put in the watermark region after each batch is
+	 * loaded.
+	 * 
+	 * @return Number of keys loaded. 0 if entity.delta.column is not specified
+	 *         or the region does not exist.
+	 * @throws InterruptedException Thrown if interrupted while waiting for a
+	 *                              session
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public synchronized long loadDeltaFromDb() throws InterruptedException {
+		if (deltaColumn == null || isDbRead == false) {
+			return 0;
+		}
+		Region region = cache.getRegion(regionPath);
+		if (region == null) {
+			return 0;
+		}
+		long startTime = System.nanoTime();
+		Region<String, Object> watermarkRegion = getWatermarkRegion();
+		Comparable watermark = (Comparable) watermarkRegion.get(regionPath);
+		if (watermark == null) {
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				watermark = selectMaxDeltaValue(lease.getSession());
+			}
+			if (watermark != null) {
+				watermarkRegion.put(regionPath, watermark);
+				logger.info(this.getClass().getSimpleName()
+						+ ".loadDeltaFromDb() initialized the watermark of the region " + regionPath + " ["
+						+ deltaColumn + "=" + watermark + "]");
+			}
+			return 0;
+		}
+
+		long count = 0;
+		int rowCount;
+		do {
+			Set<K> keySet;
+			Comparable lastValue;
+			// Release the session before loading the keys, which needs a session
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
+				List<Object[]> rowList = selectChangedKeys(session, watermark, loadBatchSize);
+				rowCount = rowList.size();
+				if (rowCount == 0) {
+					break;
+				}
+				keySet = new LinkedHashSet<K>(rowCount * 4 / 3 + 1);
+				for (Object[] row : rowList) {
+					keySet.add((K) row[0]);
+				}
+				lastValue = (Comparable) rowList.get(rowCount - 1)[1];
+			}
+			Map<K, V> map = loadFromDb(new ArrayList<K>(keySet));
+			region.putAll(map, DELTA_LOAD_CALLBACK_ARGUMENT);
+			count += map.size();
+			if (rowCount == loadBatchSize) {
+				// The rows with the last value may continue beyond the batch
+				count += loadKeysByDeltaValue(region, lastValue, keySet);
+			}
+			watermark = lastValue;
+			watermarkRegion.put(regionPath, watermark);
+		} while (rowCount == loadBatchSize);
+
+		String message = this.getClass().getSimpleName() + ".loadDeltaFromDb() loaded " + count
+				+ " changed entries into the region " + regionPath + " [" + deltaColumn + "=" + watermark + ", "
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " msec]";
+		if (count > 0) {
+			logger.info(message);
+		} else {
+			logger.debug(message);
+		}
+		return count;
+	}
 	
 	@Override
 	public void beforeUpdate(EntryEvent<K, V> event) throws CacheWriterException {
 		if (isDbWrite) {
-			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
+			invalidateLoad(event);
+			if (DELTA_LOAD_CALLBACK_ARGUMENT.equals(event.getCallbackArgument())) {
+				// Loaded from the database
+				return;
+			}
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
 				Transaction transaction = session.beginTransaction();
 				session.saveOrUpdate(event.getNewValue());
 				transaction.commit();
-				HibernatePool.getHibernatePool().offerSession(session);
 			} catch (InterruptedException ex) {
 				logger.fatal(this.getClass().getSimpleName() + ".beforeUpdate() DB session interrupted", ex);
 			} catch (Exception ex) {
@@ -345,6 +753,26 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 		}
 	}
 
+	/**
+	 * Invalidates the event key in the LoadCoalescer of this object and of the
+	 * region's cache loader. Geode creates separate instances for the
+	 * cache-loader and cache-writer declared in cache.xml, and load() consults
+	 * the cache loader's negative cache.
+	 */
+	@SuppressWarnings("unchecked")
+	private void invalidateLoad(EntryEvent<K, V> event) {
+		if (loadCoalescer != null) {
+			loadCoalescer.invalidate(event.getKey());
+		}
+		CacheLoader<K, V> cacheLoader = event.getRegion().getAttributes().getCacheLoader();
+		if (cacheLoader != this && cacheLoader instanceof CacheWriterLoaderPkDbImpl) {
+			LoadCoalescer<K, V> coalescer = ((CacheWriterLoaderPkDbImpl<K, V>) cacheLoader).getLoadCoalescer();
+			if (coalescer != null) {
+				coalescer.invalidate(event.getKey());
+			}
+		}
+	}
+
 	@Override
 	public void beforeCreate(EntryEvent<K, V> event) throws CacheWriterException {
 		beforeUpdate(event);
@@ -353,12 +781,11 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 	@Override
 	public void beforeDestroy(EntryEvent<K, V> event) throws CacheWriterException {
 		if (isDbDelete) {
-			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
 				Transaction transaction = session.beginTransaction();
 				session.delete(event.getKey());
 				transaction.commit();
-				HibernatePool.getHibernatePool().offerSession(session);
 			} catch (InterruptedException ex) {
 				logger.fatal(this.getClass().getSimpleName() + ".beforeDestroy() DB session interrupted", ex);
 			} catch (Exception ex) {
@@ -375,13 +802,12 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 	@Override
 	public void beforeRegionClear(RegionEvent<K, V> event) throws CacheWriterException {
 		if (isDbDelete) {
-			try {
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
 				Set<K> set = event.getRegion().keySet();
-				Session session = HibernatePool.getHibernatePool().takeSession();
+				Session session = lease.getSession();
 				Transaction transaction = session.beginTransaction();
 				set.forEach((key) -> session.delete(key));
 				transaction.commit();
-				HibernatePool.getHibernatePool().offerSession(session);
 			} catch (InterruptedException ex) {
 				logger.fatal(this.getClass().getSimpleName() + ".beforeRegionClear() DB session interrupted", ex);
 			} catch (Exception ex) {
@@ -394,10 +820,10 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 	public V load(LoaderHelper<K, V> helper) throws CacheLoaderException {
 		if (isDbRead) {
 			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
-				V value = (V) session.find(entityClass, helper.getKey());
-				HibernatePool.getHibernatePool().offerSession(session);
-				return value;
+				if (loadCoalescer == null) {
+					return loadFromDb(helper.getKey());
+				}
+				return loadCoalescer.load(helper.getKey(), this::loadFromDb);
 			} catch (InterruptedException ex) {
 				logger.fatal(this.getClass().getSimpleName() + ".load() DB interrupted", ex);
 			} catch (Exception ex) {
@@ -406,4 +832,20 @@ public class CacheWriterLoaderPkDbImpl<K, V> implements CacheWriter<K, V>, Cache
 		}
 		return null;
 	}
+
+	@SuppressWarnings("unchecked")
+	private V loadFromDb(K key) throws InterruptedException {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			return (V) lease.getSession().find(entityClass, key);
+		}
+	}
+
+	/**
+	 * Returns the LoadCoalescer that coalesces load() calls and remembers the
+	 * keys not found. null if both entity.load.coalesce and
+	 * entity.load.negative.ttl are disabled.
+	 */
+	public LoadCoalescer<K, V> getLoadCoalescer() {
+		return loadCoalescer;
+	}
 }
@@ -7,6 +7,7 @@ import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
+import org.apache.logging.log4j.LogManager;
 
 public class DbUtil {
 
@@ -53,4 +54,67 @@ public class DbUtil {
 			loadAll(subRegion);
 		}
 	}
+
+	/**
+	 * Recursively loads the database rows changed since the last load to all the
+	 * regions that are registered with {@linkplain CacheWriterLoaderPkDbImpl}
+	 * configured with "entity.delta.column". If the cache is not available or
+	 * closed then it silently returns without taking any actions.
+	 * 
+	 * @return Total number of entries loaded
+	 * @see CacheWriterLoaderPkDbImpl#loadDeltaFromDb()
+	 */
+	public final static long loadDelta() {
+		Cache cache;
+		try {
+			cache = CacheFactory.getAnyInstance();
+			if (cache.isClosed()) {
+				return 0;
+			}
+		} catch (Exception ex) {
+			// ignore
+			return 0;
+		}
+		long count = 0;
+		Set<Region<?, ?>> set = cache.rootRegions();
+		for (Region<?, ?> region : set) {
+			count += loadDelta(region);
+		}
+		return count;
+	}
+
+	/**
+	 * Recursively loads the database rows changed since the last load to the
+	 * specified region and its sub-regions that are registered with
+	 * {@linkplain CacheWriterLoaderPkDbImpl} configured with
+	 * "entity.delta.column". The regions that fail to load are skipped.
+	 * 
+	 * @param region parent region
+	 * @return Total number of entries loaded
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public final static long loadDelta(Region region) {
+		long count = 0;
+		RegionAttributes attr = region.getAttributes();
+		if (attr != null) {
+			CacheLoader loader = attr.getCacheLoader();
+			if (loader != null && loader instanceof CacheWriterLoaderPkDbImpl) {
+				CacheWriterLoaderPkDbImpl pkDbLoader = (CacheWriterLoaderPkDbImpl) loader;
+				try {
+					count += pkDbLoader.loadDeltaFromDb();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return count;
+				} catch (Exception ex) {
+					LogManager.getLogger(DbUtil.class).error("Delta load failed for the region " + region.getFullPath(),
+							ex);
+				}
+			}
+		}
+		Set<Region> subRegionSet = region.subregions(false);
+		for (Region<?, ?> subRegion : subRegionSet) {
+			count += loadDelta(subRegion);
+		}
+		return count;
+	}
 }
@@ -0,0 +1,258 @@
+package org.apache.geode.addon.cluster.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoadCoalescer guards a read-through data source from cache miss storms. It
+ * provides the following two mechanisms for loading values by key.
+ * <ul>
+ * <li><b>Single-flight:</b> Concurrent loads of the same key are coalesced into
+ * a single load. The first caller loads the value and the other callers wait
+ * for and share its result, including its exception.</li>
+ * <li><b>Negative cache:</b> The keys that are not found are remembered for the
+ * specified TTL so that repeated misses of the keys that do not exist are
+ * answered without loading. The number of negative entries is bounded. If the
+ * limit is reached, then the expired entries are purged and the new misses are
+ * not remembered until there is room.</li>
+ * </ul>
+ * A key written to the data source must be invalidated by invoking
+ * {@link #invalidate(Object)} so that it is no longer treated as missing. A
+ * load that started before the invalidation does not remember its miss.
+ * <p>
+ * <b>Example:</b>
+ *
+ * <pre>
+ * LoadCoalescer&lt;String, Customer&gt; coalescer = new LoadCoalescer&lt;String, Customer&gt;(60000, 100000);
+ * Customer customer = coalescer.load(customerId, key -&gt; findCustomer(key));
+ * </pre>
+ *
+ * @author dpark
+ *
+ * @param <K> Key
+ * @param <V> Value
+ */
+public class LoadCoalescer<K, V> {
+
+	/**
+	 * Loader loads the value of the specified key from the data source.
+	 *
+	 * @param <K> Key
+	 * @param <V> Value
+	 */
+	@FunctionalInterface
+	public interface Loader<K, V> {
+		/**
+		 * Returns the value of the specified key or null if not found.
+		 *
+		 * @param key Key
+		 * @throws Exception Thrown if the load fails. The miss is not remembered.
+		 */
+		V load(K key) throws Exception;
+	}
+
+	private final long negativeTtlNanos;
+	private final int negativeMaxSize;
+
+	// key -> expiration time in System.nanoTime()
+	private final ConcurrentHashMap<K, Long> negativeMap = new ConcurrentHashMap<K, Long>();
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlightMap = new ConcurrentHashMap<K, CompletableFuture<V>>();
+	private final AtomicLong invalidationCount = new AtomicLong();
+	private volatile long nextPurgeTime = System.nanoTime();
+
+	// Metrics
+	private final AtomicLong loadCount = new AtomicLong();
+	private final AtomicLong coalescedCount = new AtomicLong();
+	private final AtomicLong negativeHitCount = new AtomicLong();
+
+	/**
+	 * Constructs a LoadCoalescer.
+	 *
+	 * @param negativeTtlMillis Time in milliseconds to remember the keys that are
+	 *                          not found. If <= 0 then the negative cache is
+	 *                          disabled and only the concurrent loads are
+	 *                          coalesced.
+	 * @param negativeMaxSize   Maximum number of keys remembered as not found
+	 */
+	public LoadCoalescer(long negativeTtlMillis, int negativeMaxSize) {
+		this.negativeTtlNanos = negativeTtlMillis <= 0 ? 0 : TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+		this.negativeMaxSize = negativeMaxSize;
+	}
+
+	/**
+	 * Returns the value of the specified key. Returns null without invoking the
+	 * loader if the key is in the negative cache. If another thread is loading
+	 * the same key, then it waits for that load and returns its value.
+	 * Otherwise, invokes the loader and remembers the key if the value is not
+	 * found.
+	 *
+	 * @param key    Key
+	 * @param loader Loader invoked if the key is neither in the negative cache
+	 *               nor being loaded
+	 * @throws Exception Thrown by the loader or if interrupted while waiting for
+	 *                   another thread's load
+	 */
+	public V load(K key, Loader<K, V> loader) throws Exception {
+		if (isNegative(key)) {
+			negativeHitCount.incrementAndGet();
+			return null;
+		}
+		CompletableFuture<V> future = new CompletableFuture<V>();
+		CompletableFuture<V> inFlight = inFlightMap.putIfAbsent(key, future);
+		if (inFlight != null) {
+			coalescedCount.incrementAndGet();
+			try {
+				return inFlight.get();
+			} catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof Exception) {
+					throw (Exception) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw ex;
+			}
+		}
+		long invalidations = invalidationCount.get();
+		try {
+			V value = loader.load(key);
+			loadCount.incrementAndGet();
+			if (value == null) {
+				putNegative(key, invalidations);
+			}
+			future.complete(value);
+			return value;
+		} catch (Throwable th) {
+			future.completeExceptionally(th);
+			throw th;
+		} finally {
+			inFlightMap.remove(key, future);
+		}
+	}
+
+	/**
+	 * Returns true if the negative cache is enabled.
+	 */
+	public boolean isNegativeCacheEnabled() {
+		return negativeTtlNanos > 0;
+	}
+
+	/**
+	 * Returns true if the specified key is in the negative cache and has not
+	 * expired.
+	 *
+	 * @param key Key
+	 */
+	public boolean isNegative(K key) {
+		if (negativeTtlNanos == 0) {
+			return false;
+		}
+		Long expirationTime = negativeMap.get(key);
+		if (expirationTime == null) {
+			return false;
+		}
+		if (expirationTime - System.nanoTime() > 0) {
+			return true;
+		}
+		negativeMap.remove(key, expirationTime);
+		return false;
+	}
+
+	/**
+	 * Returns the number of invalidations so far. Pass it to
+	 * {@link #putNegative(Object, long)} after a load that did not go through
+	 * {@link #load(Object, Loader)}.
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount.get();
+	}
+
+	/**
+	 * Remembers the specified key as not found unless a key has been invalidated
+	 * since the load started.
+	 *
+	 * @param key           Key not found
+	 * @param invalidations Value of {@link #getInvalidationCount()} taken before
+	 *                      the load
+	 */
+	public void putNegative(K key, long invalidations) {
+		if (negativeTtlNanos == 0 || invalidationCount.get() != invalidations) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (negativeMap.size() >= negativeMaxSize) {
+			if (now - nextPurgeTime < 0) {
+				return;
+			}
+			// Purge at most once per half TTL to bound the cost of a full cache
+			nextPurgeTime = now + negativeTtlNanos / 2;
+			negativeMap.values().removeIf(expirationTime -> expirationTime - now <= 0);
+			if (negativeMap.size() >= negativeMaxSize) {
+				return;
+			}
+		}
+		negativeMap.put(key, now + negativeTtlNanos);
+	}
+
+	/**
+	 * Removes the specified key from the negative cache. Invoke it when the key
+	 * is written to the data source.
+	 *
+	 * @param key Key
+	 */
+	public void invalidate(K key) {
+		invalidationCount.incrementAndGet();
+		if (negativeTtlNanos > 0) {
+			negativeMap.remove(key);
+		}
+	}
+
+	/**
+	 * Clears the negative cache.
+	 */
+	public void clear() {
+		invalidationCount.incrementAndGet();
+		negativeMap.clear();
+	}
+
+	/**
+	 * Returns the number of keys in the negative cache, including the expired
+	 * keys that have not been purged.
+	 */
+	public int getNegativeSize() {
+		return negativeMap.size();
+	}
+
+	/**
+	 * Returns the number of loader invocations that completed.
+	 */
+	public long getLoadCount() {
+		return loadCount.get();
+	}
+
+	/**
+	 * Returns the number of loads that waited for another thread's load of the
+	 * same key instead of invoking the loader.
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.get();
+	}
+
+	/**
+	 * Returns the number of loads answered by the negative cache.
+	 */
+	public long getNegativeHitCount() {
+		return negativeHitCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "LoadCoalescer [negativeTtlMsec=" + TimeUnit.NANOSECONDS.toMillis(negativeTtlNanos)
+				+ ", negativeMaxSize=" + negativeMaxSize + ", negativeSize=" + getNegativeSize() + ", loads="
+				+ getLoadCount() + ", coalesced=" + getCoalescedCount() + ", negativeHits=" + getNegativeHitCount()
+				+ "]";
+	}
+}
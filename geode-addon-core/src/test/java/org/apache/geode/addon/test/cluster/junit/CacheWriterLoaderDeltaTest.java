@@ -0,0 +1,132 @@
+package org.apache.geode.addon.test.cluster.junit;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.geode.addon.cluster.CacheWriterLoaderPkDbImpl;
+import org.apache.geode.addon.cluster.util.HibernatePool;
+import org.apache.geode.addon.demo.nw.data.Order;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the delta loads of {@link CacheWriterLoaderPkDbImpl} with the orders
+ * table. It creates a standalone peer cache and requires the database
+ * configured in the Hibernate configuration file set by the system property
+ * "geode-addon.hibernate.config".
+ *
+ * @author dpark
+ *
+ */
+public class CacheWriterLoaderDeltaTest {
+	private static final String REGION_NAME = "delta_orders";
+	private static final String WATERMARK_REGION_NAME = "padogrid_delta_watermarks";
+	private static final String KEY_PREFIX = "DeltaTest-";
+	private static final int LOAD_BATCH_SIZE = 10;
+
+	private static Cache cache;
+	private static Region<String, Order> region;
+	private static CacheWriterLoaderPkDbImpl<String, Order> loader;
+	private static List<String> keyList = new ArrayList<String>();
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		cache = new CacheFactory().set("mcast-port", "0").set("locators", "").create();
+		loader = createLoader();
+		region = cache.<String, Order>createRegionFactory(RegionShortcut.PARTITION).setCacheLoader(loader)
+				.setCacheWriter(loader).create(REGION_NAME);
+	}
+
+	private static CacheWriterLoaderPkDbImpl<String, Order> createLoader() {
+		Properties properties = new Properties();
+		properties.setProperty("region.path", "/" + REGION_NAME);
+		properties.setProperty("entity.class", "org.apache.geode.addon.demo.nw.data.Order");
+		properties.setProperty("entity.load.batch.size", Integer.toString(LOAD_BATCH_SIZE));
+		properties.setProperty("entity.delta.column", "shippedDate");
+		properties.setProperty("entity.delta.interval", "0");
+		CacheWriterLoaderPkDbImpl<String, Order> loader = new CacheWriterLoaderPkDbImpl<String, Order>();
+		loader.initialize(cache, properties);
+		return loader;
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			Transaction transaction = session.beginTransaction();
+			for (String key : keyList) {
+				Order order = session.get(Order.class, key);
+				if (order != null) {
+					session.delete(order);
+				}
+			}
+			transaction.commit();
+		}
+		cache.close();
+	}
+
+	private static void saveOrders(int from, int to, Date shippedDate) throws InterruptedException {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			Transaction transaction = session.beginTransaction();
+			for (int i = from; i < to; i++) {
+				Order order = new Order();
+				order.setOrderId(KEY_PREFIX + i);
+				order.setCustomerId("DeltaTest");
+				order.setShippedDate(shippedDate);
+				session.saveOrUpdate(order);
+				if (keyList.contains(order.getOrderId()) == false) {
+					keyList.add(order.getOrderId());
+				}
+			}
+			transaction.commit();
+		}
+	}
+
+	private static long getWatermarkTime() {
+		Region<String, Object> watermarkRegion = cache.getRegion(WATERMARK_REGION_NAME);
+		Assert.assertNotNull(watermarkRegion);
+		Date watermark = (Date) watermarkRegion.get("/" + REGION_NAME);
+		Assert.assertNotNull(watermark);
+		return watermark.getTime();
+	}
+
+	@Test
+	public void testDeltaLoad() throws Exception {
+		// The first delta load initializes the watermark
+		Assert.assertEquals(0, loader.loadDeltaFromDb());
+		Date shippedDate = new Date(getWatermarkTime() + 86400000L);
+
+		// More rows share the same value than the batch size
+		int tieCount = LOAD_BATCH_SIZE * 3 + 5;
+		saveOrders(0, tieCount, shippedDate);
+		Date lastShippedDate = new Date(shippedDate.getTime() + 1000);
+		saveOrders(tieCount, tieCount + 3, lastShippedDate);
+		Assert.assertEquals(tieCount + 3, loader.loadDeltaFromDb());
+		for (String key : keyList) {
+			Assert.assertTrue(key, region.containsKey(key));
+		}
+		Assert.assertEquals(lastShippedDate.getTime(), getWatermarkTime());
+		Assert.assertEquals(0, loader.loadDeltaFromDb());
+
+		// Another loader, e.g., on the member that takes over the delta lock,
+		// continues from the watermark in the watermark region.
+		CacheWriterLoaderPkDbImpl<String, Order> loader2 = createLoader();
+		try {
+			saveOrders(0, 2, new Date(lastShippedDate.getTime() + 1000));
+			Assert.assertEquals(2, loader2.loadDeltaFromDb());
+		} finally {
+			loader2.close();
+		}
+	}
+}
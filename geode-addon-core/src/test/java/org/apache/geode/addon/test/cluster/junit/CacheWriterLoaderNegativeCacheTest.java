@@ -0,0 +1,92 @@
+package org.apache.geode.addon.test.cluster.junit;
+
+import java.util.Properties;
+
+import org.apache.geode.addon.cluster.CacheWriterLoaderPkDbImpl;
+import org.apache.geode.addon.cluster.util.HibernatePool;
+import org.apache.geode.addon.demo.nw.data.Order;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the negative cache of {@link CacheWriterLoaderPkDbImpl} configured as
+ * separate cache loader and cache writer instances as declared in cache.xml. It
+ * creates a standalone peer cache and requires the database configured in the
+ * Hibernate configuration file set by the system property
+ * "geode-addon.hibernate.config".
+ *
+ * @author dpark
+ *
+ */
+public class CacheWriterLoaderNegativeCacheTest {
+	private static final String REGION_NAME = "negative_orders";
+	private static final String KEY = "NegativeCacheTest-1";
+
+	private static Cache cache;
+	private static Region<String, Order> region;
+	private static CacheWriterLoaderPkDbImpl<String, Order> loader;
+	private static CacheWriterLoaderPkDbImpl<String, Order> writer;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		cache = new CacheFactory().set("mcast-port", "0").set("locators", "").create();
+		loader = createCacheWriterLoader();
+		writer = createCacheWriterLoader();
+		region = cache.<String, Order>createRegionFactory(RegionShortcut.PARTITION).setCacheLoader(loader)
+				.setCacheWriter(writer).create(REGION_NAME);
+	}
+
+	private static CacheWriterLoaderPkDbImpl<String, Order> createCacheWriterLoader() {
+		Properties properties = new Properties();
+		properties.setProperty("entity.class", "org.apache.geode.addon.demo.nw.data.Order");
+		properties.setProperty("entity.load.limit", "0");
+		properties.setProperty("entity.load.negative.ttl", "600000");
+		properties.setProperty("entity.db.isWrite", "true");
+		CacheWriterLoaderPkDbImpl<String, Order> cacheWriterLoader = new CacheWriterLoaderPkDbImpl<String, Order>();
+		cacheWriterLoader.initialize(cache, properties);
+		return cacheWriterLoader;
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			Transaction transaction = session.beginTransaction();
+			Order order = session.get(Order.class, KEY);
+			if (order != null) {
+				session.delete(order);
+			}
+			transaction.commit();
+		}
+		cache.close();
+	}
+
+	@Test
+	public void testWriteInvalidatesLoader() throws Exception {
+		// The miss is remembered by the loader
+		Assert.assertNull(region.get(KEY));
+		Assert.assertTrue(loader.getLoadCoalescer().isNegative(KEY));
+
+		// The writer writes the key to the database and invalidates the loader
+		Order order = new Order();
+		order.setOrderId(KEY);
+		order.setCustomerId("NegativeCacheTest");
+		region.put(KEY, order);
+		Assert.assertFalse(loader.getLoadCoalescer().isNegative(KEY));
+
+		// The destroy is not written to the database (entity.db.isDelete=false),
+		// so the key is loaded from the database.
+		region.destroy(KEY);
+		Order loadedOrder = region.get(KEY);
+		Assert.assertNotNull(loadedOrder);
+		Assert.assertEquals("NegativeCacheTest", loadedOrder.getCustomerId());
+	}
+}
@@ -0,0 +1,159 @@
+package org.apache.geode.addon.test.cluster.junit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.addon.cluster.util.LoadCoalescer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link LoadCoalescer}. It requires neither a cluster nor a database.
+ *
+ * @author dpark
+ *
+ */
+public class LoadCoalescerTest {
+	private static final int THREAD_COUNT = 8;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(THREAD_COUNT);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Starts THREAD_COUNT loads of the same key and waits until all but the first
+	 * are waiting for the first.
+	 */
+	private List<Future<String>> startLoads(final LoadCoalescer<String, String> coalescer,
+			final LoadCoalescer.Loader<String, String> loader) throws InterruptedException {
+		List<Future<String>> futureList = new ArrayList<Future<String>>();
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			futureList.add(executor.submit(() -> coalescer.load("key", loader)));
+		}
+		long timeout = System.currentTimeMillis() + 10000;
+		while (coalescer.getCoalescedCount() < THREAD_COUNT - 1 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(THREAD_COUNT - 1, coalescer.getCoalescedCount());
+		return futureList;
+	}
+
+	@Test
+	public void testConcurrentLoads() throws Exception {
+		LoadCoalescer<String, String> coalescer = new LoadCoalescer<String, String>(60000, 100);
+		final AtomicInteger dbHitCount = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		List<Future<String>> futureList = startLoads(coalescer, key -> {
+			dbHitCount.incrementAndGet();
+			latch.await();
+			return "value";
+		});
+		latch.countDown();
+		for (Future<String> future : futureList) {
+			Assert.assertEquals("value", future.get(10, TimeUnit.SECONDS));
+		}
+		Assert.assertEquals(1, dbHitCount.get());
+		Assert.assertEquals(1, coalescer.getLoadCount());
+
+		// The load is not cached once it completes
+		Assert.assertEquals("value", coalescer.load("key", key -> {
+			dbHitCount.incrementAndGet();
+			return "value";
+		}));
+		Assert.assertEquals(2, dbHitCount.get());
+	}
+
+	@Test
+	public void testNegativeCache() throws Exception {
+		LoadCoalescer<String, String> coalescer = new LoadCoalescer<String, String>(500, 100);
+		final AtomicInteger dbHitCount = new AtomicInteger();
+		LoadCoalescer.Loader<String, String> loader = key -> {
+			dbHitCount.incrementAndGet();
+			return null;
+		};
+		Assert.assertNull(coalescer.load("missing", loader));
+		Assert.assertTrue(coalescer.isNegative("missing"));
+		Assert.assertNull(coalescer.load("missing", loader));
+		Assert.assertNull(coalescer.load("missing", loader));
+		Assert.assertEquals(1, dbHitCount.get());
+		Assert.assertEquals(2, coalescer.getNegativeHitCount());
+
+		// Expiry
+		Thread.sleep(600);
+		Assert.assertFalse(coalescer.isNegative("missing"));
+		Assert.assertNull(coalescer.load("missing", loader));
+		Assert.assertEquals(2, dbHitCount.get());
+
+		// Invalidation
+		coalescer.invalidate("missing");
+		Assert.assertFalse(coalescer.isNegative("missing"));
+		Assert.assertEquals("value", coalescer.load("missing", key -> "value"));
+	}
+
+	@Test
+	public void testNegativeCacheMaxSize() throws Exception {
+		LoadCoalescer<String, String> coalescer = new LoadCoalescer<String, String>(60000, 2);
+		for (int i = 0; i < 5; i++) {
+			coalescer.load("missing" + i, key -> null);
+		}
+		Assert.assertEquals(2, coalescer.getNegativeSize());
+		Assert.assertTrue(coalescer.isNegative("missing0"));
+		Assert.assertFalse(coalescer.isNegative("missing4"));
+	}
+
+	@Test
+	public void testInvalidateDuringLoad() throws Exception {
+		final LoadCoalescer<String, String> coalescer = new LoadCoalescer<String, String>(60000, 100);
+		Assert.assertNull(coalescer.load("key", key -> {
+			// The key is written while it is being loaded
+			coalescer.invalidate(key);
+			return null;
+		}));
+		Assert.assertFalse(coalescer.isNegative("key"));
+	}
+
+	@Test
+	public void testLoadError() throws Exception {
+		LoadCoalescer<String, String> coalescer = new LoadCoalescer<String, String>(60000, 100);
+		final AtomicInteger dbHitCount = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final IOException error = new IOException("Connection refused");
+		List<Future<String>> futureList = startLoads(coalescer, key -> {
+			dbHitCount.incrementAndGet();
+			latch.await();
+			throw error;
+		});
+		latch.countDown();
+		for (Future<String> future : futureList) {
+			try {
+				future.get(10, TimeUnit.SECONDS);
+				Assert.fail("Expected " + error);
+			} catch (ExecutionException ex) {
+				Assert.assertSame(error, ex.getCause());
+			}
+		}
+		Assert.assertEquals(1, dbHitCount.get());
+
+		// The failed load is neither remembered as a miss nor left in flight
+		Assert.assertFalse(coalescer.isNegative("key"));
+		Assert.assertEquals("value", coalescer.load("key", key -> "value"));
+	}
+}
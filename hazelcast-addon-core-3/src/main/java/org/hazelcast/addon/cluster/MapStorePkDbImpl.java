@@ -1,27 +1,56 @@
 package org.hazelcast.addon.cluster;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.Closeable;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaBuilder.In;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.hazelcast.addon.cluster.util.HibernatePool;
+import org.hazelcast.addon.cluster.util.LoadCoalescer;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
 import com.hazelcast.core.MapLoaderLifecycleSupport;
 import com.hazelcast.core.MapStore;
 import com.hazelcast.logging.ILogger;
@@ -30,7 +59,15 @@ import com.hazelcast.logging.ILogger;
  * MapStorePkDbImpl is a generic primary-key mapped MapStore implementation for
  * integrating Hazelcast with a relational database. It works only with a single
  * primary key. In other words, the entity object must include the primary key
- * field and the table must contain the primary key column.
+ * field and the table must contain the primary key column. The primary key can
+ * be of any type, including a composite key class annotated with
+ * <code>@EmbeddedId</code>, and the map keys must be of the same type.
+ * Composite keys with multiple <code>@Id</code> fields (<code>@IdClass</code>)
+ * are not supported.
+ * <p>
+ * The initial load keys are streamed from a database cursor by
+ * {@link #loadAllKeys()} so that the member does not hold all primary keys in
+ * memory.
  * <p>
  * The following properties are supported.
  * <table border="1">
@@ -50,6 +87,14 @@ import com.hazelcast.logging.ILogger;
  * into Hazelcast. If <= 0 then all rows are loaded.</td>
  * <td>-1</td>
  * </tr>
+ * <tr>
+ * <td>entity.load.fetch.size</td>
+ * <td>JDBC fetch size of the cursor that streams the primary keys of the
+ * initial load. Some JDBC drivers require additional settings to stream
+ * results, e.g., MySQL requires "useCursorFetch=true" in the connection URL.
+ * If <= 0 then the JDBC driver default is used.</td>
+ * <td>1000</td>
+ * </tr>
  * <td>entity.load.batch.size</td>
  * <td>Batch size of primary keys per query. Instead of executing a single query
  * to get all rows during the initial load time, by setting this property,
@@ -57,6 +102,82 @@ import com.hazelcast.logging.ILogger;
  * prevent the database connection getting timed out.</td>
  * <td>1000</td>
  * <tr>
+ * <td>entity.load.parallelism</td>
+ * <td>Maximum number of Hibernate sessions that load the primary key batches
+ * of a single loadAll() call in parallel. Each session executes the next
+ * unprocessed batch until all batches are loaded. It should not exceed the
+ * HibernatePool size, i.e., the Hibernate property "connection.pool_size",
+ * minus the sessions needed by concurrent load() and store() calls.</td>
+ * <td>1</td>
+ * </tr>
+ * <tr>
+ * <td>entity.load.report.interval</td>
+ * <td>Number of loaded rows between the load throughput reports logged at the
+ * info level. The report includes the number of rows, loadAll() calls, and
+ * batches, the rows per second, and the average wait time for a pooled
+ * session, which indicates whether the pool is large enough. If <= 0 then the
+ * reports are not logged.</td>
+ * <td>100000</td>
+ * </tr>
+ * <tr>
+ * <td>entity.load.coalesce</td>
+ * <td>true to coalesce concurrent load() calls of the same key into a single
+ * database query. The other callers wait for and share its result.</td>
+ * <td>true</td>
+ * </tr>
+ * <tr>
+ * <td>entity.load.negative.ttl</td>
+ * <td>Time in milliseconds to remember the keys that are not found in the
+ * database. Repeated load() and loadAll() misses of the remembered keys are
+ * answered without querying the database. The keys written by store() and
+ * storeAll() are forgotten. If <= 0 then the misses are not remembered.</td>
+ * <td>0</td>
+ * </tr>
+ * <tr>
+ * <td>entity.load.negative.max.size</td>
+ * <td>Maximum number of keys remembered as not found. Once reached, the new
+ * misses are not remembered until the expired keys are purged.</td>
+ * <td>100000</td>
+ * </tr>
+ * <tr>
+ * <td>entity.delta.column</td>
+ * <td>Optional entity attribute name of a change timestamp or version column,
+ * e.g., "updatedAt", that is set to a greater value whenever a row is
+ * inserted or updated. If specified, the rows changed since the last delta
+ * load are periodically reloaded into the map. See <b>Delta Load</b> below.</td>
+ * <td>N/A</td>
+ * </tr>
+ * <tr>
+ * <td>entity.delta.interval</td>
+ * <td>Delta load interval in milliseconds. If <= 0 then the delta load is not
+ * scheduled and it runs only when {@link #loadDelta()} is invoked.</td>
+ * <td>60000</td>
+ * </tr>
+ * <tr>
+ * <td>entity.delta.watermark.map</td>
+ * <td>Name of the map that holds the delta watermark, i.e., the greatest
+ * entity.delta.column value loaded so far, of each map.</td>
+ * <td>padogrid_delta_watermarks</td>
+ * </tr>
+ * <tr>
+ * <td>entity.store.batch.size</td>
+ * <td>Number of entities written by storeAll() per JDBC batch. The session is
+ * flushed and cleared after each batch so that the persistence context does
+ * not grow with the write-behind batch size.</td>
+ * <td>100</td>
+ * </tr>
+ * <tr>
+ * <td>entity.store.bulk</td>
+ * <td>true to write storeAll() entities in bulk. Instead of saveOrUpdate(),
+ * which selects each entity to determine whether to insert or update it, the
+ * existing primary keys of each batch are selected by a single query, and the
+ * entities are inserted or updated in JDBC batches. The entities with the same
+ * primary key are coalesced into the last one. Use it with write-coalescing
+ * enabled so that the updates of the same key within the write delay are also
+ * coalesced by Hazelcast.</td>
+ * <td>false</td>
+ * </tr>
+ * <tr>
  * <td>entity.db.isRead</td>
  * <td>true to read from the database if there is a cache miss, false to ignore
  * cache misses</td>
@@ -74,6 +195,31 @@ import com.hazelcast.logging.ILogger;
  * </tr>
  * </table>
  * <p>
+ * <b>Delta Load:</b> If entity.delta.column is specified, then the oldest
+ * member of the cluster queries the primary keys of the rows whose
+ * entity.delta.column value is greater than the watermark every
+ * entity.delta.interval milliseconds, in the ascending order of the value and
+ * in batches of entity.load.batch.size keys. Each batch is reloaded by
+ * IMap.loadAll(keys, true), which invokes loadAll() on the members that own
+ * the keys without writing them back to the database, and the watermark is
+ * advanced to the last value of the batch and put in the
+ * entity.delta.watermark.map map. The cost of a delta load is therefore
+ * proportional to the number of changed rows rather than the table size. The
+ * watermark is initialized to the greatest value in the table before the
+ * initial load reads the keys, or by the first delta load if the watermark is
+ * not found. Note the following:
+ * <ul>
+ * <li>Deleted rows are not detected. Use soft deletes or delete the map
+ * entries separately.</li>
+ * <li>Rows with a null value are never loaded by delta loads.</li>
+ * <li>A row committed with a value less than the watermark after the watermark
+ * has passed it is not loaded. Set the value at commit time, e.g., by a
+ * database trigger or a version column, if long transactions update the
+ * table.</li>
+ * <li>The keys remembered as not found by entity.load.negative.ttl are not
+ * reloaded until they expire.</li>
+ * </ul>
+ * <p>
  * <b>Limitations:</b>
  * <ul>
  * <li>MapStoreDbImpl can be connected to only a single database system due to
@@ -92,8 +238,12 @@ import com.hazelcast.logging.ILogger;
  *           &lt;property name="entity.class"&gt;org.hazelcast.demo.nw.data.Order&lt;/property&gt;
  *           &lt;property name="entity.load.limit"&gt;1000&lt;/property&gt;
  *           &lt;property name="entity.load.batch.size"&gt;100&lt;/property&gt;
+ *           &lt;property name="entity.load.parallelism"&gt;4&lt;/property&gt;
+ *           &lt;property name="entity.load.negative.ttl"&gt;60000&lt;/property&gt;
  *           &lt;property name="entity.db.isRead"&gt;true&lt;/property&gt;
  *           &lt;property name="entity.db.isWrite"&gt;false&lt;/property&gt;
+ *           &lt;property name="entity.store.batch.size"&gt;100&lt;/property&gt;
+ *           &lt;property name="entity.store.bulk"&gt;true&lt;/property&gt;
  *           &lt;property name="entity.db.isDelete"&gt;false&lt;/property&gt;
  *       &lt;/properties&gt;
  *       &lt;write-batch-size&gt;100&lt;/write-batch-size&gt;
@@ -146,7 +296,18 @@ public class MapStorePkDbImpl<K, V> implements MapStore<K, V>, MapLoaderLifecycl
 
 	private final String PROPERTY_ENTITY_CLASS = "entity.class";
 	private final String PROPERTY_LIMIT = "entity.load.limit";
+	private final String PROPERTY_LOAD_FETCH_SIZE = "entity.load.fetch.size";
 	private final String PROPERTY_LOAD_BATCH_SIZE = "entity.load.batch.size";
+	private final String PROPERTY_LOAD_PARALLELISM = "entity.load.parallelism";
+	private final String PROPERTY_LOAD_REPORT_INTERVAL = "entity.load.report.interval";
+	private final String PROPERTY_LOAD_COALESCE = "entity.load.coalesce";
+	private final String PROPERTY_LOAD_NEGATIVE_TTL = "entity.load.negative.ttl";
+	private final String PROPERTY_LOAD_NEGATIVE_MAX_SIZE = "entity.load.negative.max.size";
+	private final String PROPERTY_DELTA_COLUMN = "entity.delta.column";
+	private final String PROPERTY_DELTA_INTERVAL = "entity.delta.interval";
+	private final String PROPERTY_DELTA_WATERMARK_MAP = "entity.delta.watermark.map";
+	private final String PROPERTY_STORE_BATCH_SIZE = "entity.store.batch.size";
+	private final String PROPERTY_STORE_BULK = "entity.store.bulk";
 	private final String PROPERTY_IS_READ = "entity.db.isRead";
 	private final String PROPERTY_IS_WRITE = "entity.db.isWrite";
 	private final String PROPERTY_IS_DELETE = "entity.db.isDelete";
@@ -155,13 +316,53 @@ public class MapStorePkDbImpl<K, V> implements MapStore<K, V>, MapLoaderLifecycl
 	private String mapName;
 	private Class<?> entityClass;
 	private int initialKeyLimit = 1000;
+	private int loadFetchSize = 1000;
 	private int loadBatchSize = 1000;
+	private int loadParallelism = 1;
+	private long loadReportInterval = 100000;
+	private boolean isLoadCoalesce = true;
+	private long loadNegativeTtl = 0;
+	private int loadNegativeMaxSize = 100000;
+	private String deltaColumn;
+	private long deltaInterval = 60000;
+	private String deltaWatermarkMapName = "padogrid_delta_watermarks";
+	private int storeBatchSize = 100;
+	private boolean isStoreBulk = false;
 	private boolean isDbRead = true;
 	private boolean isDbWrite = false;
 	private boolean isDbDelete = false;
 
 	private ILogger logger;
 
+	// Executes the loadAll() batches in parallel with the caller thread. null if
+	// loadParallelism is 1.
+	private ExecutorService loadExecutor;
+
+	// Coalesces concurrent load() calls and remembers misses. null if disabled.
+	private LoadCoalescer<K, V> loadCoalescer;
+
+	// Runs the delta loads. null if not scheduled.
+	private ScheduledExecutorService deltaExecutor;
+
+	// Primary key attribute of the entity class. Resolved by the first
+	// loadAll() or loadAllKeys() call.
+	private volatile String pkName;
+	private volatile Class<?> pkType;
+	private volatile Member pkMember;
+	// Primary key getter function. Resolved by the first loadAll() call.
+	private volatile Function<Object, Object> pkGetter;
+
+	// Load throughput statistics
+	private final AtomicLong loadedCount = new AtomicLong();
+	private final AtomicLong loadAllCount = new AtomicLong();
+	private final AtomicLong loadBatchCount = new AtomicLong();
+	private final AtomicLong sessionTakeCount = new AtomicLong();
+	private final AtomicLong sessionWaitNanos = new AtomicLong();
+	private final AtomicLong loadStartTime = new AtomicLong();
+	private volatile long loadEndTime;
+	private final AtomicLong deltaLoadCount = new AtomicLong();
+	private final AtomicLong deltaLoadedCount = new AtomicLong();
+
 	@Override
 	public void init(HazelcastInstance hazelcastInstance, Properties properties, String mapName) {
 		String className = properties.getProperty(PROPERTY_ENTITY_CLASS);
@@ -178,11 +379,65 @@ public class MapStorePkDbImpl<K, V> implements MapStore<K, V>, MapLoaderLifecycl
 		} catch (NumberFormatException ex) {
 			initialKeyLimit = 1000;
 		}
+		try {
+			loadFetchSize = Integer.valueOf(properties.getProperty(PROPERTY_LOAD_FETCH_SIZE, "1000"));
+		} catch (NumberFormatException ex) {
+			loadFetchSize = 1000;
+		}
 		try {
 			loadBatchSize = Integer.valueOf(properties.getProperty(PROPERTY_LOAD_BATCH_SIZE, "1000"));
 		} catch (NumberFormatException ex) {
 			loadBatchSize = 1000;
 		}
+		if (loadBatchSize < 1) {
+			loadBatchSize = 1000;
+		}
+		try {
+			loadParallelism = Integer.valueOf(properties.getProperty(PROPERTY_LOAD_PARALLELISM, "1"));
+		} catch (NumberFormatException ex) {
+			loadParallelism = 1;
+		}
+		if (loadParallelism < 1) {
+			loadParallelism = 1;
+		}
+		try {
+			loadReportInterval = Long.valueOf(properties.getProperty(PROPERTY_LOAD_REPORT_INTERVAL, "100000"));
+		} catch (NumberFormatException ex) {
+			loadReportInterval = 100000;
+		}
+		isLoadCoalesce = Boolean.valueOf(properties.getProperty(PROPERTY_LOAD_COALESCE, "true"));
+		try {
+			loadNegativeTtl = Long.valueOf(properties.getProperty(PROPERTY_LOAD_NEGATIVE_TTL, "0"));
+		} catch (NumberFormatException ex) {
+			loadNegativeTtl = 0;
+		}
+		try {
+			loadNegativeMaxSize = Integer.valueOf(properties.getProperty(PROPERTY_LOAD_NEGATIVE_MAX_SIZE, "100000"));
+		} catch (NumberFormatException ex) {
+			loadNegativeMaxSize = 100000;
+		}
+		deltaColumn = properties.getProperty(PROPERTY_DELTA_COLUMN);
+		if (deltaColumn != null) {
+			deltaColumn = deltaColumn.trim();
+			if (deltaColumn.length() == 0) {
+				deltaColumn = null;
+			}
+		}
+		try {
+			deltaInterval = Long.valueOf(properties.getProperty(PROPERTY_DELTA_INTERVAL, "60000"));
+		} catch (NumberFormatException ex) {
+			deltaInterval = 60000;
+		}
+		deltaWatermarkMapName = properties.getProperty(PROPERTY_DELTA_WATERMARK_MAP, deltaWatermarkMapName);
+		try {
+			storeBatchSize = Integer.valueOf(properties.getProperty(PROPERTY_STORE_BATCH_SIZE, "100"));
+		} catch (NumberFormatException ex) {
+			storeBatchSize = 100;
+		}
+		if (storeBatchSize < 1) {
+			storeBatchSize = 100;
+		}
+		isStoreBulk = Boolean.valueOf(properties.getProperty(PROPERTY_STORE_BULK, "false"));
 		isDbRead = Boolean.valueOf(properties.getProperty(PROPERTY_IS_READ, "true"));
 		isDbWrite = Boolean.valueOf(properties.getProperty(PROPERTY_IS_WRITE, "false"));
 		isDbDelete = Boolean.valueOf(properties.getProperty(PROPERTY_IS_DELETE, "false"));
@@ -190,25 +445,85 @@ public class MapStorePkDbImpl<K, V> implements MapStore<K, V>, MapLoaderLifecycl
 		this.hzInstance = hazelcastInstance;
 		this.mapName = mapName;
 		logger = hzInstance.getLoggingService().getLogger(this.getClass());
+		if (loadParallelism > 1) {
+			final AtomicInteger threadNumber = new AtomicInteger(0);
+			loadExecutor = Executors.newFixedThreadPool(loadParallelism - 1, runnable -> {
+				Thread thread = new Thread(runnable,
+						"MapStorePkDbImpl-" + this.mapName + "-load-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		if (isLoadCoalesce || loadNegativeTtl > 0) {
+			loadCoalescer = new LoadCoalescer<K, V>(loadNegativeTtl, loadNegativeMaxSize);
+		}
+
+		if (deltaColumn != null && isDbRead && deltaInterval > 0) {
+			deltaExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "MapStorePkDbImpl-" + this.mapName + "-delta");
+				thread.setDaemon(true);
+				return thread;
+			});
+			deltaExecutor.scheduleWithFixedDelay(this::runScheduledDeltaLoad, deltaInterval, deltaInterval,
+					TimeUnit.MILLISECONDS);
+		}
+
+		if (isDbWrite && isStoreBulk) {
+			checkWriteCoalescing();
+		}
 
-		logger.info("Configured MapStore " + this.getClass().getName() + " for the map " + this.mapName);
+		logger.info("Configured MapStore " + this.getClass().getName() + " for the map " + this.mapName
+				+ " [" + PROPERTY_LOAD_BATCH_SIZE + "=" + loadBatchSize + ", " + PROPERTY_LOAD_PARALLELISM + "="
+				+ loadParallelism + ", " + PROPERTY_LOAD_COALESCE + "=" + isLoadCoalesce + ", "
+				+ PROPERTY_LOAD_NEGATIVE_TTL + "=" + loadNegativeTtl + ", " + PROPERTY_DELTA_COLUMN + "=" + deltaColumn
+				+ ", " + PROPERTY_DELTA_INTERVAL + "=" + deltaInterval + ", " + PROPERTY_STORE_BATCH_SIZE + "="
+				+ storeBatchSize + ", " + PROPERTY_STORE_BULK + "=" + isStoreBulk + "]");
+	}
+
+	/**
+	 * Logs a warning if the map is configured with write-behind without write
+	 * coalescing, in which case every update of the same key is written.
+	 */
+	private void checkWriteCoalescing() {
+		try {
+			MapStoreConfig mapStoreConfig = hzInstance.getConfig().getMapConfig(mapName).getMapStoreConfig();
+			if (mapStoreConfig != null && mapStoreConfig.getWriteDelaySeconds() > 0
+					&& mapStoreConfig.isWriteCoalescing() == false) {
+				logger.warning("write-coalescing is disabled for the map " + mapName
+						+ ". storeAll() writes every update of the same key.");
+			}
+		} catch (Exception ex) {
+			// The configuration is not available
+		}
 	}
 
 	@Override
 	public void destroy() {
+		if (loadExecutor != null) {
+			loadExecutor.shutdownNow();
+		}
+		if (deltaExecutor != null) {
+			deltaExecutor.shutdownNow();
+		}
 		logger.info("Shutting down Hibernate [" + this.getClass().getName() + "]");
 		HibernatePool.getHibernatePool().shutdown();
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * Loads the entity of the specified key. If entity.load.coalesce is true,
+	 * then concurrent calls for the same key share a single database query. If
+	 * entity.load.negative.ttl is set, then the keys not found are remembered
+	 * and not queried again until they expire or are stored.
+	 */
 	@Override
 	public V load(K key) {
 		if (isDbRead) {
 			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
-				V value = (V) session.find(entityClass, key);
-				HibernatePool.getHibernatePool().offerSession(session);
-				return value;
+				if (loadCoalescer == null) {
+					return loadFromDb(key);
+				}
+				return loadCoalescer.load(key, this::loadFromDb);
 			} catch (InterruptedException ex) {
 				logger.severe(this.getClass().getSimpleName() + ".load() DB interrupted", ex);
 			} catch (Exception ex) {
@@ -218,27 +533,20 @@ public class MapStorePkDbImpl<K, V> implements MapStore<K, V>, MapLoaderLifecycl
 		return null;
 	}
 
-	private List<String> getPrimaryKeys(Class<?> clazz, int limit) {
-		try {
-			Session session = HibernatePool.getHibernatePool().takeSession();
-			CriteriaBuilder cb = session.getCriteriaBuilder();
-			CriteriaQuery<String> cr = cb.createQuery(String.class);
-			Root<?> root = cr.from(clazz);
-			String pk = root.getModel().getId(String.class).getName();
-			cr.select(root.get(pk));
-			Query<String> query = session.createQuery(cr);
-			if (limit > 0) {
-				query.setMaxResults(limit);
-			}
-			List<String> pkList = query.getResultList();
-			HibernatePool.getHibernatePool().offerSession(session);
-			return pkList;
-		} catch (InterruptedException ex) {
-			logger.severe(this.getClass().getSimpleName() + ".getPrimaryKeys() DB session interrupted", ex);
-		} catch (Exception ex) {
-			logger.severe(ex);
+	@SuppressWarnings("unchecked")
+	private V loadFromDb(K key) throws InterruptedException {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			return (V) lease.getSession().find(entityClass, key);
 		}
-		return new ArrayList<String>(0);
+	}
+
+	/**
+	 * Returns the LoadCoalescer that coalesces load() calls and remembers the
+	 * keys not found. null if both entity.load.coalesce and
+	 * entity.load.negative.ttl are disabled.
+	 */
+	public LoadCoalescer<K, V> getLoadCoalescer() {
+		return loadCoalescer;
 	}
 
 	private String getGetter(String fieldName) {
@@ -249,120 +557,813 @@ public class MapStorePkDbImpl<K, V> implements MapStore<K, V>, MapLoaderLifecycl
 		return "get" + fieldName;
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	/**
+	 * Resolves the primary key attribute name and type from the entity
+	 * metamodel if not done already.
+	 * 
+	 * @param session Hibernate session
+	 * @throws HazelcastException Thrown if the entity has a composite primary key
+	 *                            of multiple <code>@Id</code> attributes
+	 */
+	private synchronized void initPrimaryKey(Session session) {
+		if (pkName != null) {
+			return;
+		}
+		EntityType<?> entityType = session.getMetamodel().entity(entityClass);
+		if (entityType.hasSingleIdAttribute() == false) {
+			throw new HazelcastException(this.getClass().getSimpleName()
+					+ " The entity class has a composite primary key of multiple @Id attributes. Use @EmbeddedId instead: "
+					+ entityClass.getCanonicalName());
+		}
+		for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+			if (attribute.isId()) {
+				// Primitive ids are queried and compared as their wrapper types
+				pkType = MethodType.methodType(attribute.getJavaType()).wrap().returnType();
+				pkMember = attribute.getJavaMember();
+				pkName = attribute.getName();
+				break;
+			}
+		}
+		if (pkName == null) {
+			throw new HazelcastException(
+					this.getClass().getSimpleName() + " Primary key not found in the entity class: "
+							+ entityClass.getCanonicalName());
+		}
+	}
+
+	/**
+	 * Creates the primary key getter function if not done already. The getter
+	 * method is invoked directly by a function generated from its method handle,
+	 * instead of by reflection for each row. If the entity class has no public
+	 * getter method, then the primary key field is read.
+	 * 
+	 * @param session Hibernate session
+	 * @throws HazelcastException Thrown if the getter method is not found or
+	 *                            not accessible
+	 */
+	private synchronized void initPrimaryKeyGetter(Session session) {
+		if (pkGetter != null) {
+			return;
+		}
+		initPrimaryKey(session);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		String getterMethodName = getGetter(pkName);
+		MethodHandle getter;
+		try {
+			try {
+				getter = lookup.unreflect(entityClass.getMethod(getterMethodName));
+			} catch (NoSuchMethodException ex) {
+				if (pkMember instanceof Field == false) {
+					throw new HazelcastException(this.getClass().getSimpleName()
+							+ ".loadAll() The getter method for primary key not found in the entity class: "
+							+ entityClass.getCanonicalName() + "." + getterMethodName + "()", ex);
+				}
+				Field field = (Field) pkMember;
+				field.setAccessible(true);
+				getter = lookup.unreflectGetter(field);
+			}
+		} catch (IllegalAccessException | SecurityException ex) {
+			throw new HazelcastException(this.getClass().getSimpleName()
+					+ ".loadAll() The primary key not accessible in the entity class: "
+					+ entityClass.getCanonicalName() + "." + pkName, ex);
+		}
+		pkGetter = createGetter(lookup, getter);
+		int poolSize = HibernatePool.getHibernatePool().getPoolSize();
+		if (loadParallelism > poolSize) {
+			logger.warning(PROPERTY_LOAD_PARALLELISM + "=" + loadParallelism + " exceeds the HibernatePool size "
+					+ poolSize + ". loadAll() will wait for sessions.");
+		}
+	}
+
+	/**
+	 * Returns a function that invokes the specified getter. The function is
+	 * generated by {@link LambdaMetafactory} so that a getter method is invoked
+	 * directly. If the getter is a field getter or the entity class is not
+	 * visible to this class, then the function invokes the getter's method
+	 * handle instead.
+	 * 
+	 * @param lookup Lookup that created the getter
+	 * @param getter Getter method handle
+	 */
+	@SuppressWarnings("unchecked")
+	private Function<Object, Object> createGetter(MethodHandles.Lookup lookup, MethodHandle getter) {
+		try {
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class), getter, getter.type().wrap());
+			return (Function<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable ex) {
+			MethodHandle genericGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+			return value -> {
+				try {
+					return genericGetter.invokeExact(value);
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new HazelcastException(e);
+				}
+			};
+		}
+	}
+
+	/**
+	 * Loads the entities of the specified keys. The keys are split into batches
+	 * of entity.load.batch.size keys, which are loaded by up to
+	 * entity.load.parallelism pooled sessions in parallel. The keys remembered
+	 * as not found are skipped, and the keys not found are remembered if
+	 * entity.load.negative.ttl is set.
+	 */
 	@Override
 	public Map<K, V> loadAll(Collection<K> keys) {
-		Map<K, V> result = new HashMap<K, V>();
-		String getterMethodName = null;
-		if (isDbRead) {
-			Session session = null;
+		if (isDbRead == false || keys.isEmpty()) {
+			return new HashMap<K, V>();
+		}
+		LoadCoalescer<K, V> coalescer = loadCoalescer;
+		long invalidations = 0;
+		if (coalescer != null && coalescer.isNegativeCacheEnabled()) {
+			invalidations = coalescer.getInvalidationCount();
+			List<K> keyList = new ArrayList<K>(keys.size());
+			for (K key : keys) {
+				if (coalescer.isNegative(key) == false) {
+					keyList.add(key);
+				}
+			}
+			if (keyList.isEmpty()) {
+				return new HashMap<K, V>();
+			}
+			keys = keyList;
+		} else {
+			coalescer = null;
+		}
+		long startTime = System.nanoTime();
+		loadStartTime.compareAndSet(0, startTime);
+
+		// Split the keys into batches to reduce the client query time
+		List<List<K>> batchList = new ArrayList<List<K>>(keys.size() / loadBatchSize + 1);
+		List<K> batch = null;
+		for (K key : keys) {
+			if (batch == null || batch.size() >= loadBatchSize) {
+				batch = new ArrayList<K>(Math.min(loadBatchSize, keys.size()));
+				batchList.add(batch);
+			}
+			batch.add(key);
+		}
+
+		// The caller thread is one of the workers
+		AtomicInteger batchIndex = new AtomicInteger(0);
+		AtomicBoolean isFailed = new AtomicBoolean(false);
+		int workerCount = loadExecutor == null ? 1 : Math.min(loadParallelism, batchList.size());
+		List<Future<Map<K, V>>> futureList = new ArrayList<Future<Map<K, V>>>(workerCount - 1);
+		for (int i = 1; i < workerCount; i++) {
+			futureList.add(loadExecutor.submit(() -> loadBatches(batchList, batchIndex, isFailed)));
+		}
+		Map<K, V> result = loadBatches(batchList, batchIndex, isFailed);
+		for (Future<Map<K, V>> future : futureList) {
 			try {
-				session = HibernatePool.getHibernatePool().takeSession();
+				result.putAll(future.get());
+			} catch (InterruptedException ex) {
+				logger.severe(this.getClass().getSimpleName() + ".loadAll() DB load interrupted", ex);
+				isFailed.set(true);
+				break;
+			} catch (ExecutionException ex) {
+				isFailed.set(true);
+				logger.severe(ex.getCause());
+			}
+		}
+
+		loadEndTime = System.nanoTime();
+		loadAllCount.incrementAndGet();
+		loadBatchCount.addAndGet(batchList.size());
+		long count = loadedCount.addAndGet(result.size());
+		// Remember the misses only if all batches were queried
+		if (coalescer != null && isFailed.get() == false && result.size() < keys.size()) {
+			for (K key : keys) {
+				if (result.containsKey(key) == false) {
+					coalescer.putNegative(key, invalidations);
+				}
+			}
+		}
+		if (logger.isFineEnabled()) {
+			logger.fine(this.getClass().getSimpleName() + ".loadAll() loaded " + result.size() + " of " + keys.size()
+					+ " keys in " + batchList.size() + " batches by " + workerCount + " sessions ["
+					+ TimeUnit.NANOSECONDS.toMillis(loadEndTime - startTime) + " msec]");
+		}
+		if (loadReportInterval > 0 && (count - result.size()) / loadReportInterval < count / loadReportInterval) {
+			logger.info(getLoadReport());
+		}
+		return result;
+	}
+
+	/**
+	 * Takes a session from the pool and loads the next unprocessed batch until
+	 * all batches are loaded. Errors are logged and the entities loaded so far
+	 * are returned.
+	 * 
+	 * @param batchList  Primary key batches
+	 * @param batchIndex Index of the next unprocessed batch shared by all
+	 *                   sessions
+	 * @param isFailed   Set to true if an error occurs
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Map<K, V> loadBatches(List<List<K>> batchList, AtomicInteger batchIndex, AtomicBoolean isFailed) {
+		Map<K, V> result = new HashMap<K, V>();
+		long startTime = System.nanoTime();
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			sessionWaitNanos.addAndGet(System.nanoTime() - startTime);
+			sessionTakeCount.incrementAndGet();
+			initPrimaryKeyGetter(session);
+			String pk = pkName;
+			Function<Object, Object> getter = pkGetter;
+
+			int index;
+			while ((index = batchIndex.getAndIncrement()) < batchList.size()) {
 				CriteriaBuilder cb = session.getCriteriaBuilder();
 				CriteriaQuery<?> cr = cb.createQuery(entityClass);
 				Root root = cr.from(entityClass);
-				String pk = root.getModel().getId(String.class).getName();
-				getterMethodName = getGetter(pk);
-				Method method = entityClass.getMethod(getterMethodName);
-
-				// Query the DB with a batch of primary keys at a time to
-				// reduce the client query time
-				Iterator iterator = keys.iterator();
-				int size = keys.size();
-				int i = 1;
-				while (i <= size) {
-					In<String> inClause = cb.in(root.get(pk));
-					while (iterator.hasNext() && i % loadBatchSize > 0) {
-						Object key = iterator.next();
-						inClause.value(key.toString());
-						cr.select(root).where(inClause);
-						i++;
-					}
-					if (iterator.hasNext()) {
-						Object key = iterator.next();
-						inClause.value(key.toString());
-						cr.select(root).where(inClause);
-						i++;
-					}
-					Query<?> query = session.createQuery(cr);
-					List<?> valueList = query.getResultList();
-					for (Object value : valueList) {
-						K key = (K) method.invoke(value);
-						result.put(key, (V) value);
-					}
+				In<Object> inClause = cb.in(root.get(pk));
+				for (K key : batchList.get(index)) {
+					inClause.value(key);
+				}
+				cr.select(root).where(inClause);
+				Query<?> query = session.createQuery(cr);
+				List<?> valueList = query.getResultList();
+				for (Object value : valueList) {
+					result.put((K) getter.apply(value), (V) value);
+				}
+				// Detach the loaded entities to keep the session small
+				session.clear();
+			}
+		} catch (InterruptedException ex) {
+			isFailed.set(true);
+			logger.severe(this.getClass().getSimpleName() + ".loadAll() DB session interrupted", ex);
+		} catch (Exception ex) {
+			isFailed.set(true);
+			logger.severe(ex);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the total number of rows loaded by loadAll().
+	 */
+	public long getLoadedCount() {
+		return loadedCount.get();
+	}
+
+	/**
+	 * Returns the number of rows loaded by loadAll() per second, measured from
+	 * the beginning of the first loadAll() call to the end of the last call.
+	 */
+	public double getLoadThroughput() {
+		long startTime = loadStartTime.get();
+		long elapsedNanos = loadEndTime - startTime;
+		if (startTime == 0 || elapsedNanos <= 0) {
+			return 0;
+		}
+		return loadedCount.get() * 1_000_000_000d / elapsedNanos;
+	}
+
+	/**
+	 * Returns the average time in milliseconds that loadAll() waited for a
+	 * session from HibernatePool. A large value indicates that the pool is too
+	 * small for entity.load.parallelism and the concurrent loadAll() calls.
+	 */
+	public double getAverageSessionWaitMillis() {
+		long count = sessionTakeCount.get();
+		if (count == 0) {
+			return 0;
+		}
+		return sessionWaitNanos.get() / 1_000_000d / count;
+	}
+
+	/**
+	 * Returns the load throughput report.
+	 */
+	public String getLoadReport() {
+		return this.getClass().getSimpleName() + " load [map=" + mapName + ", rows=" + loadedCount.get()
+				+ ", loadAllCalls=" + loadAllCount.get() + ", batches=" + loadBatchCount.get() + ", parallelism="
+				+ loadParallelism + ", rowsPerSec=" + String.format("%.1f", getLoadThroughput())
+				+ ", avgSessionWaitMsec=" + String.format("%.3f", getAverageSessionWaitMillis()) + "]";
+	}
+
+	/**
+	 * Returns the primary keys of up to entity.load.limit rows. The keys are
+	 * streamed from a forward-only database cursor with the JDBC fetch size of
+	 * entity.load.fetch.size while Hazelcast iterates them, so that only the
+	 * fetched keys are held in memory. The cursor holds a pooled session until
+	 * the iteration completes or Hazelcast closes the iterator.
+	 */
+	@Override
+	public Iterable<K> loadAllKeys() {
+		return () -> new PrimaryKeyIterator();
+	}
+
+	/**
+	 * PrimaryKeyIterator iterates the primary keys read from a scrollable
+	 * database cursor. It leases a session from {@link HibernatePool} and closes
+	 * the lease when the last key has been read or when it is closed. Errors are
+	 * logged and end the iteration.
+	 */
+	private class PrimaryKeyIterator implements Iterator<K>, Closeable {
+		private HibernatePool.SessionLease lease;
+		private Transaction transaction;
+		private ScrollableResults results;
+		private K nextKey;
+		private boolean isClosed;
+		private long count;
+		private final long startTime = System.nanoTime();
+
+		@SuppressWarnings("unchecked")
+		PrimaryKeyIterator() {
+			try {
+				lease = HibernatePool.getHibernatePool().leaseSession();
+				Session session = lease.getSession();
+				initPrimaryKey(session);
+				// Some JDBC drivers use a cursor only within a transaction
+				transaction = session.beginTransaction();
+				if (deltaColumn != null) {
+					initDeltaWatermark(session);
 				}
+				CriteriaBuilder cb = session.getCriteriaBuilder();
+				CriteriaQuery<Object> cr = (CriteriaQuery<Object>) cb.createQuery(pkType);
+				Root<?> root = cr.from(entityClass);
+				cr.select(root.get(pkName));
+				Query<Object> query = session.createQuery(cr);
+				if (initialKeyLimit > 0) {
+					query.setMaxResults(initialKeyLimit);
+				}
+				if (loadFetchSize > 0) {
+					query.setFetchSize(loadFetchSize);
+				}
+				query.setReadOnly(true);
+				results = query.scroll(ScrollMode.FORWARD_ONLY);
 			} catch (InterruptedException ex) {
-				logger.severe(this.getClass().getSimpleName() + ".loadAll() DB session interrupted", ex);
-			} catch (NoSuchMethodException ex) {
-				logger.severe(this.getClass().getSimpleName()
-						+ ".loadAll() The getter method for primary key not found in the entity class: "
-						+ entityClass.getCanonicalName() + "." + getterMethodName + "()", ex);
-			} catch (SecurityException ex) {
-				logger.severe(this.getClass().getSimpleName() + ".loadAll() SecurityException", ex);
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-				logger.severe(this.getClass().getSimpleName()
-						+ ".loadAll() - Getter method invokation exception for the entity class: "
-						+ entityClass.getCanonicalName() + "." + getterMethodName + "()", ex);
+				logger.severe(MapStorePkDbImpl.this.getClass().getSimpleName()
+						+ ".loadAllKeys() DB session interrupted", ex);
+				close();
 			} catch (Exception ex) {
 				logger.severe(ex);
+				close();
 			}
-			if (session != null) {
-				HibernatePool.getHibernatePool().offerSession(session);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean hasNext() {
+			if (nextKey != null) {
+				return true;
+			}
+			if (isClosed) {
+				return false;
 			}
+			try {
+				if (results.next()) {
+					nextKey = (K) results.get(0);
+					count++;
+					return true;
+				}
+			} catch (Exception ex) {
+				logger.severe(ex);
+			}
+			close();
+			return false;
+		}
+
+		@Override
+		public K next() {
+			if (hasNext() == false) {
+				throw new NoSuchElementException();
+			}
+			K key = nextKey;
+			nextKey = null;
+			return key;
+		}
+
+		@Override
+		public void close() {
+			if (isClosed) {
+				return;
+			}
+			isClosed = true;
+			try {
+				if (results != null) {
+					results.close();
+				}
+				if (transaction != null && transaction.isActive()) {
+					transaction.commit();
+				}
+			} catch (Exception ex) {
+				logger.warning(ex);
+			} finally {
+				if (lease != null) {
+					lease.close();
+					lease = null;
+				}
+			}
+			logger.info(MapStorePkDbImpl.this.getClass().getSimpleName() + ".loadAllKeys() read " + count
+					+ " keys for the map " + mapName + " ["
+					+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " msec]");
 		}
-		return result;
 	}
 
+	/**
+	 * Puts the greatest entity.delta.column value in the table in the watermark
+	 * map. Invoked before the initial load reads the keys so that the rows
+	 * changed during the initial load are reloaded by the next delta load.
+	 * Errors are logged and do not stop the initial load.
+	 * 
+	 * @param session Hibernate session
+	 */
+	private void initDeltaWatermark(Session session) {
+		try {
+			Comparable<?> watermark = selectMaxDeltaValue(session);
+			if (watermark != null) {
+				getWatermarkMap().set(mapName, watermark);
+			}
+		} catch (Exception ex) {
+			logger.warning(this.getClass().getSimpleName() + " Unable to initialize the delta watermark of the map "
+					+ mapName, ex);
+		}
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Comparable<?> selectMaxDeltaValue(Session session) {
+		CriteriaBuilder cb = session.getCriteriaBuilder();
+		CriteriaQuery<Object> cr = cb.createQuery();
+		Root<?> root = cr.from(entityClass);
+		Path<Comparable> deltaPath = root.get(deltaColumn);
+		cr.select(cb.greatest(deltaPath));
+		return (Comparable<?>) session.createQuery(cr).getSingleResult();
+	}
+
+	/**
+	 * Returns the primary keys and entity.delta.column values of up to the
+	 * specified number of rows whose value is greater than the watermark in the
+	 * ascending order of the value.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private List<Object[]> selectChangedKeys(Session session, Comparable watermark, int maxResults) {
+		CriteriaBuilder cb = session.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cr = cb.createQuery(Object[].class);
+		Root<?> root = cr.from(entityClass);
+		Path<Comparable> deltaPath = root.get(deltaColumn);
+		cr.multiselect(root.get(pkName), deltaPath).where(cb.greaterThan(deltaPath, watermark))
+				.orderBy(cb.asc(deltaPath));
+		Query<Object[]> query = session.createQuery(cr);
+		query.setMaxResults(maxResults);
+		return query.getResultList();
+	}
+
+	/**
+	 * Returns the primary keys of up to the specified number of rows with the
+	 * specified entity.delta.column value whose primary key is greater than the
+	 * specified key in the ascending order of the primary key. If the primary key
+	 * type is not Comparable, e.g., a composite key, then all the rows with the
+	 * value are returned in a single page.
+	 * 
+	 * @param session    Hibernate session
+	 * @param value      entity.delta.column value
+	 * @param lastKey    Last primary key of the previous page. null for the first
+	 *                   page.
+	 * @param maxResults Maximum number of keys to return
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private List<Object> selectKeysByDeltaValue(Session session, Object value, Object lastKey, int maxResults) {
+		CriteriaBuilder cb = session.getCriteriaBuilder();
+		CriteriaQuery<Object> cr = (CriteriaQuery<Object>) cb.createQuery(pkType);
+		Root<?> root = cr.from(entityClass);
+		if (isDeltaKeyPaged()) {
+			Path<Comparable> pkPath = root.get(pkName);
+			Predicate predicate = cb.equal(root.get(deltaColumn), value);
+			if (lastKey != null) {
+				predicate = cb.and(predicate, cb.greaterThan(pkPath, (Comparable) lastKey));
+			}
+			cr.select(pkPath).where(predicate).orderBy(cb.asc(pkPath));
+			Query<Object> query = session.createQuery(cr);
+			query.setMaxResults(maxResults);
+			return query.getResultList();
+		}
+		cr.select(root.get(pkName)).where(cb.equal(root.get(deltaColumn), value));
+		return session.createQuery(cr).getResultList();
+	}
+
+	/**
+	 * Returns true if the rows with the same entity.delta.column value can be
+	 * read in pages ordered by the primary key.
+	 */
+	private boolean isDeltaKeyPaged() {
+		return pkType != null && Comparable.class.isAssignableFrom(pkType);
+	}
+
+	/**
+	 * Loads the rows with the specified entity.delta.column value that are not
+	 * in the specified key set, in pages of entity.load.batch.size keys, so that
+	 * any number of rows sharing the value is loaded without reading all their
+	 * keys at once.
+	 * 
+	 * @param map       Map to load the keys into
+	 * @param value     entity.delta.column value
+	 * @param loadedSet Keys already loaded
+	 * @return Number of keys loaded
+	 * @throws InterruptedException Thrown if interrupted while waiting for a
+	 *                              session
+	 */
 	@SuppressWarnings("unchecked")
-	@Override
-	public Iterable<K> loadAllKeys() {
-		List<String> pkList = getPrimaryKeys(entityClass, initialKeyLimit);
-		return (Iterable<K>) pkList;
+	private long loadKeysByDeltaValue(IMap<K, V> map, Object value, Set<K> loadedSet)
+			throws InterruptedException {
+		long count = 0;
+		Object lastKey = null;
+		int keyCount;
+		do {
+			List<Object> keyList;
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				keyList = selectKeysByDeltaValue(lease.getSession(), value, lastKey, loadBatchSize);
+			}
+			keyCount = keyList.size();
+			if (keyCount == 0) {
+				break;
+			}
+			Set<K> keySet = new HashSet<K>(keyCount * 4 / 3 + 1);
+			for (Object key : keyList) {
+				if (loadedSet.contains(key) == false) {
+					keySet.add((K) key);
+				}
+			}
+			if (keySet.isEmpty() == false) {
+				map.loadAll(keySet, true);
+				count += keySet.size();
+			}
+			lastKey = keyList.get(keyCount - 1);
+		} while (keyCount == loadBatchSize && isDeltaKeyPaged());
+		return count;
+	}
+
+	private IMap<String, Object> getWatermarkMap() {
+		return hzInstance.getMap(deltaWatermarkMapName);
+	}
+
+	/**
+	 * Runs the delta load if this member is the oldest member of the cluster so
+	 * that only one member queries the database.
+	 */
+	private void runScheduledDeltaLoad() {
+		try {
+			if (hzInstance.getCluster().getMembers().iterator().next().localMember()) {
+				loadDelta();
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} catch (Exception ex) {
+			logger.warning(this.getClass().getSimpleName() + ".loadDelta() failed for the map " + mapName, ex);
+		}
+	}
+
+	/**
+	 * Reloads the rows changed since the delta watermark into the map and
+	 * advances the watermark. The keys are read in batches of
+	 * entity.load.batch.size in the ascending order of entity.delta.column. The
+	 * rows that share the last value of a full batch are loaded after the batch
+	 * in pages of entity.load.batch.size keys ordered by the primary key so that
+	 * no rows with the same value are skipped. If the
+	 * watermark is not found, then it is initialized to the greatest value in
+	 * the table and no rows are loaded. The watermark is advanced after each
+	 * batch is loaded.
+	 * 
+	 * @return Number of keys loaded. 0 if entity.delta.column is not specified.
+	 * @throws InterruptedException Thrown if interrupted while waiting for a
+	 *                              session
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public synchronized long loadDelta() throws InterruptedException {
+		if (deltaColumn == null || isDbRead == false) {
+			return 0;
+		}
+		long startTime = System.nanoTime();
+		IMap<String, Object> watermarkMap = getWatermarkMap();
+		Comparable watermark = (Comparable) watermarkMap.get(mapName);
+		if (watermark == null) {
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				watermark = selectMaxDeltaValue(lease.getSession());
+			}
+			if (watermark != null) {
+				watermarkMap.set(mapName, watermark);
+				logger.info(this.getClass().getSimpleName() + ".loadDelta() initialized the watermark of the map "
+						+ mapName + " [" + deltaColumn + "=" + watermark + "]");
+			}
+			return 0;
+		}
+
+		IMap<K, V> map = hzInstance.getMap(mapName);
+		long count = 0;
+		int rowCount;
+		do {
+			Set<K> keySet;
+			Comparable lastValue;
+			// Release the session before loading the keys, which needs sessions
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
+				initPrimaryKey(session);
+				List<Object[]> rowList = selectChangedKeys(session, watermark, loadBatchSize);
+				rowCount = rowList.size();
+				if (rowCount == 0) {
+					break;
+				}
+				keySet = new HashSet<K>(rowCount * 4 / 3 + 1);
+				for (Object[] row : rowList) {
+					keySet.add((K) row[0]);
+				}
+				lastValue = (Comparable) rowList.get(rowCount - 1)[1];
+			}
+			map.loadAll(keySet, true);
+			count += keySet.size();
+			if (rowCount == loadBatchSize) {
+				// The rows with the last value may continue beyond the batch
+				count += loadKeysByDeltaValue(map, lastValue, keySet);
+			}
+			watermark = lastValue;
+			watermarkMap.set(mapName, watermark);
+		} while (rowCount == loadBatchSize);
+
+		deltaLoadCount.incrementAndGet();
+		deltaLoadedCount.addAndGet(count);
+		String message = this.getClass().getSimpleName() + ".loadDelta() loaded " + count + " changed keys into the map "
+				+ mapName + " [" + deltaColumn + "=" + watermark + ", "
+				+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " msec]";
+		if (count > 0) {
+			logger.info(message);
+		} else if (logger.isFineEnabled()) {
+			logger.fine(message);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the delta watermark of this map, i.e., the greatest
+	 * entity.delta.column value loaded so far. null if not initialized or
+	 * entity.delta.column is not specified.
+	 */
+	public Object getDeltaWatermark() {
+		if (deltaColumn == null) {
+			return null;
+		}
+		return getWatermarkMap().get(mapName);
+	}
+
+	/**
+	 * Returns the number of delta loads that completed, excluding the loads
+	 * that initialized the watermark.
+	 */
+	public long getDeltaLoadCount() {
+		return deltaLoadCount.get();
+	}
+
+	/**
+	 * Returns the total number of keys loaded by delta loads.
+	 */
+	public long getDeltaLoadedCount() {
+		return deltaLoadedCount.get();
 	}
 
 	@Override
 	public void store(K key, V value) {
 		if (isDbWrite) {
-			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
+			if (loadCoalescer != null) {
+				loadCoalescer.invalidate(key);
+			}
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
 				Transaction transaction = session.beginTransaction();
 				session.saveOrUpdate(value);
 				transaction.commit();
-				HibernatePool.getHibernatePool().offerSession(session);
 			} catch (InterruptedException ex) {
-				logger.severe(this.getClass().getSimpleName() + ".store() DB session interrupted", ex);
-			} catch (Exception ex) {
-				logger.severe(ex);
+				Thread.currentThread().interrupt();
+				throw new HazelcastException(this.getClass().getSimpleName() + ".store() DB session interrupted", ex);
+			} catch (RuntimeException ex) {
+				logger.severe(this.getClass().getSimpleName() + ".store() failed for the map " + mapName, ex);
+				throw ex;
 			}
 		}
 	}
 
+	/**
+	 * Writes the specified entities in a single transaction. The session is
+	 * flushed and cleared every entity.store.batch.size entities, and the SQL
+	 * statements are sent in JDBC batches of the same size. If entity.store.bulk
+	 * is true, then the entities are written by {@link #storeBulk(Session, Collection)},
+	 * otherwise by saveOrUpdate(). If the write fails, then the transaction is
+	 * rolled back and the exception is rethrown so that Hazelcast retries the
+	 * entries, e.g., by the write-behind queue.
+	 */
 	@Override
 	public void storeAll(Map<K, V> map) {
-		if (isDbWrite) {
+		if (isDbWrite == false || map.isEmpty()) {
+			return;
+		}
+		if (loadCoalescer != null) {
+			map.keySet().forEach(loadCoalescer::invalidate);
+		}
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			session.setJdbcBatchSize(storeBatchSize);
+			Transaction transaction = null;
 			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
-				Transaction transaction = session.beginTransaction();
-				map.forEach((id, value) -> session.saveOrUpdate(value));
+				transaction = session.beginTransaction();
+				if (isStoreBulk) {
+					storeBulk(session, map.values());
+				} else {
+					int count = 0;
+					for (V value : map.values()) {
+						session.saveOrUpdate(value);
+						if (++count % storeBatchSize == 0) {
+							session.flush();
+							session.clear();
+						}
+					}
+				}
 				transaction.commit();
-				HibernatePool.getHibernatePool().offerSession(session);
-			} catch (InterruptedException ex) {
-				logger.severe(this.getClass().getSimpleName() + ".storeAll() DB session interrupted", ex);
-			} catch (Exception ex) {
-				logger.severe(ex);
+			} catch (RuntimeException ex) {
+				if (transaction != null && transaction.isActive()) {
+					try {
+						transaction.rollback();
+					} catch (Exception e) {
+						logger.warning(e);
+					}
+				}
+				logger.severe(this.getClass().getSimpleName() + ".storeAll() failed to write " + map.size()
+						+ " entities of the map " + mapName, ex);
+				throw ex;
+			} finally {
+				// Restore the session factory default
+				session.setJdbcBatchSize(null);
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new HazelcastException(this.getClass().getSimpleName() + ".storeAll() DB session interrupted", ex);
+		}
+	}
+
+	/**
+	 * Writes the specified entities in batches of entity.store.batch.size. For
+	 * each batch, the primary keys that already exist are selected by a single
+	 * query. The existing entities are updated and the others are inserted
+	 * without selecting them individually, and the session is flushed and
+	 * cleared. The entities with the same primary key are coalesced into the
+	 * last one.
+	 * 
+	 * @param session Hibernate session in a transaction
+	 * @param values  Entities to write
+	 */
+	private void storeBulk(Session session, Collection<V> values) {
+		initPrimaryKeyGetter(session);
+		Function<Object, Object> getter = pkGetter;
+		Map<Object, V> entityMap = new LinkedHashMap<Object, V>(values.size() * 4 / 3 + 1);
+		for (V value : values) {
+			entityMap.put(getter.apply(value), value);
+		}
+		List<Object> pkList = new ArrayList<Object>(entityMap.keySet());
+		for (int fromIndex = 0; fromIndex < pkList.size(); fromIndex += storeBatchSize) {
+			List<Object> batchPkList = pkList.subList(fromIndex, Math.min(fromIndex + storeBatchSize, pkList.size()));
+			Set<Object> existingPkSet = getExistingPrimaryKeys(session, batchPkList);
+			for (Object pk : batchPkList) {
+				V value = entityMap.get(pk);
+				if (existingPkSet.contains(pk)) {
+					session.update(value);
+				} else {
+					session.save(value);
+				}
 			}
+			session.flush();
+			session.clear();
 		}
+		if (logger.isFineEnabled()) {
+			logger.fine(this.getClass().getSimpleName() + ".storeAll() wrote " + entityMap.size() + " of "
+					+ values.size() + " entities in bulk");
+		}
+	}
+
+	/**
+	 * Returns the specified primary keys that exist in the database.
+	 * 
+	 * @param session Hibernate session
+	 * @param pkList  Primary keys
+	 */
+	@SuppressWarnings("unchecked")
+	private Set<Object> getExistingPrimaryKeys(Session session, List<Object> pkList) {
+		CriteriaBuilder cb = session.getCriteriaBuilder();
+		CriteriaQuery<Object> cr = (CriteriaQuery<Object>) cb.createQuery(pkType);
+		Root<?> root = cr.from(entityClass);
+		cr.select(root.get(pkName)).where(root.get(pkName).in(pkList));
+		return new HashSet<Object>(session.createQuery(cr).getResultList());
 	}
 
 	@Override
 	public void delete(K key) {
 		if (isDbDelete) {
-			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
 				Transaction transaction = session.beginTransaction();
 				session.delete(key);
 				transaction.commit();
-				HibernatePool.getHibernatePool().offerSession(session);
 			} catch (InterruptedException ex) {
 				logger.severe(this.getClass().getSimpleName() + ".delete() DB session interrupted", ex);
 			} catch (Exception ex) {
@@ -374,12 +1375,11 @@ public class MapStorePkDbImpl<K, V> implements MapStore<K, V>, MapLoaderLifecycl
 	@Override
 	public void deleteAll(Collection<K> keys) {
 		if (isDbDelete) {
-			try {
-				Session session = HibernatePool.getHibernatePool().takeSession();
+			try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+				Session session = lease.getSession();
 				Transaction transaction = session.beginTransaction();
 				keys.forEach((key) -> session.delete(key));
 				transaction.commit();
-				HibernatePool.getHibernatePool().offerSession(session);
 			} catch (InterruptedException ex) {
 				logger.severe(this.getClass().getSimpleName() + ".deleteAll() DB session interrupted", ex);
 			} catch (Exception ex) {
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql;
+
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.hazelcast.addon.exception.HqlException;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * HqlExport is a command line tool that exports the results of an HQL query to
+ * a file or the standard output in CSV or newline-delimited JSON. It connects
+ * to the cluster as a client configured by the Hazelcast client configuration
+ * file, e.g., <code>-Dhazelcast.client.config=hazelcast-client.xml</code>. Run
+ * it with the option <code>-?</code> to see the usage.
+ *
+ * @author dpark
+ *
+ */
+public class HqlExport {
+	public final static String PROPERTY_executableName = "executable.name";
+
+	private static void writeLine() {
+		System.err.println();
+	}
+
+	private static void writeLine(String line) {
+		System.err.println(line);
+	}
+
+	private static void usage() {
+		String executableName = System.getProperty(PROPERTY_executableName, HqlExport.class.getName());
+		writeLine();
+		writeLine("NAME");
+		writeLine("   " + executableName + " - Export the results of an HQL query in CSV or JSON");
+		writeLine();
+		writeLine("SYNOPSIS");
+		writeLine("   " + executableName + " -query hql | -file query_file [-out file_path] [-format csv|json] [-?]");
+		writeLine();
+		writeLine("DESCRIPTION");
+		writeLine("   Executes the specified HQL query and streams the results to the specified file");
+		writeLine("   or the standard output. The results are written as they are read from the cluster");
+		writeLine("   so that the client memory stays constant for queries without the order by clause.");
+		writeLine("   The cluster is connected by the Hazelcast client configuration, which can be");
+		writeLine("   specified by the system property 'hazelcast.client.config'.");
+		writeLine();
+		writeLine("OPTIONS");
+		writeLine("   -query hql");
+		writeLine("             HQL query string.");
+		writeLine();
+		writeLine("   -file query_file");
+		writeLine("             Path of the file containing the HQL query.");
+		writeLine();
+		writeLine("   -out file_path");
+		writeLine("             Path of the file to write. The file is created or overwritten. If not");
+		writeLine("             specified, then the results are written to the standard output.");
+		writeLine();
+		writeLine("   -format csv|json");
+		writeLine("             'csv' writes comma-separated values with the header line. 'json' writes");
+		writeLine("             one JSON object per line. If not specified, then it is determined by the");
+		writeLine("             file extension: '.json', '.jsonl', and '.ndjson' for 'json', others for");
+		writeLine("             'csv'.");
+		writeLine();
+		writeLine("EXAMPLES");
+		writeLine("   " + executableName + " -query \"select * from nw/orders where freight > 100\" -out orders.csv");
+		writeLine();
+		System.exit(0);
+	}
+
+	public static void main(String... args) throws Exception {
+		String arg;
+		String query = null;
+		String queryFile = null;
+		String outPath = null;
+		ExportFormat format = null;
+		for (int i = 0; i < args.length; i++) {
+			arg = args[i];
+			if (arg.equalsIgnoreCase("-?")) {
+				usage();
+			} else if (arg.equals("-query")) {
+				if (i < args.length - 1) {
+					query = args[++i].trim();
+				}
+			} else if (arg.equals("-file")) {
+				if (i < args.length - 1) {
+					queryFile = args[++i].trim();
+				}
+			} else if (arg.equals("-out")) {
+				if (i < args.length - 1) {
+					outPath = args[++i].trim();
+				}
+			} else if (arg.equals("-format")) {
+				if (i < args.length - 1) {
+					arg = args[++i].trim();
+					if (arg.equalsIgnoreCase("csv")) {
+						format = ExportFormat.CSV;
+					} else if (arg.equalsIgnoreCase("json")) {
+						format = ExportFormat.JSON;
+					} else {
+						writeLine("ERROR: Invalid format: [" + arg + "]. Command aborted.");
+						System.exit(1);
+					}
+				}
+			}
+		}
+
+		if (query == null && queryFile == null) {
+			writeLine("ERROR: The query must be specified. Please use the '-query' or '-file' option to specify");
+			writeLine("       the query. Command aborted.");
+			System.exit(1);
+		}
+		if (queryFile != null && Files.exists(Paths.get(queryFile)) == false) {
+			writeLine("ERROR: The specified query file does not exist: [" + queryFile + "].");
+			writeLine("       Command aborted.");
+			System.exit(1);
+		}
+		if (format == null) {
+			format = outPath == null ? ExportFormat.CSV : ExportFormat.getExportFormat(outPath);
+		}
+
+		int status = 0;
+		HazelcastInstance hz = HazelcastClient.newHazelcastClient();
+		try {
+			HqlQuery<Object> hql = HqlQuery.newHqlQueryInstance(hz);
+			CompiledQuery<Object> cq;
+			if (queryFile != null) {
+				cq = hql.compile(Paths.get(queryFile));
+			} else {
+				cq = hql.compile(query);
+			}
+			if (hql.isMapExist(cq.getMapName()) == false) {
+				throw new HqlException("The query contains map undefined in the cluster: " + cq.getMapName());
+			}
+			if (cq.getJoinMapName() != null && hql.isMapExist(cq.getJoinMapName()) == false) {
+				throw new HqlException("The query contains map undefined in the cluster: " + cq.getJoinMapName());
+			}
+			long startTime = System.currentTimeMillis();
+			if (outPath == null) {
+				WritableByteChannel channel = Channels.newChannel(System.out);
+				long count = cq.export(channel, format);
+				System.out.flush();
+				writeLine("Exported " + count + " results in " + (System.currentTimeMillis() - startTime) + " msec");
+			} else {
+				Path path = Paths.get(outPath);
+				long count = cq.export(path, format);
+				long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+				long size = Files.size(path);
+				writeLine("Exported " + count + " results (" + size + " bytes) to " + path + " in " + elapsed
+						+ " msec [" + String.format("%.1f", size / 1024.0 / 1024.0 * 1000 / elapsed) + " MiB/sec]");
+			}
+		} catch (HqlException ex) {
+			writeLine("ERROR: " + ex.getMessage() + ". Command aborted.");
+			status = 1;
+		} finally {
+			hz.shutdown();
+		}
+		System.exit(status);
+	}
+}
@@ -19,30 +19,50 @@ package org.hazelcast.addon.hql;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.hazelcast.addon.exception.HqlException;
 import org.hazelcast.addon.exception.MapNotFoundException;
+import org.hazelcast.addon.hql.impl.HqlEvalDriver;
+import org.hazelcast.addon.hql.impl.HqlMetrics;
+import org.hazelcast.addon.hql.impl.IndexAdvisor;
+import org.hazelcast.addon.hql.impl.LruCache;
+import org.hazelcast.addon.hql.impl.MapRegistry;
 import org.hazelcast.addon.hql.impl.PortableFactoryImpl;
+import org.hazelcast.addon.hql.impl.ResultCache;
 
 import com.hazelcast.config.Config;
-import com.hazelcast.core.DistributedObject;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
 import com.hazelcast.nio.serialization.PortableFactory;
 import com.hazelcast.query.PagingPredicate;
-import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.query.Predicates;
 
 /**
  * HqlQuery is the entry point class for executing HQL queries. HQL supports the
  * following:
  * <ul>
- * <li>Where-clause predicate supported by {@link SqlPredicate}.</li>
+ * <li>Where-clause predicate built into native {@link Predicates} objects.</li>
  * <li>"order by" clause on keys, values, and their fields (properties).</li>
  * <li>Result set pagination</li>
+ * <li>Select column list projected on the members.</li>
+ * <li>Aggregate functions, distinct, and "group by" computed on the
+ * members.</li>
  * </ul>
  * <b>Note:</b> The underlying querying mechanism embeds Hazelcast's
  * {@link PagingPredicate} to return {@link IPageResults} to provide pagination
@@ -53,9 +73,14 @@ import com.hazelcast.query.SqlPredicate;
  * <b>HQL Syntax:</b>
  * 
  * <pre>
- * select * &lt;from-clause&gt; [&lt;where-clause&gt;] [&lt;order-by-clause&gt;] [;]
- * &lt;from-clause&gt;: from &lt;map-name&gt;[.keys|.values|.entries] [&lt;alias&gt;] 
+ * select [distinct] &lt;select-list&gt; &lt;from-clause&gt; [&lt;where-clause&gt;] [&lt;group-by-clause&gt;] [&lt;order-by-clause&gt;] [;]
+ * &lt;select-list&gt;: * | &lt;select-item&gt;[, &lt;select-item&gt;]...
+ * &lt;select-item&gt;: &lt;field-name&gt; [[as] &lt;alias&gt;] | &lt;aggregate-function&gt; [[as] &lt;alias&gt;]
+ * &lt;aggregate-function&gt;: count(*) | count([distinct] &lt;field-name&gt;) | sum|avg|min|max(&lt;field-name&gt;)
+ * &lt;from-clause&gt;: from &lt;map-name&gt;[.keys|.values|.entries] [&lt;alias&gt;] [&lt;join-clause&gt;]
+ * &lt;join-clause&gt;: [inner] join &lt;map-name&gt; &lt;alias&gt; on &lt;alias&gt;.&lt;field-name&gt; = &lt;alias&gt;.&lt;field-name&gt;
  * &lt;where-clause&gt;: where [&lt;alias&gt;-name&gt][.value.]&lt;field-name&gt;...
+ * &lt;group-by-clause&gt;: group by &lt;field-name&gt;[, &lt;field-name&gt;]...
  * &lt;order-by-clause&gt;: order by [&lt;alias&gt;[.key.|.value.]]&lt;field-name&gt; [asc|desc]
  * </pre>
  * 
@@ -91,6 +116,132 @@ import com.hazelcast.query.SqlPredicate;
  * -- The value objects must implement {@link Comparable}.
  * select *
  * from nw/orders v order by v desc;
+ * 
+ * -- Query selected fields only. Returns rows of field values (Object[]).
+ * select orderId, customerId, freight from nw/orders where freight>10;
+ * 
+ * -- Query aggregates per customer. Returns rows of field values (Object[]).
+ * select customerId, count(*), sum(freight) from nw/orders group by customerId;
+ * 
+ * -- Join orders with their customers. Returns rows of field values (Object[]).
+ * select o.orderId, c.companyName from nw/orders o join nw/customers c on o.customerId = c.key
+ * where c.country='Germany' order by o.orderId;
+ * 
+ * -- Query with positional bind parameters. The values are supplied by
+ * -- {@link #execute(String, int, Object...)}.
+ * select * from nw/orders where customerId=? and freight>?;
+ * 
+ * -- Query with named bind parameters. The values are supplied by
+ * -- {@link #execute(String, int, Map)}.
+ * select * from nw/orders where customerId=:customerId and freight>:freight;
+ * </pre>
+ * 
+ * <b>Compiled Query Cache:</b> Compiled queries are kept in a bounded LRU cache
+ * keyed by the normalized query string (whitespace and comments removed) and
+ * the fetch size. Executing the same query string again, with or without
+ * different bind parameter values, skips the parser altogether. The cache size
+ * defaults to 1000 and can be changed by the following system property. Set it
+ * to 0 to disable the cache.
+ * 
+ * <pre>
+ * -Dorg.hazelcast.addon.hql.HqlQuery.compiledQueryCacheSize=1000
+ * </pre>
+ * 
+ * <b>Parser Warm-Up:</b> The first HqlQuery instance parses a set of
+ * representative queries in the background to populate the parser's shared DFA
+ * cache so that the first queries are parsed as fast as the subsequent ones.
+ * It can be disabled by the following system property.
+ * 
+ * <pre>
+ * -Dorg.hazelcast.addon.hql.HqlQuery.parserWarmUpEnabled=false
+ * </pre>
+ * 
+ * <b>Partition-Parallel Scan:</b> {@link #scan(String, Object...)} and
+ * {@link CompiledQuery#scan()} stream unordered results by querying all
+ * partitions concurrently, one partition predicate per partition, and return
+ * the results in the order the partition queries complete. Unlike paging, no
+ * member merges the results of the other members. The number of concurrent
+ * partition queries defaults to the number of members times the following
+ * system property, and can be changed by {@link #setScanParallelism(int)}.
+ * 
+ * <pre>
+ * -Dorg.hazelcast.addon.hql.HqlQuery.scanParallelismPerMember=4
+ * </pre>
+ * 
+ * <b>Result Cache:</b> The result cache is disabled by default. If enabled by
+ * {@link #enableResultCache(int, long, TimeUnit)}, then the entire result set
+ * of each executed query is cached in the client, keyed by the compiled query
+ * and bind parameter values, and subsequent executions are answered locally.
+ * A cached result set is invalidated by any change to its map, detected by an
+ * entry listener registered per queried map. It is intended for read-mostly
+ * maps such as reference data.
+ * 
+ * <b>Continuous Query:</b> {@link #subscribe(String, ResultListener, Object...)}
+ * registers a map entry listener filtered by the where clause. The listener
+ * receives the snapshot of the result set followed by the additions, updates,
+ * and removals, so that the query does not need to be re-executed to detect
+ * changes.
+ * 
+ * <b>Join:</b> The join clause joins the map in the from clause with another
+ * map by equality. Both maps must be aliased, and all columns must be
+ * qualified by the aliases. Each top-level <code>and</code> condition of the
+ * where clause must refer to only one of the maps so that each map is filtered
+ * on the members before it is joined. Joins are executed as hash joins on the
+ * members by the executor service named "hql-join". If the joined map is
+ * joined by its key and its keys are co-partitioned with the join values of
+ * the other map, e.g., by <code>PartitionAware</code>
+ * keys, then each member joins only its local entries. Otherwise, the matching
+ * entries of the joined map are sent to all members, up to the broadcast
+ * limit set by the following system property or
+ * {@link #setJoinBroadcastLimit(int)}. Joins do not support aggregate
+ * functions or group by.
+ * 
+ * <pre>
+ * -Dorg.hazelcast.addon.hql.HqlQuery.joinBroadcastLimit=10000
+ * </pre>
+ * 
+ * <b>Total Count:</b> {@link IPageResults#getTotalSize()} returns the exact
+ * number of results in the entire result set. The results paged by the
+ * members are counted by the built-in count aggregator with the same
+ * predicate, so that no entries are returned to the client. By default, the
+ * count is executed when it is first requested. If enabled by the following
+ * system property or {@link #setTotalCountEnabled(boolean)}, then the count is
+ * executed on the executor in parallel with the first page fetch. A query
+ * with <code>count(*)</code> as its only select list item is always executed
+ * by the count aggregator, or by the map size if it has no where clause.
+ * 
+ * <pre>
+ * -Dorg.hazelcast.addon.hql.HqlQuery.totalCountEnabled=false
+ * </pre>
+ * 
+ * <b>Index Advisor:</b> The index advisor is disabled by default. If enabled
+ * by {@link #enableIndexAdvisor()}, then every query executed by this object
+ * is recorded with the map attributes it uses in equality, range, and order by
+ * positions and its latency. {@link IndexAdvisor#getRecommendations(long)}
+ * recommends sorted and hash indexes for the where clause attributes that are
+ * not indexed, slowest first, and
+ * {@link IndexAdvisor#applyRecommendations(java.util.List)} adds them to the
+ * maps.
+ * 
+ * <b>Metrics:</b> The metrics are disabled by default. If enabled by
+ * {@link #enableMetrics()}, then the compile time, the execute time, the page
+ * fetch time, the number of results, and the estimated number of bytes of
+ * every query executed by {@link #execute(String, int, Object...)} and
+ * {@link CompiledQuery#execute(Object...)} are recorded per query shape, i.e.,
+ * per normalized query string, in HdrHistogram latency histograms. The metrics
+ * are shared by all HqlQuery instances of the same {@link HazelcastInstance}.
+ * They are available from {@link #getMetrics()} and JMX under the domain
+ * <code>org.hazelcast.addon.hql</code>, and are passed to the
+ * {@link QueryMetricsSink}s added to {@link HqlMetrics}. A query execution that
+ * takes longer than the slow query threshold is logged as a warning with its
+ * plan. The metrics can be enabled for all HqlQuery instances and configured
+ * by the following system properties. A negative threshold disables the slow
+ * query log.
+ * 
+ * <pre>
+ * -Dorg.hazelcast.addon.hql.HqlQuery.metricsEnabled=false
+ * -Dorg.hazelcast.addon.hql.HqlQuery.metricsMaxQueryShapes=1000
+ * -Dorg.hazelcast.addon.hql.HqlQuery.slowQueryThresholdMillis=1000
  * </pre>
  * 
  * @author dpark
@@ -100,8 +251,35 @@ import com.hazelcast.query.SqlPredicate;
 @SuppressWarnings("rawtypes")
 public class HqlQuery<T> {
 
+	private final static int COMPILED_QUERY_CACHE_SIZE = Integer
+			.getInteger("org.hazelcast.addon.hql.HqlQuery.compiledQueryCacheSize", 1000);
+	private final static int SCAN_PARALLELISM_PER_MEMBER = Integer
+			.getInteger("org.hazelcast.addon.hql.HqlQuery.scanParallelismPerMember", 4);
+	private final static int JOIN_BROADCAST_LIMIT = Integer
+			.getInteger("org.hazelcast.addon.hql.HqlQuery.joinBroadcastLimit", 10000);
+	private final static boolean TOTAL_COUNT_ENABLED = Boolean
+			.getBoolean("org.hazelcast.addon.hql.HqlQuery.totalCountEnabled");
+	private final static boolean METRICS_ENABLED = Boolean
+			.getBoolean("org.hazelcast.addon.hql.HqlQuery.metricsEnabled");
+	private final static int METRICS_MAX_QUERY_SHAPES = Integer
+			.getInteger("org.hazelcast.addon.hql.HqlQuery.metricsMaxQueryShapes", 1000);
+	private final static long SLOW_QUERY_THRESHOLD_MILLIS = Long
+			.getLong("org.hazelcast.addon.hql.HqlQuery.slowQueryThresholdMillis", 1000);
+	private final static boolean PARSER_WARM_UP_ENABLED = Boolean.parseBoolean(
+			System.getProperty("org.hazelcast.addon.hql.HqlQuery.parserWarmUpEnabled", "true"));
+	private final static AtomicBoolean isParserWarmUpStarted = new AtomicBoolean(false);
+
 	private HazelcastInstance hz;
-	private TreeMap<String, IMap> mapOfMaps = new TreeMap<String, IMap>();;
+	private final MapRegistry mapRegistry;
+	private LruCache<String, CompiledQuery<T>> compiledQueryCache = new LruCache<String, CompiledQuery<T>>(
+			COMPILED_QUERY_CACHE_SIZE);
+	private volatile Executor executor;
+	private volatile int scanParallelism;
+	private volatile int joinBroadcastLimit = JOIN_BROADCAST_LIMIT;
+	private volatile boolean isTotalCountEnabled = TOTAL_COUNT_ENABLED;
+	private volatile ResultCache resultCache;
+	private volatile IndexAdvisor indexAdvisor;
+	private volatile HqlMetrics metrics;
 
 	/**
 	 * Returns a new instance of HqlQuery. The returned instance can be used for any
@@ -131,32 +309,31 @@ public class HqlQuery<T> {
 					new PortableFactoryImpl());
 		}
 		this.hz = hz;
-		refresh();
+		this.mapRegistry = MapRegistry.getMapRegistry(hz);
+		if (PARSER_WARM_UP_ENABLED && isParserWarmUpStarted.compareAndSet(false, true)) {
+			getDefaultExecutor().execute(HqlEvalDriver::warmUp);
+		}
+		if (METRICS_ENABLED) {
+			enableMetrics();
+		}
 	}
 
 	/**
-	 * Refreshes HqlQuery including the map of maps. This method should be invoked
-	 * when new maps are created since instantiating this HqlQuery to update the map
-	 * of maps. Note that it is invoked by
-	 * {@link #newHqlQueryInstance(HazelcastInstance)}.
+	 * Refreshes the map registry by listing all distributed objects in the
+	 * cluster. This method is not needed for maps created or destroyed after the
+	 * registry is loaded since they are registered by a distributed object
+	 * listener. Note that it makes a remote call which may be expensive if the
+	 * cluster has a large number of distributed objects.
 	 */
 	public void refresh() {
-		mapOfMaps.clear();
-		Collection<DistributedObject> col = hz.getDistributedObjects();
-		for (DistributedObject dobj : col) {
-			if (dobj instanceof IMap) {
-				mapOfMaps.put(((IMap) dobj).getName(), (IMap) dobj);
-			}
-		}
+		mapRegistry.refresh();
 	}
 
 	/**
 	 * Executes the specified query with the default fetch size of 100. If the query
-	 * contains an undefined map then this method throws an exception. This done by
-	 * first checking the map of maps (see {@link #getMapOfMaps()}, which may become
-	 * stale over time. To update the map of maps, invoke the {@link #refresh()}
-	 * method first before calling this method. Note that {@link #refresh()} makes a
-	 * remote call which may be expensive.
+	 * contains an undefined map then this method throws an exception. The map is
+	 * looked up in the map registry, which is kept up to date by a distributed
+	 * object listener (see {@link #isMapExist(String)}).
 	 * 
 	 * @param query HQL query string
 	 * @return Result set that can be scrolled by page at a time
@@ -167,12 +344,10 @@ public class HqlQuery<T> {
 	}
 
 	/**
-	 * Executes the specified query. If the query contains an undefined map then
-	 * this method throws an exception. This done by first checking the map of maps
-	 * (see {@link #getMapOfMaps()}, which may become stale over time. To update the
-	 * map of maps, invoke the {@link #refresh()} method first before calling this
-	 * method. Note that {@link #refresh()} makes a remote call which may be
-	 * expensive.
+	 * Executes the specified query. If the query contains an undefined map then this
+	 * method throws an exception. The map is looked up in the map registry, which is
+	 * kept up to date by a distributed object listener (see {@link
+	 * #isMapExist(String)}).
 	 * 
 	 * @param query     HQL query string
 	 * @param fetchSize Page fetch size
@@ -185,12 +360,124 @@ public class HqlQuery<T> {
 	}
 
 	/**
-	 * Executes the query text read from the specified path. If the query contains
-	 * an undefined map then this method throws an exception. This done by first
-	 * checking the map of maps (see {@link #getMapOfMaps()}, which may become stale
-	 * over time. To update the map of maps, invoke the {@link #refresh()} method
-	 * first before calling this method. Note that {@link #refresh()} makes a remote
-	 * call which may be expensive.
+	 * Executes the specified query with the specified positional bind parameter
+	 * values. The query is compiled only once and cached for subsequent calls.
+	 * 
+	 * @param query     HQL query string containing positional bind parameters
+	 *                  (<code>?</code>)
+	 * @param fetchSize Page fetch size
+	 * @param params    Bind parameter values in the order they appear in the
+	 *                  query
+	 * @return Result set that can be scrolled by page at a time
+	 * @throws HqlException Thrown if the query is invalid or the parameter values
+	 *                      do not match the query
+	 */
+	public IPageResults<T> execute(String query, int fetchSize, Object... params) throws HqlException {
+		CompiledQuery<T> cq = compile(query, fetchSize);
+		checkMap(cq);
+		return cq.execute(params);
+	}
+
+	/**
+	 * Executes the specified query with the specified named bind parameter values.
+	 * The query is compiled only once and cached for subsequent calls.
+	 * 
+	 * @param query     HQL query string containing named bind parameters
+	 *                  (<code>:name</code>)
+	 * @param fetchSize Page fetch size
+	 * @param params    Map of parameter names (without the prefix ':') and values
+	 * @return Result set that can be scrolled by page at a time
+	 * @throws HqlException Thrown if the query is invalid or the parameter values
+	 *                      do not match the query
+	 */
+	public IPageResults<T> execute(String query, int fetchSize, Map<String, ?> params) throws HqlException {
+		CompiledQuery<T> cq = compile(query, fetchSize);
+		checkMap(cq);
+		return cq.execute(params);
+	}
+
+	/**
+	 * Returns a stream over the unordered results of the specified query by
+	 * scanning all partitions concurrently. The returned stream should be closed
+	 * if it is not consumed to the end so that the remaining partition queries are
+	 * stopped. See {@link CompiledQuery#scan(Object...)} for details.
+	 * 
+	 * @param query  HQL query string without the order by clause
+	 * @param params Bind parameter values in the order they appear in the query.
+	 *               Empty if the query has no bind parameters.
+	 * @throws HqlException Thrown if the query is invalid or contains the order by
+	 *                      clause
+	 */
+	public Stream<T> scan(String query, Object... params) throws HqlException {
+		CompiledQuery<T> cq = compile(query);
+		checkMap(cq);
+		return cq.scan(params);
+	}
+
+	/**
+	 * Exports the entire result set of the specified query to the specified file
+	 * in CSV or newline-delimited JSON. The results are written as they are read
+	 * from the cluster. See
+	 * {@link CompiledQuery#export(java.nio.channels.WritableByteChannel, ExportFormat, Object...)}
+	 * for details.
+	 * 
+	 * @param query  HQL query string
+	 * @param path   File path. The file is created or truncated.
+	 * @param format Export format
+	 * @param params Bind parameter values in the order they appear in the query.
+	 *               Empty if the query has no bind parameters.
+	 * @return Number of results exported
+	 * @throws HqlException Thrown if the query is invalid or contains an undefined
+	 *                      map
+	 * @throws IOException  Thrown if the file write fails
+	 */
+	public long export(String query, Path path, ExportFormat format, Object... params)
+			throws HqlException, IOException {
+		CompiledQuery<T> cq = compile(query);
+		checkMap(cq);
+		return cq.export(path, format, params);
+	}
+
+	/**
+	 * Subscribes to the result set of the specified query. The listener receives
+	 * the snapshot of the entire result set followed by the additions, updates,
+	 * and removals. The returned subscription must be closed when no longer
+	 * needed. See {@link CompiledQuery#subscribe(ResultListener, Object...)} for
+	 * details.
+	 * 
+	 * @param query    HQL query string
+	 * @param listener Listener receiving the snapshot and the changes
+	 * @param params   Bind parameter values in the order they appear in the
+	 *                 query. Empty if the query has no bind parameters.
+	 * @throws HqlException Thrown if the query is invalid or is not supported by
+	 *                      subscriptions
+	 */
+	public ISubscription subscribe(String query, ResultListener<T> listener, Object... params) throws HqlException {
+		CompiledQuery<T> cq = compile(query);
+		checkMap(cq);
+		return cq.subscribe(listener, params);
+	}
+
+	/**
+	 * Returns the plan of the specified query without executing it. The query
+	 * may or may not be prefixed with <code>explain</code>. See
+	 * {@link CompiledQuery#explain()} for details.
+	 *
+	 * @param query HQL query string
+	 * @throws HqlException Thrown if the query is invalid or contains an undefined
+	 *                      map
+	 */
+	public QueryPlan explain(String query) throws HqlException {
+		CompiledQuery<T> cq = compile(query);
+		checkMap(cq);
+		return cq.explain();
+	}
+
+	/**
+	 * Executes the query text read from the specified path. If the query contains an
+	 * undefined map then this method throws an exception. The map is looked up in
+	 * the map registry, which is kept up to date by a distributed object listener
+	 * (see {@link #isMapExist(String)}).
 	 * 
 	 * @param path      File containing HQL query string
 	 * @param fetchSize Page fetch size
@@ -205,12 +492,9 @@ public class HqlQuery<T> {
 
 	/**
 	 * Executes the query text read from the specified path with the default fetch
-	 * size of 100. If the query contains an undefined map then this method throws
-	 * an exception. This done by first checking the map of maps (see
-	 * {@link #getMapOfMaps()}, which may become stale over time. To update the map
-	 * of maps, invoke the {@link #refresh()} method first before calling this
-	 * method. Note that {@link #refresh()} makes a remote call which may be
-	 * expensive.
+	 * size of 100. If the query contains an undefined map then this method throws an
+	 * exception. The map is looked up in the map registry, which is kept up to date
+	 * by a distributed object listener (see {@link #isMapExist(String)}).
 	 * 
 	 * @param path File containing HQL query string
 	 * @return Result set that can be scrolled by page at a time
@@ -224,11 +508,9 @@ public class HqlQuery<T> {
 
 	/**
 	 * Executes the query text read from the specified input stream. If the query
-	 * contains an undefined map then this method throws an exception. This done by
-	 * first checking the map of maps (see {@link #getMapOfMaps()}, which may become
-	 * stale over time. To update the map of maps, invoke the {@link #refresh()}
-	 * method first before calling this method. Note that {@link #refresh()} makes a
-	 * remote call which may be expensive.
+	 * contains an undefined map then this method throws an exception. The map is
+	 * looked up in the map registry, which is kept up to date by a distributed
+	 * object listener (see {@link #isMapExist(String)}).
 	 * 
 	 * @param path      File containing HQL query string
 	 * @param fetchSize Page fetch size
@@ -244,11 +526,8 @@ public class HqlQuery<T> {
 	/**
 	 * Executes the query text read from the specified input stream with the default
 	 * fetch size of 100. If the query contains an undefined map then this method
-	 * throws an exception. This done by first checking the map of maps (see
-	 * {@link #getMapOfMaps()}, which may become stale over time. To update the map
-	 * of maps, invoke the {@link #refresh()} method first before calling this
-	 * method. Note that {@link #refresh()} makes a remote call which may be
-	 * expensive.
+	 * throws an exception. The map is looked up in the map registry, which is kept
+	 * up to date by a distributed object listener (see {@link #isMapExist(String)}).
 	 * 
 	 * @param path File containing HQL query string
 	 * @return Result set that can be scrolled by page at a time
@@ -260,6 +539,296 @@ public class HqlQuery<T> {
 		return execute(cq);
 	}
 
+	/**
+	 * Asynchronously executes the specified query with the specified positional
+	 * bind parameter values on the executor returned by {@link #getExecutor()}.
+	 * The returned stage completes exceptionally with {@link HqlException} if the
+	 * query is invalid.
+	 * 
+	 * @param query     HQL query string
+	 * @param fetchSize Page fetch size
+	 * @param params    Bind parameter values in the order they appear in the
+	 *                  query. Empty if the query has no bind parameters.
+	 */
+	public CompletionStage<IPageResults<T>> executeAsync(String query, int fetchSize, Object... params) {
+		return CompletableFuture.supplyAsync(() -> execute(query, fetchSize, params), getExecutor());
+	}
+
+	/**
+	 * Asynchronously executes the specified query with the specified named bind
+	 * parameter values on the executor returned by {@link #getExecutor()}. The
+	 * returned stage completes exceptionally with {@link HqlException} if the
+	 * query is invalid.
+	 * 
+	 * @param query     HQL query string
+	 * @param fetchSize Page fetch size
+	 * @param params    Map of parameter names (without the prefix ':') and values
+	 */
+	public CompletionStage<IPageResults<T>> executeAsync(String query, int fetchSize, Map<String, ?> params) {
+		return CompletableFuture.supplyAsync(() -> execute(query, fetchSize, params), getExecutor());
+	}
+
+	/**
+	 * Executes the specified compiled queries concurrently on the executor
+	 * returned by {@link #getExecutor()}. The returned stage completes when all
+	 * queries complete, or exceptionally if any of the queries fails. The queries
+	 * must not contain bind parameters.
+	 * 
+	 * @param queries Compiled queries
+	 * @return Results in the same order as the specified queries
+	 */
+	public CompletionStage<List<IPageResults<T>>> executeBatch(Collection<CompiledQuery<T>> queries) {
+		List<CompletableFuture<IPageResults<T>>> futureList = new ArrayList<CompletableFuture<IPageResults<T>>>(
+				queries.size());
+		for (CompiledQuery<T> cq : queries) {
+			futureList.add(CompletableFuture.supplyAsync(() -> execute(cq), getExecutor()));
+		}
+		return CompletableFuture.allOf(futureList.toArray(new CompletableFuture[futureList.size()])).thenApply(v -> {
+			List<IPageResults<T>> resultsList = new ArrayList<IPageResults<T>>(futureList.size());
+			for (CompletableFuture<IPageResults<T>> future : futureList) {
+				resultsList.add(future.join());
+			}
+			return resultsList;
+		});
+	}
+
+	/**
+	 * Returns the executor that runs asynchronous executions, batches, and page
+	 * prefetches. Defaults to {@link #getDefaultExecutor()}.
+	 */
+	public Executor getExecutor() {
+		Executor executor = this.executor;
+		return executor == null ? getDefaultExecutor() : executor;
+	}
+
+	/**
+	 * Sets the executor that runs asynchronous executions, batches, and page
+	 * prefetches of this HqlQuery and its compiled queries.
+	 * 
+	 * @param executor Executor. If null, then {@link #getDefaultExecutor()} is
+	 *                 used.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent partition queries run by
+	 * {@link #scan(String, Object...)}. Unless set by
+	 * {@link #setScanParallelism(int)}, it is the number of members times the
+	 * system property <code>scanParallelismPerMember</code> (default 4).
+	 */
+	public int getScanParallelism() {
+		int scanParallelism = this.scanParallelism;
+		if (scanParallelism > 0) {
+			return scanParallelism;
+		}
+		return Math.max(1, hz.getCluster().getMembers().size()) * Math.max(1, SCAN_PARALLELISM_PER_MEMBER);
+	}
+
+	/**
+	 * Sets the maximum number of concurrent partition queries run by
+	 * {@link #scan(String, Object...)}.
+	 * 
+	 * @param scanParallelism Maximum number of concurrent partition queries. If
+	 *                        less than or equal to 0, then it defaults to the
+	 *                        number of members times the system property
+	 *                        <code>scanParallelismPerMember</code>.
+	 */
+	public void setScanParallelism(int scanParallelism) {
+		this.scanParallelism = scanParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of joined map entries sent to the members by a
+	 * join that is not co-partitioned. Unless set by
+	 * {@link #setJoinBroadcastLimit(int)}, it is the system property
+	 * <code>joinBroadcastLimit</code> (default 10000).
+	 */
+	public int getJoinBroadcastLimit() {
+		return joinBroadcastLimit;
+	}
+
+	/**
+	 * Sets the maximum number of joined map entries sent to the members by a join
+	 * that is not co-partitioned. A join that exceeds the limit fails with
+	 * {@link HqlException}.
+	 * 
+	 * @param joinBroadcastLimit Maximum number of joined map entries to broadcast
+	 */
+	public void setJoinBroadcastLimit(int joinBroadcastLimit) {
+		this.joinBroadcastLimit = joinBroadcastLimit;
+	}
+
+	/**
+	 * Returns true if the total number of results of the queries paged by the
+	 * members is counted in parallel with the first page fetch. Unless set by
+	 * {@link #setTotalCountEnabled(boolean)}, it is the system property
+	 * <code>totalCountEnabled</code> (default false).
+	 */
+	public boolean isTotalCountEnabled() {
+		return isTotalCountEnabled;
+	}
+
+	/**
+	 * Enables or disables counting the total number of results of the queries
+	 * paged by the members in parallel with the first page fetch. If enabled,
+	 * then every such query also executes the count aggregator on the executor
+	 * returned by {@link #getExecutor()}. If disabled, then the count is executed
+	 * only when {@link IPageResults#getTotalSize()} is invoked.
+	 * 
+	 * @param isTotalCountEnabled true to count the total number of results in
+	 *                            parallel with the first page fetch
+	 */
+	public void setTotalCountEnabled(boolean isTotalCountEnabled) {
+		this.isTotalCountEnabled = isTotalCountEnabled;
+	}
+
+	/**
+	 * Enables the result cache. If the result cache is already enabled, then it
+	 * is replaced with a new empty cache. The entire result set of each executed
+	 * query is cached and paged in the client. A cached result set is removed
+	 * when its map changes, when it expires, or when it is the least recently
+	 * accessed result set and the cache is full. The cached result sets must not
+	 * be modified.
+	 * 
+	 * @param maxSize    Maximum number of cached result sets
+	 * @param timeToLive Cached result set time-to-live. If <= 0, then the cached
+	 *                   result sets do not expire.
+	 * @param unit       Time unit of timeToLive
+	 */
+	public synchronized void enableResultCache(int maxSize, long timeToLive, TimeUnit unit) {
+		disableResultCache();
+		resultCache = new ResultCache(hz, maxSize, unit.toMillis(timeToLive));
+	}
+
+	/**
+	 * Disables the result cache. The cached result sets and the map listeners
+	 * are removed.
+	 */
+	public synchronized void disableResultCache() {
+		if (resultCache != null) {
+			resultCache.close();
+			resultCache = null;
+		}
+	}
+
+	/**
+	 * Returns true if the result cache is enabled.
+	 */
+	public boolean isResultCacheEnabled() {
+		return resultCache != null;
+	}
+
+	/**
+	 * Returns the result cache that provides the hit, miss, eviction, and
+	 * invalidation counts. Returns null if the result cache is disabled.
+	 */
+	public ResultCache getResultCache() {
+		return resultCache;
+	}
+
+	/**
+	 * Enables the index advisor. If the index advisor is already enabled, then
+	 * its recorded queries are kept.
+	 */
+	public synchronized void enableIndexAdvisor() {
+		if (indexAdvisor == null) {
+			indexAdvisor = new IndexAdvisor(hz);
+		}
+	}
+
+	/**
+	 * Disables the index advisor and discards its recorded queries.
+	 */
+	public synchronized void disableIndexAdvisor() {
+		indexAdvisor = null;
+	}
+
+	/**
+	 * Returns true if the index advisor is enabled.
+	 */
+	public boolean isIndexAdvisorEnabled() {
+		return indexAdvisor != null;
+	}
+
+	/**
+	 * Returns the index advisor that records the attribute usage and latency of
+	 * the executed queries and recommends indexes. Returns null if the index
+	 * advisor is disabled.
+	 */
+	public IndexAdvisor getIndexAdvisor() {
+		return indexAdvisor;
+	}
+
+	/**
+	 * Enables the metrics. The metrics are shared by all HqlQuery instances of
+	 * the same {@link HazelcastInstance} and registered with the platform MBean
+	 * server once per instance. The slow query threshold defaults to the system
+	 * property <code>slowQueryThresholdMillis</code> (default 1000).
+	 */
+	public synchronized void enableMetrics() {
+		if (metrics == null) {
+			metrics = HqlMetrics.getHqlMetrics(hz, METRICS_MAX_QUERY_SHAPES, SLOW_QUERY_THRESHOLD_MILLIS);
+		}
+	}
+
+	/**
+	 * Disables the metrics of this HqlQuery instance. The shared metrics and
+	 * their MBean are kept for the other HqlQuery instances until the
+	 * {@link HazelcastInstance} shuts down.
+	 */
+	public synchronized void disableMetrics() {
+		metrics = null;
+	}
+
+	/**
+	 * Returns true if the metrics are enabled.
+	 */
+	public boolean isMetricsEnabled() {
+		return metrics != null;
+	}
+
+	/**
+	 * Returns the metrics that provide the latency percentiles and counters per
+	 * query shape, the slow query threshold, and the metrics sinks. Returns null
+	 * if the metrics are disabled.
+	 */
+	public HqlMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Returns the default executor shared by all HqlQuery instances. It runs each
+	 * task in a virtual thread if the JDK supports virtual threads. Otherwise, it
+	 * is a cached thread pool of daemon threads. HQL tasks block on remote calls
+	 * and do not need a bounded pool of platform threads.
+	 */
+	public static Executor getDefaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	private static class DefaultExecutorHolder {
+		static final Executor EXECUTOR = createDefaultExecutor();
+
+		private static Executor createDefaultExecutor() {
+			try {
+				// JDK 21+
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (Exception ex) {
+				final AtomicInteger threadNumber = new AtomicInteger(1);
+				return Executors.newCachedThreadPool(new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "HqlQuery-async-" + threadNumber.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+			}
+		}
+	}
+
 	/**
 	 * Executes the specified CompiledQuery.
 	 * 
@@ -268,10 +837,17 @@ public class HqlQuery<T> {
 	 * @throws HqlException Thrown if the query is invalid
 	 */
 	private IPageResults<T> execute(CompiledQuery<T> cq) throws HqlException {
+		checkMap(cq);
+		return cq.execute();
+	}
+
+	private void checkMap(CompiledQuery<T> cq) throws HqlException {
 		if (isMapExist(cq.getMapName()) == false) {
 			throw new HqlException(new MapNotFoundException("The query contains map undefined in the cluster: " + cq.getMapName()));
 		}
-		return cq.execute();
+		if (cq.getJoinMapName() != null && isMapExist(cq.getJoinMapName()) == false) {
+			throw new HqlException(new MapNotFoundException("The query contains map undefined in the cluster: " + cq.getJoinMapName()));
+		}
 	}
 
 	/**
@@ -289,14 +865,100 @@ public class HqlQuery<T> {
 	/**
 	 * Compiles the specified query but does not execute the query. The returned
 	 * CompiledQuery can be executed later by invoking
-	 * {@link CompiledQuery#execute()}.
+	 * {@link CompiledQuery#execute()}. The compiled query is cached and returned
+	 * for subsequent calls with the same normalized query string and fetch size.
 	 * 
 	 * @param query     HQL query string
 	 * @param fetchSize Page fetch size
 	 * @return Result set that can be scrolled by page at a time
 	 */
 	public CompiledQuery<T> compile(String query, int fetchSize) {
-		return new CompiledQuery<T>(hz, query, fetchSize);
+		if (compiledQueryCache.getMaxSize() <= 0) {
+			return new CompiledQuery<T>(this, hz, query, fetchSize);
+		}
+		String cacheKey = fetchSize + ":" + normalize(query);
+		CompiledQuery<T> cq = compiledQueryCache.get(cacheKey);
+		if (cq == null) {
+			cq = new CompiledQuery<T>(this, hz, query, fetchSize);
+			compiledQueryCache.put(cacheKey, cq);
+		}
+		return cq;
+	}
+
+	/**
+	 * Returns the normalized form of the specified query string which is used as
+	 * the compiled query cache key. Comments are removed, consecutive whitespace
+	 * characters are collapsed into a single space, and the trailing semicolon is
+	 * removed. String literals and quoted identifiers, i.e., <code>"..."</code>
+	 * and <code>[...]</code>, are kept intact.
+	 * 
+	 * @param query HQL query string
+	 */
+	static String normalize(String query) {
+		StringBuilder buffer = new StringBuilder(query.length());
+		int len = query.length();
+		boolean isSpace = false;
+		for (int i = 0; i < len; i++) {
+			char c = query.charAt(i);
+			if (c == '\'' || c == '"' || c == '[') {
+				char closing = c == '[' ? ']' : c;
+				int end = i + 1;
+				while (end < len) {
+					if (query.charAt(end) == closing) {
+						// '' is an escaped quote in string literals
+						if (c == '\'' && end + 1 < len && query.charAt(end + 1) == '\'') {
+							end += 2;
+							continue;
+						}
+						break;
+					}
+					end++;
+				}
+				end = Math.min(end, len - 1);
+				if (isSpace && buffer.length() > 0) {
+					buffer.append(' ');
+				}
+				isSpace = false;
+				buffer.append(query, i, end + 1);
+				i = end;
+			} else if (c == '-' && i + 1 < len && query.charAt(i + 1) == '-') {
+				while (i < len && query.charAt(i) != '\n' && query.charAt(i) != '\r') {
+					i++;
+				}
+				isSpace = true;
+			} else if (c == '/' && i + 1 < len && query.charAt(i + 1) == '*') {
+				int end = query.indexOf("*/", i + 2);
+				i = end < 0 ? len : end + 1;
+				isSpace = true;
+			} else if (Character.isWhitespace(c)) {
+				isSpace = true;
+			} else {
+				if (isSpace && buffer.length() > 0) {
+					buffer.append(' ');
+				}
+				isSpace = false;
+				buffer.append(c);
+			}
+		}
+		int last = buffer.length() - 1;
+		while (last >= 0 && (buffer.charAt(last) == ';' || buffer.charAt(last) == ' ')) {
+			buffer.setLength(last--);
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Clears the compiled query cache.
+	 */
+	public void clearCompiledQueryCache() {
+		compiledQueryCache.clear();
+	}
+
+	/**
+	 * Returns the number of compiled queries in the cache.
+	 */
+	public int getCompiledQueryCacheSize() {
+		return compiledQueryCache.size();
 	}
 	
 	/**
@@ -309,7 +971,7 @@ public class HqlQuery<T> {
 	 * @throws IOException Thrown if the specified path is invalid
 	 */
 	public CompiledQuery<T> compile(Path path) throws IOException {
-		return new CompiledQuery<T>(hz, path, 100);
+		return new CompiledQuery<T>(this, hz, path, 100);
 	}
 
 	/**
@@ -323,7 +985,7 @@ public class HqlQuery<T> {
 	 * @throws IOException Thrown if the specified path is invalid
 	 */
 	public CompiledQuery<T> compile(Path path, int fetchSize) throws IOException {
-		return new CompiledQuery<T>(hz, path, fetchSize);
+		return new CompiledQuery<T>(this, hz, path, fetchSize);
 	}
 
 	/**
@@ -336,7 +998,7 @@ public class HqlQuery<T> {
 	 * @throws IOException Thrown if the specified path is invalid
 	 */
 	public CompiledQuery<T> compile(InputStream is) throws IOException {
-		return new CompiledQuery<T>(hz, is, 100);
+		return new CompiledQuery<T>(this, hz, is, 100);
 	}
 
 	/**
@@ -350,35 +1012,45 @@ public class HqlQuery<T> {
 	 * @throws IOException Thrown if the specified path is invalid
 	 */
 	public CompiledQuery<T> compile(InputStream is, int fetchSize) throws IOException {
-		return new CompiledQuery<T>(hz, is, fetchSize);
+		return new CompiledQuery<T>(this, hz, is, fetchSize);
 	}
 
 	/**
-	 * Returns true if the specified map name exists. Note that this method checks
-	 * the map of maps which may become stale over time. Invoke the
-	 * {@link #refresh()} method before calling this method to update map of maps.
+	 * Returns true if the specified map name exists. The map registry shared by
+	 * all HqlQuery instances of the same {@link HazelcastInstance} is kept up to
+	 * date by a distributed object listener. The cluster distributed objects are
+	 * listed when a map name is first looked up and not found. Thereafter, a map
+	 * name that is not found is checked again by listing the cluster distributed
+	 * objects at most once per second.
 	 * 
 	 * @param mapName Map name
 	 */
 	public boolean isMapExist(String mapName) {
-		return mapOfMaps.containsKey(mapName);
+		return mapRegistry.contains(mapName);
 	}
 
 	/**
-	 * Returns the map found in the map of maps.
+	 * Returns the specified map if it exists in the cluster. Returns null if it
+	 * does not exist.
 	 * 
 	 * @param mapName Map name
 	 */
 	public IMap getMap(String mapName) {
-		return mapOfMaps.get(mapName);
+		if (isMapExist(mapName) == false) {
+			return null;
+		}
+		return hz.getMap(mapName);
 	}
 
 	/**
-	 * Returns the map containing the entire set of IMaps found in the cluster. To
-	 * get the latest map of maps, invoke the {@link #refresh()} method first before
-	 * calling this method.
+	 * Returns a map containing the entire set of IMaps found in the cluster,
+	 * sorted by name. The returned map is a snapshot of the map registry.
 	 */
 	public TreeMap<String, IMap> getMapOfMaps() {
+		TreeMap<String, IMap> mapOfMaps = new TreeMap<String, IMap>();
+		for (String mapName : mapRegistry.getMapNames()) {
+			mapOfMaps.put(mapName, hz.getMap(mapName));
+		}
 		return mapOfMaps;
 	}
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql;
+
+import java.util.List;
+
+/**
+ * ResultListener receives the results of a continuous query subscribed by
+ * {@link HqlQuery#subscribe(String, ResultListener, Object...)}. It first
+ * receives the snapshot of the entire result set followed by the changes to
+ * the result set. The result objects are of the query result type, i.e., keys
+ * for {@link ResultType#KEYS}, values for {@link ResultType#VALUES}, and
+ * {@link java.util.Map.Entry} objects for {@link ResultType#KEYS_VALUES}.
+ * <p>
+ * The methods are invoked by one thread at a time in the order the changes are
+ * received. They should return quickly since they block the delivery of the
+ * subsequent changes.
+ *
+ * @author dpark
+ *
+ * @param <T> Result object type
+ */
+public interface ResultListener<T> {
+
+	/**
+	 * Invoked once with the entire result set when the subscription starts. The
+	 * results are in the order by clause order.
+	 *
+	 * @param results Entire result set
+	 */
+	public void onSnapshot(List<T> results);
+
+	/**
+	 * Invoked when an entry is added to the result set.
+	 *
+	 * @param key    Entry key
+	 * @param result Added result
+	 */
+	public void onAdded(Object key, T result);
+
+	/**
+	 * Invoked when an entry in the result set is updated.
+	 *
+	 * @param key       Entry key
+	 * @param result    Updated result
+	 * @param oldResult Previous result. null if not known.
+	 */
+	public void onUpdated(Object key, T result, T oldResult);
+
+	/**
+	 * Invoked when an entry is removed from the result set because it is
+	 * removed, evicted, or expired from the map, or the map is cleared.
+	 *
+	 * @param key       Entry key
+	 * @param oldResult Removed result. null if not known.
+	 */
+	public void onRemoved(Object key, T oldResult);
+}
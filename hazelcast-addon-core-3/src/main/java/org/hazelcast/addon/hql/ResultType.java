@@ -30,5 +30,12 @@ public enum ResultType {
 	/**
 	 * Keys and values (entries).
 	 */
-	KEYS_VALUES
+	KEYS_VALUES,
+
+	/**
+	 * Rows of select list values. Each row is an <code>Object[]</code>. Returned
+	 * by queries with a select column list, aggregate functions, distinct, or
+	 * group by.
+	 */
+	ROWS
 }
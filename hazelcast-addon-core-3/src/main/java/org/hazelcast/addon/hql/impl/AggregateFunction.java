@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.HashSet;
+
+/**
+ * AggregateFunction is an HQL aggregate function, i.e., <code>count</code>,
+ * <code>sum</code>, <code>avg</code>, <code>min</code>, and <code>max</code>.
+ * Each function provides a serializable {@link Accumulator} that is run on the
+ * members by {@link GroupByAggregator}. Like SQL, null attribute values are
+ * ignored by all functions except <code>count(*)</code>.
+ * <p>
+ * <code>count</code> returns {@link Long}. <code>sum</code> returns
+ * {@link Long} for integral attributes, {@link BigDecimal} for
+ * {@link BigDecimal} and {@link BigInteger} attributes or if the integral sum
+ * overflows <code>long</code>, and {@link Double} for floating point
+ * attributes. <code>avg</code> returns {@link BigDecimal} for
+ * {@link BigDecimal} and {@link BigInteger} attributes and {@link Double}
+ * otherwise. <code>min</code> and <code>max</code> return the attribute
+ * value.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings("rawtypes")
+public class AggregateFunction implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	public enum Type {
+		COUNT, COUNT_DISTINCT, SUM, AVG, MIN, MAX
+	}
+
+	private final Type type;
+	private final String attribute;
+
+	/**
+	 * Constructs an AggregateFunction.
+	 *
+	 * @param type      Function type
+	 * @param attribute Attribute name. null for <code>count(*)</code>.
+	 */
+	public AggregateFunction(Type type, String attribute) {
+		this.type = type;
+		this.attribute = attribute;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public String getAttribute() {
+		return attribute;
+	}
+
+	/**
+	 * Returns a new accumulator that computes this function.
+	 */
+	public Accumulator createAccumulator() {
+		switch (type) {
+		case COUNT:
+			return new CountAccumulator(attribute == null);
+		case COUNT_DISTINCT:
+			return new DistinctCountAccumulator();
+		case SUM:
+			return new SumAccumulator(false);
+		case AVG:
+			return new SumAccumulator(true);
+		case MIN:
+			return new MinMaxAccumulator(true);
+		case MAX:
+		default:
+			return new MinMaxAccumulator(false);
+		}
+	}
+
+	@Override
+	public String toString() {
+		switch (type) {
+		case COUNT:
+			return attribute == null ? "count(*)" : "count(" + attribute + ")";
+		case COUNT_DISTINCT:
+			return "count(distinct " + attribute + ")";
+		default:
+			return type.name().toLowerCase() + "(" + attribute + ")";
+		}
+	}
+
+	/**
+	 * Accumulator computes a single aggregate function over attribute values.
+	 * Null values are ignored except by <code>count(*)</code>.
+	 */
+	public static abstract class Accumulator implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Accumulates the specified attribute value.
+		 *
+		 * @param value Attribute value. Ignored for <code>count(*)</code>.
+		 */
+		public abstract void accumulate(Object value);
+
+		/**
+		 * Combines the specified accumulator of the same type into this
+		 * accumulator.
+		 */
+		public abstract void combine(Accumulator accumulator);
+
+		/**
+		 * Returns the function result.
+		 */
+		public abstract Object getResult();
+	}
+
+	static class CountAccumulator extends Accumulator {
+		private static final long serialVersionUID = 1L;
+		private final boolean isCountAll;
+		private long count;
+
+		CountAccumulator(boolean isCountAll) {
+			this.isCountAll = isCountAll;
+		}
+
+		@Override
+		public void accumulate(Object value) {
+			if (isCountAll || value != null) {
+				count++;
+			}
+		}
+
+		@Override
+		public void combine(Accumulator accumulator) {
+			count += ((CountAccumulator) accumulator).count;
+		}
+
+		@Override
+		public Object getResult() {
+			return count;
+		}
+	}
+
+	static class DistinctCountAccumulator extends Accumulator {
+		private static final long serialVersionUID = 1L;
+		private final HashSet<Object> values = new HashSet<Object>();
+
+		@Override
+		public void accumulate(Object value) {
+			if (value != null) {
+				values.add(value);
+			}
+		}
+
+		@Override
+		public void combine(Accumulator accumulator) {
+			values.addAll(((DistinctCountAccumulator) accumulator).values);
+		}
+
+		@Override
+		public Object getResult() {
+			return (long) values.size();
+		}
+	}
+
+	/**
+	 * SumAccumulator computes <code>sum</code> and <code>avg</code>. Like
+	 * Hazelcast's <code>longSum</code> and <code>bigDecimalSum</code>
+	 * aggregators, integral values are summed into a <code>long</code>, which is
+	 * promoted to {@link BigDecimal} if it overflows, and {@link BigDecimal} and
+	 * {@link BigInteger} values are summed into a {@link BigDecimal}. Only
+	 * floating point values are summed into a <code>double</code>.
+	 */
+	static class SumAccumulator extends Accumulator {
+		private static final long serialVersionUID = 1L;
+		private final boolean isAvg;
+		private long longSum;
+		private BigDecimal decimalSum;
+		private double doubleSum;
+		private boolean isDecimal;
+		private boolean isDouble;
+		private long count;
+
+		SumAccumulator(boolean isAvg) {
+			this.isAvg = isAvg;
+		}
+
+		@Override
+		public void accumulate(Object value) {
+			if (value == null) {
+				return;
+			}
+			if (value instanceof Long || value instanceof Integer || value instanceof Short
+					|| value instanceof Byte) {
+				addLong(((Number) value).longValue());
+			} else if (value instanceof BigDecimal) {
+				addDecimal((BigDecimal) value);
+				isDecimal = true;
+			} else if (value instanceof BigInteger) {
+				addDecimal(new BigDecimal((BigInteger) value));
+				isDecimal = true;
+			} else {
+				doubleSum += ((Number) value).doubleValue();
+				isDouble = true;
+			}
+			count++;
+		}
+
+		private void addLong(long value) {
+			try {
+				longSum = Math.addExact(longSum, value);
+			} catch (ArithmeticException ex) {
+				addDecimal(BigDecimal.valueOf(longSum).add(BigDecimal.valueOf(value)));
+				longSum = 0;
+			}
+		}
+
+		private void addDecimal(BigDecimal value) {
+			decimalSum = decimalSum == null ? value : decimalSum.add(value);
+		}
+
+		@Override
+		public void combine(Accumulator accumulator) {
+			SumAccumulator other = (SumAccumulator) accumulator;
+			addLong(other.longSum);
+			if (other.decimalSum != null) {
+				addDecimal(other.decimalSum);
+			}
+			doubleSum += other.doubleSum;
+			isDecimal |= other.isDecimal;
+			isDouble |= other.isDouble;
+			count += other.count;
+		}
+
+		/**
+		 * Returns the exact sum of the integral and decimal values.
+		 */
+		private BigDecimal getDecimalSum() {
+			BigDecimal sum = BigDecimal.valueOf(longSum);
+			return decimalSum == null ? sum : sum.add(decimalSum);
+		}
+
+		@Override
+		public Object getResult() {
+			if (isAvg) {
+				if (count == 0) {
+					return null;
+				} else if (isDouble) {
+					return (getDecimalSum().doubleValue() + doubleSum) / count;
+				} else if (isDecimal) {
+					return getDecimalSum().divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+				} else if (decimalSum == null) {
+					return (double) longSum / count;
+				}
+				return getDecimalSum().divide(BigDecimal.valueOf(count), MathContext.DECIMAL128).doubleValue();
+			}
+			if (isDouble) {
+				return getDecimalSum().doubleValue() + doubleSum;
+			} else if (decimalSum != null) {
+				return getDecimalSum();
+			}
+			return longSum;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static class MinMaxAccumulator extends Accumulator {
+		private static final long serialVersionUID = 1L;
+		private final boolean isMin;
+		private Comparable value;
+
+		MinMaxAccumulator(boolean isMin) {
+			this.isMin = isMin;
+		}
+
+		@Override
+		public void accumulate(Object value) {
+			if (value == null) {
+				return;
+			}
+			if (this.value == null) {
+				this.value = (Comparable) value;
+			} else {
+				int c = this.value.compareTo(value);
+				if (isMin ? c > 0 : c < 0) {
+					this.value = (Comparable) value;
+				}
+			}
+		}
+
+		@Override
+		public void combine(Accumulator accumulator) {
+			accumulate(((MinMaxAccumulator) accumulator).value);
+		}
+
+		@Override
+		public Object getResult() {
+			return value;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hazelcast.addon.hql.impl.AggregateFunction.Accumulator;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.query.impl.Extractable;
+
+/**
+ * GroupByAggregator groups entries by the specified attributes and computes
+ * the specified aggregate functions per group in a single pass. It runs on the
+ * members like the built-in aggregators so that only the group rows are
+ * returned to the client. The per-group state is kept in {@link Accumulator}
+ * objects which are serialized with Java serialization. It is also used
+ * without group attributes to compute multiple aggregate functions in one
+ * pass, and without functions to compute distinct attribute value
+ * combinations.
+ * <p>
+ * {@link #aggregate()} returns a list of rows. Each row contains the group
+ * attribute values followed by the function results in the order they are
+ * specified.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class GroupByAggregator extends Aggregator<Map.Entry, List<Object[]>> {
+	private static final long serialVersionUID = 1L;
+
+	private String[] groupAttributes;
+	private AggregateFunction[] functions;
+	private HashMap<List<Object>, Accumulator[]> groupMap = new HashMap<List<Object>, Accumulator[]>();
+
+	/**
+	 * Constructs a GroupByAggregator.
+	 *
+	 * @param groupAttributes Group-by attribute names. Empty to aggregate all
+	 *                        entries into a single row.
+	 * @param functions       Aggregate functions to compute per group
+	 */
+	public GroupByAggregator(String[] groupAttributes, AggregateFunction[] functions) {
+		this.groupAttributes = groupAttributes;
+		this.functions = functions;
+	}
+
+	private Accumulator[] createAccumulators() {
+		Accumulator[] accumulators = new Accumulator[functions.length];
+		for (int i = 0; i < functions.length; i++) {
+			accumulators[i] = functions[i].createAccumulator();
+		}
+		return accumulators;
+	}
+
+	@Override
+	public void accumulate(Map.Entry entry) {
+		Extractable extractable = (Extractable) entry;
+		List<Object> groupKey = new ArrayList<Object>(groupAttributes.length);
+		for (String attribute : groupAttributes) {
+			groupKey.add(extractable.getAttributeValue(attribute));
+		}
+		Accumulator[] accumulators = groupMap.get(groupKey);
+		if (accumulators == null) {
+			accumulators = createAccumulators();
+			groupMap.put(groupKey, accumulators);
+		}
+		for (int i = 0; i < accumulators.length; i++) {
+			String attribute = functions[i].getAttribute();
+			accumulators[i].accumulate(attribute == null ? null : extractable.getAttributeValue(attribute));
+		}
+	}
+
+	@Override
+	public void combine(Aggregator aggregator) {
+		GroupByAggregator other = (GroupByAggregator) aggregator;
+		for (Map.Entry<List<Object>, Accumulator[]> entry : other.groupMap.entrySet()) {
+			Accumulator[] accumulators = groupMap.get(entry.getKey());
+			if (accumulators == null) {
+				groupMap.put(entry.getKey(), entry.getValue());
+			} else {
+				Accumulator[] otherAccumulators = entry.getValue();
+				for (int i = 0; i < accumulators.length; i++) {
+					accumulators[i].combine(otherAccumulators[i]);
+				}
+			}
+		}
+	}
+
+	@Override
+	public List<Object[]> aggregate() {
+		if (groupAttributes.length == 0 && groupMap.isEmpty()) {
+			// No entries matched. Return the results of empty accumulators.
+			groupMap.put(new ArrayList<Object>(0), createAccumulators());
+		}
+		List<Object[]> rows = new ArrayList<Object[]>(groupMap.size());
+		for (Map.Entry<List<Object>, Accumulator[]> entry : groupMap.entrySet()) {
+			List<Object> groupKey = entry.getKey();
+			Accumulator[] accumulators = entry.getValue();
+			Object[] row = new Object[groupKey.size() + accumulators.length];
+			for (int i = 0; i < groupKey.size(); i++) {
+				row[i] = groupKey.get(i);
+			}
+			for (int i = 0; i < accumulators.length; i++) {
+				row[groupKey.size() + i] = accumulators[i].getResult();
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	@Override
+	public String toString() {
+		return "GroupByAggregator [groupAttributes=" + Arrays.toString(groupAttributes) + ", functions="
+				+ Arrays.toString(functions) + "]";
+	}
+}
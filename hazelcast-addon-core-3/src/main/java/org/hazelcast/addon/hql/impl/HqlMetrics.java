@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.hazelcast.addon.hql.QueryMetricsSink;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.core.LifecycleEvent.LifecycleState;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import com.hazelcast.spi.serialization.SerializationService;
+
+/**
+ * HqlMetrics records the compile, execute, and page fetch latencies, the
+ * number of results, and the estimated number of bytes of the queries executed
+ * by an {@link org.hazelcast.addon.hql.HqlQuery} per query shape, i.e., per
+ * normalized query string, in {@link QueryMetrics}. The number of query shapes
+ * is bounded. Once the limit is reached, the new shapes are recorded in the
+ * single shape named {@link #OTHER_QUERIES}.
+ * <p>
+ * If an execution takes longer than the slow query threshold, then the query
+ * string and its plan are logged as a warning by the Hazelcast logger of this
+ * class and passed to the sinks. The plan is determined only for slow queries.
+ * <p>
+ * Each measurement is also passed to the {@link QueryMetricsSink}s added by
+ * {@link #addSink(QueryMetricsSink)}.
+ * <p>
+ * A single HqlMetrics object is shared by all HqlQuery instances of the same
+ * {@link HazelcastInstance}. It is obtained by
+ * {@link #getHqlMetrics(HazelcastInstance, int, long)}, which registers it with
+ * the platform MBean server as {@link HqlMetricsMXBean} on the first call. It
+ * is unregistered and discarded when the instance shuts down.
+ *
+ * @author dpark
+ *
+ */
+public class HqlMetrics implements HqlMetricsMXBean {
+
+	public static final String OTHER_QUERIES = "(other queries)";
+	public static final String JMX_DOMAIN = "org.hazelcast.addon.hql";
+
+	private static final ConcurrentHashMap<HazelcastInstance, HqlMetrics> metricsMap = new ConcurrentHashMap<HazelcastInstance, HqlMetrics>();
+
+	private final HazelcastInstance hz;
+	private final int maxQueryShapes;
+	private final ConcurrentHashMap<String, QueryMetrics> queryMetricsMap = new ConcurrentHashMap<String, QueryMetrics>();
+	private final QueryMetrics otherQueryMetrics = new QueryMetrics(OTHER_QUERIES);
+	private final List<QueryMetricsSink> sinkList = new CopyOnWriteArrayList<QueryMetricsSink>();
+	private final ILogger logger;
+	private volatile long slowQueryThresholdNanos;
+	private ObjectName objectName;
+
+	/**
+	 * Constructs an HqlMetrics object.
+	 *
+	 * @param hz                       Hazelcast instance
+	 * @param maxQueryShapes           Maximum number of query shapes recorded
+	 *                                 separately
+	 * @param slowQueryThresholdMillis Slow query threshold in milliseconds. A
+	 *                                 negative value disables the slow query log.
+	 */
+	public HqlMetrics(HazelcastInstance hz, int maxQueryShapes, long slowQueryThresholdMillis) {
+		this.hz = hz;
+		this.maxQueryShapes = maxQueryShapes;
+		this.logger = hz.getLoggingService().getLogger(HqlMetrics.class);
+		setSlowQueryThresholdMillis(slowQueryThresholdMillis);
+	}
+
+	/**
+	 * Returns the metrics shared by all HqlQuery instances of the specified
+	 * Hazelcast instance. The metrics are created and registered with the
+	 * platform MBean server on the first call. The arguments are ignored if the
+	 * metrics already exist. The metrics are unregistered and discarded when the
+	 * instance shuts down.
+	 *
+	 * @param hz                       Hazelcast instance
+	 * @param maxQueryShapes           Maximum number of query shapes recorded
+	 *                                 separately
+	 * @param slowQueryThresholdMillis Slow query threshold in milliseconds. A
+	 *                                 negative value disables the slow query log.
+	 */
+	public static HqlMetrics getHqlMetrics(HazelcastInstance hz, int maxQueryShapes, long slowQueryThresholdMillis) {
+		HqlMetrics metrics = metricsMap.get(hz);
+		if (metrics == null) {
+			synchronized (metricsMap) {
+				metrics = metricsMap.get(hz);
+				if (metrics == null) {
+					HqlMetrics newMetrics = new HqlMetrics(hz, maxQueryShapes, slowQueryThresholdMillis);
+					hz.getLifecycleService().addLifecycleListener((LifecycleEvent event) -> {
+						if (event.getState() == LifecycleState.SHUTDOWN) {
+							metricsMap.remove(hz);
+							newMetrics.unregisterMBean();
+						}
+					});
+					newMetrics.registerMBean();
+					metricsMap.put(hz, newMetrics);
+					metrics = newMetrics;
+				}
+			}
+		}
+		return metrics;
+	}
+
+	/**
+	 * Returns the metrics of the specified query shape. If the maximum number of
+	 * query shapes is reached, then the metrics of {@link #OTHER_QUERIES} is
+	 * returned for a new query shape.
+	 *
+	 * @param query Normalized query string
+	 */
+	public QueryMetrics getQueryMetrics(String query) {
+		QueryMetrics queryMetrics = queryMetricsMap.get(query);
+		if (queryMetrics == null) {
+			if (queryMetricsMap.size() >= maxQueryShapes) {
+				return otherQueryMetrics;
+			}
+			queryMetrics = queryMetricsMap.computeIfAbsent(query, key -> new QueryMetrics(key));
+		}
+		return queryMetrics;
+	}
+
+	/**
+	 * Records the compile time of the specified query.
+	 *
+	 * @param queryMetrics Query metrics
+	 * @param elapsedNanos Compile time in nanoseconds
+	 */
+	public void recordCompile(QueryMetrics queryMetrics, long elapsedNanos) {
+		queryMetrics.recordCompile(elapsedNanos);
+		for (QueryMetricsSink sink : sinkList) {
+			sink.onCompile(queryMetrics.getQuery(), elapsedNanos);
+		}
+	}
+
+	/**
+	 * Records the execution of the specified query. If the execute time exceeds
+	 * the slow query threshold, then the query and its plan are logged.
+	 *
+	 * @param queryMetrics Query metrics
+	 * @param elapsedNanos Time to receive the first page or the row query result
+	 *                     set in nanoseconds
+	 * @param rows         Number of results received
+	 * @param bytes        Estimated number of bytes deserialized
+	 * @param planSupplier Supplies the query plan of a slow query
+	 */
+	public void recordExecute(QueryMetrics queryMetrics, long elapsedNanos, long rows, long bytes,
+			Supplier<String> planSupplier) {
+		queryMetrics.recordExecute(elapsedNanos, rows, bytes);
+		for (QueryMetricsSink sink : sinkList) {
+			sink.onExecute(queryMetrics.getQuery(), elapsedNanos, rows, bytes);
+		}
+		long threshold = slowQueryThresholdNanos;
+		if (threshold >= 0 && elapsedNanos > threshold) {
+			recordSlowQuery(queryMetrics, elapsedNanos, rows, planSupplier);
+		}
+	}
+
+	private void recordSlowQuery(QueryMetrics queryMetrics, long elapsedNanos, long rows,
+			Supplier<String> planSupplier) {
+		queryMetrics.recordSlowQuery();
+		String plan;
+		try {
+			plan = planSupplier == null ? null : planSupplier.get();
+		} catch (RuntimeException ex) {
+			plan = null;
+		}
+		logger.warning("Slow query: " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " msec, " + rows
+				+ " results [" + queryMetrics.getQuery() + "]" + (plan == null ? "" : "\n" + plan));
+		for (QueryMetricsSink sink : sinkList) {
+			sink.onSlowQuery(queryMetrics.getQuery(), elapsedNanos, plan);
+		}
+	}
+
+	/**
+	 * Records a page fetch of the specified query.
+	 *
+	 * @param queryMetrics Query metrics
+	 * @param elapsedNanos Page fetch time in nanoseconds
+	 * @param rows         Number of results received
+	 * @param bytes        Estimated number of bytes deserialized
+	 */
+	public void recordPage(QueryMetrics queryMetrics, long elapsedNanos, long rows, long bytes) {
+		queryMetrics.recordPage(elapsedNanos, rows, bytes);
+		for (QueryMetricsSink sink : sinkList) {
+			sink.onPage(queryMetrics.getQuery(), elapsedNanos, rows, bytes);
+		}
+	}
+
+	/**
+	 * Returns the estimated number of bytes of the specified results. It is the
+	 * serialized size of a sample result multiplied by the number of results.
+	 * The first result received by the query shape is the sample, so that only
+	 * one result per query shape is serialized. The shapes recorded as
+	 * {@link #OTHER_QUERIES} share one sample.
+	 *
+	 * @param queryMetrics Query metrics
+	 * @param results      Query results. Keys, values, entries, or rows.
+	 */
+	public long estimateBytes(QueryMetrics queryMetrics, Collection<?> results) {
+		if (results == null || results.isEmpty()) {
+			return 0;
+		}
+		long resultBytes = queryMetrics.getResultBytes();
+		if (resultBytes < 0) {
+			resultBytes = sampleBytes(results.iterator().next());
+			queryMetrics.setResultBytes(resultBytes);
+		}
+		return resultBytes * results.size();
+	}
+
+	/**
+	 * Returns the serialized size of the specified result. Returns 0 if the size
+	 * cannot be determined.
+	 */
+	private long sampleBytes(Object result) {
+		if (hz instanceof SerializationServiceSupport == false) {
+			return 0;
+		}
+		SerializationService serializationService = ((SerializationServiceSupport) hz).getSerializationService();
+		try {
+			return getSize(serializationService, result);
+		} catch (RuntimeException ex) {
+			return 0;
+		}
+	}
+
+	private long getSize(SerializationService serializationService, Object result) {
+		if (result == null) {
+			return 0;
+		} else if (result instanceof Map.Entry) {
+			Map.Entry entry = (Map.Entry) result;
+			return getSize(serializationService, entry.getKey()) + getSize(serializationService, entry.getValue());
+		} else if (result instanceof Object[]) {
+			long size = 0;
+			for (Object value : (Object[]) result) {
+				size += getSize(serializationService, value);
+			}
+			return size;
+		}
+		return serializationService.toData(result).totalSize();
+	}
+
+	/**
+	 * Adds the specified sink that receives all measurements.
+	 *
+	 * @param sink Metrics sink
+	 */
+	public void addSink(QueryMetricsSink sink) {
+		sinkList.add(sink);
+	}
+
+	/**
+	 * Removes the specified sink.
+	 *
+	 * @param sink Metrics sink
+	 */
+	public void removeSink(QueryMetricsSink sink) {
+		sinkList.remove(sink);
+	}
+
+	/**
+	 * Registers this object with the platform MBean server. The object name is
+	 * <code>org.hazelcast.addon.hql:type=HqlMetrics,instance=&lt;instance name&gt;</code>.
+	 * Registration failures are logged and ignored.
+	 */
+	public synchronized void registerMBean() {
+		if (objectName != null) {
+			return;
+		}
+		try {
+			ObjectName name = new ObjectName(
+					JMX_DOMAIN + ":type=HqlMetrics,instance=" + ObjectName.quote(hz.getName()));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			objectName = name;
+		} catch (Exception ex) {
+			logger.warning("Unable to register HqlMetrics MBean: " + ex.getMessage());
+		}
+	}
+
+	/**
+	 * Unregisters this object from the platform MBean server.
+	 */
+	public synchronized void unregisterMBean() {
+		if (objectName == null) {
+			return;
+		}
+		try {
+			MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+			if (mbeanServer.isRegistered(objectName)) {
+				mbeanServer.unregisterMBean(objectName);
+			}
+		} catch (Exception ex) {
+			logger.warning("Unable to unregister HqlMetrics MBean: " + ex.getMessage());
+		}
+		objectName = null;
+	}
+
+	/**
+	 * Returns the JMX object name. null if not registered.
+	 */
+	public synchronized ObjectName getObjectName() {
+		return objectName;
+	}
+
+	@Override
+	public int getQueryShapeCount() {
+		return queryMetricsMap.size();
+	}
+
+	@Override
+	public long getExecuteCount() {
+		long count = otherQueryMetrics.getExecuteCount();
+		for (QueryMetrics queryMetrics : queryMetricsMap.values()) {
+			count += queryMetrics.getExecuteCount();
+		}
+		return count;
+	}
+
+	@Override
+	public long getSlowQueryCount() {
+		long count = otherQueryMetrics.getSlowQueryCount();
+		for (QueryMetrics queryMetrics : queryMetricsMap.values()) {
+			count += queryMetrics.getSlowQueryCount();
+		}
+		return count;
+	}
+
+	@Override
+	public long getSlowQueryThresholdMillis() {
+		long threshold = slowQueryThresholdNanos;
+		return threshold < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(threshold);
+	}
+
+	@Override
+	public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis) {
+		this.slowQueryThresholdNanos = slowQueryThresholdMillis < 0 ? -1
+				: TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+	}
+
+	@Override
+	public List<QueryMetrics> getQueryMetrics() {
+		List<QueryMetrics> list = new ArrayList<QueryMetrics>(queryMetricsMap.values());
+		if (otherQueryMetrics.getExecuteCount() > 0 || otherQueryMetrics.getCompileCount() > 0) {
+			list.add(otherQueryMetrics);
+		}
+		list.sort((m1, m2) -> Long.compare(m2.getExecuteTotalMillis(), m1.getExecuteTotalMillis()));
+		return list;
+	}
+
+	@Override
+	public void reset() {
+		queryMetricsMap.clear();
+		otherQueryMetrics.reset();
+	}
+}
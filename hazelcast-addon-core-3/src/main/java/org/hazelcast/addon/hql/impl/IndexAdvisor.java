@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.data.OrderBy;
+import org.hazelcast.addon.hql.data.OrderByField;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+
+/**
+ * IndexAdvisor records the map attributes used by the executed queries and
+ * recommends the indexes that turn their full scans into index lookups. For
+ * each map, it counts the queries that use each attribute in equality (= and
+ * in), range (&lt;, &lt;=, &gt;, &gt;=, and between), and order by positions,
+ * and charges the query latency to every attribute the query uses. Leaves under
+ * NOT are not recorded since they are evaluated by scanning.
+ * <p>
+ * {@link #getRecommendations(long)} recommends a sorted index for each
+ * attribute used in ranges and a hash index for each attribute used only in
+ * equalities, unless the attribute is already covered by an index of the map,
+ * including the indexes added at runtime, or applied by this advisor. The attributes used
+ * only in the order by clause are not recommended since the results are sorted
+ * by the paging predicate or in the client, which does not use indexes.
+ * The recommendations are ordered by the total latency so that the slowest
+ * attributes come first. {@link #applyRecommendations(List)} adds them to the
+ * maps by {@link IMap#addIndex}.
+ * <p>
+ * The attribute usage is determined once per compiled query by
+ * {@link #createUsage(HqlContext)}, so that recording a query only increments
+ * counters.
+ *
+ * @author dpark
+ *
+ */
+public class IndexAdvisor {
+
+	private static final int EQUALITY = 1;
+	private static final int RANGE = 2;
+	private static final int ORDER_BY = 4;
+
+	private final HazelcastInstance hz;
+	private final ConcurrentHashMap<String, MapStats> mapStatsMap = new ConcurrentHashMap<String, MapStats>();
+	private final Set<String> appliedIndexSet = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Constructs an IndexAdvisor.
+	 *
+	 * @param hz Hazelcast instance
+	 */
+	public IndexAdvisor(HazelcastInstance hz) {
+		this.hz = hz;
+	}
+
+	/**
+	 * Returns the attribute usage of the specified query.
+	 *
+	 * @param context Compiled query context
+	 */
+	public static QueryUsage createUsage(HqlContext context) {
+		LinkedHashMap<String, Integer> usageMap = new LinkedHashMap<String, Integer>();
+		if (context.isWhereClause()) {
+			addPredicateUsage(context.getWherePredicate(), usageMap);
+		}
+		if (context.isRowQuery()) {
+			RowComparator rowComparator = context.getRowComparator();
+			if (rowComparator != null) {
+				for (int i = 0; i < rowComparator.getColumnCount(); i++) {
+					SelectItem item = context.getSelectItems().get(rowComparator.getColumnIndex(i));
+					if (item.isAggregate() == false) {
+						addUsage(usageMap, item.getAttribute(), ORDER_BY);
+					}
+				}
+			}
+		} else {
+			OrderBy orderBy = context.getOrderBy();
+			if (orderBy != null && orderBy.getFieldList() != null) {
+				for (Object field : orderBy.getFieldList()) {
+					String attribute = getAttribute((OrderByField) field);
+					if (attribute != null) {
+						addUsage(usageMap, attribute, ORDER_BY);
+					}
+				}
+			}
+		}
+		return new QueryUsage(context.getPath(), usageMap);
+	}
+
+	private static void addPredicateUsage(PredicateNode node, Map<String, Integer> usageMap) {
+		if (node.isLogical()) {
+			if (node.getOperator() != PredicateNode.Operator.NOT) {
+				for (PredicateNode child : node.getChildren()) {
+					addPredicateUsage(child, usageMap);
+				}
+			}
+			return;
+		}
+		switch (node.getOperator()) {
+		case EQUAL:
+		case IN:
+			addUsage(usageMap, node.getAttribute(), EQUALITY);
+			break;
+		case GREATER:
+		case GREATER_EQUAL:
+		case LESS:
+		case LESS_EQUAL:
+		case BETWEEN:
+			addUsage(usageMap, node.getAttribute(), RANGE);
+			break;
+		default:
+			// not-equal, like, ilike, and regex are evaluated by scanning
+			break;
+		}
+	}
+
+	private static void addUsage(Map<String, Integer> usageMap, String attribute, int usage) {
+		Integer flags = usageMap.get(attribute);
+		usageMap.put(attribute, flags == null ? usage : flags | usage);
+	}
+
+	/**
+	 * Returns the index attribute name of the specified order by field. null if
+	 * the field is the null field added for paging.
+	 */
+	private static String getAttribute(OrderByField field) {
+		String fieldName = field.getFieldName();
+		switch (field.getSearchType()) {
+		case KEY_OBJECT:
+			return "__key";
+		case VALUE_OBJECT:
+			return "this";
+		case KEY_FIELD:
+			return fieldName == null ? null : "__key." + fieldName;
+		default:
+			if (fieldName == null) {
+				return null;
+			} else if (fieldName.startsWith("key.")) {
+				return "__key." + fieldName.substring(4);
+			} else if (fieldName.startsWith("value.")) {
+				return fieldName.substring(6);
+			}
+			return fieldName;
+		}
+	}
+
+	/**
+	 * Records an executed query.
+	 *
+	 * @param usage            Attribute usage of the query
+	 * @param latencyInNanos   Query latency in nanoseconds. If < 0, then the query
+	 *                         is counted but not timed, e.g., streamed queries
+	 *                         whose latency depends on the consumer.
+	 */
+	public void record(QueryUsage usage, long latencyInNanos) {
+		MapStats mapStats = mapStatsMap.computeIfAbsent(usage.mapName, k -> new MapStats());
+		mapStats.queryStats.record(0, latencyInNanos);
+		for (int i = 0; i < usage.attributes.length; i++) {
+			AttributeStats stats = mapStats.attributeStatsMap.computeIfAbsent(usage.attributes[i],
+					k -> new AttributeStats());
+			stats.record(usage.flags[i], latencyInNanos);
+		}
+	}
+
+	/**
+	 * Returns the names of the maps with recorded queries.
+	 */
+	public Set<String> getMapNames() {
+		return Collections.unmodifiableSet(mapStatsMap.keySet());
+	}
+
+	/**
+	 * Returns the number of recorded queries of the specified map.
+	 *
+	 * @param mapName Map name
+	 */
+	public long getQueryCount(String mapName) {
+		MapStats mapStats = mapStatsMap.get(mapName);
+		return mapStats == null ? 0 : mapStats.queryStats.getQueryCount();
+	}
+
+	/**
+	 * Returns the recorded usage of the attributes of the specified map sorted by
+	 * attribute name. Returns an empty map if the map has no recorded queries.
+	 *
+	 * @param mapName Map name
+	 */
+	public Map<String, AttributeStats> getAttributeStats(String mapName) {
+		MapStats mapStats = mapStatsMap.get(mapName);
+		if (mapStats == null) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(new TreeMap<String, AttributeStats>(mapStats.attributeStatsMap));
+	}
+
+	/**
+	 * Returns the index recommendations of all attributes used by at least one
+	 * recorded query. See {@link #getRecommendations(long)}.
+	 *
+	 * @throws HqlException Thrown if the existing map indexes cannot be retrieved
+	 */
+	public List<IndexRecommendation> getRecommendations() throws HqlException {
+		return getRecommendations(1);
+	}
+
+	/**
+	 * Returns the index recommendations ordered by the total latency in
+	 * descending order. The existing indexes are read from the members by
+	 * {@link MapIndexTask}.
+	 *
+	 * @param minQueryCount Minimum number of recorded queries that use an
+	 *                      attribute for the attribute to be recommended
+	 * @throws HqlException Thrown if the existing map indexes cannot be retrieved
+	 */
+	public List<IndexRecommendation> getRecommendations(long minQueryCount) throws HqlException {
+		List<IndexRecommendation> recommendations = new ArrayList<IndexRecommendation>();
+		for (Map.Entry<String, MapStats> mapEntry : mapStatsMap.entrySet()) {
+			String mapName = mapEntry.getKey();
+			List<IndexInfo> indexes = MapIndexTask.getIndexInfos(hz, mapName);
+			for (Map.Entry<String, AttributeStats> entry : mapEntry.getValue().attributeStatsMap.entrySet()) {
+				String attribute = entry.getKey();
+				AttributeStats stats = entry.getValue();
+				if (stats.getQueryCount() < minQueryCount) {
+					continue;
+				}
+				if (stats.getEqualityCount() == 0 && stats.getRangeCount() == 0) {
+					// order by only
+					continue;
+				}
+				boolean isSorted = stats.getRangeCount() > 0;
+				IndexInfo.Type type = isSorted ? IndexInfo.Type.SORTED : IndexInfo.Type.HASH;
+				if (appliedIndexSet.contains(getIndexKey(mapName, attribute, IndexInfo.Type.SORTED))
+						|| appliedIndexSet.contains(getIndexKey(mapName, attribute, type))) {
+					continue;
+				}
+				boolean isCovered = false;
+				IndexInfo existingIndex = null;
+				for (IndexInfo index : indexes) {
+					if (index.isRangeIndex(attribute) || (isSorted == false && index.isEqualityIndex(attribute))) {
+						isCovered = true;
+						break;
+					} else if (index.isEqualityIndex(attribute)) {
+						existingIndex = index;
+					}
+				}
+				if (isCovered == false) {
+					recommendations.add(new IndexRecommendation(mapName, attribute, type, existingIndex, stats));
+				}
+			}
+		}
+		Collections.sort(recommendations, (r1, r2) -> {
+			int c = Long.compare(r2.getTotalLatencyInMsec(), r1.getTotalLatencyInMsec());
+			return c != 0 ? c : Long.compare(r2.getQueryCount(), r1.getQueryCount());
+		});
+		return recommendations;
+	}
+
+	/**
+	 * Adds the specified recommended indexes to their maps by
+	 * {@link IMap#addIndex}. The indexes are added to all members and are not
+	 * saved in the member configuration. The applied indexes are no longer
+	 * recommended by this advisor.
+	 *
+	 * @param recommendations Recommendations returned by
+	 *                        {@link #getRecommendations(long)}
+	 * @return Number of indexes added
+	 */
+	public int applyRecommendations(List<IndexRecommendation> recommendations) {
+		int count = 0;
+		for (IndexRecommendation recommendation : recommendations) {
+			IMap map = hz.getMap(recommendation.getMapName());
+			map.addIndex(recommendation.getAttribute(), recommendation.getType() == IndexInfo.Type.SORTED);
+			appliedIndexSet.add(getIndexKey(recommendation.getMapName(), recommendation.getAttribute(),
+					recommendation.getType()));
+			count++;
+		}
+		return count;
+	}
+
+	private static String getIndexKey(String mapName, String attribute, IndexInfo.Type type) {
+		return mapName + "|" + type + "|" + attribute;
+	}
+
+	/**
+	 * Returns the report of the recorded attribute usage of each map followed by
+	 * the index recommendations.
+	 *
+	 * @throws HqlException Thrown if the existing map indexes cannot be retrieved
+	 */
+	public String getReport() throws HqlException {
+		StringBuilder buffer = new StringBuilder(1024);
+		for (String mapName : new TreeMap<String, MapStats>(mapStatsMap).keySet()) {
+			MapStats mapStats = mapStatsMap.get(mapName);
+			buffer.append("Map: ").append(mapName).append(" [queries=").append(mapStats.queryStats.getQueryCount())
+					.append(", totalLatency=").append(mapStats.queryStats.getTotalLatencyInMsec())
+					.append(" msec, maxLatency=").append(mapStats.queryStats.getMaxLatencyInMsec()).append(" msec]")
+					.append(System.lineSeparator());
+			for (Map.Entry<String, AttributeStats> entry : getAttributeStats(mapName).entrySet()) {
+				buffer.append("  ").append(entry.getKey()).append(' ').append(entry.getValue())
+						.append(System.lineSeparator());
+			}
+		}
+		buffer.append("Recommendations:").append(System.lineSeparator());
+		List<IndexRecommendation> recommendations = getRecommendations();
+		if (recommendations.isEmpty()) {
+			buffer.append("  none").append(System.lineSeparator());
+		}
+		for (IndexRecommendation recommendation : recommendations) {
+			buffer.append("  ").append(recommendation).append(System.lineSeparator());
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Removes all recorded queries. The applied indexes remain excluded from the
+	 * recommendations.
+	 */
+	public void reset() {
+		mapStatsMap.clear();
+	}
+
+	/**
+	 * QueryUsage is the attribute usage of a compiled query.
+	 */
+	public static class QueryUsage {
+		private final String mapName;
+		private final String[] attributes;
+		private final int[] flags;
+
+		private QueryUsage(String mapName, Map<String, Integer> usageMap) {
+			this.mapName = mapName;
+			this.attributes = usageMap.keySet().toArray(new String[usageMap.size()]);
+			this.flags = new int[attributes.length];
+			for (int i = 0; i < attributes.length; i++) {
+				flags[i] = usageMap.get(attributes[i]);
+			}
+		}
+
+		public String getMapName() {
+			return mapName;
+		}
+
+		/**
+		 * Returns the attributes used by the query in the order they appear.
+		 */
+		public String[] getAttributes() {
+			return attributes.clone();
+		}
+	}
+
+	private static class MapStats {
+		private final AttributeStats queryStats = new AttributeStats();
+		private final ConcurrentHashMap<String, AttributeStats> attributeStatsMap = new ConcurrentHashMap<String, AttributeStats>();
+	}
+
+	/**
+	 * AttributeStats is the recorded usage of a map attribute.
+	 */
+	public static class AttributeStats {
+		private final LongAdder queryCount = new LongAdder();
+		private final LongAdder equalityCount = new LongAdder();
+		private final LongAdder rangeCount = new LongAdder();
+		private final LongAdder orderByCount = new LongAdder();
+		private final LongAdder totalLatencyInNanos = new LongAdder();
+		private final AtomicLong maxLatencyInNanos = new AtomicLong();
+
+		private void record(int flags, long latencyInNanos) {
+			queryCount.increment();
+			if ((flags & EQUALITY) != 0) {
+				equalityCount.increment();
+			}
+			if ((flags & RANGE) != 0) {
+				rangeCount.increment();
+			}
+			if ((flags & ORDER_BY) != 0) {
+				orderByCount.increment();
+			}
+			if (latencyInNanos >= 0) {
+				totalLatencyInNanos.add(latencyInNanos);
+				maxLatencyInNanos.accumulateAndGet(latencyInNanos, Math::max);
+			}
+		}
+
+		/**
+		 * Returns the number of queries that use the attribute.
+		 */
+		public long getQueryCount() {
+			return queryCount.sum();
+		}
+
+		/**
+		 * Returns the number of queries that use the attribute in = or in.
+		 */
+		public long getEqualityCount() {
+			return equalityCount.sum();
+		}
+
+		/**
+		 * Returns the number of queries that use the attribute in &lt;, &lt;=,
+		 * &gt;, &gt;=, or between.
+		 */
+		public long getRangeCount() {
+			return rangeCount.sum();
+		}
+
+		/**
+		 * Returns the number of queries that use the attribute in the order by
+		 * clause.
+		 */
+		public long getOrderByCount() {
+			return orderByCount.sum();
+		}
+
+		/**
+		 * Returns the total latency of the timed queries that use the attribute in
+		 * msec.
+		 */
+		public long getTotalLatencyInMsec() {
+			return TimeUnit.NANOSECONDS.toMillis(totalLatencyInNanos.sum());
+		}
+
+		/**
+		 * Returns the maximum latency of the timed queries that use the attribute
+		 * in msec.
+		 */
+		public long getMaxLatencyInMsec() {
+			return TimeUnit.NANOSECONDS.toMillis(maxLatencyInNanos.get());
+		}
+
+		@Override
+		public String toString() {
+			return "[queries=" + getQueryCount() + ", equality=" + getEqualityCount() + ", range=" + getRangeCount()
+					+ ", orderBy=" + getOrderByCount() + ", totalLatency=" + getTotalLatencyInMsec()
+					+ " msec, maxLatency=" + getMaxLatencyInMsec() + " msec]";
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * IndexInfo describes a map index defined in the member
+ * {@link com.hazelcast.config.MapConfig} or added at runtime. It is returned by
+ * {@link MapIndexTask} to the clients, which cannot read the member map
+ * containers.
+ *
+ * @author dpark
+ *
+ */
+public class IndexInfo implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	public enum Type {
+		SORTED, HASH, BITMAP
+	}
+
+	private String name;
+	private Type type;
+	private String[] attributes;
+
+	/**
+	 * Constructs an IndexInfo object.
+	 *
+	 * @param name       Index name. null if not named.
+	 * @param type       Index type
+	 * @param attributes Indexed attribute names in the index order
+	 */
+	public IndexInfo(String name, Type type, String[] attributes) {
+		this.name = name;
+		this.type = type;
+		this.attributes = attributes;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public String[] getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Returns true if this index can evaluate an equality or IN predicate on the
+	 * specified attribute. Sorted indexes match their first attribute. Hash and
+	 * bitmap indexes must not be composite.
+	 *
+	 * @param attribute Attribute name
+	 */
+	public boolean isEqualityIndex(String attribute) {
+		if (attributes.length == 0 || attributes[0].equals(attribute) == false) {
+			return false;
+		}
+		return type == Type.SORTED || attributes.length == 1;
+	}
+
+	/**
+	 * Returns true if this index can evaluate a range predicate on the specified
+	 * attribute. Only sorted indexes support ranges.
+	 *
+	 * @param attribute Attribute name
+	 */
+	public boolean isRangeIndex(String attribute) {
+		return type == Type.SORTED && attributes.length > 0 && attributes[0].equals(attribute);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append(type).append('(');
+		for (int i = 0; i < attributes.length; i++) {
+			if (i > 0) {
+				buffer.append(", ");
+			}
+			buffer.append(attributes[i]);
+		}
+		buffer.append(')');
+		if (name != null) {
+			buffer.append(' ').append(name);
+		}
+		return buffer.toString();
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(attributes) + type.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof IndexInfo == false) {
+			return false;
+		}
+		IndexInfo other = (IndexInfo) obj;
+		return type == other.type && Arrays.equals(attributes, other.attributes);
+	}
+}
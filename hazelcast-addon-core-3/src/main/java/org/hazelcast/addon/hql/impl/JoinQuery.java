@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.hazelcast.addon.exception.HqlException;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.Member;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+
+/**
+ * JoinQuery executes the equi-join of two maps next to the data by
+ * {@link JoinTask}. The where clause is split into the conditions of the left
+ * map, i.e., the map in the from clause, and the conditions of the right map,
+ * i.e., the joined map, so that each map is filtered by its own predicate on
+ * the members. Each top-level <code>and</code> condition must refer to only one
+ * of the maps.
+ * <p>
+ * If the right map is joined by its key, then the join is first executed as a
+ * member-local hash join. Each member joins only the entries it owns, and no
+ * entries are moved between the members. If a member finds a left entry that
+ * is not owned by the same partition as its join value, i.e., the maps are not
+ * co-partitioned, then the join falls back to the broadcast hash join and this
+ * query is no longer tried as co-located. Otherwise, the join is executed as a
+ * broadcast hash join. The right rows matching the right predicate are
+ * projected to the client and sent to all members, which join them with their
+ * local left entries. The broadcast is rejected if the number of right entries
+ * matching the right predicate exceeds the broadcast limit.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class JoinQuery {
+	private final String leftMapName;
+	private final String rightMapName;
+	private final String leftJoinAttribute;
+	private final String rightJoinAttribute;
+	// null if the map has no where clause condition
+	private final PredicateNode leftWhere;
+	private final PredicateNode rightWhere;
+	private final String[] attributes;
+	private final boolean[] isRightColumns;
+	// Right join attribute followed by the right select list attributes
+	private final String[] rightProjectionAttributes;
+
+	private volatile boolean isColocated;
+
+	/**
+	 * Constructs a JoinQuery from the specified join query context.
+	 *
+	 * @param context Join query context
+	 * @throws HqlException Thrown if a where clause condition refers to both maps
+	 */
+	public JoinQuery(HqlContext context) throws HqlException {
+		String leftAlias = context.getPathAlias();
+		String rightAlias = context.getJoinPathAlias();
+		this.leftMapName = context.getPath();
+		this.rightMapName = context.getJoinPath();
+		this.leftJoinAttribute = getAttribute(context.getJoinLeftAttribute());
+		this.rightJoinAttribute = getAttribute(context.getJoinRightAttribute());
+
+		List<PredicateNode> leftList = new ArrayList<PredicateNode>();
+		List<PredicateNode> rightList = new ArrayList<PredicateNode>();
+		if (context.isWhereClause()) {
+			PredicateNode where = context.getWherePredicate();
+			List<PredicateNode> conditions;
+			if (where.getOperator() == PredicateNode.Operator.AND) {
+				conditions = where.getChildren();
+			} else {
+				conditions = new ArrayList<PredicateNode>(1);
+				conditions.add(where);
+			}
+			for (PredicateNode condition : conditions) {
+				String alias = getAlias(condition, null);
+				if (alias == null) {
+					throw new HqlException("Invalid query: Join where clause condition must refer to one map only ["
+							+ condition + "]");
+				}
+				if (alias.equals(leftAlias)) {
+					leftList.add(unqualify(condition));
+				} else {
+					rightList.add(unqualify(condition));
+				}
+			}
+		}
+		this.leftWhere = toNode(leftList);
+		this.rightWhere = toNode(rightList);
+
+		List<SelectItem> selectItems = context.getSelectItems();
+		this.attributes = new String[selectItems.size()];
+		this.isRightColumns = new boolean[attributes.length];
+		List<String> rightList2 = new ArrayList<String>(attributes.length + 1);
+		rightList2.add(rightJoinAttribute);
+		for (int i = 0; i < attributes.length; i++) {
+			String qualifiedAttribute = selectItems.get(i).getAttribute();
+			attributes[i] = getAttribute(qualifiedAttribute);
+			isRightColumns[i] = qualifiedAttribute.startsWith(rightAlias + ".");
+			if (isRightColumns[i]) {
+				rightList2.add(attributes[i]);
+			}
+		}
+		this.rightProjectionAttributes = rightList2.toArray(new String[rightList2.size()]);
+		this.isColocated = rightJoinAttribute.equals("__key");
+	}
+
+	/**
+	 * Returns the attribute name without the map alias.
+	 */
+	private static String getAttribute(String qualifiedAttribute) {
+		return qualifiedAttribute.substring(qualifiedAttribute.indexOf('.') + 1);
+	}
+
+	/**
+	 * Returns the map alias of the attributes in the specified node. Returns null
+	 * if the node refers to more than one map.
+	 *
+	 * @param node  Predicate node
+	 * @param alias Map alias found so far. null if none.
+	 */
+	private static String getAlias(PredicateNode node, String alias) {
+		if (node.isLogical()) {
+			for (PredicateNode child : node.getChildren()) {
+				alias = getAlias(child, alias);
+				if (alias == null) {
+					return null;
+				}
+			}
+			return alias;
+		}
+		String attribute = node.getAttribute();
+		String nodeAlias = attribute.substring(0, attribute.indexOf('.'));
+		if (alias != null && alias.equals(nodeAlias) == false) {
+			return null;
+		}
+		return nodeAlias;
+	}
+
+	/**
+	 * Returns a copy of the specified node with the map aliases removed from the
+	 * attribute names.
+	 */
+	private static PredicateNode unqualify(PredicateNode node) {
+		if (node.isLogical() == false) {
+			return PredicateNode.leaf(node.getOperator(), getAttribute(node.getAttribute()), node.getOperands());
+		}
+		List<PredicateNode> children = new ArrayList<PredicateNode>(node.getChildren().size());
+		for (PredicateNode child : node.getChildren()) {
+			children.add(unqualify(child));
+		}
+		switch (node.getOperator()) {
+		case AND:
+			return PredicateNode.and(children);
+		case OR:
+			return PredicateNode.or(children);
+		default:
+			return PredicateNode.not(children.get(0));
+		}
+	}
+
+	private static PredicateNode toNode(List<PredicateNode> list) {
+		if (list.isEmpty()) {
+			return null;
+		} else if (list.size() == 1) {
+			return list.get(0);
+		}
+		return PredicateNode.and(list);
+	}
+
+	/**
+	 * Returns the left and right map predicates with the specified bind parameter
+	 * values.
+	 *
+	 * @param positionalValues Positional parameter values. null if none.
+	 * @param namedValues      Named parameter values. null if none.
+	 */
+	public JoinPredicates createPredicates(Object[] positionalValues, Map<String, ?> namedValues) {
+		Predicate leftPredicate = leftWhere == null ? Predicates.alwaysTrue()
+				: leftWhere.toPredicate(positionalValues, namedValues);
+		Predicate rightPredicate = rightWhere == null ? Predicates.alwaysTrue()
+				: rightWhere.toPredicate(positionalValues, namedValues);
+		return new JoinPredicates(leftPredicate, rightPredicate);
+	}
+
+	/**
+	 * Executes the join and returns the joined rows of select list values. The
+	 * rows are not sorted.
+	 *
+	 * @param hz             Hazelcast instance
+	 * @param predicates     Predicates created by
+	 *                       {@link #createPredicates(Object[], Map)}
+	 * @param broadcastLimit Maximum number of right map entries to broadcast
+	 * @param limit          Maximum number of rows each member returns. -1 for no
+	 *                       limit.
+	 * @param rowComparator  Order by clause. null if none.
+	 * @throws HqlException Thrown if the join cannot be executed or the broadcast
+	 *                      limit is exceeded
+	 */
+	public List<Object[]> execute(HazelcastInstance hz, JoinPredicates predicates, int broadcastLimit, int limit,
+			RowComparator rowComparator) throws HqlException {
+		if (isColocated) {
+			JoinTask task = new JoinTask(leftMapName, rightMapName, predicates.getLeftPredicate(),
+					predicates.getRightPredicate(), leftJoinAttribute, attributes, isRightColumns);
+			task.setLimit(limit, rowComparator);
+			List<Object[]> rows = execute(hz, task);
+			if (rows != null) {
+				return rows;
+			}
+			// Not co-partitioned. Do not try again.
+			isColocated = false;
+		}
+
+		IMap rightMap = hz.getMap(rightMapName);
+		long count = (Long) rightMap.aggregate(Aggregators.count(), predicates.getRightPredicate());
+		if (count > broadcastLimit) {
+			throw new HqlException("Invalid query: Join map is not co-partitioned and its " + count
+					+ " matching entries exceed the broadcast limit " + broadcastLimit + " [" + rightMapName + "]");
+		}
+		Collection<Object[]> rightRows = rightMap.project(Projections.multiAttribute(rightProjectionAttributes),
+				predicates.getRightPredicate());
+		JoinTask task = new JoinTask(leftMapName, predicates.getLeftPredicate(), leftJoinAttribute, attributes,
+				isRightColumns, rightRows);
+		task.setLimit(limit, rowComparator);
+		return execute(hz, task);
+	}
+
+	/**
+	 * Executes the specified task on all members and returns the combined rows.
+	 * Returns null if the task is in the co-located mode and any of the members
+	 * found the maps not co-located.
+	 */
+	private List<Object[]> execute(HazelcastInstance hz, JoinTask task) {
+		boolean isColocatedTask = task.isColocated();
+		Map<Member, Future<JoinTask>> futureMap = hz.getExecutorService(JoinTask.EXECUTOR_NAME)
+				.submitToAllMembers(task);
+		List<Object[]> rows = new ArrayList<Object[]>();
+		boolean isColocated = true;
+		try {
+			for (Future<JoinTask> future : futureMap.values()) {
+				JoinTask result = future.get();
+				if (isColocatedTask && result.isColocated() == false) {
+					isColocated = false;
+				}
+				if (isColocated) {
+					rows.addAll(result.getRows());
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new HqlException("Interrupted while executing join [" + leftMapName + " " + rightMapName + "]", ex);
+		} catch (ExecutionException ex) {
+			throw new HqlException("Unable to execute join [" + leftMapName + " " + rightMapName + "]", ex.getCause());
+		}
+		return isColocated ? rows : null;
+	}
+
+	/**
+	 * Returns the right map name.
+	 */
+	public String getJoinMapName() {
+		return rightMapName;
+	}
+
+	/**
+	 * Returns true if the next execution is tried as a co-located join.
+	 */
+	public boolean isColocated() {
+		return isColocated;
+	}
+
+	/**
+	 * JoinPredicates holds the left and right map predicates of a join query with
+	 * the bind parameter values.
+	 */
+	public static class JoinPredicates {
+		private final Predicate leftPredicate;
+		private final Predicate rightPredicate;
+
+		JoinPredicates(Predicate leftPredicate, Predicate rightPredicate) {
+			this.leftPredicate = leftPredicate;
+			this.rightPredicate = rightPredicate;
+		}
+
+		/**
+		 * Returns the predicate of the left (from) map.
+		 */
+		public Predicate getLeftPredicate() {
+			return leftPredicate;
+		}
+
+		/**
+		 * Returns the predicate of the right (join) map.
+		 */
+		public Predicate getRightPredicate() {
+			return rightPredicate;
+		}
+	}
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.PartitionAware;
+import com.hazelcast.core.PartitionService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.PortableReader;
+import com.hazelcast.nio.serialization.PortableWriter;
+import com.hazelcast.nio.serialization.VersionedPortable;
+import com.hazelcast.query.Predicate;
+
+/**
+ * JoinTask executes a join query on a member. It is submitted to all members
+ * by the executor service named {@link #EXECUTOR_NAME}. Each member probes the
+ * locally owned entries of the left map, i.e., the map in the from clause,
+ * that match the left predicate against a hash table of the right map, i.e.,
+ * the joined map, and returns the joined rows of select list values.
+ * <p>
+ * In the co-located mode, the hash table is built from the locally owned
+ * entries of the right map that match the right predicate. This is correct
+ * only if the right map is joined by its key and each left entry is owned by
+ * the same partition as its join value, e.g., the left keys are
+ * {@link PartitionAware} with the join value as the partition key. The task
+ * verifies it for every left entry, including when the member has no matching
+ * right entries or has reached the limit, and stops with
+ * {@link #isColocated()} false at the first entry that is not co-located. In
+ * the broadcast mode, the hash table is built from the right rows sent by the
+ * client.
+ * <p>
+ * If the limit is set and there is no order by clause, then each member stops
+ * probing after the limit number of rows. If the order by clause is set, then each
+ * member returns only the first rows in the order by clause order.
+ * <p>
+ * The task returns itself with the joined rows so that, like
+ * {@link TopKAggregator}, the rows are serialized by Hazelcast.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class JoinTask implements Callable<JoinTask>, VersionedPortable, HazelcastInstanceAware {
+
+	public static final String EXECUTOR_NAME = "hql-join";
+
+	// Number of left keys read by each getAll call
+	private static final int BATCH_SIZE = 1000;
+
+	private boolean isColocated;
+	private String leftMapName;
+	private String rightMapName;
+	private Predicate leftPredicate;
+	// Co-located mode only
+	private Predicate rightPredicate;
+	private String leftJoinAttribute;
+	private String rightJoinAttribute;
+	// Select list attributes. isRightColumns[i] is true if attributes[i] is of the
+	// right map.
+	private String[] attributes;
+	private boolean[] isRightColumns;
+	// Broadcast mode only. Each row contains the join value followed by the right
+	// map select list values in the select list order.
+	private Collection<Object[]> rightRows;
+	// -1 if no limit
+	private int limit = -1;
+	private RowComparator rowComparator;
+
+	// Result rows
+	private List<Object[]> rows;
+
+	private transient HazelcastInstance hz;
+
+	public JoinTask() {
+	}
+
+	/**
+	 * Constructs a JoinTask in the co-located mode.
+	 *
+	 * @param leftMapName        Left map name
+	 * @param rightMapName       Right map name
+	 * @param leftPredicate      Left map predicate
+	 * @param rightPredicate     Right map predicate
+	 * @param leftJoinAttribute  Left map join attribute
+	 * @param attributes         Select list attributes
+	 * @param isRightColumns     true for each select list attribute of the right
+	 *                           map
+	 */
+	public JoinTask(String leftMapName, String rightMapName, Predicate leftPredicate, Predicate rightPredicate,
+			String leftJoinAttribute, String[] attributes, boolean[] isRightColumns) {
+		this.isColocated = true;
+		this.leftMapName = leftMapName;
+		this.rightMapName = rightMapName;
+		this.leftPredicate = leftPredicate;
+		this.rightPredicate = rightPredicate;
+		this.leftJoinAttribute = leftJoinAttribute;
+		this.rightJoinAttribute = "__key";
+		this.attributes = attributes;
+		this.isRightColumns = isRightColumns;
+	}
+
+	/**
+	 * Constructs a JoinTask in the broadcast mode.
+	 *
+	 * @param leftMapName       Left map name
+	 * @param leftPredicate     Left map predicate
+	 * @param leftJoinAttribute Left map join attribute
+	 * @param attributes        Select list attributes
+	 * @param isRightColumns    true for each select list attribute of the right
+	 *                          map
+	 * @param rightRows         Right rows, each containing the join value followed
+	 *                          by the right map select list values
+	 */
+	public JoinTask(String leftMapName, Predicate leftPredicate, String leftJoinAttribute, String[] attributes,
+			boolean[] isRightColumns, Collection<Object[]> rightRows) {
+		this.isColocated = false;
+		this.leftMapName = leftMapName;
+		this.leftPredicate = leftPredicate;
+		this.leftJoinAttribute = leftJoinAttribute;
+		this.attributes = attributes;
+		this.isRightColumns = isRightColumns;
+		this.rightRows = rightRows;
+	}
+
+	/**
+	 * Sets the maximum number of rows each member returns.
+	 *
+	 * @param limit         Maximum number of rows. -1 for no limit.
+	 * @param rowComparator Order by clause. null if none.
+	 */
+	public void setLimit(int limit, RowComparator rowComparator) {
+		this.limit = limit;
+		this.rowComparator = rowComparator;
+	}
+
+	@Override
+	public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+		this.hz = hazelcastInstance;
+	}
+
+	/**
+	 * Returns false if the task was executed in the co-located mode and found a
+	 * left entry that is not co-located with its join value. The rows are empty
+	 * in that case.
+	 */
+	public boolean isColocated() {
+		return isColocated;
+	}
+
+	/**
+	 * Returns the joined rows of select list values.
+	 */
+	public List<Object[]> getRows() {
+		return rows == null ? Collections.<Object[]>emptyList() : rows;
+	}
+
+	@Override
+	public JoinTask call() throws Exception {
+		Map<Object, List<Object[]>> table = isColocated ? buildLocalTable() : buildTable();
+		IMap leftMap = hz.getMap(leftMapName);
+		PartitionService partitionService = hz.getPartitionService();
+		rows = new ArrayList<Object[]>();
+		// In the co-located mode, the left entries are checked for co-location even
+		// if no more rows are needed. Otherwise, a member without the matching right
+		// entries would report the maps as co-located without checking them.
+		boolean isProbe = table.isEmpty() == false && limit != 0;
+		if (isProbe == false && isColocated == false) {
+			clear();
+			return this;
+		}
+		Set leftKeys = leftMap.localKeySet(leftPredicate);
+		Iterator iterator = leftKeys.iterator();
+		Set batch = new HashSet(Math.min(BATCH_SIZE, leftKeys.size()) * 2);
+		while ((isProbe || isColocated) && iterator.hasNext()) {
+			batch.clear();
+			while (batch.size() < BATCH_SIZE && iterator.hasNext()) {
+				batch.add(iterator.next());
+			}
+			Map<Object, Object> entries = leftMap.getAll(batch);
+			for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+				Object joinValue = getAttributeValue(entry.getKey(), entry.getValue(), leftJoinAttribute);
+				if (joinValue == null) {
+					continue;
+				}
+				if (isColocated && isSamePartition(partitionService, entry.getKey(), joinValue) == false) {
+					isColocated = false;
+					rows.clear();
+					clear();
+					return this;
+				}
+				if (isProbe == false) {
+					continue;
+				}
+				List<Object[]> matches = table.get(joinValue);
+				if (matches == null) {
+					continue;
+				}
+				for (Object[] match : matches) {
+					rows.add(createRow(entry.getKey(), entry.getValue(), match));
+					if (limit > 0 && rowComparator == null && rows.size() >= limit) {
+						isProbe = false;
+						break;
+					}
+				}
+				if (isProbe == false && isColocated == false) {
+					break;
+				}
+			}
+		}
+		if (limit > 0 && rowComparator != null && rows.size() > limit) {
+			Collections.sort(rows, rowComparator);
+			rows = new ArrayList<Object[]>(rows.subList(0, limit));
+		}
+		clear();
+		return this;
+	}
+
+	/**
+	 * Clears the input fields so that only the rows are returned to the caller.
+	 */
+	private void clear() {
+		leftPredicate = null;
+		rightPredicate = null;
+		rightRows = null;
+	}
+
+	/**
+	 * Builds the hash table of the right rows sent by the client.
+	 */
+	private Map<Object, List<Object[]>> buildTable() {
+		Map<Object, List<Object[]>> table = new HashMap<Object, List<Object[]>>(rightRows.size() * 2);
+		for (Object[] rightRow : rightRows) {
+			if (rightRow[0] == null) {
+				continue;
+			}
+			Object[] values = new Object[rightRow.length - 1];
+			System.arraycopy(rightRow, 1, values, 0, values.length);
+			addToTable(table, rightRow[0], values);
+		}
+		return table;
+	}
+
+	/**
+	 * Builds the hash table of the locally owned right map entries that match the
+	 * right predicate.
+	 */
+	private Map<Object, List<Object[]>> buildLocalTable() {
+		IMap rightMap = hz.getMap(rightMapName);
+		Set rightKeys = rightMap.localKeySet(rightPredicate);
+		Map<Object, List<Object[]>> table = new HashMap<Object, List<Object[]>>(rightKeys.size() * 2);
+		if (rightKeys.isEmpty()) {
+			return table;
+		}
+		Map<Object, Object> entries = rightMap.getAll(rightKeys);
+		int count = 0;
+		for (boolean isRightColumn : isRightColumns) {
+			if (isRightColumn) {
+				count++;
+			}
+		}
+		for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+			Object[] values = new Object[count];
+			int index = 0;
+			for (int i = 0; i < attributes.length; i++) {
+				if (isRightColumns[i]) {
+					values[index++] = getAttributeValue(entry.getKey(), entry.getValue(), attributes[i]);
+				}
+			}
+			addToTable(table, getAttributeValue(entry.getKey(), entry.getValue(), rightJoinAttribute), values);
+		}
+		return table;
+	}
+
+	private static void addToTable(Map<Object, List<Object[]>> table, Object joinValue, Object[] values) {
+		List<Object[]> list = table.get(joinValue);
+		if (list == null) {
+			list = new ArrayList<Object[]>(1);
+			table.put(joinValue, list);
+		}
+		list.add(values);
+	}
+
+	private Object[] createRow(Object leftKey, Object leftValue, Object[] rightValues) {
+		Object[] row = new Object[attributes.length];
+		int rightIndex = 0;
+		for (int i = 0; i < attributes.length; i++) {
+			if (isRightColumns[i]) {
+				row[i] = rightValues[rightIndex++];
+			} else {
+				row[i] = getAttributeValue(leftKey, leftValue, attributes[i]);
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * Returns true if the specified left key is owned by the same partition as
+	 * the specified join value.
+	 */
+	private static boolean isSamePartition(PartitionService partitionService, Object leftKey, Object joinValue) {
+		if (leftKey instanceof PartitionAware && joinValue.equals(((PartitionAware) leftKey).getPartitionKey())) {
+			return true;
+		}
+		return partitionService.getPartition(leftKey).getPartitionId() == partitionService.getPartition(joinValue)
+				.getPartitionId();
+	}
+
+	/**
+	 * Returns the value of the specified attribute of the specified entry.
+	 *
+	 * @param key       Entry key
+	 * @param value     Entry value
+	 * @param attribute "__key" for the key, "this" for the value, "__key."
+	 *                  followed by the key field path, or the value field path.
+	 *                  Nested fields are separated by '.'.
+	 */
+	static Object getAttributeValue(Object key, Object value, String attribute) {
+		Object obj;
+		String path;
+		if (attribute.equals("__key")) {
+			return key;
+		} else if (attribute.equals("this")) {
+			return value;
+		} else if (attribute.startsWith("__key.")) {
+			obj = key;
+			path = attribute.substring(6);
+		} else {
+			obj = value;
+			path = attribute;
+		}
+		int start = 0;
+		while (obj != null) {
+			int end = path.indexOf('.', start);
+			String fieldName = end < 0 ? path.substring(start) : path.substring(start, end);
+			obj = FieldAccessor.getAccessor(obj.getClass(), fieldName).get(obj);
+			if (end < 0) {
+				break;
+			}
+			start = end + 1;
+		}
+		return obj;
+	}
+
+	@Override
+	public int getFactoryId() {
+		return PortableFactoryImpl.FACTORY_ID;
+	}
+
+	@Override
+	public int getClassId() {
+		return PortableFactoryImpl.JoinTask_CLASS_ID;
+	}
+
+	@Override
+	public int getClassVersion() {
+		return 1;
+	}
+
+	@Override
+	public void writePortable(PortableWriter writer) throws IOException {
+		writer.writeBoolean("isColocated", isColocated);
+		writer.writeInt("limit", limit);
+		ObjectDataOutput out = writer.getRawDataOutput();
+		out.writeObject(leftMapName);
+		out.writeObject(rightMapName);
+		out.writeObject(leftPredicate);
+		out.writeObject(rightPredicate);
+		out.writeObject(leftJoinAttribute);
+		out.writeObject(rightJoinAttribute);
+		out.writeObject(attributes);
+		out.writeObject(isRightColumns);
+		if (rowComparator == null) {
+			out.writeInt(0);
+		} else {
+			out.writeInt(rowComparator.getColumnCount());
+			for (int i = 0; i < rowComparator.getColumnCount(); i++) {
+				out.writeInt(rowComparator.getColumnIndex(i));
+				out.writeBoolean(rowComparator.isAsc(i));
+			}
+		}
+		writeRows(out, rightRows);
+		writeRows(out, rows);
+	}
+
+	private static void writeRows(ObjectDataOutput out, Collection<Object[]> rows) throws IOException {
+		if (rows == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(rows.size());
+		for (Object[] row : rows) {
+			out.writeInt(row.length);
+			for (Object value : row) {
+				out.writeObject(value);
+			}
+		}
+	}
+
+	@Override
+	public void readPortable(PortableReader reader) throws IOException {
+		isColocated = reader.readBoolean("isColocated");
+		limit = reader.readInt("limit");
+		ObjectDataInput in = reader.getRawDataInput();
+		leftMapName = in.readObject();
+		rightMapName = in.readObject();
+		leftPredicate = in.readObject();
+		rightPredicate = in.readObject();
+		leftJoinAttribute = in.readObject();
+		rightJoinAttribute = in.readObject();
+		attributes = in.readObject();
+		isRightColumns = in.readObject();
+		int columnCount = in.readInt();
+		if (columnCount > 0) {
+			rowComparator = new RowComparator();
+			for (int i = 0; i < columnCount; i++) {
+				rowComparator.addColumn(in.readInt(), in.readBoolean());
+			}
+		}
+		rightRows = readRows(in);
+		rows = readRows(in);
+	}
+
+	private static List<Object[]> readRows(ObjectDataInput in) throws IOException {
+		int size = in.readInt();
+		if (size < 0) {
+			return null;
+		}
+		List<Object[]> rows = new ArrayList<Object[]>(size);
+		for (int i = 0; i < size; i++) {
+			Object[] row = new Object[in.readInt()];
+			for (int j = 0; j < row.length; j++) {
+				row[j] = in.readObject();
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	@Override
+	public String toString() {
+		return "JoinTask [isColocated=" + isColocated + ", leftMapName=" + leftMapName + ", rightMapName="
+				+ rightMapName + ", leftJoinAttribute=" + leftJoinAttribute + ", rightJoinAttribute="
+				+ rightJoinAttribute + ", limit=" + limit + ", rowComparator=" + rowComparator + ", rowCount="
+				+ (rows == null ? 0 : rows.size()) + "]";
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.addon.hql.ResultType;
+
+import com.hazelcast.query.PagingPredicate;
+
+/**
+ * ListPageResultsImpl contains the entire result set in the client and pages
+ * it by the fetch size without making remote calls. It is used for row query
+ * results and cached results.
+ *
+ * @author dpark
+ *
+ * @param <T> Object type in the result set
+ */
+public class ListPageResultsImpl<T> implements IPageResults<T> {
+
+	private final List<T> list;
+	private final ResultType type;
+	private final int fetchSize;
+	private int page = 0;
+	private int largestPageVisted = 0;
+	private int largestPageVisitedSize = 0;
+
+	/**
+	 * Constructs a ListPageResultsImpl object containing the specified result
+	 * set.
+	 *
+	 * @param list      Entire result set
+	 * @param type      Result type
+	 * @param fetchSize Page size
+	 */
+	public ListPageResultsImpl(List<T> list, ResultType type, int fetchSize) {
+		this.list = list;
+		this.type = type;
+		this.fetchSize = fetchSize;
+		this.largestPageVisitedSize = getSize();
+	}
+
+	public ResultType getResultType() {
+		return type;
+	}
+
+	/**
+	 * Returns the entire result set held in the client.
+	 */
+	public List<T> getList() {
+		return list;
+	}
+
+	/**
+	 * Returns the current page results.
+	 */
+	public Collection<T> getResults() {
+		int startIndex = page * fetchSize;
+		if (startIndex >= list.size()) {
+			return new ArrayList<T>(0);
+		}
+		return list.subList(startIndex, Math.min(startIndex + fetchSize, list.size()));
+	}
+
+	/**
+	 * Returns null. Results are paged in the client.
+	 */
+	public PagingPredicate getPagingPredicate() {
+		return null;
+	}
+
+	public int getVisitedTotalSize() {
+		return largestPageVisitedSize + largestPageVisted * fetchSize;
+	}
+
+	/**
+	 * Returns the number of all results in the list.
+	 */
+	public long getTotalSize() {
+		return list.size();
+	}
+
+	public List<T> toList() {
+		return new ArrayList<T>(getResults());
+	}
+
+	public int getSize() {
+		return getResults().size();
+	}
+
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	public boolean nextPage() {
+		return setPage(page + 1);
+	}
+
+	public boolean previousPage() {
+		if (page == 0) {
+			return false;
+		}
+		return setPage(page - 1);
+	}
+
+	public boolean setPage(int pageNumber) {
+		if (pageNumber < 0) {
+			return false;
+		}
+		page = pageNumber;
+		boolean pageExists = getSize() > 0;
+		if (pageExists) {
+			if (largestPageVisted < page) {
+				largestPageVisted = page;
+				largestPageVisitedSize = getSize();
+			}
+		}
+		return pageExists;
+	}
+
+	public int getPage() {
+		return page;
+	}
+
+	public int getStartIndex() {
+		if (getSize() == 0) {
+			return -1;
+		}
+		return page * fetchSize;
+	}
+
+	public int getEndIndex() {
+		int startIndex = getStartIndex();
+		if (startIndex == -1) {
+			return -1;
+		}
+		return startIndex + getSize() - 1;
+	}
+
+	public int getLargestPageVisted() {
+		return largestPageVisted;
+	}
+
+	public boolean isLastPage() {
+		return (page + 1) * fetchSize >= list.size();
+	}
+
+	public int getLargestPageVisitedSize() {
+		return largestPageVisitedSize;
+	}
+
+	/**
+	 * Does nothing. All results are already in the client.
+	 */
+	public void setPrefetchEnabled(boolean isPrefetchEnabled) {
+	}
+
+	/**
+	 * Returns false. All results are already in the client.
+	 */
+	public boolean isPrefetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns an iterator over the entire result set.
+	 */
+	public Iterator<T> iterator() {
+		return list.iterator();
+	}
+
+	/**
+	 * Returns a sequential stream over the entire result set.
+	 */
+	public Stream<T> stream() {
+		return list.stream();
+	}
+
+	/**
+	 * Dumps the current page results to sysout.
+	 */
+	public void dump() {
+		int index = getStartIndex();
+		for (T obj : getResults()) {
+			if (type == ResultType.KEYS_VALUES) {
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+				System.out.println(index++ + ". key=" + entry.getKey() + ", value=" + entry.getValue());
+			} else {
+				System.out.println(index++ + ". " + obj);
+			}
+		}
+	}
+}
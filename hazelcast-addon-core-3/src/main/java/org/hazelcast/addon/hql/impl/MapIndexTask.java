@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.hazelcast.addon.exception.HqlException;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapIndexConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+
+/**
+ * MapIndexTask returns the indexes of a map. The indexes are read from the
+ * member's map container, which holds the indexes defined in the
+ * {@link MapConfig} and the indexes added at runtime by
+ * <code>IMap.addIndex()</code>. They are read directly if the Hazelcast
+ * instance is a member. Clients cannot read the map containers, so the task
+ * is executed on one of the members by the executor service named
+ * {@link #EXECUTOR_NAME}.
+ *
+ * @author dpark
+ *
+ */
+public class MapIndexTask implements Callable<ArrayList<IndexInfo>>, Serializable, HazelcastInstanceAware {
+	private static final long serialVersionUID = 1L;
+
+	public static final String EXECUTOR_NAME = "hql-explain";
+
+	private String mapName;
+	private transient HazelcastInstance hz;
+
+	public MapIndexTask(String mapName) {
+		this.mapName = mapName;
+	}
+
+	@Override
+	public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+		this.hz = hazelcastInstance;
+	}
+
+	@Override
+	public ArrayList<IndexInfo> call() throws Exception {
+		ArrayList<IndexInfo> list = getMemberIndexInfos(hz, mapName);
+		return list == null ? getIndexInfos(hz.getConfig(), mapName) : list;
+	}
+
+	/**
+	 * Returns the indexes in the map container of the specified member, which
+	 * include the indexes added at runtime. Returns null if the specified
+	 * instance is not a member.
+	 *
+	 * @param hz      Hazelcast instance
+	 * @param mapName Map name
+	 */
+	static ArrayList<IndexInfo> getMemberIndexInfos(HazelcastInstance hz, String mapName) {
+		Object map = hz.getMap(mapName);
+		if (map instanceof MapProxyImpl == false) {
+			return null;
+		}
+		MapService mapService = (MapService) ((MapProxyImpl) map).getService();
+		MapContainer mapContainer = mapService.getMapServiceContext().getMapContainer(mapName);
+		// Index definitions map the attributes to their ordered flags
+		Map<String, Boolean> indexDefinitions = mapContainer.getIndexDefinitions();
+		ArrayList<IndexInfo> list = new ArrayList<IndexInfo>(indexDefinitions.size());
+		for (Map.Entry<String, Boolean> entry : indexDefinitions.entrySet()) {
+			list.add(toIndexInfo(entry.getKey(), entry.getValue()));
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the indexes defined in the specified map configuration.
+	 *
+	 * @param config  Member configuration
+	 * @param mapName Map name
+	 */
+	static ArrayList<IndexInfo> getIndexInfos(Config config, String mapName) {
+		MapConfig mapConfig = config.findMapConfig(mapName);
+		List<MapIndexConfig> indexConfigs = mapConfig.getMapIndexConfigs();
+		ArrayList<IndexInfo> list = new ArrayList<IndexInfo>(indexConfigs.size());
+		for (MapIndexConfig indexConfig : indexConfigs) {
+			list.add(toIndexInfo(indexConfig.getAttribute(), indexConfig.isOrdered()));
+		}
+		return list;
+	}
+
+	private static IndexInfo toIndexInfo(String attribute, boolean isOrdered) {
+		IndexInfo.Type type = isOrdered ? IndexInfo.Type.SORTED : IndexInfo.Type.HASH;
+		// Composite index attributes are comma separated
+		return new IndexInfo(null, type, attribute.trim().split("\\s*,\\s*"));
+	}
+
+	/**
+	 * Returns the indexes of the specified map, including the indexes added at
+	 * runtime. If the specified instance is a client, then the indexes are
+	 * retrieved from one of the members.
+	 *
+	 * @param hz      Hazelcast member or client instance
+	 * @param mapName Map name
+	 * @throws HqlException Thrown if the indexes cannot be retrieved from the
+	 *                      members
+	 */
+	public static List<IndexInfo> getIndexInfos(HazelcastInstance hz, String mapName) throws HqlException {
+		ArrayList<IndexInfo> list = getMemberIndexInfos(hz, mapName);
+		if (list != null) {
+			return list;
+		}
+		// Clients cannot read the map containers
+		try {
+			return hz.getExecutorService(EXECUTOR_NAME).submit(new MapIndexTask(mapName)).get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new HqlException("Interrupted while retrieving map indexes [" + mapName + "]", ex);
+		} catch (ExecutionException ex) {
+			throw new HqlException("Unable to retrieve map indexes [" + mapName + "]", ex.getCause());
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import com.hazelcast.core.DistributedObject;
+import com.hazelcast.core.DistributedObjectEvent;
+import com.hazelcast.core.DistributedObjectListener;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.core.LifecycleEvent.LifecycleState;
+import com.hazelcast.map.impl.MapService;
+
+/**
+ * MapRegistry keeps the names of the maps defined in the cluster. It is
+ * shared by all HqlQuery instances of the same {@link HazelcastInstance} and
+ * maintained incrementally by a {@link DistributedObjectListener}. The cluster
+ * distributed objects are listed when a map name is first looked up and not
+ * found. Thereafter, maps created or destroyed in the cluster are added or
+ * removed by the listener. Since listener events may be missed, for example,
+ * while the client reconnects, a map name that is not found is checked again
+ * by listing the cluster distributed objects at most once per miss refresh
+ * interval. The interval in milliseconds is set by the system property
+ * "org.hazelcast.addon.hql.impl.MapRegistry.missRefreshInterval" (default:
+ * 1000). If it is less than 0, then a map name that is not found is not checked
+ * again.
+ *
+ * @author dpark
+ *
+ */
+public class MapRegistry implements DistributedObjectListener {
+
+	private static final long MISS_REFRESH_INTERVAL_IN_MSEC = Long
+			.getLong("org.hazelcast.addon.hql.impl.MapRegistry.missRefreshInterval", 1000L);
+
+	private static final ConcurrentHashMap<HazelcastInstance, MapRegistry> registryMap = new ConcurrentHashMap<HazelcastInstance, MapRegistry>();
+
+	private final HazelcastInstance hz;
+	private final Object refreshLock = new Object();
+	private volatile NavigableSet<String> mapNameSet = new ConcurrentSkipListSet<String>();
+	private volatile boolean isLoaded = false;
+	private volatile long lastRefreshTime;
+
+	// Listener events received while refresh() lists the distributed objects.
+	// Guarded by this.
+	private List<DistributedObjectEvent> pendingEventList;
+
+	private MapRegistry(HazelcastInstance hz) {
+		this.hz = hz;
+	}
+
+	/**
+	 * Returns the registry of the specified Hazelcast instance. The registry is
+	 * created and its listener is registered on the first call. The registry is
+	 * discarded when the instance shuts down.
+	 *
+	 * @param hz Hazelcast instance
+	 */
+	public static MapRegistry getMapRegistry(HazelcastInstance hz) {
+		MapRegistry registry = registryMap.get(hz);
+		if (registry == null) {
+			synchronized (registryMap) {
+				registry = registryMap.get(hz);
+				if (registry == null) {
+					registry = new MapRegistry(hz);
+					hz.addDistributedObjectListener(registry);
+					hz.getLifecycleService().addLifecycleListener((LifecycleEvent event) -> {
+						if (event.getState() == LifecycleState.SHUTDOWN) {
+							registryMap.remove(hz);
+						}
+					});
+					registryMap.put(hz, registry);
+				}
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * Lists all distributed objects in the cluster and replaces the registered
+	 * map names. This is a remote call which may be expensive if the cluster has
+	 * a large number of distributed objects. The new names are collected in a
+	 * new set which then replaces the current set. Maps created or destroyed
+	 * while the distributed objects are being listed are applied to the new set
+	 * before it replaces the current set so that they are not lost.
+	 */
+	public void refresh() {
+		synchronized (refreshLock) {
+			synchronized (this) {
+				pendingEventList = new ArrayList<DistributedObjectEvent>();
+			}
+			NavigableSet<String> nameSet = new ConcurrentSkipListSet<String>();
+			try {
+				for (DistributedObject dobj : hz.getDistributedObjects()) {
+					if (dobj instanceof IMap) {
+						nameSet.add(dobj.getName());
+					}
+				}
+			} catch (RuntimeException ex) {
+				synchronized (this) {
+					pendingEventList = null;
+				}
+				throw ex;
+			}
+			synchronized (this) {
+				for (DistributedObjectEvent event : pendingEventList) {
+					apply(nameSet, event);
+				}
+				pendingEventList = null;
+				mapNameSet = nameSet;
+			}
+			lastRefreshTime = System.currentTimeMillis();
+			isLoaded = true;
+		}
+	}
+
+	private void load() {
+		synchronized (refreshLock) {
+			if (isLoaded == false) {
+				refresh();
+			}
+		}
+	}
+
+	/**
+	 * Refreshes the registry if it has not been refreshed within the miss
+	 * refresh interval.
+	 */
+	private void refreshOnMiss() {
+		if (MISS_REFRESH_INTERVAL_IN_MSEC < 0) {
+			return;
+		}
+		synchronized (refreshLock) {
+			if (System.currentTimeMillis() - lastRefreshTime >= MISS_REFRESH_INTERVAL_IN_MSEC) {
+				refresh();
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the specified map is defined in the cluster. If the map
+	 * name is not found, then the cluster distributed objects are listed if they
+	 * have never been listed or have not been listed within the miss refresh
+	 * interval.
+	 *
+	 * @param mapName Map name
+	 */
+	public boolean contains(String mapName) {
+		if (mapNameSet.contains(mapName)) {
+			return true;
+		}
+		if (isLoaded == false) {
+			load();
+		} else {
+			refreshOnMiss();
+		}
+		return mapNameSet.contains(mapName);
+	}
+
+	/**
+	 * Returns a sorted, read-only view of the registered map names. The cluster
+	 * distributed objects are listed if they have never been listed.
+	 */
+	public NavigableSet<String> getMapNames() {
+		if (isLoaded == false) {
+			load();
+		}
+		return Collections.unmodifiableNavigableSet(mapNameSet);
+	}
+
+	private static void apply(NavigableSet<String> nameSet, DistributedObjectEvent event) {
+		if (MapService.SERVICE_NAME.equals(event.getServiceName())) {
+			String mapName = String.valueOf(event.getObjectName());
+			if (event.getEventType() == DistributedObjectEvent.EventType.CREATED) {
+				nameSet.add(mapName);
+			} else if (event.getEventType() == DistributedObjectEvent.EventType.DESTROYED) {
+				nameSet.remove(mapName);
+			}
+		}
+	}
+
+	private synchronized void onEvent(DistributedObjectEvent event) {
+		apply(mapNameSet, event);
+		if (pendingEventList != null) {
+			pendingEventList.add(event);
+		}
+	}
+
+	@Override
+	public void distributedObjectCreated(DistributedObjectEvent event) {
+		onEvent(event);
+	}
+
+	@Override
+	public void distributedObjectDestroyed(DistributedObjectEvent event) {
+		onEvent(event);
+	}
+}
@@ -18,14 +18,28 @@ package org.hazelcast.addon.hql.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.hazelcast.addon.hql.IPageResults;
 import org.hazelcast.addon.hql.ResultType;
 
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
 import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.PagingPredicateAccessor;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.TruePredicate;
 
 /**
  * PageResults contains a partial collection from executing an HQL query.
@@ -37,25 +51,71 @@ import com.hazelcast.query.PagingPredicate;
 public class PageResultsImpl<T>  implements IPageResults {
 
 	private final IMap map;
+	private HazelcastInstance hz;
+	private Predicate queryPredicate;
+	private Comparator<Map.Entry> comparator;
 	private Collection<T> results;
 	private PagingPredicate pagingPredicate;
 	private ResultType type = ResultType.VALUES;
 	private int largestPageVisted = 0;
 	private int largestPageVisitedSize = 0;
 
+	// Page prefetch. prefetchFuture is null if no page is being prefetched.
+	private Executor executor;
+	private boolean isPrefetchEnabled;
+	private int prefetchPage = -1;
+	private PagingPredicate prefetchPagingPredicate;
+	private CompletableFuture<Collection<T>> prefetchFuture;
+
+	// Maximum number of concurrent partition queries run by iterator()
+	private int scanParallelism = 1;
+
+	// Total number of results. null until counted or being counted.
+	private CompletableFuture<Long> totalSizeFuture;
+
+	// Page fetch metrics. null if the metrics are disabled.
+	private HqlMetrics metrics;
+	private QueryMetrics queryMetrics;
+
 	/**
 	 * Constructs a PageSet object containing the specified result set.
 	 * 
+	 * @param hz              Hazelcast instance
 	 * @param map             IMap object
 	 * @param results         Page result set
 	 * @param pagingPredicate Paging predicate
 	 * @param type            Result set type
+	 * @param queryPredicate  Query predicate without paging
+	 * @param comparator      Order-by comparator. null if unordered.
 	 */
-	public PageResultsImpl(IMap map, Collection<T> results, PagingPredicate pagingPredicate, ResultType type) {
+	public PageResultsImpl(HazelcastInstance hz, IMap map, Collection<T> results, PagingPredicate pagingPredicate,
+			ResultType type, Predicate queryPredicate, Comparator<Map.Entry> comparator) {
 		this.map = map;
 		this.results = results;
 		this.pagingPredicate = pagingPredicate;
 		this.type = type;
+		this.hz = hz;
+		this.queryPredicate = queryPredicate;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Constructs a PageSet object containing the specified result set. The
+	 * additional executor enables page prefetch.
+	 * 
+	 * @param hz              Hazelcast instance
+	 * @param map             IMap object
+	 * @param results         Page result set
+	 * @param pagingPredicate Paging predicate
+	 * @param type            Result set type
+	 * @param queryPredicate  Query predicate without paging
+	 * @param comparator      Order-by comparator. null if unordered.
+	 * @param executor        Executor that prefetches pages
+	 */
+	public PageResultsImpl(HazelcastInstance hz, IMap map, Collection<T> results, PagingPredicate pagingPredicate,
+			ResultType type, Predicate queryPredicate, Comparator<Map.Entry> comparator, Executor executor) {
+		this(hz, map, results, pagingPredicate, type, queryPredicate, comparator);
+		this.executor = executor;
 	}
 	
 	/**
@@ -91,6 +151,66 @@ public class PageResultsImpl<T>  implements IPageResults {
 		return largestPageVisitedSize + getLargestPageVisted() * getFetchSize();
 	}
 
+	/**
+	 * Returns the exact number of results in the entire result set. If the count
+	 * has not been started by {@link #setTotalSizeFuture(CompletableFuture)},
+	 * then the results are counted on the members by the count aggregator. A
+	 * failed count is retried.
+	 */
+	public long getTotalSize() {
+		CompletableFuture<Long> future = totalSizeFuture;
+		if (future != null) {
+			try {
+				return future.join();
+			} catch (CompletionException ex) {
+				// Retry below
+			}
+		}
+		long totalSize = count(map, queryPredicate);
+		totalSizeFuture = CompletableFuture.completedFuture(totalSize);
+		return totalSize;
+	}
+
+	/**
+	 * Sets the future that completes with the total number of results, which is
+	 * counted in parallel with the first page fetch.
+	 * 
+	 * @param totalSizeFuture Future of the total number of results. null to
+	 *                        count on demand.
+	 */
+	public void setTotalSizeFuture(CompletableFuture<Long> totalSizeFuture) {
+		this.totalSizeFuture = totalSizeFuture;
+	}
+
+	/**
+	 * Sets the maximum number of partition queries that {@link #iterator()} runs
+	 * concurrently on the executor to read the first pages of ordered results.
+	 * 
+	 * @param scanParallelism Maximum number of concurrent partition queries. If
+	 *                        &lt;= 1 or the executor is not set, then the
+	 *                        partitions are queried in the calling thread.
+	 */
+	public void setScanParallelism(int scanParallelism) {
+		this.scanParallelism = scanParallelism;
+	}
+
+	/**
+	 * Returns the number of entries in the specified map that satisfy the
+	 * specified predicate. The entries are counted on the members by the count
+	 * aggregator. If the predicate is always true, then the map size is returned
+	 * instead.
+	 * 
+	 * @param map            IMap object
+	 * @param queryPredicate Query predicate without paging
+	 */
+	@SuppressWarnings("unchecked")
+	public static long count(IMap map, Predicate queryPredicate) {
+		if (queryPredicate instanceof TruePredicate) {
+			return map.size();
+		}
+		return (Long) map.aggregate(Aggregators.count(), queryPredicate);
+	}
+
 	/**
 	 * Returns the results in the form of {@link List}.
 	 */
@@ -126,22 +246,137 @@ public class PageResultsImpl<T>  implements IPageResults {
 	/**
 	 * Executes pagingPredicate and returns the result set.
 	 */
-	@SuppressWarnings("unchecked")
 	private Collection<T> __getResults() {
+		results = query(pagingPredicate);
+		prefetch();
+		return results;
+	}
+
+	/**
+	 * Executes the specified paging predicate and returns the page result set.
+	 * The page fetch is recorded if the metrics are set.
+	 */
+	private Collection<T> query(PagingPredicate pagingPredicate) {
+		HqlMetrics metrics = this.metrics;
+		if (metrics == null) {
+			return queryPage(pagingPredicate);
+		}
+		long startTime = System.nanoTime();
+		Collection<T> results = queryPage(pagingPredicate);
+		metrics.recordPage(queryMetrics, System.nanoTime() - startTime, results.size(),
+				metrics.estimateBytes(queryMetrics, results));
+		return results;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Collection<T> queryPage(PagingPredicate pagingPredicate) {
 		switch (type) {
 		case KEYS:
-			results = map.keySet(pagingPredicate);
-			break;
-		case VALUES:
-			results = map.values(pagingPredicate);
-			break;
+			return map.keySet(pagingPredicate);
 		case KEYS_VALUES:
-			results = map.entrySet(pagingPredicate);
-			break;
+			return map.entrySet(pagingPredicate);
+		case VALUES:
+		default:
+			return map.values(pagingPredicate);
+		}
+	}
+
+	/**
+	 * Returns the prefetched results if the current page has been prefetched,
+	 * otherwise executes pagingPredicate. The anchor of the prefetched page is
+	 * copied to pagingPredicate. A failed prefetch is retried.
+	 */
+	private Collection<T> __getPrefetchedResults() {
+		CompletableFuture<Collection<T>> future = prefetchFuture;
+		if (future == null || prefetchPage != getPage()) {
+			return __getResults();
+		}
+		try {
+			results = future.join();
+		} catch (CompletionException ex) {
+			return __getResults();
 		}
+		copyAnchor(prefetchPagingPredicate, pagingPredicate);
+		prefetch();
 		return results;
 	}
 
+	/**
+	 * Fetches the page after the current page in the background if prefetch is
+	 * enabled. The next page is fetched with its own paging predicate so that
+	 * the current page's paging predicate is not shared between threads.
+	 */
+	@SuppressWarnings("unchecked")
+	private void prefetch() {
+		prefetchFuture = null;
+		prefetchPagingPredicate = null;
+		prefetchPage = -1;
+		if (isPrefetchEnabled == false || isLastPage()) {
+			return;
+		}
+		final int page = getPage() + 1;
+		final PagingPredicate nextPagingPredicate = new PagingPredicate(queryPredicate,
+				pagingPredicate.getComparator(), getFetchSize());
+		nextPagingPredicate.setPage(page);
+		prefetchPage = page;
+		prefetchPagingPredicate = nextPagingPredicate;
+		prefetchFuture = CompletableFuture.supplyAsync(() -> query(nextPagingPredicate), executor);
+	}
+
+	/**
+	 * Copies the anchor, i.e., the last entry, of the page read by the specified
+	 * source paging predicate to the specified target paging predicate at the
+	 * same page. Hazelcast 3 adds anchors in the page order, so the anchor is
+	 * copied only if the target has the anchor of the previous page.
+	 * 
+	 * @param source Paging predicate of the prefetched page. Its page is
+	 *               changed.
+	 * @param target Paging predicate at the prefetched page
+	 */
+	private static void copyAnchor(PagingPredicate source, PagingPredicate target) {
+		int page = target.getPage();
+		source.setPage(page + 1);
+		Map.Entry<Integer, Map.Entry> anchorEntry = PagingPredicateAccessor.getNearestAnchorEntry(source);
+		if (anchorEntry.getKey() == page
+				&& PagingPredicateAccessor.getNearestAnchorEntry(target).getKey() == page - 1) {
+			PagingPredicateAccessor.setAnchor(target, page, anchorEntry.getValue());
+		}
+	}
+
+	/**
+	 * Enables or disables page prefetch. If enabled, the next page is fetched in
+	 * the background while the current page is consumed, and {@link #nextPage()}
+	 * returns the prefetched page. Disabled by default.
+	 * 
+	 * @throws UnsupportedOperationException Thrown if this object was constructed
+	 *                                       without the executor
+	 */
+	public void setPrefetchEnabled(boolean isPrefetchEnabled) {
+		if (isPrefetchEnabled && executor == null) {
+			throw new UnsupportedOperationException("Executor not available for prefetch");
+		}
+		this.isPrefetchEnabled = isPrefetchEnabled;
+		prefetch();
+	}
+
+	/**
+	 * Sets the metrics that record the page fetches of this result set.
+	 * 
+	 * @param metrics      Query metrics registry
+	 * @param queryMetrics Metrics of the query that created this result set
+	 */
+	public void setMetrics(HqlMetrics metrics, QueryMetrics queryMetrics) {
+		this.queryMetrics = queryMetrics;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Returns true if page prefetch is enabled.
+	 */
+	public boolean isPrefetchEnabled() {
+		return isPrefetchEnabled;
+	}
+
 	/**
 	 * Advances to the next page of results.
 	 * 
@@ -149,7 +384,7 @@ public class PageResultsImpl<T>  implements IPageResults {
 	 */
 	public boolean nextPage() {
 		pagingPredicate.nextPage();
-		results = __getResults();
+		results = __getPrefetchedResults();
 		boolean pageExists = results.size() > 0;
 		if (pageExists) {
 			if (largestPageVisted < getPage()) {
@@ -260,6 +495,23 @@ public class PageResultsImpl<T>  implements IPageResults {
 		return largestPageVisitedSize;
 	}
 	
+	/**
+	 * Returns an iterator over the entire result set. The result set is not
+	 * paged. Ordered results are read in sorted partition pages of the fetch
+	 * size. See {@link ResultIterator}.
+	 */
+	public Iterator<T> iterator() {
+		return ResultIterator.iterator(hz, map, queryPredicate, comparator, type, getFetchSize(), executor,
+				scanParallelism);
+	}
+
+	/**
+	 * Returns a sequential stream over the entire result set.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+	}
+
 	/**
 	 * Dumps the page results to sysout.
 	 */
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PredicatePlan is the explain plan of a {@link PredicateNode} tree. Each node
+ * is annotated with the index that the Hazelcast query engine can use to
+ * evaluate it and the estimated selectivity, i.e., the fraction of the map
+ * entries that satisfy it.
+ * <p>
+ * Hazelcast does not keep attribute value statistics, so the selectivity of a
+ * leaf is estimated by the System R defaults: 1/10 for equality, 1/3 for
+ * ranges, and 1/4 for between. AND multiplies the child selectivities, OR adds
+ * them assuming independence, and NOT takes the complement.
+ * <p>
+ * An equality or IN leaf uses an index whose first attribute is the leaf
+ * attribute. A range leaf requires a sorted index. Not-equal, like, ilike, and
+ * regex are evaluated by scanning. AND uses the indexes of its indexed children
+ * and filters the rest. OR requires a full scan unless all of its children are
+ * indexed. NOT always requires a full scan since the Hazelcast NOT predicate
+ * does not use indexes, even if its child is indexed.
+ *
+ * @author dpark
+ *
+ */
+public class PredicatePlan {
+	public static final double EQUALITY_SELECTIVITY = 0.1;
+	public static final double RANGE_SELECTIVITY = 1.0 / 3;
+	public static final double BETWEEN_SELECTIVITY = 0.25;
+
+	private PredicateNode node;
+	private IndexInfo index;
+	private boolean isIndexed;
+	private double selectivity;
+	private List<PredicatePlan> children;
+
+	private PredicatePlan(PredicateNode node) {
+		this.node = node;
+	}
+
+	/**
+	 * Creates the plan of the specified predicate tree.
+	 *
+	 * @param node    Root node of the predicate tree
+	 * @param indexes Indexes defined for the map
+	 */
+	public static PredicatePlan create(PredicateNode node, List<IndexInfo> indexes) {
+		PredicatePlan plan = new PredicatePlan(node);
+		if (node.isLogical()) {
+			plan.children = new ArrayList<PredicatePlan>(node.getChildren().size());
+			for (PredicateNode child : node.getChildren()) {
+				plan.children.add(create(child, indexes));
+			}
+			switch (node.getOperator()) {
+			case AND:
+				plan.selectivity = 1;
+				for (PredicatePlan child : plan.children) {
+					plan.selectivity *= child.selectivity;
+					plan.isIndexed |= child.isIndexed;
+				}
+				break;
+			case OR:
+				double complement = 1;
+				plan.isIndexed = true;
+				for (PredicatePlan child : plan.children) {
+					complement *= 1 - child.selectivity;
+					plan.isIndexed &= child.isIndexed;
+				}
+				plan.selectivity = 1 - complement;
+				break;
+			default:
+				// NOT is evaluated by scanning regardless of its child
+				plan.selectivity = 1 - plan.children.get(0).selectivity;
+				break;
+			}
+		} else {
+			plan.initLeaf(indexes);
+		}
+		return plan;
+	}
+
+	private void initLeaf(List<IndexInfo> indexes) {
+		String attribute = node.getAttribute();
+		boolean isRange = false;
+		switch (node.getOperator()) {
+		case EQUAL:
+			selectivity = EQUALITY_SELECTIVITY;
+			break;
+		case IN:
+			selectivity = Math.min(0.5, EQUALITY_SELECTIVITY * node.getOperands().size());
+			break;
+		case NOT_EQUAL:
+			selectivity = 1 - EQUALITY_SELECTIVITY;
+			return;
+		case GREATER:
+		case GREATER_EQUAL:
+		case LESS:
+		case LESS_EQUAL:
+			selectivity = RANGE_SELECTIVITY;
+			isRange = true;
+			break;
+		case BETWEEN:
+			selectivity = BETWEEN_SELECTIVITY;
+			isRange = true;
+			break;
+		default:
+			// like, ilike, regex
+			selectivity = EQUALITY_SELECTIVITY;
+			return;
+		}
+		for (IndexInfo indexInfo : indexes) {
+			if (isRange ? indexInfo.isRangeIndex(attribute) : indexInfo.isEqualityIndex(attribute)) {
+				index = indexInfo;
+				isIndexed = true;
+				return;
+			}
+		}
+	}
+
+	public PredicateNode getNode() {
+		return node;
+	}
+
+	/**
+	 * Returns the index used to evaluate this leaf. null if this is a logical node
+	 * or the leaf is evaluated by scanning.
+	 */
+	public IndexInfo getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns true if this node is evaluated by using indexes rather than by
+	 * scanning all entries.
+	 */
+	public boolean isIndexed() {
+		return isIndexed;
+	}
+
+	/**
+	 * Returns the estimated fraction of the map entries that satisfy this node.
+	 */
+	public double getSelectivity() {
+		return selectivity;
+	}
+
+	/**
+	 * Returns the child plans. null if this is a leaf.
+	 */
+	public List<PredicatePlan> getChildren() {
+		return children;
+	}
+
+	/**
+	 * Appends the lines of this plan to the specified list. Each child is
+	 * indented by two spaces.
+	 *
+	 * @param lines  List of lines
+	 * @param indent Indentation of this node
+	 */
+	public void appendTo(List<String> lines, String indent) {
+		StringBuilder buffer = new StringBuilder(64);
+		buffer.append(indent);
+		if (children == null) {
+			buffer.append(node);
+		} else {
+			buffer.append(node.getOperator().getSymbol());
+		}
+		buffer.append(" [");
+		if (index != null) {
+			buffer.append("index ").append(index);
+		} else {
+			buffer.append(isIndexed ? "index" : "scan");
+		}
+		buffer.append(", selectivity=").append(formatSelectivity(selectivity)).append(']');
+		lines.add(buffer.toString());
+		if (children != null) {
+			for (PredicatePlan child : children) {
+				child.appendTo(lines, indent + "  ");
+			}
+		}
+	}
+
+	/**
+	 * Returns the specified selectivity formatted with 4 decimal places.
+	 */
+	public static String formatSelectivity(double selectivity) {
+		return String.format(Locale.ROOT, "%.4f", selectivity);
+	}
+
+	@Override
+	public String toString() {
+		List<String> lines = new ArrayList<String>();
+		appendTo(lines, "");
+		return String.join("\n", lines);
+	}
+}
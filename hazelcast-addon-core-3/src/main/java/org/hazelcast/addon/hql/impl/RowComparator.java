@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * RowComparator compares rows of select list values by the order by columns.
+ * Rows are sorted in the client since aggregate results are small compared to
+ * the entries they are computed from.
+ *
+ * @author dpark
+ *
+ */
+public class RowComparator implements Comparator<Object[]> {
+	private List<Integer> indexList = new ArrayList<Integer>(2);
+	private List<Boolean> ascList = new ArrayList<Boolean>(2);
+
+	/**
+	 * Adds an order by column.
+	 *
+	 * @param index Row index of the column
+	 * @param isAsc true for ascending order
+	 */
+	public void addColumn(int index, boolean isAsc) {
+		indexList.add(index);
+		ascList.add(isAsc);
+	}
+
+	public boolean isEmpty() {
+		return indexList.isEmpty();
+	}
+
+	/**
+	 * Returns the number of order by columns.
+	 */
+	public int getColumnCount() {
+		return indexList.size();
+	}
+
+	/**
+	 * Returns the row index of the specified order by column.
+	 *
+	 * @param i Order by column position beginning from 0
+	 */
+	public int getColumnIndex(int i) {
+		return indexList.get(i);
+	}
+
+	/**
+	 * Returns true if the specified order by column is in ascending order.
+	 *
+	 * @param i Order by column position beginning from 0
+	 */
+	public boolean isAsc(int i) {
+		return ascList.get(i);
+	}
+
+	@Override
+	public int compare(Object[] row1, Object[] row2) {
+		for (int i = 0; i < indexList.size(); i++) {
+			int index = indexList.get(i);
+			int c = FieldAccessor.compareAsc(row1[index], row2[index]);
+			if (c != 0) {
+				return ascList.get(i) ? c : -c;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder(32);
+		for (int i = 0; i < indexList.size(); i++) {
+			if (i > 0) {
+				buffer.append(", ");
+			}
+			buffer.append(indexList.get(i)).append(ascList.get(i) ? " asc" : " desc");
+		}
+		return "RowComparator [" + buffer + "]";
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.ResultType;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.PartitionService;
+import com.hazelcast.query.PartitionPredicate;
+import com.hazelcast.query.Predicate;
+
+/**
+ * ScanIterator iterates the unordered result set by scanning all partitions
+ * concurrently. Each partition is queried with its own partition predicate so
+ * that no member merges the results of other members. The partitions are
+ * ordered round-robin by owner member so that the concurrent queries are
+ * spread over all members, and the results are returned in the order the
+ * partition queries complete.
+ * <p>
+ * At most <code>parallelism</code> partition queries run at a time, and at
+ * most twice as many completed partition results are held in the
+ * client waiting to be consumed. {@link #close()} must be invoked if the
+ * iteration is abandoned before the end so that the running partition queries
+ * are stopped.
+ *
+ * @author dpark
+ *
+ * @param <T> Object type in the result set
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ScanIterator<T> implements Iterator<T>, AutoCloseable {
+
+	// Marks the completion of a worker
+	private static final Object DONE = new Object();
+
+	private final IMap map;
+	private final Predicate queryPredicate;
+	private final ResultType type;
+	private final Object[] partitionKeys;
+	private final AtomicInteger partitionIndex = new AtomicInteger(0);
+	private final BlockingQueue<Object> queue;
+	private final int workerCount;
+	private int doneCount = 0;
+	private volatile boolean isClosed = false;
+	private Iterator<T> current;
+
+	/**
+	 * Constructs a ScanIterator and starts the partition queries. If the
+	 * executor rejects some of the workers, then the partitions are scanned by
+	 * the workers it has accepted.
+	 *
+	 * @param hz             Hazelcast instance
+	 * @param map            Map to query
+	 * @param queryPredicate Query predicate
+	 * @param type           Result type
+	 * @param executor       Executor that runs the partition queries
+	 * @param parallelism    Maximum number of concurrent partition queries
+	 * @throws HqlException Thrown if the executor rejects all workers
+	 */
+	public ScanIterator(HazelcastInstance hz, IMap map, Predicate queryPredicate, ResultType type, Executor executor,
+			int parallelism) {
+		this.map = map;
+		this.queryPredicate = queryPredicate;
+		this.type = type;
+		this.partitionKeys = getPartitionKeysByOwner(hz.getPartitionService());
+		int maxWorkerCount = Math.max(1, Math.min(parallelism, partitionKeys.length));
+		this.queue = new ArrayBlockingQueue<Object>(maxWorkerCount * 2);
+
+		// Only the accepted workers put DONE in the queue
+		int submittedCount = 0;
+		try {
+			for (; submittedCount < maxWorkerCount; submittedCount++) {
+				executor.execute(this::scan);
+			}
+		} catch (RejectedExecutionException ex) {
+			if (submittedCount == 0) {
+				isClosed = true;
+				throw new HqlException("Scan rejected by executor", ex);
+			}
+		}
+		this.workerCount = submittedCount;
+	}
+
+	/**
+	 * Returns the partition keys ordered round-robin by owner member, i.e., the
+	 * first partition of each member, then the second partition of each member,
+	 * and so on.
+	 *
+	 * @param partitionService Partition service
+	 */
+	static Object[] getPartitionKeysByOwner(PartitionService partitionService) {
+		Object[] partitionKeys = ResultIterator.getPartitionKeys(partitionService);
+		Map<Object, List<Object>> ownerMap = new LinkedHashMap<Object, List<Object>>();
+		for (Object partitionKey : partitionKeys) {
+			Object owner = partitionService.getPartition(partitionKey).getOwner();
+			List<Object> keyList = ownerMap.get(owner);
+			if (keyList == null) {
+				keyList = new ArrayList<Object>();
+				ownerMap.put(owner, keyList);
+			}
+			keyList.add(partitionKey);
+		}
+		Object[] orderedKeys = new Object[partitionKeys.length];
+		int index = 0;
+		for (int i = 0; index < orderedKeys.length; i++) {
+			for (List<Object> keyList : ownerMap.values()) {
+				if (i < keyList.size()) {
+					orderedKeys[index++] = keyList.get(i);
+				}
+			}
+		}
+		return orderedKeys;
+	}
+
+	private Collection<T> query(Object partitionKey) {
+		Predicate predicate = new PartitionPredicate(partitionKey, queryPredicate);
+		switch (type) {
+		case KEYS:
+			return map.keySet(predicate);
+		case KEYS_VALUES:
+			return map.entrySet(predicate);
+		default:
+			return map.values(predicate);
+		}
+	}
+
+	/**
+	 * Worker loop. Queries the next unscanned partition until all partitions are
+	 * scanned or this iterator is closed.
+	 */
+	private void scan() {
+		try {
+			int index;
+			while (isClosed == false && (index = partitionIndex.getAndIncrement()) < partitionKeys.length) {
+				put(query(partitionKeys[index]));
+			}
+		} catch (Throwable th) {
+			put(th);
+		} finally {
+			put(DONE);
+		}
+	}
+
+	/**
+	 * Puts the specified item in the queue. Waits until the queue has space or
+	 * this iterator is closed.
+	 */
+	private void put(Object item) {
+		try {
+			while (isClosed == false) {
+				if (queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (current == null || current.hasNext() == false) {
+			if (doneCount >= workerCount || isClosed) {
+				return false;
+			}
+			Object item;
+			try {
+				item = queue.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new HqlException("Scan interrupted", ex);
+			}
+			if (item == DONE) {
+				doneCount++;
+			} else if (item instanceof Throwable) {
+				close();
+				throw new HqlException("Partition query failed", (Throwable) item);
+			} else {
+				current = ((Collection<T>) item).iterator();
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (hasNext() == false) {
+			throw new NoSuchElementException();
+		}
+		return current.next();
+	}
+
+	/**
+	 * Stops the partition queries that have not started and discards the
+	 * results that have not been consumed.
+	 */
+	@Override
+	public void close() {
+		isClosed = true;
+		queue.clear();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+/**
+ * SelectItem is an element of the select list other than '*', i.e., a column
+ * or an aggregate function.
+ *
+ * @author dpark
+ *
+ */
+public class SelectItem {
+	private final String attribute;
+	private final AggregateFunction function;
+	private final String label;
+
+	/**
+	 * Constructs a column select item.
+	 *
+	 * @param attribute Attribute name
+	 * @param label     Column alias if specified, otherwise the column text as it
+	 *                  appears in the query
+	 */
+	public SelectItem(String attribute, String label) {
+		this.attribute = attribute;
+		this.function = null;
+		this.label = label;
+	}
+
+	/**
+	 * Constructs an aggregate function select item.
+	 *
+	 * @param function Aggregate function
+	 * @param label    Column alias if specified, otherwise the function text
+	 */
+	public SelectItem(AggregateFunction function, String label) {
+		this.attribute = function.getAttribute();
+		this.function = function;
+		this.label = label;
+	}
+
+	/**
+	 * Returns the attribute name. null for <code>count(*)</code>.
+	 */
+	public String getAttribute() {
+		return attribute;
+	}
+
+	/**
+	 * Returns the aggregate function. null if this item is a column.
+	 */
+	public AggregateFunction getFunction() {
+		return function;
+	}
+
+	public boolean isAggregate() {
+		return function != null;
+	}
+
+	/**
+	 * Returns the column label, i.e., the alias if specified.
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+	@Override
+	public String toString() {
+		String item = function == null ? attribute : function.toString();
+		return label.equals(item) ? item : item + " as " + label;
+	}
+}
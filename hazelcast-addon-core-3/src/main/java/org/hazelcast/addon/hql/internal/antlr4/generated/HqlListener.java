@@ -81,6 +81,18 @@ public interface HqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitPrimitive_expression(HqlParser.Primitive_expressionContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code bind_parameter_expression}
+	 * labeled alternative in {@link HqlParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBind_parameter_expression(HqlParser.Bind_parameter_expressionContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code bind_parameter_expression}
+	 * labeled alternative in {@link HqlParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBind_parameter_expression(HqlParser.Bind_parameter_expressionContext ctx);
 	/**
 	 * Enter a parse tree produced by the {@code bracket_expression}
 	 * labeled alternative in {@link HqlParser#expression}.
@@ -117,6 +129,16 @@ public interface HqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitColumn_ref_expression(HqlParser.Column_ref_expressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link HqlParser#bind_parameter}.
+	 * @param ctx the parse tree
+	 */
+	void enterBind_parameter(HqlParser.Bind_parameterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link HqlParser#bind_parameter}.
+	 * @param ctx the parse tree
+	 */
+	void exitBind_parameter(HqlParser.Bind_parameterContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link HqlParser#constant_expression}.
 	 * @param ctx the parse tree
@@ -257,6 +279,16 @@ public interface HqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitSelect_clause(HqlParser.Select_clauseContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link HqlParser#group_by_clause}.
+	 * @param ctx the parse tree
+	 */
+	void enterGroup_by_clause(HqlParser.Group_by_clauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link HqlParser#group_by_clause}.
+	 * @param ctx the parse tree
+	 */
+	void exitGroup_by_clause(HqlParser.Group_by_clauseContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link HqlParser#order_by_clause}.
 	 * @param ctx the parse tree
@@ -277,6 +309,16 @@ public interface HqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitOrder_by_expression(HqlParser.Order_by_expressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link HqlParser#limit_clause}.
+	 * @param ctx the parse tree
+	 */
+	void enterLimit_clause(HqlParser.Limit_clauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link HqlParser#limit_clause}.
+	 * @param ctx the parse tree
+	 */
+	void exitLimit_clause(HqlParser.Limit_clauseContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link HqlParser#select_list}.
 	 * @param ctx the parse tree
@@ -297,6 +339,16 @@ public interface HqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitSelect_list_elem(HqlParser.Select_list_elemContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link HqlParser#aggregate_function}.
+	 * @param ctx the parse tree
+	 */
+	void enterAggregate_function(HqlParser.Aggregate_functionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link HqlParser#aggregate_function}.
+	 * @param ctx the parse tree
+	 */
+	void exitAggregate_function(HqlParser.Aggregate_functionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link HqlParser#from_clause}.
 	 * @param ctx the parse tree
@@ -327,6 +379,26 @@ public interface HqlListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitPath_source(HqlParser.Path_sourceContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link HqlParser#join_clause}.
+	 * @param ctx the parse tree
+	 */
+	void enterJoin_clause(HqlParser.Join_clauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link HqlParser#join_clause}.
+	 * @param ctx the parse tree
+	 */
+	void exitJoin_clause(HqlParser.Join_clauseContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link HqlParser#join_condition}.
+	 * @param ctx the parse tree
+	 */
+	void enterJoin_condition(HqlParser.Join_conditionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link HqlParser#join_condition}.
+	 * @param ctx the parse tree
+	 */
+	void exitJoin_condition(HqlParser.Join_conditionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link HqlParser#path_source_item}.
 	 * @param ctx the parse tree
@@ -54,6 +54,13 @@ public interface HqlVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitPrimitive_expression(HqlParser.Primitive_expressionContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code bind_parameter_expression}
+	 * labeled alternative in {@link HqlParser#expression}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBind_parameter_expression(HqlParser.Bind_parameter_expressionContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code bracket_expression}
 	 * labeled alternative in {@link HqlParser#expression}.
@@ -75,6 +82,12 @@ public interface HqlVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitColumn_ref_expression(HqlParser.Column_ref_expressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link HqlParser#bind_parameter}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBind_parameter(HqlParser.Bind_parameterContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link HqlParser#constant_expression}.
 	 * @param ctx the parse tree
@@ -159,6 +172,12 @@ public interface HqlVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitSelect_clause(HqlParser.Select_clauseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link HqlParser#group_by_clause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGroup_by_clause(HqlParser.Group_by_clauseContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link HqlParser#order_by_clause}.
 	 * @param ctx the parse tree
@@ -171,6 +190,12 @@ public interface HqlVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitOrder_by_expression(HqlParser.Order_by_expressionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link HqlParser#limit_clause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLimit_clause(HqlParser.Limit_clauseContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link HqlParser#select_list}.
 	 * @param ctx the parse tree
@@ -183,6 +208,12 @@ public interface HqlVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitSelect_list_elem(HqlParser.Select_list_elemContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link HqlParser#aggregate_function}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAggregate_function(HqlParser.Aggregate_functionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link HqlParser#from_clause}.
 	 * @param ctx the parse tree
@@ -201,6 +232,18 @@ public interface HqlVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitPath_source(HqlParser.Path_sourceContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link HqlParser#join_clause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitJoin_clause(HqlParser.Join_clauseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link HqlParser#join_condition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitJoin_condition(HqlParser.Join_conditionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link HqlParser#path_source_item}.
 	 * @param ctx the parse tree
@@ -5,7 +5,7 @@ hql_file
     ;
 
 hql_clause
-    : dml_clause
+    : EXPLAIN? dml_clause
     ;
 
 dml_clause
@@ -25,12 +25,18 @@ end_statement
 expression
     : NULL                                                     #primitive_expression
     | constant                                                 #primitive_expression
+    | bind_parameter                                           #bind_parameter_expression
     | full_column_name                                         #column_ref_expression
     | '(' expression ')'                                       #bracket_expression
     | expression op=('*' | '/' | '%') expression               #binary_operator_expression
     | op=('+' | '-') expression                                #unary_operator_expression
     | expression op=('+' | '-' | '&' | '^' | '|') expression   #binary_operator_expression
-    | expression comparison_operator expression                #binary_operator_expression
+    ;
+
+// Bind parameter: positional (?) or named (:name)
+bind_parameter
+    : '?'
+    | ':' id
     ;
 
 constant_expression
@@ -70,9 +76,6 @@ search_condition_not
       
 predicate
     : lhs_expression rhs_expression
-    | lhs_expression rhs_expression
-    | lhs_expression rhs_expression
-    | lhs_expression rhs_expression
     | '(' search_condition ')'
     ;
  
@@ -97,11 +100,17 @@ query_specification
     : select_clause
       from_clause
       where_clause?
+      group_by_clause?
       order_by_clause?
+      limit_clause?
     ;
  
 select_clause
-    : SELECT select_list
+    : SELECT DISTINCT? select_list
+    ;
+
+group_by_clause
+    : GROUP BY full_column_name (',' full_column_name)*
     ;
             
 order_by_clause
@@ -109,17 +118,27 @@ order_by_clause
     ;
     
 order_by_expression
-    : expression (ASC | DESC)?
+    : (aggregate_function | expression) (ASC | DESC)?
+    ;
+
+limit_clause
+    : LIMIT limit=DECIMAL (OFFSET offset=DECIMAL)?
     ;
    
 // https://msdn.microsoft.com/en-us/library/ms176104.aspx
 select_list
-    : select_list_elem
+    : select_list_elem (',' select_list_elem)*
     ;
 
-// select projection not supported    
 select_list_elem
     : '*'
+    | aggregate_function (AS? column_alias)?
+    | full_column_name (AS column_alias)?
+    ;
+
+aggregate_function
+    : COUNT '(' ('*' | DISTINCT? full_column_name) ')'
+    | (SUM | AVG | MIN | MAX) '(' full_column_name ')'
     ;
 
 from_clause
@@ -131,10 +150,19 @@ where_clause
     ;
     
 path_source
-    : path_source_item
+    : path_source_item join_clause?
     | '(' path_source_item ')'
     ;
     
+// Equi-join of two maps
+join_clause
+    : INNER? JOIN path_source_item ON join_condition
+    ;
+    
+join_condition
+    : full_column_name '=' full_column_name
+    ;
+    
 path_source_item
     : path ('.'set_type)? as_path_alias?
     ;
@@ -250,6 +278,7 @@ id
 simple_id
     : ID
     | ABSOLUTE
+    | AVG
     | COUNT
     | COUNT_BIG
     | MAX
@@ -263,17 +292,17 @@ simple_id
     | keywordsCanBeId
     ;
  
-// ASC and DESC are left out in the keywordsCanBeId list.
+// ASC, DESC, INNER, JOIN, LIMIT, OFFSET, ON, and NOT are left out in the keywordsCanBeId list.
 // These keys are not allowed in simple_id.    
 keywordsCanBeId
     : AND | AS | BETWEEN | BY
     | DELETE | DISTINCT | DOUBLE
-    | ENTRIES | FROM | ILIKE | IN
-    | KEY | KEYS | LIKE | NOT | NULL | NVL
+    | ENTRIES | EXPLAIN | FROM | ILIKE | IN
+    | KEY | KEYS | LIKE | NULL | NVL
     | OR | ORDER | REGEX
     | SET | SELECT
     | VALUE | VALUES | WHERE
-    | ABSOLUTE | COUNT | COUNT_BIG | LTRIM 
+    | ABSOLUTE | AVG | COUNT | COUNT_BIG | LTRIM 
     | MAX | MIN | NUMBER
     | PARTITION | PATH
     | RTRIM
@@ -298,15 +327,22 @@ DESC:                            D E S C;
 DISTINCT:                        D I S T I N C T;
 DOUBLE:                          D O U B L E;
 ENTRIES:                         E N T R I E S;
+EXPLAIN:                         E X P L A I N;
 FROM:                            F R O M;
+GROUP:                           G R O U P;
 ILIKE:                           I L I K E;
 IN:                              I N;
+INNER:                           I N N E R;
+JOIN:                            J O I N;
 KEY:                             K E Y;
 KEYS:                            K E Y S;
 LIKE:                            L I K E;
+LIMIT:                           L I M I T;
 NOT:                             N O T;
 NULL:                            N U L L;
 NVL:                             N V L;
+OFFSET:                          O F F S E T;
+ON:                              O N;
 OR:                              O R;
 ORDER:                           O R D E R;
 REGEX:                           R E G E X;
@@ -319,6 +355,7 @@ WHERE:                           W H E R E;
 
 // Additional keywords (they can be id).
 ABSOLUTE:                        A B S O L U T E;
+AVG:                             A V G;
 COUNT:                           C O U N T;
 COUNT_BIG:                       C O U N T '_' B I G;
 LTRIM:                           L T R I M;
@@ -383,6 +420,7 @@ RR_BRACKET:          ')';
 COMMA:               ',';
 SEMI:                ';';
 COLON:               ':';
+QUESTION:            '?';
 STAR:                '*';
 DIVIDE:              '/';
 MODULE:              '%';
@@ -0,0 +1,133 @@
+package org.hazelcast.addon.test.cluster.junit;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.hazelcast.addon.cluster.MapStorePkDbImpl;
+import org.hazelcast.addon.cluster.util.HibernatePool;
+import org.hazelcast.demo.nw.data.Order;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+
+/**
+ * Tests the delta loads of {@link MapStorePkDbImpl} with the orders table. It
+ * starts a standalone member and requires the database configured in the
+ * Hibernate configuration file set by the system property
+ * "hazelcast-addon.hibernate.config".
+ *
+ * @author dpark
+ *
+ */
+public class MapStoreDeltaTest {
+	private static final String MAP_NAME = "nw/delta_orders";
+	private static final String KEY_PREFIX = "DeltaTest-";
+	private static final int LOAD_BATCH_SIZE = 10;
+
+	private static HazelcastInstance hz;
+	private static MapStorePkDbImpl<String, Order> mapStore;
+	private static List<String> keyList = new ArrayList<String>();
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		mapStore = new MapStorePkDbImpl<String, Order>();
+		MapStoreConfig mapStoreConfig = new MapStoreConfig();
+		mapStoreConfig.setEnabled(true);
+		mapStoreConfig.setImplementation(mapStore);
+		mapStoreConfig.setInitialLoadMode(MapStoreConfig.InitialLoadMode.EAGER);
+		mapStoreConfig.setProperties(createProperties());
+		Config config = new Config();
+		config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+		config.getMapConfig(MAP_NAME).setMapStoreConfig(mapStoreConfig);
+		hz = Hazelcast.newHazelcastInstance(config);
+		// The initial load initializes the watermark
+		hz.getMap(MAP_NAME);
+	}
+
+	private static Properties createProperties() {
+		Properties properties = new Properties();
+		properties.setProperty("entity.class", "org.hazelcast.demo.nw.data.Order");
+		properties.setProperty("entity.load.limit", "1");
+		properties.setProperty("entity.load.batch.size", Integer.toString(LOAD_BATCH_SIZE));
+		properties.setProperty("entity.delta.column", "shippedDate");
+		properties.setProperty("entity.delta.interval", "0");
+		return properties;
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			Transaction transaction = session.beginTransaction();
+			for (String key : keyList) {
+				Order order = session.get(Order.class, key);
+				if (order != null) {
+					session.delete(order);
+				}
+			}
+			transaction.commit();
+		}
+		Hazelcast.shutdownAll();
+	}
+
+	private static void saveOrders(int from, int to, Date shippedDate) throws InterruptedException {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			Transaction transaction = session.beginTransaction();
+			for (int i = from; i < to; i++) {
+				Order order = new Order();
+				order.setOrderId(KEY_PREFIX + i);
+				order.setCustomerId("DeltaTest");
+				order.setShippedDate(shippedDate);
+				session.saveOrUpdate(order);
+				if (keyList.contains(order.getOrderId()) == false) {
+					keyList.add(order.getOrderId());
+				}
+			}
+			transaction.commit();
+		}
+	}
+
+	@Test
+	public void testDeltaLoad() throws Exception {
+		IMap<String, Order> map = hz.getMap(MAP_NAME);
+
+		Assert.assertEquals(0, mapStore.loadDelta());
+		Date watermark = (Date) mapStore.getDeltaWatermark();
+		Assert.assertNotNull(watermark);
+		Date shippedDate = new Date(watermark.getTime() + 86400000L);
+
+		// More rows share the same value than the batch size
+		int tieCount = LOAD_BATCH_SIZE * 3 + 5;
+		saveOrders(0, tieCount, shippedDate);
+		Date lastShippedDate = new Date(shippedDate.getTime() + 1000);
+		saveOrders(tieCount, tieCount + 3, lastShippedDate);
+		Assert.assertEquals(tieCount + 3, mapStore.loadDelta());
+		Set<String> localKeySet = map.localKeySet();
+		for (String key : keyList) {
+			Assert.assertTrue(key, localKeySet.contains(key));
+		}
+		Assert.assertEquals(lastShippedDate.getTime(), ((Date) mapStore.getDeltaWatermark()).getTime());
+		Assert.assertEquals(0, mapStore.loadDelta());
+
+		// Another MapStore, e.g., on the member that takes over the delta loads,
+		// continues from the watermark in the watermark map.
+		MapStorePkDbImpl<String, Order> mapStore2 = new MapStorePkDbImpl<String, Order>();
+		mapStore2.init(hz, createProperties(), MAP_NAME);
+		Assert.assertEquals(lastShippedDate.getTime(), ((Date) mapStore2.getDeltaWatermark()).getTime());
+		saveOrders(0, 2, new Date(lastShippedDate.getTime() + 1000));
+		Assert.assertEquals(2, mapStore2.loadDelta());
+	}
+}
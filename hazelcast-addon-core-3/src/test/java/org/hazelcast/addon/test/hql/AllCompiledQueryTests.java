@@ -28,8 +28,12 @@ import org.junit.runners.Suite.SuiteClasses;
  *
  */
 @RunWith(Suite.class)
-@SuiteClasses({ AliasTest.class, AndOrTest.class, BetweenTest.class, EntriesTest.class, EqualityTest.class,
-		InTest.class, LikeTest.class, KeysTest.class, MiscTest.class, RegexTest.class, UndefinedMapTest.class, ValuesTest.class })
+@SuiteClasses({ AggregateTest.class, AliasTest.class, AndOrTest.class, AsyncTest.class, BetweenTest.class,
+		BindParameterTest.class, CountTest.class, EntriesTest.class, EqualityTest.class, ExplainTest.class,
+		ExportTest.class, IndexAdvisorTest.class, InTest.class, JoinTest.class, LikeTest.class, LimitTest.class,
+		KeysTest.class, MetricsTest.class, MiscTest.class, NotTest.class, ProjectionTest.class, RegexTest.class,
+		ResultCacheTest.class, ScanTest.class, StreamTest.class, SubscriptionTest.class, UndefinedMapTest.class,
+		ValuesTest.class })
 public class AllCompiledQueryTests {
 
 }
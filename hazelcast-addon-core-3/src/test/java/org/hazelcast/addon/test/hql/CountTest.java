@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701).
+ * 
+ * @author dpark
+ *
+ */
+public class CountTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Order> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		HazelcastClient.shutdownAll();
+	}
+
+	@Test
+	public void testTotalSize() throws HqlException {
+		String query = "select * from nw/orders where freight < ? order by freight";
+		IPageResults<Order> results = hql.execute(query, 10, 100);
+		long totalSize = results.stream().count();
+		Assert.assertEquals(totalSize, results.getTotalSize());
+
+		HqlQuery<Order> hql = HqlQuery.newHqlQueryInstance(hz);
+		hql.setTotalCountEnabled(true);
+		results = hql.execute(query, 10, 100);
+		Assert.assertEquals(totalSize, results.getTotalSize());
+		while (results.nextPage()) {
+		}
+		Assert.assertEquals(totalSize, results.getVisitedTotalSize());
+	}
+
+	@Test
+	public void testTotalSizeAll() throws HqlException {
+		IPageResults<Order> results = hql.execute("select * from nw/orders", 10);
+		Assert.assertEquals(hz.getMap("nw/orders").size(), results.getTotalSize());
+	}
+
+	@Test
+	public void testTotalSizeLimit() throws HqlException {
+		IPageResults<Order> results = hql.execute("select * from nw/orders order by freight limit 15", 10);
+		Assert.assertEquals(Math.min(15, hz.getMap("nw/orders").size()), results.getTotalSize());
+	}
+
+	@Test
+	public void testCountOnly() throws HqlException {
+		IPageResults<Object[]> results = HqlQuery.<Object[]>newHqlQueryInstance(hz)
+				.execute("select count(*) from nw/orders", 10);
+		Assert.assertEquals(1, results.getTotalSize());
+		Assert.assertEquals((long) hz.getMap("nw/orders").size(), results.getResults().iterator().next()[0]);
+
+		long count = hql.execute("select * from nw/orders where freight < 10", 10).stream().count();
+		results = HqlQuery.<Object[]>newHqlQueryInstance(hz).execute("select count(*) from nw/orders where freight < 10",
+				10);
+		Assert.assertEquals(count, results.getResults().iterator().next()[0]);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.ExportFormat;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701).
+ *
+ * @author dpark
+ *
+ */
+public class ExportTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Object> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+		IMap<String, Order> map = hz.getMap("nw/orders");
+		Order order = new Order();
+		order.setOrderId("ExportTest1");
+		order.setCustomerId("Export,\"Test\"");
+		order.setFreight(10);
+		map.set(order.getOrderId(), order);
+		order.setOrderId("ExportTest2");
+		order.setFreight(20);
+		map.set(order.getOrderId(), order);
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		IMap<String, Order> map = hz.getMap("nw/orders");
+		map.remove("ExportTest1");
+		map.remove("ExportTest2");
+		HazelcastClient.shutdownAll();
+	}
+
+	private List<String> export(String query, ExportFormat format) throws HqlException, IOException {
+		Path path = Files.createTempFile("ExportTest", format == ExportFormat.CSV ? ".csv" : ".json");
+		try {
+			long count = hql.export(query, path, format, "Export,\"Test\"");
+			List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+			lines.forEach(line -> System.out.println(line));
+			Assert.assertEquals(2, count);
+			return lines;
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void testCsv() throws HqlException, IOException {
+		List<String> lines = export("select orderId, customerId, freight from nw/orders where customerId=? order by freight",
+				ExportFormat.CSV);
+		Assert.assertEquals(3, lines.size());
+		Assert.assertEquals("orderId,customerId,freight", lines.get(0));
+		Assert.assertEquals("ExportTest1,\"Export,\"\"Test\"\"\",10.0", lines.get(1));
+		Assert.assertEquals("ExportTest2,\"Export,\"\"Test\"\"\",20.0", lines.get(2));
+	}
+
+	@Test
+	public void testJson() throws HqlException, IOException {
+		List<String> lines = export("select * from nw/orders where customerId=? order by freight desc",
+				ExportFormat.JSON);
+		Assert.assertEquals(2, lines.size());
+		Assert.assertTrue(lines.get(0).startsWith("{"));
+		Assert.assertTrue(lines.get(0).contains("\"orderId\":\"ExportTest2\""));
+		Assert.assertTrue(lines.get(0).contains("\"customerId\":\"Export,\\\"Test\\\"\""));
+		Assert.assertTrue(lines.get(0).contains("\"freight\":20.0"));
+		Assert.assertFalse(lines.get(0).contains("classId"));
+	}
+
+	@Test
+	public void testEntries() throws HqlException, IOException {
+		List<String> lines = export("select * from nw/orders.entries e where e.value.customerId=?", ExportFormat.CSV);
+		Assert.assertTrue(lines.get(0).startsWith("key,"));
+		Assert.assertTrue(lines.get(1).startsWith("ExportTest"));
+	}
+}
@@ -0,0 +1,160 @@
+package org.hazelcast.addon.test.jmh;
+
+import java.lang.reflect.Method;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hazelcast.addon.hql.data.OrderBy;
+import org.hazelcast.addon.hql.data.OrderByField;
+import org.hazelcast.addon.hql.impl.SearchType;
+import org.hazelcast.demo.nw.data.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * OrderByBenchmark compares sorting {@link Order} entries with {@link OrderBy}
+ * against the reflection-based comparator it replaced. The "order by" fields
+ * are a String (customerId), a double (freight), and a Date (orderDate).
+ * <p>
+ * Run from the module directory after building the test classes:
+ *
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes:$(cat classpath.txt) org.hazelcast.addon.test.jmh.OrderByBenchmark
+ * </pre>
+ *
+ * where classpath.txt is generated by
+ * <code>mvn dependency:build-classpath -Dmdep.outputFile=classpath.txt</code>.
+ *
+ * @author dpark
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class OrderByBenchmark {
+
+	@Param({ "100000" })
+	int entryCount;
+
+	@Param({ "customerId", "freight", "customerId,freight,orderDate" })
+	String fields;
+
+	private List<Map.Entry<String, Order>> entryList;
+	private OrderBy orderBy;
+	private ReflectionOrderBy reflectionOrderBy;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(17);
+		entryList = new ArrayList<Map.Entry<String, Order>>(entryCount);
+		for (int i = 0; i < entryCount; i++) {
+			Order order = new Order();
+			order.setOrderId("k" + i);
+			order.setCustomerId("C" + random.nextInt(1000));
+			order.setFreight(random.nextInt(10000) / 10d);
+			order.setOrderDate(new Date(random.nextInt(1000000) * 1000L));
+			entryList.add(new AbstractMap.SimpleEntry<String, Order>(order.getOrderId(), order));
+		}
+		String[] fieldNames = fields.split(",");
+		OrderByField[] orderByFields = new OrderByField[fieldNames.length];
+		for (int i = 0; i < fieldNames.length; i++) {
+			orderByFields[i] = new OrderByField(fieldNames[i], SearchType.VALUE_FIELD, true);
+		}
+		orderBy = new OrderBy(orderByFields);
+		reflectionOrderBy = new ReflectionOrderBy(fieldNames);
+	}
+
+	@Benchmark
+	public List<Map.Entry<String, Order>> sortWithAccessors() {
+		List<Map.Entry<String, Order>> list = new ArrayList<Map.Entry<String, Order>>(entryList);
+		Collections.sort(list, orderBy);
+		return list;
+	}
+
+	@Benchmark
+	public List<Map.Entry<String, Order>> sortWithReflection() {
+		List<Map.Entry<String, Order>> list = new ArrayList<Map.Entry<String, Order>>(entryList);
+		Collections.sort(list, reflectionOrderBy);
+		return list;
+	}
+
+	/**
+	 * The reflection-based value field comparator used by OrderBy prior to
+	 * FieldAccessor. It looks up the getter method for every comparison.
+	 */
+	static class ReflectionOrderBy implements Comparator<Map.Entry> {
+		private final String[] fieldNames;
+
+		ReflectionOrderBy(String[] fieldNames) {
+			this.fieldNames = fieldNames;
+		}
+
+		@Override
+		public int compare(Map.Entry e1, Map.Entry e2) {
+			for (String fieldName : fieldNames) {
+				int c = compareField(e1.getValue(), e2.getValue(), fieldName);
+				if (c != 0) {
+					return c;
+				}
+			}
+			return 0;
+		}
+
+		private int compareField(Object v1, Object v2, String fieldName) {
+			Method method = null;
+			try {
+				method = v1.getClass().getMethod("get" + fieldName);
+			} catch (Exception e) {
+				// ignores
+			}
+			try {
+				if (method == null) {
+					method = v1.getClass().getMethod(
+							"get" + Character.toString(fieldName.charAt(0)).toUpperCase() + fieldName.substring(1));
+				}
+				Object o1 = method.invoke(v1);
+				Object o2 = method.invoke(v2);
+				if (o1 == null) {
+					return -1;
+				}
+				if (o2 == null) {
+					return 1;
+				}
+				return ((Comparable) o1).compareTo(o2);
+			} catch (Exception e) {
+				// ignore
+			}
+			return 0;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(OrderByBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
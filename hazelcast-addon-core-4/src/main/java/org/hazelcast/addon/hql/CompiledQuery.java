@@ -18,27 +18,109 @@ package org.hazelcast.addon.hql;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.hazelcast.addon.exception.HqlException;
 import org.hazelcast.addon.hql.data.OrderBy;
+import org.hazelcast.addon.hql.impl.AggregateFunction;
+import org.hazelcast.addon.hql.impl.GroupByAggregator;
 import org.hazelcast.addon.hql.impl.HqlContext;
 import org.hazelcast.addon.hql.impl.HqlEvalDriver;
+import org.hazelcast.addon.hql.impl.HqlMetrics;
+import org.hazelcast.addon.hql.impl.IndexAdvisor;
+import org.hazelcast.addon.hql.impl.IndexInfo;
+import org.hazelcast.addon.hql.impl.JoinQuery;
+import org.hazelcast.addon.hql.impl.ListPageResultsImpl;
+import org.hazelcast.addon.hql.impl.MapIndexTask;
 import org.hazelcast.addon.hql.impl.PageResultsImpl;
+import org.hazelcast.addon.hql.impl.PredicatePlan;
+import org.hazelcast.addon.hql.impl.QueryMetrics;
+import org.hazelcast.addon.hql.impl.ResultCache;
+import org.hazelcast.addon.hql.impl.ResultExporter;
+import org.hazelcast.addon.hql.impl.ResultIterator;
+import org.hazelcast.addon.hql.impl.RowPageResultsImpl;
+import org.hazelcast.addon.hql.impl.ScanIterator;
 import org.hazelcast.addon.hql.impl.SearchType;
+import org.hazelcast.addon.hql.impl.SelectItem;
+import org.hazelcast.addon.hql.impl.SubscriptionImpl;
+import org.hazelcast.addon.hql.impl.TopKAggregator;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
-import com.hazelcast.query.impl.predicates.SqlPredicate;
 
 /**
  * CompiledQuery compiles the query string before it can be explicitly executed
  * by invoking the {@link #execute()} method. This class is useful when queries
  * need be be validated before executing them.
+ * <p>
+ * A CompiledQuery is immutable and can be executed any number of times by
+ * multiple threads. Each execution creates its own {@link PagingPredicate}. If
+ * the where clause contains bind parameters, i.e., positional (<code>?</code>)
+ * or named (<code>:name</code>), then their values must be supplied by
+ * {@link #execute(Object...)} or {@link #execute(Map)}.
+ * <p>
+ * If the select list contains columns, aggregate functions, distinct, or group
+ * by, then the result set contains rows of select list values
+ * ({@link ResultType#ROWS}). A column list without aggregate functions is
+ * executed by a single {@link IMap#project} call so that only the selected
+ * column values are returned by the members. All others are executed by a
+ * single {@link IMap#aggregate} call.
+ * <p>
+ * If the query has the limit clause, then the members return only the first
+ * <code>offset + limit</code> results by {@link TopKAggregator}, and the client
+ * skips the offset results. The limited result set is held in the client.
+ * <p>
+ * If the from clause joins another map, then the query is a row query executed
+ * by {@link JoinQuery} as a hash join on the members. Distinct, order by, and
+ * the limit range are applied in the client. See {@link HqlQuery} for the join
+ * syntax.
+ * <p>
+ * If the query is prefixed with <code>explain</code>, then the query is not
+ * executed. Instead, the <code>execute</code>, <code>stream</code>, and
+ * <code>scan</code> methods return the lines of the {@link QueryPlan} as rows
+ * with the single column "plan". See {@link #explain()}.
+ * <p>
+ * The <code>executeAsync</code> methods run the query on the executor of the
+ * {@link HqlQuery} that compiled it. See {@link HqlQuery#getExecutor()}. If
+ * the result cache of the {@link HqlQuery} is enabled, then the
+ * <code>execute</code> methods return the cached result set. See
+ * {@link HqlQuery#enableResultCache(int, long, java.util.concurrent.TimeUnit)}.
+ * The <code>export</code> methods stream the entire result set to a file or
+ * channel in CSV or newline-delimited JSON. See
+ * {@link #export(WritableByteChannel, ExportFormat, Object...)}.
+ * The <code>subscribe</code> methods register the query as a continuous query
+ * that delivers the changes to its result set. See
+ * {@link #subscribe(ResultListener, Object...)}.
+ * If the index advisor of the {@link HqlQuery} is enabled, then each query
+ * executed on the members is recorded with its latency. See
+ * {@link HqlQuery#enableIndexAdvisor()}. If the metrics of the
+ * {@link HqlQuery} are enabled, then the compile time, the execute time, and
+ * the page fetch times of the <code>execute</code> methods are recorded per
+ * query shape. See {@link HqlQuery#enableMetrics()}.
  * 
  * @author dpark
  *
@@ -46,29 +128,58 @@ import com.hazelcast.query.impl.predicates.SqlPredicate;
  */
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class CompiledQuery<T> {
+	HqlQuery<T> hqlQuery;
 	HazelcastInstance hz;
-	PagingPredicate pagingPredicate;
 	HqlContext hqlContext;
+	// Normalized query string that identifies the query shape
+	String queryString;
+	OrderBy orderBy;
+	// null if the query has no order-by clause
+	Comparator<Map.Entry> comparator;
+	int fetchSize;
+
+	// null if the where clause contains bind parameters or the query is a join
+	Predicate queryPredicate;
+
+	// Row query fields. groupAttributes is null if the query is not a row query.
+	String[] groupAttributes;
+	AggregateFunction[] functions;
+	// Select list index to the aggregated row index
+	int[] rowIndexes;
+	// non-null if the select list contains only columns
+	String[] projectionAttributes;
+
+	// null if the from clause has no join
+	JoinQuery joinQuery;
+	// null if the from clause has no join or the where clause contains bind
+	// parameters
+	JoinQuery.JoinPredicates joinPredicates;
+
+	// Attribute usage recorded by the index advisor. null for joins.
+	IndexAdvisor.QueryUsage queryUsage;
 
 	/**
 	 * Constructs a CompiledQuery object with the specified query string. The fetch
 	 * size defaults to 100.
 	 * 
-	 * @param hz    Hazelcast instance
-	 * @param query HQL query string
+	 * @param hqlQuery HqlQuery that compiled this query
+	 * @param hz       Hazelcast instance
+	 * @param query    HQL query string
 	 */
-	CompiledQuery(HazelcastInstance hz, String query) {
-		this(hz, query, 100);
+	CompiledQuery(HqlQuery<T> hqlQuery, HazelcastInstance hz, String query) {
+		this(hqlQuery, hz, query, 100);
 	}
 
 	/**
 	 * Constructs a CompiledQuery object with the specified query string.
 	 * 
+	 * @param hqlQuery  HqlQuery that compiled this query
 	 * @param hz        Hazelcast instance
 	 * @param query     HQL query string
 	 * @param fetchSize Result set page size
 	 */
-	CompiledQuery(HazelcastInstance hz, String query, int fetchSize) {
+	CompiledQuery(HqlQuery<T> hqlQuery, HazelcastInstance hz, String query, int fetchSize) {
+		this.hqlQuery = hqlQuery;
 		this.hz = hz;
 		HqlEvalDriver driver = new HqlEvalDriver(query);
 		init(driver, fetchSize);
@@ -78,24 +189,27 @@ public class CompiledQuery<T> {
 	 * Constructs a CompiledQuery object with the query text read from the specified
 	 * path. The fetch size defaults to 100.
 	 * 
-	 * @param hz   Hazelcast instance
-	 * @param path File containing HQL query string
+	 * @param hqlQuery HqlQuery that compiled this query
+	 * @param hz       Hazelcast instance
+	 * @param path     File containing HQL query string
 	 * @throws IOException Thrown if the specified path is invalid
 	 */
-	CompiledQuery(HazelcastInstance hz, Path path) throws IOException {
-		this(hz, path, 100);
+	CompiledQuery(HqlQuery<T> hqlQuery, HazelcastInstance hz, Path path) throws IOException {
+		this(hqlQuery, hz, path, 100);
 	}
 
 	/**
 	 * Constructs a CompiledQuery object with the query text read from the specified
 	 * path.
 	 * 
+	 * @param hqlQuery  HqlQuery that compiled this query
 	 * @param hz        Hazelcast instance
 	 * @param path      File containing HQL query string
 	 * @param fetchSize Result set page size
 	 * @throws IOException Thrown if the specified path is invalid
 	 */
-	CompiledQuery(HazelcastInstance hz, Path path, int fetchSize) throws IOException {
+	CompiledQuery(HqlQuery<T> hqlQuery, HazelcastInstance hz, Path path, int fetchSize) throws IOException {
+		this.hqlQuery = hqlQuery;
 		this.hz = hz;
 		HqlEvalDriver driver = new HqlEvalDriver(path);
 		init(driver, fetchSize);
@@ -105,54 +219,369 @@ public class CompiledQuery<T> {
 	 * Constructs a CompiledQuery object with the query text read from the specified
 	 * input stream. The fetch size defaults to 100.
 	 * 
-	 * @param hz Hazelcast instance
-	 * @param is Input stream providing HQL query
+	 * @param hqlQuery HqlQuery that compiled this query
+	 * @param hz       Hazelcast instance
+	 * @param is       Input stream providing HQL query
 	 * @throws IOException Thrown if the specified input stream is invalid
 	 */
-	CompiledQuery(HazelcastInstance hz, InputStream is) throws IOException {
-		this(hz, is, 100);
+	CompiledQuery(HqlQuery<T> hqlQuery, HazelcastInstance hz, InputStream is) throws IOException {
+		this(hqlQuery, hz, is, 100);
 	}
 
 	/**
 	 * Constructs a CompiledQuery object with the query text read from the specified
 	 * input stream.
 	 * 
-	 * @param hz Hazelcast instance
-	 * @param is Input stream providing HQL query
+	 * @param hqlQuery HqlQuery that compiled this query
+	 * @param hz       Hazelcast instance
+	 * @param is       Input stream providing HQL query
 	 * @param fetchSize Result set page size
 	 * @throws IOException Thrown if the specified input stream is invalid
 	 */
-	CompiledQuery(HazelcastInstance hz, InputStream is, int fetchSize) throws IOException {
+	CompiledQuery(HqlQuery<T> hqlQuery, HazelcastInstance hz, InputStream is, int fetchSize) throws IOException {
+		this.hqlQuery = hqlQuery;
 		this.hz = hz;
 		HqlEvalDriver driver = new HqlEvalDriver(is);
 		init(driver, fetchSize);
 	}
 
 	private void init(HqlEvalDriver driver, int fetchSize) {
+		long startTime = System.nanoTime();
 		driver.execute();
 		hqlContext = driver.getHqlContext();
-		Predicate queryPredicate;
-		if (hqlContext.isWhereClause()) {
-			queryPredicate = new SqlPredicate(hqlContext.getWhereClause());
-		} else {
-			queryPredicate = Predicates.alwaysTrue();
+		queryString = HqlQuery.normalize(driver.getQueryString());
+		this.fetchSize = fetchSize;
+		if (hqlContext.isJoin()) {
+			joinQuery = new JoinQuery(hqlContext);
+		}
+		if (hqlContext.isParameterized() == false) {
+			if (joinQuery == null) {
+				queryPredicate = createQueryPredicate(null, null);
+			} else {
+				joinPredicates = joinQuery.createPredicates(null, null);
+			}
 		}
-		OrderBy orderBy = hqlContext.getOrderBy();
+		orderBy = hqlContext.getOrderBy();
 		if (orderBy == null || orderBy.getFieldList() == null || orderBy.getFieldList().size() == 0) {
 			orderBy = new OrderBy();
 			// Add a null field so that PagingPredicate works for the objects that do not
 			// implement Comparable.
 			orderBy.addField(null, SearchType.VALUE_FIELD, false);
+		} else {
+			comparator = orderBy;
+		}
+		if (hqlContext.isRowQuery()) {
+			initRowQuery();
+		}
+		if (joinQuery == null) {
+			queryUsage = IndexAdvisor.createUsage(hqlContext);
+		}
+		HqlMetrics metrics = hqlQuery.getMetrics();
+		if (metrics != null) {
+			metrics.recordCompile(metrics.getQueryMetrics(queryString), System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Determines the group attributes and aggregate functions to compute, and the
+	 * location of each select list item in the aggregated rows. The aggregated
+	 * rows contain the group attribute values followed by the function results.
+	 * Distinct without group by groups by the select list columns. A column list
+	 * without aggregate functions, distinct, or group by is projected instead.
+	 */
+	private void initRowQuery() {
+		List<SelectItem> selectItems = hqlContext.getSelectItems();
+		if (hqlContext.isAggregate() == false && hqlContext.isDistinct() == false
+				&& hqlContext.getGroupByAttributes().isEmpty()) {
+			projectionAttributes = new String[selectItems.size()];
+			for (int i = 0; i < projectionAttributes.length; i++) {
+				projectionAttributes[i] = selectItems.get(i).getAttribute();
+			}
+			groupAttributes = new String[0];
+			return;
+		}
+		List<String> groupList = new ArrayList<String>(hqlContext.getGroupByAttributes());
+		if (groupList.isEmpty() && hqlContext.isDistinct()) {
+			for (SelectItem item : selectItems) {
+				if (item.isAggregate() == false && groupList.contains(item.getAttribute()) == false) {
+					groupList.add(item.getAttribute());
+				}
+			}
+		}
+		List<AggregateFunction> functionList = new ArrayList<AggregateFunction>(selectItems.size());
+		rowIndexes = new int[selectItems.size()];
+		for (int i = 0; i < rowIndexes.length; i++) {
+			SelectItem item = selectItems.get(i);
+			if (item.isAggregate()) {
+				rowIndexes[i] = groupList.size() + functionList.size();
+				functionList.add(item.getFunction());
+			} else {
+				rowIndexes[i] = groupList.indexOf(item.getAttribute());
+			}
+		}
+		groupAttributes = groupList.toArray(new String[groupList.size()]);
+		functions = functionList.toArray(new AggregateFunction[functionList.size()]);
+	}
+
+	/**
+	 * Creates the native query predicate from the where clause predicate tree.
+	 * Returns null if the query is a join.
+	 * 
+	 * @param positionalValues Positional parameter values. null if none.
+	 * @param namedValues      Named parameter values. null if none.
+	 */
+	private Predicate createQueryPredicate(Object[] positionalValues, Map<String, ?> namedValues) {
+		if (joinQuery != null) {
+			return null;
+		}
+		if (hqlContext.isWhereClause() == false) {
+			return Predicates.alwaysTrue();
+		}
+		checkParameterCount(positionalValues);
+		return hqlContext.getWherePredicate().toPredicate(positionalValues, namedValues);
+	}
+
+	/**
+	 * Returns the left and right map predicates of the join query with the
+	 * specified bind parameter values. Returns the predicates created at compile
+	 * time if the query does not contain bind parameters.
+	 * 
+	 * @param positionalValues Positional parameter values. null if none.
+	 * @param namedValues      Named parameter values. null if none.
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 */
+	private JoinQuery.JoinPredicates getJoinPredicates(Object[] positionalValues, Map<String, ?> namedValues) {
+		if (hqlContext.isParameterized() == false) {
+			if (positionalValues != null && positionalValues.length > 0) {
+				throw new HqlException("Invalid query: Query does not contain bind parameters ["
+						+ hqlContext.getWhereClause() + "]");
+			}
+			return joinPredicates;
+		}
+		if (positionalValues == null && namedValues == null) {
+			throw new HqlException("Invalid query: Bind parameter values not provided [" + hqlContext.getWhereClause()
+					+ "]");
 		}
-		pagingPredicate = new PagingPredicateImpl(queryPredicate, orderBy, fetchSize);
+		checkParameterCount(positionalValues);
+		return joinQuery.createPredicates(positionalValues, namedValues);
+	}
 
+	private void checkParameterCount(Object[] positionalValues) {
+		int count = hqlContext.getPositionalParameterCount();
+		if (positionalValues != null && positionalValues.length > count) {
+			throw new HqlException("Invalid query: Too many bind parameter values. Expected " + count + ", received "
+					+ positionalValues.length);
+		}
 	}
 
 	/**
 	 * Executes the compiled query and returns the result set.
+	 * 
+	 * @throws HqlException Thrown if the query contains bind parameters
 	 */
-	public IPageResults<T> execute() {
+	public IPageResults<T> execute() throws HqlException {
+		if (hqlContext.isExplain()) {
+			return explainResults();
+		}
+		if (joinQuery != null) {
+			return executeJoin(getJoinPredicates(null, null));
+		}
+		if (queryPredicate == null) {
+			throw new HqlException("Invalid query: Bind parameter values not provided [" + hqlContext.getWhereClause()
+					+ "]");
+		}
+		return execute(queryPredicate, null);
+	}
+
+	/**
+	 * Executes the compiled query with the specified positional bind parameter
+	 * values and returns the result set.
+	 * 
+	 * @param params Values of the positional parameters (<code>?</code>) in the
+	 *               order they appear in the where clause
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 */
+	public IPageResults<T> execute(Object... params) throws HqlException {
+		if (hqlContext.isExplain()) {
+			return explainResults();
+		}
+		if (joinQuery != null) {
+			return executeJoin(getJoinPredicates(params, null));
+		}
+		if (hqlContext.isParameterized() == false) {
+			if (params != null && params.length > 0) {
+				throw new HqlException("Invalid query: Query does not contain bind parameters ["
+						+ hqlContext.getWhereClause() + "]");
+			}
+			return execute(queryPredicate, null);
+		}
+		return execute(createQueryPredicate(params, null), params);
+	}
+
+	/**
+	 * Executes the compiled query with the specified named bind parameter values
+	 * and returns the result set.
+	 * 
+	 * @param params Map of parameter names (without the prefix ':') and values
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 */
+	public IPageResults<T> execute(Map<String, ?> params) throws HqlException {
+		if (hqlContext.isExplain()) {
+			return explainResults();
+		}
+		if (joinQuery != null) {
+			return executeJoin(getJoinPredicates(null, params));
+		}
+		if (hqlContext.isParameterized() == false) {
+			return execute();
+		}
+		return execute(createQueryPredicate(null, params), params);
+	}
+
+	/**
+	 * Asynchronously executes the compiled query. The returned stage completes
+	 * exceptionally with {@link HqlException} if the query contains bind
+	 * parameters.
+	 */
+	public CompletionStage<IPageResults<T>> executeAsync() {
+		return CompletableFuture.supplyAsync(() -> execute(), hqlQuery.getExecutor());
+	}
+
+	/**
+	 * Asynchronously executes the compiled query with the specified positional
+	 * bind parameter values. The returned stage completes exceptionally with
+	 * {@link HqlException} if the parameter values do not match the query.
+	 * 
+	 * @param params Values of the positional parameters (<code>?</code>) in the
+	 *               order they appear in the where clause
+	 */
+	public CompletionStage<IPageResults<T>> executeAsync(Object... params) {
+		return CompletableFuture.supplyAsync(() -> execute(params), hqlQuery.getExecutor());
+	}
+
+	/**
+	 * Asynchronously executes the compiled query with the specified named bind
+	 * parameter values. The returned stage completes exceptionally with
+	 * {@link HqlException} if the parameter values do not match the query.
+	 * 
+	 * @param params Map of parameter names (without the prefix ':') and values
+	 */
+	public CompletionStage<IPageResults<T>> executeAsync(Map<String, ?> params) {
+		return CompletableFuture.supplyAsync(() -> execute(params), hqlQuery.getExecutor());
+	}
+
+	/**
+	 * Returns the cached result set if the result cache is enabled, otherwise
+	 * executes the query.
+	 * 
+	 * @param queryPredicate Query predicate
+	 * @param params         Bind parameter values. null if none.
+	 */
+	private IPageResults<T> execute(Predicate queryPredicate, Object params) {
+		ResultCache resultCache = hqlQuery.getResultCache();
+		if (resultCache == null) {
+			return execute(queryPredicate);
+		}
+		ResultCache.Key key = ResultCache.createKey(this, params);
+		List<T> list = resultCache.get(key);
+		if (list == null) {
+			String mapName = hqlContext.getPath();
+			long version = resultCache.getVersion(mapName);
+			long startTime = System.nanoTime();
+			list = Collections.unmodifiableList(queryStream(queryPredicate).collect(Collectors.toList()));
+			long elapsedNanos = System.nanoTime() - startTime;
+			recordUsage(elapsedNanos);
+			recordMetrics(list, elapsedNanos);
+			resultCache.put(key, mapName, version, list);
+		}
+		if (groupAttributes != null) {
+			return (IPageResults<T>) new RowPageResultsImpl((List<Object[]>) list, hqlContext.getColumnLabels(),
+					fetchSize);
+		}
+		return new ListPageResultsImpl<T>(list, hqlContext.getResultType(), fetchSize);
+	}
+
+	/**
+	 * Executes the join query. Joins depend on two maps and are not cached.
+	 * 
+	 * @param joinPredicates Left and right map predicates
+	 */
+	private IPageResults<T> executeJoin(JoinQuery.JoinPredicates joinPredicates) {
+		long startTime = System.nanoTime();
+		List<Object[]> rows = queryJoin(joinPredicates);
+		long elapsedNanos = System.nanoTime() - startTime;
+		recordMetrics(rows, elapsedNanos);
+		return (IPageResults<T>) new RowPageResultsImpl(rows, hqlContext.getColumnLabels(), fetchSize);
+	}
+
+	private IPageResults<T> execute(Predicate queryPredicate) {
+		long startTime = System.nanoTime();
+		IPageResults<T> results = query(queryPredicate);
+		long elapsedNanos = System.nanoTime() - startTime;
+		recordUsage(elapsedNanos);
+		HqlMetrics metrics = hqlQuery.getMetrics();
+		if (metrics != null) {
+			if (results instanceof PageResultsImpl) {
+				// The subsequent pages are recorded by the result set
+				((PageResultsImpl) results).setMetrics(metrics, metrics.getQueryMetrics(queryString));
+				recordMetrics(results.getResults(), elapsedNanos);
+			} else {
+				recordMetrics(((ListPageResultsImpl<T>) results).getList(), elapsedNanos);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Records the execution of this query if the metrics are enabled.
+	 * 
+	 * @param results      Results received by the execution
+	 * @param elapsedNanos Execute time in nanoseconds
+	 */
+	private void recordMetrics(Collection<?> results, long elapsedNanos) {
+		HqlMetrics metrics = hqlQuery.getMetrics();
+		if (metrics != null) {
+			QueryMetrics queryMetrics = metrics.getQueryMetrics(queryString);
+			metrics.recordExecute(queryMetrics, elapsedNanos, results.size(),
+					metrics.estimateBytes(queryMetrics, results), this::getPlan);
+		}
+	}
+
+	/**
+	 * Returns the plan of this query logged for slow queries. null if the query
+	 * is a join.
+	 */
+	private String getPlan() {
+		return joinQuery == null ? explain().toString() : null;
+	}
+
+	/**
+	 * Records the attribute usage of this query if the index advisor is enabled.
+	 * 
+	 * @param latencyInNanos Query latency in nanoseconds. -1 if not timed.
+	 */
+	private void recordUsage(long latencyInNanos) {
+		IndexAdvisor indexAdvisor = hqlQuery.getIndexAdvisor();
+		if (indexAdvisor != null && queryUsage != null) {
+			indexAdvisor.record(queryUsage, latencyInNanos);
+		}
+	}
+
+	private IPageResults<T> query(Predicate queryPredicate) {
+		if (groupAttributes != null) {
+			return (IPageResults<T>) new RowPageResultsImpl(queryRows(queryPredicate), hqlContext.getColumnLabels(),
+					fetchSize);
+		}
+		if (hqlContext.isLimit()) {
+			return new ListPageResultsImpl<T>(queryTopK(queryPredicate), hqlContext.getResultType(), fetchSize);
+		}
+		PagingPredicate pagingPredicate = new PagingPredicateImpl(queryPredicate, orderBy, fetchSize);
 		IMap map = hz.getMap(hqlContext.getPath());
+		CompletableFuture<Long> totalSizeFuture = null;
+		if (hqlQuery.isTotalCountEnabled()) {
+			totalSizeFuture = CompletableFuture.supplyAsync(() -> PageResultsImpl.count(map, queryPredicate),
+					hqlQuery.getExecutor());
+		}
 		Collection<T> results;
 		switch (hqlContext.getResultType()) {
 		case KEYS_VALUES:
@@ -166,7 +595,654 @@ public class CompiledQuery<T> {
 			break;
 		}
 
-		return new PageResultsImpl(map, results, pagingPredicate, hqlContext.getResultType());
+		PageResultsImpl<T> pageResults = new PageResultsImpl<T>(hz, map, results, pagingPredicate,
+				hqlContext.getResultType(), queryPredicate, comparator, hqlQuery.getExecutor());
+		pageResults.setTotalSizeFuture(totalSizeFuture);
+		pageResults.setScanParallelism(hqlQuery.getScanParallelism());
+		return pageResults;
+	}
+
+	/**
+	 * Executes the limit query by {@link TopKAggregator} and returns the results
+	 * after the offset. Each member returns at most <code>offset + limit</code>
+	 * results.
+	 */
+	private List<T> queryTopK(Predicate queryPredicate) {
+		if (hqlContext.getLimit() == 0) {
+			return Collections.emptyList();
+		}
+		int k = hqlContext.getOffset() + hqlContext.getLimit();
+		IMap map = hz.getMap(hqlContext.getPath());
+		ResultType resultType = hqlContext.getResultType();
+		List<Map.Entry> entries = (List<Map.Entry>) map.aggregate(
+				new TopKAggregator(k, comparator == null ? null : orderBy, resultType == ResultType.KEYS),
+				queryPredicate);
+		List<T> results = new ArrayList<T>(Math.max(0, entries.size() - hqlContext.getOffset()));
+		for (int i = hqlContext.getOffset(); i < entries.size(); i++) {
+			Map.Entry entry = entries.get(i);
+			switch (resultType) {
+			case KEYS_VALUES:
+				results.add((T) entry);
+				break;
+			case KEYS:
+				results.add((T) entry.getKey());
+				break;
+			default:
+				results.add((T) entry.getValue());
+				break;
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the rows in the limit clause range. Rows before the offset are
+	 * removed.
+	 */
+	private List<Object[]> limitRows(List<Object[]> rows) {
+		if (hqlContext.isLimit() == false) {
+			return rows;
+		}
+		int fromIndex = Math.min(hqlContext.getOffset(), rows.size());
+		int toIndex = (int) Math.min((long) hqlContext.getOffset() + hqlContext.getLimit(), rows.size());
+		return new ArrayList<Object[]>(rows.subList(fromIndex, toIndex));
+	}
+
+	/**
+	 * Executes the row query and returns the rows in the select list order. A
+	 * column list is projected on the members by
+	 * {@link Projections#multiAttribute(String...)} so that only the selected
+	 * values are returned. A column list with the limit clause is projected by
+	 * {@link TopKAggregator} so that each member returns at most
+	 * <code>offset + limit</code> rows. Otherwise, the query results are aggregated on the
+	 * members. <code>count(*)</code> alone is computed by the built-in count
+	 * aggregator, or by the map size if there is no where clause, so that no
+	 * entries are materialized. All others are computed in a single pass by
+	 * {@link GroupByAggregator}.
+	 */
+	private List<Object[]> queryRows(Predicate queryPredicate) {
+		IMap map = hz.getMap(hqlContext.getPath());
+		if (projectionAttributes != null && hqlContext.isLimit()) {
+			if (hqlContext.getLimit() == 0) {
+				return new ArrayList<Object[]>(0);
+			}
+			int k = hqlContext.getOffset() + hqlContext.getLimit();
+			List<Object[]> rows = (List<Object[]>) map.aggregate(
+					new TopKAggregator(k, projectionAttributes, hqlContext.getRowComparator()), queryPredicate);
+			return limitRows(rows);
+		} else if (projectionAttributes != null) {
+			Collection<Object[]> projectedRows = map.project(Projections.multiAttribute(projectionAttributes),
+					queryPredicate);
+			List<Object[]> rows = new ArrayList<Object[]>(projectedRows);
+			if (hqlContext.getRowComparator() != null) {
+				Collections.sort(rows, hqlContext.getRowComparator());
+			}
+			return rows;
+		}
+
+		List<Object[]> aggregatedRows;
+		if (isCountOnly()) {
+			Object count = PageResultsImpl.count(map, queryPredicate);
+			aggregatedRows = Collections.singletonList(new Object[] { count });
+		} else {
+			aggregatedRows = (List<Object[]>) map.aggregate(new GroupByAggregator(groupAttributes, functions),
+					queryPredicate);
+		}
+
+		List<Object[]> rows = new ArrayList<Object[]>(aggregatedRows.size());
+		for (Object[] aggregatedRow : aggregatedRows) {
+			Object[] row = new Object[rowIndexes.length];
+			for (int i = 0; i < rowIndexes.length; i++) {
+				row[i] = aggregatedRow[rowIndexes[i]];
+			}
+			rows.add(row);
+		}
+		if (hqlContext.isDistinct() && hqlContext.getGroupByAttributes().size() > 0) {
+			// Group by columns not in the select list may yield duplicate rows
+			rows = distinctRows(rows);
+		}
+		if (hqlContext.getRowComparator() != null) {
+			Collections.sort(rows, hqlContext.getRowComparator());
+		}
+		return limitRows(rows);
+	}
+
+	/**
+	 * Returns true if this query aggregates <code>count(*)</code> only, i.e.,
+	 * the number of entries that satisfy the where clause.
+	 */
+	private boolean isCountOnly() {
+		return joinQuery == null && groupAttributes != null && groupAttributes.length == 0 && functions != null
+				&& functions.length == 1 && functions[0].getType() == AggregateFunction.Type.COUNT
+				&& functions[0].getAttribute() == null;
+	}
+
+	/**
+	 * Returns the specified rows without duplicates in the first-seen order.
+	 */
+	private List<Object[]> distinctRows(List<Object[]> rows) {
+		Set<List<Object>> rowSet = new LinkedHashSet<List<Object>>(rows.size());
+		for (Object[] row : rows) {
+			rowSet.add(Arrays.asList(row));
+		}
+		List<Object[]> distinctRows = new ArrayList<Object[]>(rowSet.size());
+		for (List<Object> row : rowSet) {
+			distinctRows.add(row.toArray());
+		}
+		return distinctRows;
+	}
+
+	/**
+	 * Executes the join query by {@link JoinQuery} and returns the rows in the
+	 * select list order. If the query has the limit clause without distinct, then
+	 * each member returns at most <code>offset + limit</code> rows. The rows from
+	 * all members are made distinct, sorted, and limited in the client.
+	 */
+	private List<Object[]> queryJoin(JoinQuery.JoinPredicates joinPredicates) {
+		if (hqlContext.isLimit() && hqlContext.getLimit() == 0) {
+			return new ArrayList<Object[]>(0);
+		}
+		int k = -1;
+		if (hqlContext.isLimit() && hqlContext.isDistinct() == false) {
+			k = hqlContext.getOffset() + hqlContext.getLimit();
+		}
+		List<Object[]> rows = joinQuery.execute(hz, joinPredicates, hqlQuery.getJoinBroadcastLimit(), k,
+				hqlContext.getRowComparator());
+		if (hqlContext.isDistinct()) {
+			rows = distinctRows(rows);
+		}
+		if (hqlContext.getRowComparator() != null) {
+			Collections.sort(rows, hqlContext.getRowComparator());
+		}
+		return limitRows(rows);
+	}
+
+	/**
+	 * Returns a sequential stream over the entire result set without executing
+	 * the paging query. Ordered results are read in sorted partition pages of
+	 * the fetch size. See {@link IPageResults#iterator()} for details.
+	 * 
+	 * @throws HqlException Thrown if the query contains bind parameters
+	 */
+	public Stream<T> stream() throws HqlException {
+		if (hqlContext.isExplain()) {
+			return (Stream<T>) explainRows().stream();
+		}
+		if (joinQuery != null) {
+			return streamJoin(getJoinPredicates(null, null));
+		}
+		if (queryPredicate == null) {
+			throw new HqlException("Invalid query: Bind parameter values not provided [" + hqlContext.getWhereClause()
+					+ "]");
+		}
+		return stream(queryPredicate);
+	}
+
+	/**
+	 * Returns a sequential stream over the entire result set with the specified
+	 * positional bind parameter values.
+	 * 
+	 * @param params Values of the positional parameters (<code>?</code>) in the
+	 *               order they appear in the where clause
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 */
+	public Stream<T> stream(Object... params) throws HqlException {
+		if (hqlContext.isExplain()) {
+			return (Stream<T>) explainRows().stream();
+		}
+		if (joinQuery != null) {
+			return streamJoin(getJoinPredicates(params, null));
+		}
+		if (hqlContext.isParameterized() == false) {
+			if (params != null && params.length > 0) {
+				throw new HqlException("Invalid query: Query does not contain bind parameters ["
+						+ hqlContext.getWhereClause() + "]");
+			}
+			return stream(queryPredicate);
+		}
+		return stream(createQueryPredicate(params, null));
+	}
+
+	/**
+	 * Returns a sequential stream over the entire result set with the specified
+	 * named bind parameter values.
+	 * 
+	 * @param params Map of parameter names (without the prefix ':') and values
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 */
+	public Stream<T> stream(Map<String, ?> params) throws HqlException {
+		if (hqlContext.isExplain()) {
+			return (Stream<T>) explainRows().stream();
+		}
+		if (joinQuery != null) {
+			return streamJoin(getJoinPredicates(null, params));
+		}
+		if (hqlContext.isParameterized() == false) {
+			return stream();
+		}
+		return stream(createQueryPredicate(null, params));
+	}
+
+	/**
+	 * Returns a stream over the join query result set. The rows are collected by
+	 * the members and joins are not scanned by partition.
+	 * 
+	 * @param joinPredicates Left and right map predicates
+	 */
+	private Stream<T> streamJoin(JoinQuery.JoinPredicates joinPredicates) {
+		return (Stream<T>) queryJoin(joinPredicates).stream();
+	}
+
+	private Stream<T> stream(Predicate queryPredicate) {
+		// Streams are consumed by the caller and are not timed
+		recordUsage(-1);
+		return queryStream(queryPredicate);
+	}
+
+	private Stream<T> queryStream(Predicate queryPredicate) {
+		if (groupAttributes != null) {
+			return (Stream<T>) queryRows(queryPredicate).stream();
+		}
+		if (hqlContext.isLimit()) {
+			return queryTopK(queryPredicate).stream();
+		}
+		IMap map = hz.getMap(hqlContext.getPath());
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+				ResultIterator.<T>iterator(hz, map, queryPredicate, comparator, hqlContext.getResultType(), fetchSize,
+						hqlQuery.getExecutor(), hqlQuery.getScanParallelism()),
+				Spliterator.ORDERED), false);
+	}
+
+	/**
+	 * Returns a stream over the unordered result set by querying all partitions
+	 * concurrently. See {@link #scan(Object...)} for details.
+	 * 
+	 * @throws HqlException Thrown if the query contains bind parameters or the
+	 *                      order by clause
+	 */
+	public Stream<T> scan() throws HqlException {
+		if (hqlContext.isExplain()) {
+			return (Stream<T>) explainRows().stream();
+		}
+		if (joinQuery != null) {
+			return streamJoin(getJoinPredicates(null, null));
+		}
+		if (queryPredicate == null) {
+			throw new HqlException("Invalid query: Bind parameter values not provided [" + hqlContext.getWhereClause()
+					+ "]");
+		}
+		return scan(queryPredicate);
+	}
+
+	/**
+	 * Returns a stream over the unordered result set with the specified
+	 * positional bind parameter values by querying all partitions concurrently on
+	 * the executor of the {@link HqlQuery} that compiled this query. The results
+	 * are returned in the order the partition queries complete, so that unordered
+	 * scans scale with the number of members instead of being merged by a single
+	 * member. The number of concurrent partition queries is determined by
+	 * {@link HqlQuery#getScanParallelism()}. The returned stream should be closed
+	 * if it is not consumed to the end so that the remaining partition queries are
+	 * stopped. Row queries and queries with the limit clause are executed in a
+	 * single request as in {@link #stream(Object...)}.
+	 * 
+	 * @param params Values of the positional parameters (<code>?</code>) in the
+	 *               order they appear in the where clause
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 *                      or the query contains the order by clause without
+	 *                      the limit clause
+	 */
+	public Stream<T> scan(Object... params) throws HqlException {
+		if (hqlContext.isExplain()) {
+			return (Stream<T>) explainRows().stream();
+		}
+		if (joinQuery != null) {
+			return streamJoin(getJoinPredicates(params, null));
+		}
+		if (hqlContext.isParameterized() == false) {
+			if (params != null && params.length > 0) {
+				throw new HqlException("Invalid query: Query does not contain bind parameters ["
+						+ hqlContext.getWhereClause() + "]");
+			}
+			return scan(queryPredicate);
+		}
+		return scan(createQueryPredicate(params, null));
+	}
+
+	/**
+	 * Returns a stream over the unordered result set with the specified named bind
+	 * parameter values by querying all partitions concurrently. See
+	 * {@link #scan(Object...)} for details.
+	 * 
+	 * @param params Map of parameter names (without the prefix ':') and values
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 *                      or the query contains the order by clause without
+	 *                      the limit clause
+	 */
+	public Stream<T> scan(Map<String, ?> params) throws HqlException {
+		if (hqlContext.isExplain()) {
+			return (Stream<T>) explainRows().stream();
+		}
+		if (joinQuery != null) {
+			return streamJoin(getJoinPredicates(null, params));
+		}
+		if (hqlContext.isParameterized() == false) {
+			return scan();
+		}
+		return scan(createQueryPredicate(null, params));
+	}
+
+	private Stream<T> scan(Predicate queryPredicate) {
+		recordUsage(-1);
+		if (groupAttributes != null) {
+			return (Stream<T>) queryRows(queryPredicate).stream();
+		}
+		if (hqlContext.isLimit()) {
+			return queryTopK(queryPredicate).stream();
+		}
+		if (comparator != null) {
+			throw new HqlException("Invalid query: Scan does not support order by. Use stream() instead ["
+					+ hqlContext.getPath() + "]");
+		}
+		IMap map = hz.getMap(hqlContext.getPath());
+		ScanIterator<T> iterator = new ScanIterator<T>(hz, map, queryPredicate, hqlContext.getResultType(),
+				hqlQuery.getExecutor(), hqlQuery.getScanParallelism());
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false)
+				.onClose(iterator::close);
+	}
+
+	/**
+	 * Exports the entire result set with the specified positional bind parameter
+	 * values to the specified file. The file is created or truncated. See
+	 * {@link #export(WritableByteChannel, ExportFormat, Object...)} for details.
+	 * 
+	 * @param path   File path
+	 * @param format Export format
+	 * @param params Values of the positional parameters (<code>?</code>) in the
+	 *               order they appear in the where clause
+	 * @return Number of results exported
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 * @throws IOException  Thrown if the file write fails
+	 */
+	public long export(Path path, ExportFormat format, Object... params) throws HqlException, IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return export(channel, format, params);
+		}
+	}
+
+	/**
+	 * Exports the entire result set with the specified positional bind parameter
+	 * values to the specified channel in CSV or newline-delimited JSON. The
+	 * results are read by {@link #stream(Object...)} and written as they are
+	 * read through a fixed-size buffer, so that the client memory is bounded by
+	 * the largest partition result, or by one page per partition if the query
+	 * has the order by clause. The channel is not closed. See {@link ResultExporter} for the column layout.
+	 * 
+	 * @param channel Channel to write to
+	 * @param format  Export format
+	 * @param params  Values of the positional parameters (<code>?</code>) in the
+	 *                order they appear in the where clause
+	 * @return Number of results exported
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 * @throws IOException  Thrown if the channel write fails
+	 */
+	public long export(WritableByteChannel channel, ExportFormat format, Object... params)
+			throws HqlException, IOException {
+		try (Stream<T> stream = stream(params)) {
+			return new ResultExporter(format, getResultType(), getColumnLabels()).export(stream.iterator(), channel);
+		}
+	}
+
+	/**
+	 * Exports the entire result set with the specified named bind parameter
+	 * values to the specified channel. See
+	 * {@link #export(WritableByteChannel, ExportFormat, Object...)} for details.
+	 * 
+	 * @param channel Channel to write to
+	 * @param format  Export format
+	 * @param params  Map of parameter names (without the prefix ':') and values
+	 * @return Number of results exported
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 * @throws IOException  Thrown if the channel write fails
+	 */
+	public long export(WritableByteChannel channel, ExportFormat format, Map<String, ?> params)
+			throws HqlException, IOException {
+		try (Stream<T> stream = stream(params)) {
+			return new ResultExporter(format, getResultType(), getColumnLabels()).export(stream.iterator(), channel);
+		}
+	}
+
+	/**
+	 * Subscribes to the result set of this query. See
+	 * {@link #subscribe(ResultListener, Object...)} for details.
+	 * 
+	 * @param listener Listener receiving the snapshot and the changes
+	 * @throws HqlException Thrown if the query contains bind parameters or is not
+	 *                      supported by subscriptions
+	 */
+	public ISubscription subscribe(ResultListener<T> listener) throws HqlException {
+		if (hqlContext.isParameterized()) {
+			throw new HqlException("Invalid query: Bind parameter values not provided [" + hqlContext.getWhereClause()
+					+ "]");
+		}
+		return subscribe(queryPredicate, listener);
+	}
+
+	/**
+	 * Subscribes to the result set of this query with the specified positional
+	 * bind parameter values. The returned subscription is a continuous query
+	 * that registers a map entry listener filtered by the where clause, so that
+	 * the members send only the changes to the matching entries. The specified
+	 * listener first receives the snapshot of the entire result set in the
+	 * order by clause order, followed by the additions, updates, and removals.
+	 * The changes are not ordered. The returned subscription must be closed when
+	 * no longer needed.
+	 * <p>
+	 * By default, Hazelcast does not send the update that makes an entry no
+	 * longer match the where clause. Such updates are delivered as removals if
+	 * the members are configured with the property
+	 * <code>hazelcast.map.entry.filtering.natural.event.types=true</code>.
+	 * Similarly, the removal by {@link IMap#delete(Object)} does not carry the
+	 * old value and is delivered only if the where clause refers to the key
+	 * alone. Use {@link IMap#remove(Object)} instead. Subscriptions support only
+	 * key, value, and entry queries without the limit clause.
+	 * 
+	 * @param listener Listener receiving the snapshot and the changes
+	 * @param params   Values of the positional parameters (<code>?</code>) in the
+	 *                 order they appear in the where clause
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 *                      or the query is not supported by subscriptions
+	 */
+	public ISubscription subscribe(ResultListener<T> listener, Object... params) throws HqlException {
+		if (hqlContext.isParameterized() == false) {
+			if (params != null && params.length > 0) {
+				throw new HqlException("Invalid query: Query does not contain bind parameters ["
+						+ hqlContext.getWhereClause() + "]");
+			}
+			return subscribe(queryPredicate, listener);
+		}
+		return subscribe(createQueryPredicate(params, null), listener);
+	}
+
+	/**
+	 * Subscribes to the result set of this query with the specified named bind
+	 * parameter values. See {@link #subscribe(ResultListener, Object...)} for
+	 * details.
+	 * 
+	 * @param listener Listener receiving the snapshot and the changes
+	 * @param params   Map of parameter names (without the prefix ':') and values
+	 * @throws HqlException Thrown if the parameter values do not match the query
+	 *                      or the query is not supported by subscriptions
+	 */
+	public ISubscription subscribe(ResultListener<T> listener, Map<String, ?> params) throws HqlException {
+		if (hqlContext.isParameterized() == false) {
+			return subscribe(listener);
+		}
+		return subscribe(createQueryPredicate(null, params), listener);
+	}
+
+	private ISubscription subscribe(Predicate queryPredicate, ResultListener<T> listener) {
+		if (hqlContext.isExplain()) {
+			throw new HqlException("Invalid query: Subscribe does not support explain [" + hqlContext.getPath() + "]");
+		}
+		if (joinQuery != null) {
+			throw new HqlException("Invalid query: Subscribe does not support join [" + hqlContext.getPath() + "]");
+		}
+		if (groupAttributes != null) {
+			throw new HqlException(
+					"Invalid query: Subscribe does not support column lists, aggregate functions, distinct, or group by ["
+							+ hqlContext.getPath() + "]");
+		}
+		if (hqlContext.isLimit()) {
+			throw new HqlException("Invalid query: Subscribe does not support limit [" + hqlContext.getPath() + "]");
+		}
+		recordUsage(-1);
+		IMap map = hz.getMap(hqlContext.getPath());
+		SubscriptionImpl<T> subscription = new SubscriptionImpl<T>(hz, map, queryPredicate, comparator,
+				hqlContext.getResultType(), listener);
+		subscription.start();
+		return subscription;
+	}
+
+	/**
+	 * Returns the plan of this query without executing it. The plan contains the
+	 * where clause predicate tree annotated with the indexes the members can use
+	 * and the estimated selectivity, the indexes of the map including the
+	 * indexes added at runtime, and how much of the result set is materialized
+	 * by sorting and paging. If this object is a client, then the indexes are
+	 * read on one of the members by the executor service named
+	 * {@link MapIndexTask#EXECUTOR_NAME}.
+	 * 
+	 * @throws HqlException Thrown if the map indexes cannot be retrieved or the
+	 *                      query is a join
+	 */
+	public QueryPlan explain() throws HqlException {
+		if (joinQuery != null) {
+			throw new HqlException("Invalid query: Explain does not support join [" + hqlContext.getPath() + "]");
+		}
+		String mapName = hqlContext.getPath();
+		List<IndexInfo> indexes = MapIndexTask.getIndexInfos(hz, mapName);
+		PredicatePlan predicatePlan = null;
+		if (hqlContext.isWhereClause()) {
+			predicatePlan = PredicatePlan.create(hqlContext.getWherePredicate(), indexes);
+		}
+		int mapSize = hz.getMap(mapName).size();
+		ResultType resultType = hqlContext.isRowQuery() ? ResultType.ROWS : hqlContext.getResultType();
+		return new QueryPlan(mapName, resultType, predicatePlan, indexes, mapSize, getMaterialization());
+	}
+
+	/**
+	 * Returns the description of how much of the result set is materialized by
+	 * executing this query.
+	 */
+	private String getMaterialization() {
+		String materialization;
+		long k = (long) hqlContext.getOffset() + hqlContext.getLimit();
+		if (projectionAttributes != null) {
+			if (hqlContext.isLimit()) {
+				materialization = "bounded, each member returns at most " + k + " projected rows";
+			} else if (hqlContext.getRowComparator() != null) {
+				materialization = "full, all matching rows are projected and sorted in the client";
+			} else {
+				materialization = "full, all matching rows are projected to the client";
+			}
+		} else if (isCountOnly()) {
+			materialization = hqlContext.isWhereClause()
+					? "none, count(*) is computed by the count aggregator on the members"
+					: "none, count(*) is the map size";
+		} else if (groupAttributes != null) {
+			materialization = "aggregated, only the aggregated rows are returned to the client";
+		} else if (hqlContext.isLimit()) {
+			materialization = "bounded, each member returns at most " + k + " entries";
+		} else if (comparator != null) {
+			materialization = "full, each page sorts all matching entries on every member";
+		} else {
+			materialization = "full, each page collects all matching entries on every member";
+		}
+		if (hqlQuery.getResultCache() != null) {
+			materialization += ", the result cache holds the entire result set in the client";
+		}
+		return materialization;
+	}
+
+	private List<Object[]> explainRows() {
+		List<String> lines = explain().getLines();
+		List<Object[]> rows = new ArrayList<Object[]>(lines.size());
+		for (String line : lines) {
+			rows.add(new Object[] { line });
+		}
+		return rows;
+	}
+
+	private IPageResults<T> explainResults() {
+		return (IPageResults<T>) new RowPageResultsImpl(explainRows(), getColumnLabels(), fetchSize);
+	}
+
+	/**
+	 * Returns true if the query contains bind parameters.
+	 */
+	public boolean isParameterized() {
+		return hqlContext.isParameterized();
+	}
+
+	/**
+	 * Returns the number of positional bind parameters (<code>?</code>).
+	 */
+	public int getParameterCount() {
+		return hqlContext.getPositionalParameterCount();
+	}
+
+	/**
+	 * Returns the named bind parameter names in the order they first appear in
+	 * the where clause. Empty if the query has no named parameters.
+	 */
+	public Set<String> getParameterNames() {
+		return hqlContext.getParameterNames();
+	}
+
+	/**
+	 * Returns the page fetch size.
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * Returns the where clause rendered from the compiled predicate tree. null if
+	 * the query has no where clause.
+	 */
+	public String getWhereClause() {
+		return hqlContext.getWhereClause();
+	}
+
+	/**
+	 * Returns the result type. {@link ResultType#ROWS} if the query contains a
+	 * select column list, aggregate functions, distinct, or group by, or if the
+	 * query is prefixed with <code>explain</code>.
+	 */
+	public ResultType getResultType() {
+		return hqlContext.isRowQuery() || hqlContext.isExplain() ? ResultType.ROWS : hqlContext.getResultType();
+	}
+
+	/**
+	 * Returns the select list column labels of a row query. Empty if the select
+	 * list is '*'. The single label "plan" if the query is prefixed with
+	 * <code>explain</code>.
+	 */
+	public String[] getColumnLabels() {
+		if (hqlContext.isExplain()) {
+			return new String[] { "plan" };
+		}
+		return hqlContext.getColumnLabels();
+	}
+
+	/**
+	 * Returns the normalized query string that identifies the query shape in the
+	 * metrics.
+	 */
+	public String getQueryString() {
+		return queryString;
 	}
 
 	/**
@@ -176,6 +1252,13 @@ public class CompiledQuery<T> {
 		return hqlContext.getPath();
 	}
 
+	/**
+	 * Returns the name of the joined map. null if the query has no join.
+	 */
+	public String getJoinMapName() {
+		return joinQuery == null ? null : joinQuery.getJoinMapName();
+	}
+
 	/**
 	 * 
 	 */
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql;
+
+/**
+ * Subscription is a continuous query that delivers the changes to its result
+ * set to a {@link ResultListener}. It must be closed when no longer needed so
+ * that its map listener is removed.
+ *
+ * @author dpark
+ *
+ */
+public interface ISubscription extends AutoCloseable {
+
+	/**
+	 * Returns the name of the subscribed map.
+	 */
+	public String getMapName();
+
+	/**
+	 * Returns the result type.
+	 */
+	public ResultType getResultType();
+
+	/**
+	 * Returns the number of entries in the result set as known by this
+	 * subscription.
+	 */
+	public int size();
+
+	/**
+	 * Returns true if this subscription is closed.
+	 */
+	public boolean isClosed();
+
+	/**
+	 * Removes the map listener and stops delivering changes. This method has no
+	 * effect if this subscription is already closed.
+	 */
+	@Override
+	public void close();
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.Map;
+
+import org.hazelcast.addon.exception.HqlException;
+
+/**
+ * BindParameter is a placeholder in the where clause that is substituted with
+ * an actual value at execution time. It is either positional (<code>?</code>)
+ * or named (<code>:name</code>).
+ *
+ * @author dpark
+ *
+ */
+public class BindParameter {
+	private final String name;
+	private final int index;
+
+	/**
+	 * Constructs a positional bind parameter.
+	 *
+	 * @param index Parameter index. Index begins from 0.
+	 */
+	public BindParameter(int index) {
+		this.name = null;
+		this.index = index;
+	}
+
+	/**
+	 * Constructs a named bind parameter.
+	 *
+	 * @param name Parameter name without the prefix ':'.
+	 */
+	public BindParameter(String name) {
+		this.name = name;
+		this.index = -1;
+	}
+
+	/**
+	 * Returns the parameter name. null if positional.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the parameter index. -1 if named.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns true if this is a named parameter.
+	 */
+	public boolean isNamed() {
+		return name != null;
+	}
+
+	/**
+	 * Returns the value bound to this parameter.
+	 *
+	 * @param positionalValues Positional parameter values. Ignored if this
+	 *                         parameter is named.
+	 * @param namedValues      Named parameter values. Ignored if this parameter is
+	 *                         positional.
+	 * @throws HqlException Thrown if the value is not provided
+	 */
+	public Object getValue(Object[] positionalValues, Map<String, ?> namedValues) throws HqlException {
+		if (isNamed()) {
+			if (namedValues == null || namedValues.containsKey(name) == false) {
+				throw new HqlException("Invalid query: Bind parameter value not provided [:" + name + "]");
+			}
+			return namedValues.get(name);
+		} else {
+			if (positionalValues == null || index >= positionalValues.length) {
+				throw new HqlException("Invalid query: Bind parameter value not provided [? at index " + index + "]");
+			}
+			return positionalValues[index];
+		}
+	}
+
+	@Override
+	public String toString() {
+		return isNamed() ? ":" + name : "?";
+	}
+}
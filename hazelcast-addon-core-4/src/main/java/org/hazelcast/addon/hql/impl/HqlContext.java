@@ -16,6 +16,10 @@
 
 package org.hazelcast.addon.hql.impl;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 import org.hazelcast.addon.hql.ResultType;
 import org.hazelcast.addon.hql.data.OrderBy;
 
@@ -30,20 +34,67 @@ public class HqlContext {
 	private String path;
 	private String pathAlias;
 	private ResultType resultType = ResultType.VALUES;
-	private String whereClause;
+	private PredicateNode wherePredicate;
+	private int positionalParameterCount;
+	private Set<String> parameterNames = Collections.emptySet();
 	// non-null OrderBy required by Hazelcast.
 	private OrderBy orderBy = new OrderBy();
+	// Row query (aggregate functions, distinct, group by) fields
+	private List<SelectItem> selectItems = Collections.emptyList();
+	private List<String> groupByAttributes = Collections.emptyList();
+	private boolean isDistinct;
+	private RowComparator rowComparator = new RowComparator();
+	// -1 if the query has no limit clause
+	private int limit = -1;
+	private int offset;
+	private boolean isExplain;
+	// Join fields. joinPath is null if the query has no join clause.
+	private String joinPath;
+	private String joinPathAlias;
+	private String joinLeftAttribute;
+	private String joinRightAttribute;
 
+	/**
+	 * Returns the where clause rendered from the predicate tree. null if the query
+	 * has no where clause.
+	 */
 	public String getWhereClause() {
-		return whereClause;
+		return wherePredicate == null ? null : wherePredicate.toString();
 	}
 
 	public boolean isWhereClause() {
-		return whereClause != null && whereClause.length() > 0;
+		return wherePredicate != null;
+	}
+
+	public PredicateNode getWherePredicate() {
+		return wherePredicate;
+	}
+
+	public void setWherePredicate(PredicateNode wherePredicate) {
+		this.wherePredicate = wherePredicate;
+	}
+
+	public int getPositionalParameterCount() {
+		return positionalParameterCount;
+	}
+
+	public void setPositionalParameterCount(int positionalParameterCount) {
+		this.positionalParameterCount = positionalParameterCount;
 	}
 
-	public void setWhereClause(String whereClause) {
-		this.whereClause = whereClause;
+	/**
+	 * Returns the named bind parameter names in the order they first appear.
+	 */
+	public Set<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	public void setParameterNames(Set<String> parameterNames) {
+		this.parameterNames = Collections.unmodifiableSet(parameterNames);
+	}
+
+	public boolean isParameterized() {
+		return positionalParameterCount > 0 || parameterNames.size() > 0;
 	}
 
 	public void setPath(String path) {
@@ -93,17 +144,196 @@ public class HqlContext {
 		return orderBy;
 	}
 
+	/**
+	 * Returns the select list items. Empty if the select list is '*'.
+	 */
+	public List<SelectItem> getSelectItems() {
+		return selectItems;
+	}
+
+	public void setSelectItems(List<SelectItem> selectItems) {
+		this.selectItems = Collections.unmodifiableList(selectItems);
+	}
+
+	public List<String> getGroupByAttributes() {
+		return groupByAttributes;
+	}
+
+	public void setGroupByAttributes(List<String> groupByAttributes) {
+		this.groupByAttributes = Collections.unmodifiableList(groupByAttributes);
+	}
+
+	public boolean isDistinct() {
+		return isDistinct;
+	}
+
+	public void setDistinct(boolean isDistinct) {
+		this.isDistinct = isDistinct;
+	}
+
+	/**
+	 * Returns true if the query returns rows of select list values rather than
+	 * map keys, values, or entries. A row query has a select column list,
+	 * aggregate functions, distinct, or group by.
+	 */
+	public boolean isRowQuery() {
+		return selectItems.size() > 0;
+	}
+
+	/**
+	 * Returns true if the select list contains aggregate functions.
+	 */
+	public boolean isAggregate() {
+		for (SelectItem item : selectItems) {
+			if (item.isAggregate()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds a row query order by column.
+	 * 
+	 * @param index Select list index of the column
+	 * @param isAsc true for ascending order
+	 */
+	public void addRowOrderBy(int index, boolean isAsc) {
+		rowComparator.addColumn(index, isAsc);
+	}
+
+	/**
+	 * Returns the row query order by comparator. null if the query has no order
+	 * by clause.
+	 */
+	public RowComparator getRowComparator() {
+		return rowComparator.isEmpty() ? null : rowComparator;
+	}
+
+	/**
+	 * Sets the limit clause values.
+	 * 
+	 * @param limit  Maximum number of results
+	 * @param offset Number of leading results to skip
+	 */
+	public void setLimit(int limit, int offset) {
+		this.limit = limit;
+		this.offset = offset;
+	}
+
+	/**
+	 * Returns the maximum number of results. -1 if the query has no limit clause.
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Returns the number of leading results to skip. 0 if the query has no offset.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	public boolean isLimit() {
+		return limit >= 0;
+	}
+
+	/**
+	 * Returns true if the query is prefixed with <code>explain</code>.
+	 */
+	public boolean isExplain() {
+		return isExplain;
+	}
+
+	public void setExplain(boolean isExplain) {
+		this.isExplain = isExplain;
+	}
+
+	/**
+	 * Sets the join clause values. The join attributes are qualified by the map
+	 * aliases, e.g., "o.customerId" and "c.__key".
+	 * 
+	 * @param joinPath           Path of the joined map
+	 * @param joinPathAlias      Alias of the joined map
+	 * @param joinLeftAttribute  Qualified join attribute of the map in the from
+	 *                           clause
+	 * @param joinRightAttribute Qualified join attribute of the joined map
+	 */
+	public void setJoin(String joinPath, String joinPathAlias, String joinLeftAttribute, String joinRightAttribute) {
+		this.joinPath = joinPath;
+		this.joinPathAlias = joinPathAlias;
+		this.joinLeftAttribute = joinLeftAttribute;
+		this.joinRightAttribute = joinRightAttribute;
+	}
+
+	/**
+	 * Returns true if the query has the join clause. The select list, where
+	 * clause, and order by attributes of a join query are qualified by the map
+	 * aliases.
+	 */
+	public boolean isJoin() {
+		return joinPath != null;
+	}
+
+	/**
+	 * Returns the path of the joined map. null if the query has no join clause.
+	 */
+	public String getJoinPath() {
+		return joinPath;
+	}
+
+	public String getJoinPathAlias() {
+		return joinPathAlias;
+	}
+
+	public String getJoinLeftAttribute() {
+		return joinLeftAttribute;
+	}
+
+	public String getJoinRightAttribute() {
+		return joinRightAttribute;
+	}
+
+	/**
+	 * Returns the select list column labels. Empty if the select list is '*'.
+	 */
+	public String[] getColumnLabels() {
+		String[] labels = new String[selectItems.size()];
+		for (int i = 0; i < labels.length; i++) {
+			labels[i] = selectItems.get(i).getLabel();
+		}
+		return labels;
+	}
+
 	public void dump() {
+		if (isExplain) {
+			System.out.println("   Explain: true");
+		}
 		System.out.println("      Path: " + getPath());
 		System.out.println("Path Alias: " + pathAlias);
 		System.out.println("ResultType: " + getResultType());
+		if (isJoin()) {
+			System.out.println("      Join: " + joinPath + " " + joinPathAlias + " on " + joinLeftAttribute + " = "
+					+ joinRightAttribute);
+		}
 		System.out.println(" Predicate: " + getWhereClause());
-		System.out.println("  Order By: " + getOrderBy());
+		if (isRowQuery()) {
+			System.out.println("    Select: " + (isDistinct ? "distinct " : "") + selectItems);
+			System.out.println("  Group By: " + groupByAttributes);
+			System.out.println("  Order By: " + rowComparator);
+		} else {
+			System.out.println("  Order By: " + getOrderBy());
+		}
+		if (isLimit()) {
+			System.out.println("     Limit: " + limit + " offset " + offset);
+		}
 	}
 
 	@Override
 	public String toString() {
-		return "HqlContext [path=" + path + ", pathAlias=" + pathAlias + ", resultType=" + resultType + ", whereClause="
-				+ whereClause + ", orderBy=" + orderBy + "]";
+		return "HqlContext [path=" + path + ", pathAlias=" + pathAlias + ", resultType=" + resultType + ", joinPath="
+				+ joinPath + ", whereClause=" + getWhereClause() + ", orderBy=" + orderBy + ", selectItems=" + selectItems + ", isDistinct="
+				+ isDistinct + ", groupByAttributes=" + groupByAttributes + ", limit=" + limit + ", offset=" + offset + ", isExplain=" + isExplain + "]";
 	}
 }
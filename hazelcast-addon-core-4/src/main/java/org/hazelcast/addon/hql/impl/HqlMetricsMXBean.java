@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.List;
+
+/**
+ * HqlMetricsMXBean is the JMX interface of {@link HqlMetrics}. It is registered
+ * with the platform MBean server under the domain
+ * <code>org.hazelcast.addon.hql</code>.
+ *
+ * @author dpark
+ *
+ */
+public interface HqlMetricsMXBean {
+
+	/**
+	 * Returns the number of query shapes recorded.
+	 */
+	public int getQueryShapeCount();
+
+	/**
+	 * Returns the total number of query executions.
+	 */
+	public long getExecuteCount();
+
+	/**
+	 * Returns the total number of slow query executions.
+	 */
+	public long getSlowQueryCount();
+
+	/**
+	 * Returns the slow query threshold in milliseconds. A negative value
+	 * disables the slow query log.
+	 */
+	public long getSlowQueryThresholdMillis();
+
+	/**
+	 * Sets the slow query threshold in milliseconds. A negative value disables
+	 * the slow query log.
+	 */
+	public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis);
+
+	/**
+	 * Returns the metrics of all query shapes ordered by the total execute time
+	 * in descending order.
+	 */
+	public List<QueryMetrics> getQueryMetrics();
+
+	/**
+	 * Resets the metrics of all query shapes.
+	 */
+	public void reset();
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+/**
+ * IndexRecommendation is an index recommended by {@link IndexAdvisor} for a
+ * map attribute that is not covered by the existing indexes. It carries the
+ * attribute usage counts and the query latency that led to the
+ * recommendation.
+ *
+ * @author dpark
+ *
+ */
+public class IndexRecommendation {
+	private String mapName;
+	private String attribute;
+	private IndexInfo.Type type;
+	private IndexInfo existingIndex;
+	private long queryCount;
+	private long equalityCount;
+	private long rangeCount;
+	private long orderByCount;
+	private long totalLatencyInMsec;
+	private long maxLatencyInMsec;
+
+	IndexRecommendation(String mapName, String attribute, IndexInfo.Type type, IndexInfo existingIndex,
+			IndexAdvisor.AttributeStats stats) {
+		this.mapName = mapName;
+		this.attribute = attribute;
+		this.type = type;
+		this.existingIndex = existingIndex;
+		this.queryCount = stats.getQueryCount();
+		this.equalityCount = stats.getEqualityCount();
+		this.rangeCount = stats.getRangeCount();
+		this.orderByCount = stats.getOrderByCount();
+		this.totalLatencyInMsec = stats.getTotalLatencyInMsec();
+		this.maxLatencyInMsec = stats.getMaxLatencyInMsec();
+	}
+
+	public String getMapName() {
+		return mapName;
+	}
+
+	public String getAttribute() {
+		return attribute;
+	}
+
+	/**
+	 * Returns the recommended index type. {@link IndexInfo.Type#SORTED} if the
+	 * attribute is used in ranges, otherwise {@link IndexInfo.Type#HASH}.
+	 */
+	public IndexInfo.Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the existing index that does not support the attribute usage, i.e.,
+	 * a hash index on an attribute used in ranges. null if the attribute is not
+	 * indexed.
+	 */
+	public IndexInfo getExistingIndex() {
+		return existingIndex;
+	}
+
+	/**
+	 * Returns the number of recorded queries that use the attribute.
+	 */
+	public long getQueryCount() {
+		return queryCount;
+	}
+
+	public long getEqualityCount() {
+		return equalityCount;
+	}
+
+	public long getRangeCount() {
+		return rangeCount;
+	}
+
+	public long getOrderByCount() {
+		return orderByCount;
+	}
+
+	/**
+	 * Returns the total latency of the timed queries that use the attribute in
+	 * msec.
+	 */
+	public long getTotalLatencyInMsec() {
+		return totalLatencyInMsec;
+	}
+
+	/**
+	 * Returns the maximum latency of the timed queries that use the attribute in
+	 * msec.
+	 */
+	public long getMaxLatencyInMsec() {
+		return maxLatencyInMsec;
+	}
+
+	@Override
+	public String toString() {
+		return mapName + ": " + type + "(" + attribute + ")"
+				+ (existingIndex == null ? "" : " over existing " + existingIndex) + " [queries=" + queryCount + ", equality=" + equalityCount + ", range=" + rangeCount + ", orderBy="
+				+ orderByCount + ", totalLatency=" + totalLatencyInMsec + " msec, maxLatency=" + maxLatencyInMsec
+				+ " msec]";
+	}
+}
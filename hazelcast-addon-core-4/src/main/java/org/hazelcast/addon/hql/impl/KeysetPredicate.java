@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.PortableReader;
+import com.hazelcast.nio.serialization.PortableWriter;
+import com.hazelcast.nio.serialization.VersionedPortable;
+import com.hazelcast.query.Predicate;
+
+/**
+ * KeysetPredicate matches the entries that come after the anchor entry in the
+ * order by clause order. It is combined with the query predicate to read the
+ * next page of a sorted partition without skipping the previous pages, so that
+ * each page sorts only the entries that have not been read. The entries that
+ * compare equal to the anchor are matched unless their keys are in the tie key
+ * set, i.e., the keys of the equal entries already read.
+ * <p>
+ * This class is {@link VersionedPortable} so that the anchor and the tie keys
+ * are serialized by Hazelcast.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class KeysetPredicate implements Predicate, VersionedPortable {
+	private static final long serialVersionUID = 1L;
+
+	private Comparator comparator;
+	private Map.Entry anchor;
+	private Set tieKeys;
+
+	public KeysetPredicate() {
+	}
+
+	/**
+	 * Constructs a KeysetPredicate.
+	 *
+	 * @param comparator Order by comparator. It must be serializable.
+	 * @param anchor     Last entry read
+	 * @param tieKeys    Keys of the entries read that compare equal to the
+	 *                   anchor, including the anchor key
+	 */
+	public KeysetPredicate(Comparator comparator, Map.Entry anchor, Set tieKeys) {
+		this.comparator = comparator;
+		this.anchor = new AbstractMap.SimpleImmutableEntry(anchor.getKey(), anchor.getValue());
+		this.tieKeys = tieKeys;
+	}
+
+	@Override
+	public boolean apply(Map.Entry entry) {
+		int c = comparator.compare(entry, anchor);
+		return c > 0 || (c == 0 && tieKeys.contains(entry.getKey()) == false);
+	}
+
+	@Override
+	public int getFactoryId() {
+		return PortableFactoryImpl.FACTORY_ID;
+	}
+
+	@Override
+	public int getClassId() {
+		return PortableFactoryImpl.KeysetPredicate_CLASS_ID;
+	}
+
+	@Override
+	public int getClassVersion() {
+		return 1;
+	}
+
+	@Override
+	public void writePortable(PortableWriter writer) throws IOException {
+		ObjectDataOutput out = writer.getRawDataOutput();
+		out.writeObject(comparator);
+		out.writeObject(anchor.getKey());
+		out.writeObject(anchor.getValue());
+		out.writeInt(tieKeys.size());
+		for (Object key : tieKeys) {
+			out.writeObject(key);
+		}
+	}
+
+	@Override
+	public void readPortable(PortableReader reader) throws IOException {
+		ObjectDataInput in = reader.getRawDataInput();
+		comparator = in.readObject();
+		Object key = in.readObject();
+		Object value = in.readObject();
+		anchor = new AbstractMap.SimpleImmutableEntry(key, value);
+		int size = in.readInt();
+		tieKeys = new HashSet(size * 2);
+		for (int i = 0; i < size; i++) {
+			tieKeys.add(in.readObject());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPredicate [comparator=" + comparator + ", anchorKey=" + anchor.getKey() + ", ties="
+				+ tieKeys.size() + "]";
+	}
+}
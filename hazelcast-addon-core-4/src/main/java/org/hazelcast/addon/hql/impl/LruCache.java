@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LruCache is a thread-safe, size-bounded cache that evicts the least recently
+ * accessed entry when the maximum size is reached.
+ *
+ * @author dpark
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class LruCache<K, V> {
+
+	private final int maxSize;
+	private final LinkedHashMap<K, V> map;
+
+	/**
+	 * Constructs a new LruCache.
+	 *
+	 * @param maxSize Maximum number of entries. If <= 0, then nothing is cached.
+	 */
+	@SuppressWarnings("serial")
+	public LruCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > LruCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the value mapped by the specified key. null if not found.
+	 *
+	 * @param key Key
+	 */
+	public synchronized V get(K key) {
+		return map.get(key);
+	}
+
+	/**
+	 * Puts the specified entry in the cache. The least recently accessed entry is
+	 * evicted if the cache is full.
+	 *
+	 * @param key   Key
+	 * @param value Value
+	 */
+	public synchronized void put(K key, V value) {
+		if (maxSize > 0) {
+			map.put(key, value);
+		}
+	}
+
+	/**
+	 * Removes the specified key.
+	 *
+	 * @param key Key
+	 * @return The removed value or null if not found
+	 */
+	public synchronized V remove(K key) {
+		return map.remove(key);
+	}
+
+	/**
+	 * Clears the cache.
+	 */
+	public synchronized void clear() {
+		map.clear();
+	}
+
+	/**
+	 * Returns the number of entries in the cache.
+	 */
+	public synchronized int size() {
+		return map.size();
+	}
+
+	/**
+	 * Returns the maximum number of entries.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+}
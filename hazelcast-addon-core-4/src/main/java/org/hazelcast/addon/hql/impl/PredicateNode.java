@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hazelcast.addon.exception.HqlException;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+
+/**
+ * PredicateNode is a node of the where-clause predicate tree built by the HQL
+ * parser. The tree is built once at compile time and converted to a native
+ * Hazelcast {@link Predicate} object graph by {@link #toPredicate(Object[], Map)}
+ * with the bind parameter values, if any. Unlike SqlPredicate, the resulting
+ * predicate does not require the members to parse the where clause.
+ * <p>
+ * A logical node ({@link Operator#AND}, {@link Operator#OR},
+ * {@link Operator#NOT}) contains child nodes. All other nodes contain an
+ * attribute name and operand values. An operand value is a literal value or a
+ * {@link BindParameter}.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings("rawtypes")
+public class PredicateNode {
+
+	public enum Operator {
+		AND("and"), OR("or"), NOT("not"), EQUAL("="), NOT_EQUAL("!="), GREATER(">"), GREATER_EQUAL(">="), LESS("<"),
+		LESS_EQUAL("<="), BETWEEN("between"), IN("in"), LIKE("like"), ILIKE("ilike"), REGEX("regex");
+
+		private final String symbol;
+
+		Operator(String symbol) {
+			this.symbol = symbol;
+		}
+
+		public String getSymbol() {
+			return symbol;
+		}
+
+		/**
+		 * Returns the comparison operator for the specified symbol.
+		 *
+		 * @param symbol Comparison operator symbol, e.g., "=", "&lt;="
+		 * @throws HqlException Thrown if the symbol is not supported
+		 */
+		public static Operator getComparisonOperator(String symbol) throws HqlException {
+			switch (symbol) {
+			case "=":
+				return EQUAL;
+			case "!=":
+				return NOT_EQUAL;
+			case ">":
+				return GREATER;
+			case ">=":
+				return GREATER_EQUAL;
+			case "<":
+				return LESS;
+			case "<=":
+				return LESS_EQUAL;
+			default:
+				throw new HqlException("Invalid query: Unsupported comparison operator [" + symbol + "]");
+			}
+		}
+	}
+
+	private final Operator operator;
+	private final String attribute;
+	private final List<PredicateNode> children;
+	private final List<Object> operands;
+
+	private PredicateNode(Operator operator, String attribute, List<PredicateNode> children, List<Object> operands) {
+		this.operator = operator;
+		this.attribute = attribute;
+		this.children = children;
+		this.operands = operands;
+	}
+
+	/**
+	 * Returns a new AND node.
+	 *
+	 * @param children Child nodes
+	 */
+	public static PredicateNode and(List<PredicateNode> children) {
+		return new PredicateNode(Operator.AND, null, children, null);
+	}
+
+	/**
+	 * Returns a new OR node.
+	 *
+	 * @param children Child nodes
+	 */
+	public static PredicateNode or(List<PredicateNode> children) {
+		return new PredicateNode(Operator.OR, null, children, null);
+	}
+
+	/**
+	 * Returns a new NOT node. Double negation is removed.
+	 *
+	 * @param child Node to negate
+	 */
+	public static PredicateNode not(PredicateNode child) {
+		if (child.operator == Operator.NOT) {
+			return child.children.get(0);
+		}
+		return new PredicateNode(Operator.NOT, null, Arrays.asList(child), null);
+	}
+
+	/**
+	 * Returns a new leaf node.
+	 *
+	 * @param operator  Comparison, BETWEEN, IN, LIKE, ILIKE, or REGEX operator
+	 * @param attribute Attribute name
+	 * @param operands  Operand values. Each value is a literal or a
+	 *                  {@link BindParameter}.
+	 */
+	public static PredicateNode leaf(Operator operator, String attribute, List<Object> operands) {
+		return new PredicateNode(operator, attribute, null, operands);
+	}
+
+	public Operator getOperator() {
+		return operator;
+	}
+
+	public String getAttribute() {
+		return attribute;
+	}
+
+	/**
+	 * Returns the child nodes. null if this is a leaf node.
+	 */
+	public List<PredicateNode> getChildren() {
+		return children;
+	}
+
+	/**
+	 * Returns the operand values. null if this is a logical node.
+	 */
+	public List<Object> getOperands() {
+		return operands;
+	}
+
+	/**
+	 * Returns true if this node is AND, OR, or NOT.
+	 */
+	public boolean isLogical() {
+		return children != null;
+	}
+
+	/**
+	 * Returns true if this node or any of its descendants contains a bind
+	 * parameter.
+	 */
+	public boolean isParameterized() {
+		if (isLogical()) {
+			for (PredicateNode child : children) {
+				if (child.isParameterized()) {
+					return true;
+				}
+			}
+		} else {
+			for (Object operand : operands) {
+				if (operand instanceof BindParameter) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns an optimized copy of this node. Nested AND and OR nodes are
+	 * flattened, duplicate children and IN-list values are removed, and a
+	 * single-value IN is reduced to an equality.
+	 */
+	public PredicateNode optimize() {
+		switch (operator) {
+		case AND:
+		case OR:
+			LinkedHashMap<String, PredicateNode> map = new LinkedHashMap<String, PredicateNode>(children.size());
+			for (PredicateNode child : children) {
+				PredicateNode optimized = child.optimize();
+				if (optimized.operator == operator) {
+					for (PredicateNode grandChild : optimized.children) {
+						map.put(grandChild.toKey(), grandChild);
+					}
+				} else {
+					map.put(optimized.toKey(), optimized);
+				}
+			}
+			if (map.size() == 1) {
+				return map.values().iterator().next();
+			}
+			return new PredicateNode(operator, null, new ArrayList<PredicateNode>(map.values()), null);
+		case NOT:
+			return not(children.get(0).optimize());
+		case IN:
+			LinkedHashMap<String, Object> valueMap = new LinkedHashMap<String, Object>(operands.size());
+			for (Object operand : operands) {
+				String key = operand == null ? "null" : operand.getClass().getName() + ":" + toLiteral(operand, true);
+				valueMap.put(key, operand);
+			}
+			if (valueMap.size() == 1) {
+				return leaf(Operator.EQUAL, attribute, new ArrayList<Object>(valueMap.values()));
+			}
+			return leaf(operator, attribute, new ArrayList<Object>(valueMap.values()));
+		default:
+			return this;
+		}
+	}
+
+	/**
+	 * Returns a native Hazelcast predicate with the specified bind parameter
+	 * values.
+	 *
+	 * @param positionalValues Positional parameter values. null if none.
+	 * @param namedValues      Named parameter values. null if none.
+	 * @throws HqlException Thrown if a parameter value is missing or invalid
+	 */
+	public Predicate toPredicate(Object[] positionalValues, Map<String, ?> namedValues) throws HqlException {
+		switch (operator) {
+		case AND:
+		case OR:
+			Predicate[] predicates = new Predicate[children.size()];
+			for (int i = 0; i < predicates.length; i++) {
+				predicates[i] = children.get(i).toPredicate(positionalValues, namedValues);
+			}
+			return operator == Operator.AND ? Predicates.and(predicates) : Predicates.or(predicates);
+		case NOT:
+			return Predicates.not(children.get(0).toPredicate(positionalValues, namedValues));
+		case EQUAL:
+			return Predicates.equal(attribute, getComparable(0, positionalValues, namedValues));
+		case NOT_EQUAL:
+			return Predicates.notEqual(attribute, getComparable(0, positionalValues, namedValues));
+		case GREATER:
+			return Predicates.greaterThan(attribute, getComparable(0, positionalValues, namedValues));
+		case GREATER_EQUAL:
+			return Predicates.greaterEqual(attribute, getComparable(0, positionalValues, namedValues));
+		case LESS:
+			return Predicates.lessThan(attribute, getComparable(0, positionalValues, namedValues));
+		case LESS_EQUAL:
+			return Predicates.lessEqual(attribute, getComparable(0, positionalValues, namedValues));
+		case BETWEEN:
+			return Predicates.between(attribute, getComparable(0, positionalValues, namedValues),
+					getComparable(1, positionalValues, namedValues));
+		case IN:
+			Comparable[] values = new Comparable[operands.size()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getComparable(i, positionalValues, namedValues);
+			}
+			return Predicates.in(attribute, values);
+		case LIKE:
+			return Predicates.like(attribute, getString(0, positionalValues, namedValues));
+		case ILIKE:
+			return Predicates.ilike(attribute, getString(0, positionalValues, namedValues));
+		case REGEX:
+			return Predicates.regex(attribute, getString(0, positionalValues, namedValues));
+		default:
+			throw new HqlException("Invalid query: Unsupported operator [" + operator + "]");
+		}
+	}
+
+	private Object getValue(int index, Object[] positionalValues, Map<String, ?> namedValues) {
+		Object operand = operands.get(index);
+		if (operand instanceof BindParameter) {
+			return ((BindParameter) operand).getValue(positionalValues, namedValues);
+		}
+		return operand;
+	}
+
+	private Comparable getComparable(int index, Object[] positionalValues, Map<String, ?> namedValues) {
+		Object value = getValue(index, positionalValues, namedValues);
+		if (value != null && value instanceof Comparable == false) {
+			throw new HqlException("Invalid query: Value must be Comparable [" + attribute + " " + operator.getSymbol()
+					+ " " + value + "]");
+		}
+		return (Comparable) value;
+	}
+
+	private String getString(int index, Object[] positionalValues, Map<String, ?> namedValues) {
+		Object value = getValue(index, positionalValues, namedValues);
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * Returns the literal form of the specified operand. Strings and non-numeric
+	 * objects are single-quoted.
+	 *
+	 * @param operand Literal value or {@link BindParameter}
+	 */
+	public static String toLiteral(Object operand) {
+		return toLiteral(operand, false);
+	}
+
+	private static String toLiteral(Object operand, boolean isKey) {
+		if (operand == null) {
+			return "null";
+		} else if (operand instanceof BindParameter) {
+			BindParameter param = (BindParameter) operand;
+			// Positional parameters are distinguished by index in keys
+			return isKey && param.isNamed() == false ? "?" + param.getIndex() : param.toString();
+		} else if (operand instanceof Number || operand instanceof Boolean) {
+			return operand.toString();
+		} else {
+			return "'" + operand.toString().replace("'", "''") + "'";
+		}
+	}
+
+	/**
+	 * Returns a string that uniquely identifies this node's condition. Used for
+	 * removing duplicate nodes.
+	 */
+	private String toKey() {
+		StringBuilder buffer = new StringBuilder(64);
+		append(buffer, true);
+		return buffer.toString();
+	}
+
+	private void append(StringBuilder buffer, boolean isKey) {
+		switch (operator) {
+		case AND:
+		case OR:
+			for (int i = 0; i < children.size(); i++) {
+				if (i > 0) {
+					buffer.append(" ");
+					buffer.append(operator.getSymbol());
+					buffer.append(" ");
+				}
+				PredicateNode child = children.get(i);
+				if (child.operator == Operator.AND || child.operator == Operator.OR) {
+					buffer.append("(");
+					child.append(buffer, isKey);
+					buffer.append(")");
+				} else {
+					child.append(buffer, isKey);
+				}
+			}
+			break;
+		case NOT:
+			buffer.append("not (");
+			children.get(0).append(buffer, isKey);
+			buffer.append(")");
+			break;
+		case BETWEEN:
+			buffer.append(attribute);
+			buffer.append(" between ");
+			buffer.append(toLiteral(operands.get(0), isKey));
+			buffer.append(" and ");
+			buffer.append(toLiteral(operands.get(1), isKey));
+			break;
+		case IN:
+			buffer.append(attribute);
+			buffer.append(" in (");
+			for (int i = 0; i < operands.size(); i++) {
+				if (i > 0) {
+					buffer.append(", ");
+				}
+				buffer.append(toLiteral(operands.get(i), isKey));
+			}
+			buffer.append(")");
+			break;
+		default:
+			buffer.append(attribute);
+			buffer.append(" ");
+			buffer.append(operator.getSymbol());
+			buffer.append(" ");
+			buffer.append(toLiteral(operands.get(0), isKey));
+			break;
+		}
+	}
+
+	/**
+	 * Returns the where clause rendered from this node.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder(64);
+		append(buffer, false);
+		return buffer.toString();
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * QueryMetrics holds the latency histograms and counters of a query shape,
+ * i.e., the normalized query string without the bind parameter values. The
+ * compile, execute, and page fetch latencies are recorded in microseconds by
+ * HdrHistogram with three significant digits so that the percentiles are
+ * accurate to 0.1% regardless of the latency range. Recording is wait-free and
+ * may be done by any number of threads.
+ * <p>
+ * The execute latency is the time to execute the query on the members and
+ * receive the first page or the entire result set of a row query. The page
+ * fetch latency is the time to fetch each subsequent page. The number of bytes
+ * is an estimate, the serialized size of the first result of the query shape
+ * multiplied by the number of results.
+ * <p>
+ * The getters without parameters are exposed by {@link HqlMetricsMXBean}.
+ *
+ * @author dpark
+ *
+ */
+public class QueryMetrics {
+
+	private final String query;
+	private final Histogram compileHistogram = new ConcurrentHistogram(3);
+	private final Histogram executeHistogram = new ConcurrentHistogram(3);
+	private final Histogram pageHistogram = new ConcurrentHistogram(3);
+	private final LongAdder executeNanos = new LongAdder();
+	private final LongAdder rowCount = new LongAdder();
+	private final LongAdder byteCount = new LongAdder();
+	private final LongAdder slowQueryCount = new LongAdder();
+	// Serialized size of a sample result. -1 if not sampled.
+	private volatile long resultBytes = -1;
+
+	/**
+	 * Constructs a QueryMetrics object for the specified query shape.
+	 *
+	 * @param query Normalized query string
+	 */
+	public QueryMetrics(String query) {
+		this.query = query;
+	}
+
+	private static long toMicros(long nanos) {
+		return Math.max(0, nanos / 1000);
+	}
+
+	void recordCompile(long elapsedNanos) {
+		compileHistogram.recordValue(toMicros(elapsedNanos));
+	}
+
+	void recordExecute(long elapsedNanos, long rows, long bytes) {
+		executeHistogram.recordValue(toMicros(elapsedNanos));
+		executeNanos.add(elapsedNanos);
+		rowCount.add(rows);
+		byteCount.add(bytes);
+	}
+
+	void recordPage(long elapsedNanos, long rows, long bytes) {
+		pageHistogram.recordValue(toMicros(elapsedNanos));
+		rowCount.add(rows);
+		byteCount.add(bytes);
+	}
+
+	void recordSlowQuery() {
+		slowQueryCount.increment();
+	}
+
+	long getResultBytes() {
+		return resultBytes;
+	}
+
+	void setResultBytes(long resultBytes) {
+		this.resultBytes = resultBytes;
+	}
+
+	/**
+	 * Resets all histograms and counters.
+	 */
+	public void reset() {
+		compileHistogram.reset();
+		executeHistogram.reset();
+		pageHistogram.reset();
+		executeNanos.reset();
+		rowCount.reset();
+		byteCount.reset();
+		slowQueryCount.reset();
+		resultBytes = -1;
+	}
+
+	/**
+	 * Returns the normalized query string.
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	/**
+	 * Returns the number of times the query was compiled.
+	 */
+	public long getCompileCount() {
+		return compileHistogram.getTotalCount();
+	}
+
+	/**
+	 * Returns the number of times the query was executed.
+	 */
+	public long getExecuteCount() {
+		return executeHistogram.getTotalCount();
+	}
+
+	/**
+	 * Returns the number of pages fetched after the first page.
+	 */
+	public long getPageCount() {
+		return pageHistogram.getTotalCount();
+	}
+
+	/**
+	 * Returns the total number of rows, i.e., results, returned by all
+	 * executions and page fetches.
+	 */
+	public long getRowCount() {
+		return rowCount.sum();
+	}
+
+	/**
+	 * Returns the estimated total number of bytes deserialized by all executions
+	 * and page fetches.
+	 */
+	public long getByteCount() {
+		return byteCount.sum();
+	}
+
+	/**
+	 * Returns the number of executions that exceeded the slow query threshold.
+	 */
+	public long getSlowQueryCount() {
+		return slowQueryCount.sum();
+	}
+
+	/**
+	 * Returns the total execute time in milliseconds. The queries with the
+	 * largest total execute time put the most load on the members.
+	 */
+	public long getExecuteTotalMillis() {
+		return executeNanos.sum() / 1000000;
+	}
+
+	/**
+	 * Returns the compile latency at the specified percentile in microseconds.
+	 *
+	 * @param percentile Percentile between 0 and 100
+	 */
+	public long getCompileLatency(double percentile) {
+		return compileHistogram.getValueAtPercentile(percentile);
+	}
+
+	/**
+	 * Returns the execute latency at the specified percentile in microseconds.
+	 *
+	 * @param percentile Percentile between 0 and 100
+	 */
+	public long getExecuteLatency(double percentile) {
+		return executeHistogram.getValueAtPercentile(percentile);
+	}
+
+	/**
+	 * Returns the page fetch latency at the specified percentile in
+	 * microseconds.
+	 *
+	 * @param percentile Percentile between 0 and 100
+	 */
+	public long getPageLatency(double percentile) {
+		return pageHistogram.getValueAtPercentile(percentile);
+	}
+
+	public long getCompileP50Micros() {
+		return getCompileLatency(50);
+	}
+
+	public long getCompileP99Micros() {
+		return getCompileLatency(99);
+	}
+
+	public long getExecuteMeanMicros() {
+		return (long) executeHistogram.getMean();
+	}
+
+	public long getExecuteP50Micros() {
+		return getExecuteLatency(50);
+	}
+
+	public long getExecuteP90Micros() {
+		return getExecuteLatency(90);
+	}
+
+	public long getExecuteP99Micros() {
+		return getExecuteLatency(99);
+	}
+
+	public long getExecuteP999Micros() {
+		return getExecuteLatency(99.9);
+	}
+
+	public long getExecuteMaxMicros() {
+		return executeHistogram.getMaxValue();
+	}
+
+	public long getPageP50Micros() {
+		return getPageLatency(50);
+	}
+
+	public long getPageP99Micros() {
+		return getPageLatency(99);
+	}
+
+	public long getPageMaxMicros() {
+		return pageHistogram.getMaxValue();
+	}
+
+	/**
+	 * Returns a copy of the execute latency histogram in microseconds.
+	 */
+	public Histogram copyExecuteHistogram() {
+		return executeHistogram.copy();
+	}
+
+	/**
+	 * Returns a copy of the page fetch latency histogram in microseconds.
+	 */
+	public Histogram copyPageHistogram() {
+		return pageHistogram.copy();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryMetrics [query=" + query + ", executeCount=" + getExecuteCount() + ", executeTotalMillis="
+				+ getExecuteTotalMillis() + ", executeP50Micros=" + getExecuteP50Micros() + ", executeP99Micros="
+				+ getExecuteP99Micros() + ", executeMaxMicros=" + getExecuteMaxMicros() + ", pageCount="
+				+ getPageCount() + ", pageP99Micros=" + getPageP99Micros() + ", rowCount=" + getRowCount()
+				+ ", byteCount=" + getByteCount() + ", compileP50Micros=" + getCompileP50Micros()
+				+ ", slowQueryCount=" + getSlowQueryCount() + "]";
+	}
+}
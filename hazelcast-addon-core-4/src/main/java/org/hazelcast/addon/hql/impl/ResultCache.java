@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
+
+/**
+ * ResultCache caches entire query result sets in the client. It is keyed by
+ * the compiled query and its bind parameter values, and bounded by the
+ * maximum number of result sets and their time-to-live. The least recently
+ * accessed result set is evicted when the cache is full.
+ * <p>
+ * Each queried map is monitored by an entry listener registered without
+ * values. Every entry or map event increments the map's version, and a cached
+ * result set is returned only if its map version has not changed since it was
+ * queried. Since the listener is registered before the query is executed, a
+ * change made while a result set is being read also invalidates it. Stale
+ * result sets are removed when they are accessed or evicted by size.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ResultCache {
+
+	private final HazelcastInstance hz;
+	private final int maxSize;
+	private final long timeToLiveInMsec;
+	private final LinkedHashMap<Key, CachedResults> map;
+	private final ConcurrentHashMap<String, AtomicLong> versionMap = new ConcurrentHashMap<String, AtomicLong>();
+	private final ConcurrentHashMap<String, UUID> listenerIdMap = new ConcurrentHashMap<String, UUID>();
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+	/**
+	 * Constructs a ResultCache.
+	 *
+	 * @param hz               Hazelcast instance
+	 * @param maxSize          Maximum number of result sets
+	 * @param timeToLiveInMsec Result set time-to-live in msec. If <= 0, then
+	 *                         result sets do not expire.
+	 */
+	@SuppressWarnings("serial")
+	public ResultCache(HazelcastInstance hz, int maxSize, long timeToLiveInMsec) {
+		this.hz = hz;
+		this.maxSize = maxSize;
+		this.timeToLiveInMsec = timeToLiveInMsec;
+		this.map = new LinkedHashMap<Key, CachedResults>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedResults> eldest) {
+				boolean isEvict = size() > ResultCache.this.maxSize;
+				if (isEvict) {
+					evictionCount.incrementAndGet();
+				}
+				return isEvict;
+			}
+		};
+	}
+
+	/**
+	 * Returns a cache key made of the specified compiled query and bind parameter
+	 * values.
+	 *
+	 * @param compiledQuery Compiled query
+	 * @param params        Positional parameter values (Object[]), named
+	 *                      parameter values (Map), or null if none
+	 */
+	public static Key createKey(Object compiledQuery, Object params) {
+		if (params instanceof Object[]) {
+			params = Arrays.asList((Object[]) params);
+		}
+		return new Key(compiledQuery, params);
+	}
+
+	/**
+	 * Registers the invalidation listener on the specified map if not registered
+	 * already, and returns the map's current version. The returned version must
+	 * be passed to {@link #put(Key, String, long, List)} after the query is
+	 * executed.
+	 *
+	 * @param mapName Map name
+	 */
+	public long getVersion(String mapName) {
+		AtomicLong version = versionMap.get(mapName);
+		if (version == null) {
+			synchronized (listenerIdMap) {
+				version = versionMap.get(mapName);
+				if (version == null) {
+					version = new AtomicLong();
+					versionMap.put(mapName, version);
+					IMap imap = hz.getMap(mapName);
+					listenerIdMap.put(mapName, imap.addEntryListener(new InvalidationListener(version), false));
+				}
+			}
+		}
+		return version.get();
+	}
+
+	/**
+	 * Returns the cached result set of the specified key. Returns null if not
+	 * cached, expired, or invalidated. A result set whose map is no longer
+	 * monitored, i.e., the cache is being closed concurrently, is invalidated.
+	 *
+	 * @param key Cache key
+	 */
+	public synchronized <T> List<T> get(Key key) {
+		CachedResults cachedResults = map.get(key);
+		if (cachedResults == null) {
+			missCount.incrementAndGet();
+			return null;
+		}
+		AtomicLong currentVersion = versionMap.get(cachedResults.mapName);
+		if (currentVersion == null || cachedResults.version != currentVersion.get()) {
+			map.remove(key);
+			invalidationCount.incrementAndGet();
+			missCount.incrementAndGet();
+			return null;
+		}
+		if (timeToLiveInMsec > 0 && System.currentTimeMillis() - cachedResults.createdTime > timeToLiveInMsec) {
+			map.remove(key);
+			evictionCount.incrementAndGet();
+			missCount.incrementAndGet();
+			return null;
+		}
+		hitCount.incrementAndGet();
+		return (List<T>) cachedResults.list;
+	}
+
+	/**
+	 * Caches the specified result set if the specified map version is current.
+	 *
+	 * @param key     Cache key
+	 * @param mapName Name of the queried map
+	 * @param version Map version returned by {@link #getVersion(String)} before
+	 *                the query was executed
+	 * @param list    Entire result set
+	 */
+	public synchronized void put(Key key, String mapName, long version, List<?> list) {
+		AtomicLong currentVersion = versionMap.get(mapName);
+		if (currentVersion != null && currentVersion.get() == version) {
+			map.put(key, new CachedResults(mapName, version, list));
+		}
+	}
+
+	/**
+	 * Removes all cached result sets and the invalidation listeners.
+	 */
+	public void close() {
+		synchronized (listenerIdMap) {
+			for (Map.Entry<String, UUID> entry : listenerIdMap.entrySet()) {
+				hz.getMap(entry.getKey()).removeEntryListener(entry.getValue());
+			}
+			listenerIdMap.clear();
+			versionMap.clear();
+		}
+		clear();
+	}
+
+	/**
+	 * Removes all cached result sets. The statistics are not reset.
+	 */
+	public synchronized void clear() {
+		map.clear();
+	}
+
+	/**
+	 * Returns the number of cached result sets including the stale ones that
+	 * have not been removed.
+	 */
+	public synchronized int size() {
+		return map.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getTimeToLiveInMsec() {
+		return timeToLiveInMsec;
+	}
+
+	/**
+	 * Returns the number of lookups that returned a cached result set.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups that did not return a cached result set.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of result sets removed due to the maximum size or
+	 * time-to-live.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Returns the number of result sets removed due to map changes.
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ResultCache [size=" + size() + ", maxSize=" + maxSize + ", timeToLiveInMsec=" + timeToLiveInMsec
+				+ ", hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount
+				+ ", invalidationCount=" + invalidationCount + "]";
+	}
+
+	/**
+	 * Cache key made of the compiled query identity and the bind parameter
+	 * values.
+	 */
+	public static class Key {
+		private final Object compiledQuery;
+		private final Object params;
+
+		private Key(Object compiledQuery, Object params) {
+			this.compiledQuery = compiledQuery;
+			this.params = params;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(compiledQuery) + (params == null ? 0 : params.hashCode());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof Key == false) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return compiledQuery == other.compiledQuery
+					&& (params == null ? other.params == null : params.equals(other.params));
+		}
+	}
+
+	private static class CachedResults {
+		final String mapName;
+		final long version;
+		final long createdTime = System.currentTimeMillis();
+		final List<?> list;
+
+		CachedResults(String mapName, long version, List<?> list) {
+			this.mapName = mapName;
+			this.version = version;
+			this.list = list;
+		}
+	}
+
+	/**
+	 * Increments the map version on every entry or map event.
+	 */
+	private static class InvalidationListener implements EntryAddedListener, EntryUpdatedListener,
+			EntryRemovedListener, EntryEvictedListener, EntryExpiredListener, MapClearedListener, MapEvictedListener {
+		private final AtomicLong version;
+
+		InvalidationListener(AtomicLong version) {
+			this.version = version;
+		}
+
+		@Override
+		public void entryAdded(EntryEvent event) {
+			version.incrementAndGet();
+		}
+
+		@Override
+		public void entryUpdated(EntryEvent event) {
+			version.incrementAndGet();
+		}
+
+		@Override
+		public void entryRemoved(EntryEvent event) {
+			version.incrementAndGet();
+		}
+
+		@Override
+		public void entryEvicted(EntryEvent event) {
+			version.incrementAndGet();
+		}
+
+		@Override
+		public void entryExpired(EntryEvent event) {
+			version.incrementAndGet();
+		}
+
+		@Override
+		public void mapCleared(MapEvent event) {
+			version.incrementAndGet();
+		}
+
+		@Override
+		public void mapEvicted(MapEvent event) {
+			version.incrementAndGet();
+		}
+	}
+}
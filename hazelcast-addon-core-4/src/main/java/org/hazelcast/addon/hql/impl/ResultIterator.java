@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.ResultType;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.partition.PartitionService;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
+
+/**
+ * ResultIterator iterates the entire query result set without paging the full
+ * result set. Unlike paging with {@link com.hazelcast.query.PagingPredicate},
+ * which re-evaluates and re-sorts the full result set on every member for each
+ * page, ResultIterator reads the results as follows:
+ * <ul>
+ * <li>Unordered: Queries one partition at a time using a partition predicate.
+ * Each partition is scanned exactly once and the client holds only one
+ * partition's results at a time.</li>
+ * <li>Ordered: Queries each partition in sorted pages of the specified page
+ * size using a paging predicate wrapped in a partition predicate, and merges
+ * the partition pages in the client with a heap. Each page after the first is
+ * anchored at the last entry of the previous page by {@link KeysetPredicate},
+ * so that the member sorts only the entries of the partition that have not
+ * been read. A partition with fewer matching entries than the page size is
+ * read by a single query. The first pages of all partitions are needed before
+ * the first result is returned, so they are queried concurrently on the
+ * specified executor. The client holds at most one page per partition.</li>
+ * </ul>
+ *
+ * @author dpark
+ *
+ * @param <T> Object type in the result set
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ResultIterator<T> implements Iterator<T> {
+
+	/**
+	 * Default number of entries fetched per partition query by ordered
+	 * iterators.
+	 */
+	public static final int PARTITION_PAGE_SIZE = 100;
+
+	private final IMap map;
+	private final Predicate queryPredicate;
+	private final ResultType type;
+	private final Object[] partitionKeys;
+	private int partitionIndex = 0;
+	private Iterator<T> current;
+
+	/**
+	 * Constructs a ResultIterator that iterates the results one partition at a
+	 * time.
+	 */
+	private ResultIterator(HazelcastInstance hz, IMap map, Predicate queryPredicate, ResultType type) {
+		this.map = map;
+		this.queryPredicate = queryPredicate;
+		this.type = type;
+		this.partitionKeys = getPartitionKeys(hz.getPartitionService());
+	}
+
+	/**
+	 * Returns an iterator over the entire result set. The first pages of ordered
+	 * results are queried one partition at a time in the calling thread.
+	 *
+	 * @param hz             Hazelcast instance
+	 * @param map            Map to query
+	 * @param queryPredicate Query predicate
+	 * @param comparator     Order-by comparator. If null, then the results are
+	 *                       unordered and read one partition at a time.
+	 *                       Otherwise, it must be serializable and the sorted
+	 *                       partition pages of {@link #PARTITION_PAGE_SIZE}
+	 *                       entries are merged.
+	 * @param type           Result type
+	 */
+	public static <T> Iterator<T> iterator(HazelcastInstance hz, IMap map, Predicate queryPredicate,
+			Comparator<Map.Entry> comparator, ResultType type) {
+		return iterator(hz, map, queryPredicate, comparator, type, PARTITION_PAGE_SIZE, null, 1);
+	}
+
+	/**
+	 * Returns an iterator over the entire result set.
+	 *
+	 * @param hz             Hazelcast instance
+	 * @param map            Map to query
+	 * @param queryPredicate Query predicate
+	 * @param comparator     Order-by comparator. If null, then the results are
+	 *                       unordered and read one partition at a time.
+	 *                       Otherwise, it must be serializable and the sorted
+	 *                       partition pages are merged.
+	 * @param type           Result type
+	 * @param pageSize       Number of entries fetched per partition query by
+	 *                       ordered iterators. If &lt;= 0, then
+	 *                       {@link #PARTITION_PAGE_SIZE}.
+	 * @param executor       Executor that queries the first pages of ordered
+	 *                       results. If null, then they are queried in the
+	 *                       calling thread.
+	 * @param parallelism    Maximum number of concurrent first page queries
+	 */
+	public static <T> Iterator<T> iterator(HazelcastInstance hz, IMap map, Predicate queryPredicate,
+			Comparator<Map.Entry> comparator, ResultType type, int pageSize, Executor executor, int parallelism) {
+		if (comparator == null) {
+			return new ResultIterator<T>(hz, map, queryPredicate, type);
+		}
+		return new MergeIterator<T>(map, queryPredicate, comparator, type,
+				getPartitionKeys(hz.getPartitionService()), pageSize > 0 ? pageSize : PARTITION_PAGE_SIZE, executor,
+				parallelism);
+	}
+
+	/**
+	 * Returns an array of keys that cover all partitions, one key per partition.
+	 * The array index is the partition ID.
+	 *
+	 * @param partitionService Partition service
+	 */
+	static Object[] getPartitionKeys(PartitionService partitionService) {
+		int partitionCount = partitionService.getPartitions().size();
+		Object[] partitionKeys = new Object[partitionCount];
+		int found = 0;
+		for (int i = 0; found < partitionCount; i++) {
+			int partitionId = partitionService.getPartition(i).getPartitionId();
+			if (partitionKeys[partitionId] == null) {
+				partitionKeys[partitionId] = i;
+				found++;
+			}
+		}
+		return partitionKeys;
+	}
+
+	private Collection<T> query(Object partitionKey) {
+		Predicate predicate = Predicates.partitionPredicate(partitionKey, queryPredicate);
+		switch (type) {
+		case KEYS:
+			return map.keySet(predicate);
+		case KEYS_VALUES:
+			return map.entrySet(predicate);
+		default:
+			return map.values(predicate);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (current == null || current.hasNext() == false) {
+			if (partitionIndex >= partitionKeys.length) {
+				return false;
+			}
+			current = query(partitionKeys[partitionIndex++]).iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (hasNext() == false) {
+			throw new NoSuchElementException();
+		}
+		return current.next();
+	}
+
+	/**
+	 * PartitionCursor reads the entries of one partition in sorted pages. Each
+	 * page after the first is anchored at the last entry of the previous page.
+	 */
+	private static class PartitionCursor {
+		private final IMap map;
+		private final Predicate queryPredicate;
+		private final Comparator<Map.Entry> comparator;
+		private final Object partitionKey;
+		private final int pageSize;
+		private Iterator<Map.Entry> page;
+		private boolean isLastPage;
+		private Map.Entry head;
+		private Map.Entry anchor;
+		private Set<Object> tieKeys;
+
+		PartitionCursor(IMap map, Predicate queryPredicate, Comparator<Map.Entry> comparator, Object partitionKey,
+				int pageSize) {
+			this.map = map;
+			this.queryPredicate = queryPredicate;
+			this.comparator = comparator;
+			this.partitionKey = partitionKey;
+			this.pageSize = pageSize;
+			readPage();
+		}
+
+		/**
+		 * Reads the next page of the partition. The page is sorted in the client
+		 * again because the returned set is not guaranteed to be ordered.
+		 */
+		private void readPage() {
+			Predicate predicate = queryPredicate;
+			if (anchor != null) {
+				Predicate keysetPredicate = new KeysetPredicate(comparator, anchor, tieKeys);
+				predicate = queryPredicate == null ? keysetPredicate : Predicates.and(queryPredicate, keysetPredicate);
+			}
+			PagingPredicate pagingPredicate = new PagingPredicateImpl(predicate, comparator, pageSize);
+			predicate = Predicates.partitionPredicate(partitionKey, pagingPredicate);
+			List<Map.Entry> entryList = new ArrayList<Map.Entry>(map.entrySet(predicate));
+			Collections.sort(entryList, comparator);
+			isLastPage = entryList.size() < pageSize;
+			if (isLastPage == false) {
+				setAnchor(entryList);
+			}
+			page = entryList.iterator();
+			head = page.hasNext() ? page.next() : null;
+		}
+
+		/**
+		 * Sets the anchor to the last entry of the specified full page. The tie
+		 * keys are the keys of all entries read so far that compare equal to the
+		 * anchor.
+		 */
+		private void setAnchor(List<Map.Entry> entryList) {
+			Map.Entry last = entryList.get(entryList.size() - 1);
+			Set<Object> keySet = new HashSet<Object>();
+			if (anchor != null && comparator.compare(last, anchor) == 0) {
+				keySet.addAll(tieKeys);
+			}
+			for (int i = entryList.size() - 1; i >= 0 && comparator.compare(entryList.get(i), last) == 0; i--) {
+				keySet.add(entryList.get(i).getKey());
+			}
+			anchor = last;
+			tieKeys = keySet;
+		}
+
+		/**
+		 * Advances to the next entry. Reads the next page if the current page is
+		 * consumed.
+		 * 
+		 * @return false if the partition has no more entries
+		 */
+		boolean advance() {
+			if (page.hasNext()) {
+				head = page.next();
+				return true;
+			}
+			if (isLastPage) {
+				head = null;
+				return false;
+			}
+			readPage();
+			return head != null;
+		}
+	}
+
+	/**
+	 * MergeIterator merges the sorted pages of all partitions in the order-by
+	 * order. The heap holds the cursor of each partition that has remaining
+	 * entries, ordered by the cursor's next entry.
+	 */
+	private static class MergeIterator<T> implements Iterator<T> {
+		private final ResultType type;
+		private final PriorityQueue<Integer> heap;
+		private final PartitionCursor[] cursors;
+
+		MergeIterator(IMap map, Predicate queryPredicate, Comparator<Map.Entry> comparator, ResultType type,
+				Object[] partitionKeys, int pageSize, Executor executor, int parallelism) {
+			this.type = type;
+			this.cursors = new PartitionCursor[partitionKeys.length];
+			this.heap = new PriorityQueue<Integer>(Math.max(1, partitionKeys.length),
+					(i, j) -> comparator.compare(cursors[i].head, cursors[j].head));
+			AtomicInteger partitionIndex = new AtomicInteger(0);
+			Runnable opener = () -> {
+				int index;
+				while ((index = partitionIndex.getAndIncrement()) < partitionKeys.length) {
+					cursors[index] = new PartitionCursor(map, queryPredicate, comparator, partitionKeys[index],
+							pageSize);
+				}
+			};
+			int workerCount = Math.min(parallelism, partitionKeys.length);
+			if (executor == null || workerCount <= 1) {
+				opener.run();
+			} else {
+				CompletableFuture[] futures = new CompletableFuture[workerCount];
+				for (int i = 0; i < workerCount; i++) {
+					futures[i] = CompletableFuture.runAsync(opener, executor);
+				}
+				try {
+					CompletableFuture.allOf(futures).join();
+				} catch (CompletionException ex) {
+					throw new HqlException("Partition query failed", ex.getCause());
+				}
+			}
+			for (int i = 0; i < cursors.length; i++) {
+				if (cursors[i].head != null) {
+					heap.add(i);
+				} else {
+					cursors[i] = null;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return heap.isEmpty() == false;
+		}
+
+		@Override
+		public T next() {
+			if (heap.isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			int index = heap.poll();
+			PartitionCursor cursor = cursors[index];
+			Map.Entry entry = cursor.head;
+			if (cursor.advance()) {
+				heap.add(index);
+			} else {
+				cursors[index] = null;
+			}
+			switch (type) {
+			case KEYS:
+				return (T) entry.getKey();
+			case VALUES:
+				return (T) entry.getValue();
+			default:
+				return (T) entry;
+			}
+		}
+	}
+}
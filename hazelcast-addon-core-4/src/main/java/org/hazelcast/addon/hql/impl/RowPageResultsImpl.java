@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hazelcast.addon.hql.ResultType;
+
+/**
+ * RowPageResultsImpl contains the rows returned by a row query, i.e., a query
+ * with a select column list, aggregate functions, distinct, or group by. Each
+ * row is an <code>Object[]</code> of the select list values. The rows are
+ * computed on the members in a single request and paged in the client by the
+ * fetch size.
+ *
+ * @author dpark
+ *
+ */
+public class RowPageResultsImpl extends ListPageResultsImpl<Object[]> {
+
+	private final String[] columnLabels;
+
+	/**
+	 * Constructs a RowPageResultsImpl object containing the specified rows.
+	 *
+	 * @param rows         All rows in the result set
+	 * @param columnLabels Select list column labels
+	 * @param fetchSize    Page size
+	 */
+	public RowPageResultsImpl(List<Object[]> rows, String[] columnLabels, int fetchSize) {
+		super(rows, ResultType.ROWS, fetchSize);
+		this.columnLabels = columnLabels;
+	}
+
+	/**
+	 * Returns the select list column labels. A label is the column alias if
+	 * specified, otherwise the column or aggregate function text.
+	 */
+	public String[] getColumnLabels() {
+		return columnLabels;
+	}
+
+	/**
+	 * Dumps the current page rows to sysout.
+	 */
+	@Override
+	public void dump() {
+		System.out.println(Arrays.toString(columnLabels));
+		int index = getStartIndex();
+		for (Object[] row : getResults()) {
+			System.out.println(index++ + ". " + Arrays.toString(row));
+		}
+	}
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hazelcast.addon.hql.ISubscription;
+import org.hazelcast.addon.hql.ResultListener;
+import org.hazelcast.addon.hql.ResultType;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
+import com.hazelcast.query.Predicate;
+
+/**
+ * SubscriptionImpl is a continuous query implemented by a map entry listener
+ * filtered by the query predicate. The members evaluate the predicate and send
+ * only the events of the matching entries, so that the client receives the
+ * changes to the result set instead of re-executing the query.
+ * <p>
+ * The listener is registered before the snapshot is queried, and the events
+ * received while the snapshot is being queried are buffered and delivered
+ * after the snapshot. An event that is already reflected in the snapshot is
+ * therefore delivered again as an update. The keys of the result set are kept
+ * in the client to tell additions from updates, since Hazelcast reports an
+ * update that makes an entry match the predicate as an update.
+ * <p>
+ * By default, the members evaluate the predicate against the new value of an
+ * updated entry, so an update that makes an entry no longer match is not sent.
+ * Set the following member property to have such updates sent as removals.
+ *
+ * <pre>
+ * hazelcast.map.entry.filtering.natural.event.types=true
+ * </pre>
+ *
+ * The removal of an entry by {@link IMap#delete(Object)} does not carry the
+ * old value, so it is sent only if the predicate refers to the key alone.
+ *
+ * @author dpark
+ *
+ * @param <T> Result object type
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class SubscriptionImpl<T> implements ISubscription, EntryAddedListener, EntryUpdatedListener,
+		EntryRemovedListener, EntryEvictedListener, EntryExpiredListener, MapClearedListener, MapEvictedListener {
+
+	private final HazelcastInstance hz;
+	private final IMap map;
+	private final Predicate queryPredicate;
+	private final Comparator<Map.Entry> comparator;
+	private final ResultType resultType;
+	private final ResultListener<T> listener;
+
+	// Guarded by this
+	private final Set<Object> keySet = new HashSet<Object>();
+	private List<Object> bufferedEvents = new ArrayList<Object>();
+	private UUID listenerId;
+	private boolean isClosed;
+
+	/**
+	 * Constructs a SubscriptionImpl. {@link #start()} must be invoked to register
+	 * the map listener and deliver the snapshot.
+	 *
+	 * @param hz             Hazelcast instance
+	 * @param map            Map to subscribe to
+	 * @param queryPredicate Query predicate
+	 * @param comparator     Order-by comparator of the snapshot. null if
+	 *                       unordered.
+	 * @param resultType     Result type. Must be one of KEYS, VALUES, or
+	 *                       KEYS_VALUES.
+	 * @param listener       Listener receiving the results
+	 */
+	public SubscriptionImpl(HazelcastInstance hz, IMap map, Predicate queryPredicate,
+			Comparator<Map.Entry> comparator, ResultType resultType, ResultListener<T> listener) {
+		this.hz = hz;
+		this.map = map;
+		this.queryPredicate = queryPredicate;
+		this.comparator = comparator;
+		this.resultType = resultType;
+		this.listener = listener;
+	}
+
+	/**
+	 * Registers the map listener, delivers the snapshot, and then delivers the
+	 * events received while the snapshot was being queried. If the snapshot
+	 * fails, then the map listener is removed.
+	 */
+	public void start() {
+		boolean isIncludeValue = resultType != ResultType.KEYS;
+		UUID id = map.addEntryListener(this, queryPredicate, isIncludeValue);
+		synchronized (this) {
+			listenerId = id;
+		}
+		try {
+			ResultType snapshotType = resultType == ResultType.KEYS ? ResultType.KEYS : ResultType.KEYS_VALUES;
+			Iterator iterator = ResultIterator.iterator(hz, map, queryPredicate, comparator, snapshotType);
+			List<Object> keyList = new ArrayList<Object>();
+			List<T> results = new ArrayList<T>();
+			while (iterator.hasNext()) {
+				Object next = iterator.next();
+				if (resultType == ResultType.KEYS) {
+					keyList.add(next);
+					results.add((T) next);
+				} else {
+					Map.Entry entry = (Map.Entry) next;
+					keyList.add(entry.getKey());
+					results.add(toResult(entry.getKey(), entry.getValue()));
+				}
+			}
+			synchronized (this) {
+				if (isClosed) {
+					return;
+				}
+				keySet.addAll(keyList);
+				listener.onSnapshot(results);
+				List<Object> events = bufferedEvents;
+				bufferedEvents = null;
+				for (Object event : events) {
+					if (event instanceof EntryEvent) {
+						dispatch((EntryEvent) event);
+					} else {
+						dispatchMapEvent();
+					}
+				}
+			}
+		} catch (RuntimeException ex) {
+			close();
+			throw ex;
+		}
+	}
+
+	private T toResult(Object key, Object value) {
+		switch (resultType) {
+		case KEYS:
+			return (T) key;
+		case VALUES:
+			return (T) value;
+		default:
+			return (T) new AbstractMap.SimpleImmutableEntry(key, value);
+		}
+	}
+
+	/**
+	 * Returns the result of the specified old value. null if the old value is not
+	 * known.
+	 */
+	private T toOldResult(Object key, Object oldValue) {
+		if (oldValue == null && resultType != ResultType.KEYS) {
+			return null;
+		}
+		return toResult(key, oldValue);
+	}
+
+	private synchronized void onEvent(EntryEvent event) {
+		if (isClosed) {
+			return;
+		}
+		if (bufferedEvents != null) {
+			bufferedEvents.add(event);
+		} else {
+			dispatch(event);
+		}
+	}
+
+	private void dispatch(EntryEvent event) {
+		Object key = event.getKey();
+		switch (event.getEventType()) {
+		case ADDED:
+		case UPDATED:
+			if (keySet.add(key)) {
+				listener.onAdded(key, toResult(key, event.getValue()));
+			} else {
+				listener.onUpdated(key, toResult(key, event.getValue()), toOldResult(key, event.getOldValue()));
+			}
+			break;
+		default:
+			if (keySet.remove(key)) {
+				listener.onRemoved(key, toOldResult(key, event.getOldValue()));
+			}
+			break;
+		}
+	}
+
+	private synchronized void onMapEvent() {
+		if (isClosed) {
+			return;
+		}
+		if (bufferedEvents != null) {
+			bufferedEvents.add(Boolean.TRUE);
+		} else {
+			dispatchMapEvent();
+		}
+	}
+
+	/**
+	 * Removes all entries from the result set. The map is cleared or evicted.
+	 */
+	private void dispatchMapEvent() {
+		List<Object> keyList = new ArrayList<Object>(keySet);
+		keySet.clear();
+		for (Object key : keyList) {
+			listener.onRemoved(key, toOldResult(key, null));
+		}
+	}
+
+	@Override
+	public void entryAdded(EntryEvent event) {
+		onEvent(event);
+	}
+
+	@Override
+	public void entryUpdated(EntryEvent event) {
+		onEvent(event);
+	}
+
+	@Override
+	public void entryRemoved(EntryEvent event) {
+		onEvent(event);
+	}
+
+	@Override
+	public void entryEvicted(EntryEvent event) {
+		onEvent(event);
+	}
+
+	@Override
+	public void entryExpired(EntryEvent event) {
+		onEvent(event);
+	}
+
+	@Override
+	public void mapCleared(MapEvent event) {
+		onMapEvent();
+	}
+
+	@Override
+	public void mapEvicted(MapEvent event) {
+		onMapEvent();
+	}
+
+	@Override
+	public String getMapName() {
+		return map.getName();
+	}
+
+	@Override
+	public ResultType getResultType() {
+		return resultType;
+	}
+
+	@Override
+	public synchronized int size() {
+		return keySet.size();
+	}
+
+	@Override
+	public synchronized boolean isClosed() {
+		return isClosed;
+	}
+
+	@Override
+	public void close() {
+		UUID id;
+		synchronized (this) {
+			if (isClosed) {
+				return;
+			}
+			isClosed = true;
+			id = listenerId;
+			keySet.clear();
+			bufferedEvents = null;
+		}
+		if (id != null) {
+			map.removeEntryListener(id);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SubscriptionImpl [mapName=" + map.getName() + ", resultType=" + resultType + ", size=" + size()
+				+ ", isClosed=" + isClosed() + "]";
+	}
+}
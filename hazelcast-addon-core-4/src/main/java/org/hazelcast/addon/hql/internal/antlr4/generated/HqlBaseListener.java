@@ -95,6 +95,18 @@ public class HqlBaseListener implements HqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitPrimitive_expression(HqlParser.Primitive_expressionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterBind_parameter_expression(HqlParser.Bind_parameter_expressionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitBind_parameter_expression(HqlParser.Bind_parameter_expressionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -131,6 +143,18 @@ public class HqlBaseListener implements HqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitColumn_ref_expression(HqlParser.Column_ref_expressionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterBind_parameter(HqlParser.Bind_parameterContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitBind_parameter(HqlParser.Bind_parameterContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -299,6 +323,18 @@ public class HqlBaseListener implements HqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitSelect_clause(HqlParser.Select_clauseContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterGroup_by_clause(HqlParser.Group_by_clauseContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitGroup_by_clause(HqlParser.Group_by_clauseContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -323,6 +359,18 @@ public class HqlBaseListener implements HqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitOrder_by_expression(HqlParser.Order_by_expressionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterLimit_clause(HqlParser.Limit_clauseContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitLimit_clause(HqlParser.Limit_clauseContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -347,6 +395,18 @@ public class HqlBaseListener implements HqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitSelect_list_elem(HqlParser.Select_list_elemContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterAggregate_function(HqlParser.Aggregate_functionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitAggregate_function(HqlParser.Aggregate_functionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -383,6 +443,30 @@ public class HqlBaseListener implements HqlListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitPath_source(HqlParser.Path_sourceContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterJoin_clause(HqlParser.Join_clauseContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitJoin_clause(HqlParser.Join_clauseContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterJoin_condition(HqlParser.Join_conditionContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitJoin_condition(HqlParser.Join_conditionContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -18,46 +18,51 @@ public class HqlParser extends Parser {
 		new PredictionContextCache();
 	public static final int
 		AND=1, AS=2, ASC=3, BETWEEN=4, BY=5, DELETE=6, DESC=7, DISTINCT=8, DOUBLE=9, 
-		ENTRIES=10, FROM=11, ILIKE=12, IN=13, KEY=14, KEYS=15, LIKE=16, NOT=17, 
-		NULL=18, NVL=19, OR=20, ORDER=21, REGEX=22, SET=23, SELECT=24, VALUE=25, 
-		VALUES=26, WHERE=27, ABSOLUTE=28, COUNT=29, COUNT_BIG=30, LTRIM=31, MAX=32, 
-		MIN=33, MINUTE=34, NUMBER=35, PARTITION=36, PATH=37, RTRIM=38, STDEV=39, 
-		SUM=40, TRIM=41, TYPE=42, SPACE=43, COMMENT=44, LINE_COMMENT=45, DOUBLE_QUOTE_ID=46, 
-		SQUARE_BRACKET_ID=47, DECIMAL=48, ID=49, STRING=50, BINARY=51, FLOAT=52, 
-		REAL=53, EQUAL=54, GREATER=55, LESS=56, EXCLAMATION=57, PLUS_ASSIGN=58, 
-		MINUS_ASSIGN=59, MULT_ASSIGN=60, DIV_ASSIGN=61, MOD_ASSIGN=62, AND_ASSIGN=63, 
-		XOR_ASSIGN=64, OR_ASSIGN=65, DOT=66, UNDERLINE=67, AT=68, SHARP=69, DOLLAR=70, 
-		LR_BRACKET=71, RR_BRACKET=72, COMMA=73, SEMI=74, COLON=75, STAR=76, DIVIDE=77, 
-		MODULE=78, PLUS=79, MINUS=80, BIT_NOT=81, BIT_OR=82, BIT_AND=83, BIT_XOR=84;
+		ENTRIES=10, EXPLAIN=11, FROM=12, GROUP=13, ILIKE=14, IN=15, INNER=16, 
+		JOIN=17, KEY=18, KEYS=19, LIKE=20, LIMIT=21, NOT=22, NULL=23, NVL=24, 
+		OFFSET=25, ON=26, OR=27, ORDER=28, REGEX=29, SET=30, SELECT=31, VALUE=32, 
+		VALUES=33, WHERE=34, ABSOLUTE=35, AVG=36, COUNT=37, COUNT_BIG=38, LTRIM=39, 
+		MAX=40, MIN=41, MINUTE=42, NUMBER=43, PARTITION=44, PATH=45, RTRIM=46, 
+		STDEV=47, SUM=48, TRIM=49, TYPE=50, SPACE=51, COMMENT=52, LINE_COMMENT=53, 
+		DOUBLE_QUOTE_ID=54, SQUARE_BRACKET_ID=55, DECIMAL=56, ID=57, STRING=58, 
+		BINARY=59, FLOAT=60, REAL=61, EQUAL=62, GREATER=63, LESS=64, EXCLAMATION=65, 
+		PLUS_ASSIGN=66, MINUS_ASSIGN=67, MULT_ASSIGN=68, DIV_ASSIGN=69, MOD_ASSIGN=70, 
+		AND_ASSIGN=71, XOR_ASSIGN=72, OR_ASSIGN=73, DOT=74, UNDERLINE=75, AT=76, 
+		SHARP=77, DOLLAR=78, LR_BRACKET=79, RR_BRACKET=80, COMMA=81, SEMI=82, 
+		COLON=83, QUESTION=84, STAR=85, DIVIDE=86, MODULE=87, PLUS=88, MINUS=89, 
+		BIT_NOT=90, BIT_OR=91, BIT_AND=92, BIT_XOR=93;
 	public static final int
 		RULE_hql_file = 0, RULE_hql_clause = 1, RULE_dml_clause = 2, RULE_select_statement = 3, 
-		RULE_end_statement = 4, RULE_expression = 5, RULE_constant_expression = 6, 
-		RULE_subquery = 7, RULE_search_condition_list = 8, RULE_search_condition = 9, 
-		RULE_search_condition_and = 10, RULE_or_condition = 11, RULE_and_condition = 12, 
-		RULE_search_condition_not = 13, RULE_predicate = 14, RULE_lhs_expression = 15, 
-		RULE_rhs_expression = 16, RULE_query_expression = 17, RULE_query_specification = 18, 
-		RULE_select_clause = 19, RULE_order_by_clause = 20, RULE_order_by_expression = 21, 
-		RULE_select_list = 22, RULE_select_list_elem = 23, RULE_from_clause = 24, 
-		RULE_where_clause = 25, RULE_path_source = 26, RULE_path_source_item = 27, 
-		RULE_set_type = 28, RULE_as_path_alias = 29, RULE_path_alias = 30, RULE_path_hint = 31, 
-		RULE_column_alias_list = 32, RULE_column_alias = 33, RULE_expression_list = 34, 
-		RULE_path_name = 35, RULE_path = 36, RULE_full_column_name = 37, RULE_column_name_list = 38, 
-		RULE_column_name = 39, RULE_simple_name = 40, RULE_null_notnull = 41, 
-		RULE_default_value = 42, RULE_constant = 43, RULE_number = 44, RULE_sign = 45, 
-		RULE_id = 46, RULE_simple_id = 47, RULE_keywordsCanBeId = 48, RULE_comparison_operator = 49;
+		RULE_end_statement = 4, RULE_expression = 5, RULE_bind_parameter = 6, 
+		RULE_constant_expression = 7, RULE_subquery = 8, RULE_search_condition_list = 9, 
+		RULE_search_condition = 10, RULE_search_condition_and = 11, RULE_or_condition = 12, 
+		RULE_and_condition = 13, RULE_search_condition_not = 14, RULE_predicate = 15, 
+		RULE_lhs_expression = 16, RULE_rhs_expression = 17, RULE_query_expression = 18, 
+		RULE_query_specification = 19, RULE_select_clause = 20, RULE_group_by_clause = 21, 
+		RULE_order_by_clause = 22, RULE_order_by_expression = 23, RULE_limit_clause = 24, 
+		RULE_select_list = 25, RULE_select_list_elem = 26, RULE_aggregate_function = 27, 
+		RULE_from_clause = 28, RULE_where_clause = 29, RULE_path_source = 30, 
+		RULE_join_clause = 31, RULE_join_condition = 32, RULE_path_source_item = 33, 
+		RULE_set_type = 34, RULE_as_path_alias = 35, RULE_path_alias = 36, RULE_path_hint = 37, 
+		RULE_column_alias_list = 38, RULE_column_alias = 39, RULE_expression_list = 40, 
+		RULE_path_name = 41, RULE_path = 42, RULE_full_column_name = 43, RULE_column_name_list = 44, 
+		RULE_column_name = 45, RULE_simple_name = 46, RULE_null_notnull = 47, 
+		RULE_default_value = 48, RULE_constant = 49, RULE_number = 50, RULE_sign = 51, 
+		RULE_id = 52, RULE_simple_id = 53, RULE_keywordsCanBeId = 54, RULE_comparison_operator = 55;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"hql_file", "hql_clause", "dml_clause", "select_statement", "end_statement", 
-			"expression", "constant_expression", "subquery", "search_condition_list", 
+			"expression", "bind_parameter", "constant_expression", "subquery", "search_condition_list", 
 			"search_condition", "search_condition_and", "or_condition", "and_condition", 
 			"search_condition_not", "predicate", "lhs_expression", "rhs_expression", 
-			"query_expression", "query_specification", "select_clause", "order_by_clause", 
-			"order_by_expression", "select_list", "select_list_elem", "from_clause", 
-			"where_clause", "path_source", "path_source_item", "set_type", "as_path_alias", 
-			"path_alias", "path_hint", "column_alias_list", "column_alias", "expression_list", 
-			"path_name", "path", "full_column_name", "column_name_list", "column_name", 
-			"simple_name", "null_notnull", "default_value", "constant", "number", 
-			"sign", "id", "simple_id", "keywordsCanBeId", "comparison_operator"
+			"query_expression", "query_specification", "select_clause", "group_by_clause", 
+			"order_by_clause", "order_by_expression", "limit_clause", "select_list", 
+			"select_list_elem", "aggregate_function", "from_clause", "where_clause", 
+			"path_source", "join_clause", "join_condition", "path_source_item", "set_type", 
+			"as_path_alias", "path_alias", "path_hint", "column_alias_list", "column_alias", 
+			"expression_list", "path_name", "path", "full_column_name", "column_name_list", 
+			"column_name", "simple_name", "null_notnull", "default_value", "constant", 
+			"number", "sign", "id", "simple_id", "keywordsCanBeId", "comparison_operator"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -68,27 +73,29 @@ public class HqlParser extends Parser {
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
 			null, null, null, null, null, null, null, null, null, null, null, null, 
-			null, null, null, null, null, null, "'='", "'>'", "'<'", "'!'", "'+='", 
-			"'-='", "'*='", "'/='", "'%='", "'&='", "'^='", "'|='", "'.'", "'_'", 
-			"'@'", "'#'", "'$'", "'('", "')'", "','", "';'", "':'", "'*'", "'/'", 
-			"'%'", "'+'", "'-'", "'~'", "'|'", "'&'", "'^'"
+			null, null, null, null, null, null, null, null, null, null, null, null, 
+			null, null, "'='", "'>'", "'<'", "'!'", "'+='", "'-='", "'*='", "'/='", 
+			"'%='", "'&='", "'^='", "'|='", "'.'", "'_'", "'@'", "'#'", "'$'", "'('", 
+			"')'", "','", "';'", "':'", "'?'", "'*'", "'/'", "'%'", "'+'", "'-'", 
+			"'~'", "'|'", "'&'", "'^'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
 			null, "AND", "AS", "ASC", "BETWEEN", "BY", "DELETE", "DESC", "DISTINCT", 
-			"DOUBLE", "ENTRIES", "FROM", "ILIKE", "IN", "KEY", "KEYS", "LIKE", "NOT", 
-			"NULL", "NVL", "OR", "ORDER", "REGEX", "SET", "SELECT", "VALUE", "VALUES", 
-			"WHERE", "ABSOLUTE", "COUNT", "COUNT_BIG", "LTRIM", "MAX", "MIN", "MINUTE", 
+			"DOUBLE", "ENTRIES", "EXPLAIN", "FROM", "GROUP", "ILIKE", "IN", "INNER", 
+			"JOIN", "KEY", "KEYS", "LIKE", "LIMIT", "NOT", "NULL", "NVL", "OFFSET", 
+			"ON", "OR", "ORDER", "REGEX", "SET", "SELECT", "VALUE", "VALUES", "WHERE", 
+			"ABSOLUTE", "AVG", "COUNT", "COUNT_BIG", "LTRIM", "MAX", "MIN", "MINUTE", 
 			"NUMBER", "PARTITION", "PATH", "RTRIM", "STDEV", "SUM", "TRIM", "TYPE", 
 			"SPACE", "COMMENT", "LINE_COMMENT", "DOUBLE_QUOTE_ID", "SQUARE_BRACKET_ID", 
 			"DECIMAL", "ID", "STRING", "BINARY", "FLOAT", "REAL", "EQUAL", "GREATER", 
 			"LESS", "EXCLAMATION", "PLUS_ASSIGN", "MINUS_ASSIGN", "MULT_ASSIGN", 
 			"DIV_ASSIGN", "MOD_ASSIGN", "AND_ASSIGN", "XOR_ASSIGN", "OR_ASSIGN", 
 			"DOT", "UNDERLINE", "AT", "SHARP", "DOLLAR", "LR_BRACKET", "RR_BRACKET", 
-			"COMMA", "SEMI", "COLON", "STAR", "DIVIDE", "MODULE", "PLUS", "MINUS", 
-			"BIT_NOT", "BIT_OR", "BIT_AND", "BIT_XOR"
+			"COMMA", "SEMI", "COLON", "QUESTION", "STAR", "DIVIDE", "MODULE", "PLUS", 
+			"MINUS", "BIT_NOT", "BIT_OR", "BIT_AND", "BIT_XOR"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -176,21 +183,21 @@ public class HqlParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(103);
+			setState(115);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==SELECT || _la==LR_BRACKET) {
+			while (_la==EXPLAIN || _la==SELECT || _la==LR_BRACKET) {
 				{
 				{
-				setState(100);
+				setState(112);
 				hql_clause();
 				}
 				}
-				setState(105);
+				setState(117);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(106);
+			setState(118);
 			match(EOF);
 			}
 		}
@@ -209,6 +216,7 @@ public class HqlParser extends Parser {
 		public Dml_clauseContext dml_clause() {
 			return getRuleContext(Dml_clauseContext.class,0);
 		}
+		public TerminalNode EXPLAIN() { return getToken(HqlParser.EXPLAIN, 0); }
 		public Hql_clauseContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -231,10 +239,21 @@ public class HqlParser extends Parser {
 	public final Hql_clauseContext hql_clause() throws RecognitionException {
 		Hql_clauseContext _localctx = new Hql_clauseContext(_ctx, getState());
 		enterRule(_localctx, 2, RULE_hql_clause);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(108);
+			setState(121);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==EXPLAIN) {
+				{
+				setState(120);
+				match(EXPLAIN);
+				}
+			}
+
+			setState(123);
 			dml_clause();
 			}
 		}
@@ -278,7 +297,7 @@ public class HqlParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(110);
+			setState(125);
 			select_statement();
 			}
 		}
@@ -326,14 +345,14 @@ public class HqlParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(112);
+			setState(127);
 			query_expression();
-			setState(114);
+			setState(129);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(113);
+				setState(128);
 				end_statement();
 				}
 			}
@@ -378,7 +397,7 @@ public class HqlParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(116);
+			setState(131);
 			match(SEMI);
 			}
 		}
@@ -420,9 +439,6 @@ public class HqlParser extends Parser {
 		public TerminalNode BIT_AND() { return getToken(HqlParser.BIT_AND, 0); }
 		public TerminalNode BIT_XOR() { return getToken(HqlParser.BIT_XOR, 0); }
 		public TerminalNode BIT_OR() { return getToken(HqlParser.BIT_OR, 0); }
-		public Comparison_operatorContext comparison_operator() {
-			return getRuleContext(Comparison_operatorContext.class,0);
-		}
 		public Binary_operator_expressionContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
@@ -458,6 +474,25 @@ public class HqlParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
+	public static class Bind_parameter_expressionContext extends ExpressionContext {
+		public Bind_parameterContext bind_parameter() {
+			return getRuleContext(Bind_parameterContext.class,0);
+		}
+		public Bind_parameter_expressionContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterBind_parameter_expression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitBind_parameter_expression(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitBind_parameter_expression(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 	public static class Bracket_expressionContext extends ExpressionContext {
 		public TerminalNode LR_BRACKET() { return getToken(HqlParser.LR_BRACKET, 0); }
 		public ExpressionContext expression() {
@@ -537,16 +572,16 @@ public class HqlParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(128);
+			setState(144);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
 			case 1:
 				{
 				_localctx = new Primitive_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(119);
+				setState(134);
 				match(NULL);
 				}
 				break;
@@ -555,38 +590,47 @@ public class HqlParser extends Parser {
 				_localctx = new Primitive_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(120);
+				setState(135);
 				constant();
 				}
 				break;
 			case 3:
+				{
+				_localctx = new Bind_parameter_expressionContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(136);
+				bind_parameter();
+				}
+				break;
+			case 4:
 				{
 				_localctx = new Column_ref_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(121);
+				setState(137);
 				full_column_name();
 				}
 				break;
-			case 4:
+			case 5:
 				{
 				_localctx = new Bracket_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(122);
+				setState(138);
 				match(LR_BRACKET);
-				setState(123);
+				setState(139);
 				expression(0);
-				setState(124);
+				setState(140);
 				match(RR_BRACKET);
 				}
 				break;
-			case 5:
+			case 6:
 				{
 				_localctx = new Unary_operator_expressionContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(126);
+				setState(142);
 				((Unary_operator_expressionContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==PLUS || _la==MINUS) ) {
@@ -597,33 +641,33 @@ public class HqlParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(127);
-				expression(3);
+				setState(143);
+				expression(2);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(142);
+			setState(154);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,5,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(140);
+					setState(152);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 					case 1:
 						{
 						_localctx = new Binary_operator_expressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(130);
-						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(131);
+						setState(146);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(147);
 						((Binary_operator_expressionContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(((((_la - 76)) & ~0x3f) == 0 && ((1L << (_la - 76)) & ((1L << (STAR - 76)) | (1L << (DIVIDE - 76)) | (1L << (MODULE - 76)))) != 0)) ) {
+						if ( !(((((_la - 85)) & ~0x3f) == 0 && ((1L << (_la - 85)) & ((1L << (STAR - 85)) | (1L << (DIVIDE - 85)) | (1L << (MODULE - 85)))) != 0)) ) {
 							((Binary_operator_expressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
@@ -631,20 +675,20 @@ public class HqlParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(132);
-						expression(5);
+						setState(148);
+						expression(4);
 						}
 						break;
 					case 2:
 						{
 						_localctx = new Binary_operator_expressionContext(new ExpressionContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(133);
-						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(134);
+						setState(149);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(150);
 						((Binary_operator_expressionContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(((((_la - 79)) & ~0x3f) == 0 && ((1L << (_la - 79)) & ((1L << (PLUS - 79)) | (1L << (MINUS - 79)) | (1L << (BIT_OR - 79)) | (1L << (BIT_AND - 79)) | (1L << (BIT_XOR - 79)))) != 0)) ) {
+						if ( !(((((_la - 88)) & ~0x3f) == 0 && ((1L << (_la - 88)) & ((1L << (PLUS - 88)) | (1L << (MINUS - 88)) | (1L << (BIT_OR - 88)) | (1L << (BIT_AND - 88)) | (1L << (BIT_XOR - 88)))) != 0)) ) {
 							((Binary_operator_expressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						else {
@@ -652,28 +696,16 @@ public class HqlParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(135);
-						expression(3);
-						}
-						break;
-					case 3:
-						{
-						_localctx = new Binary_operator_expressionContext(new ExpressionContext(_parentctx, _parentState));
-						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(136);
-						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(137);
-						comparison_operator();
-						setState(138);
+						setState(151);
 						expression(2);
 						}
 						break;
 					}
 					} 
 				}
-				setState(144);
+				setState(156);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,5,_ctx);
 			}
 			}
 		}
@@ -688,6 +720,69 @@ public class HqlParser extends Parser {
 		return _localctx;
 	}
 
+	public static class Bind_parameterContext extends ParserRuleContext {
+		public TerminalNode QUESTION() { return getToken(HqlParser.QUESTION, 0); }
+		public TerminalNode COLON() { return getToken(HqlParser.COLON, 0); }
+		public IdContext id() {
+			return getRuleContext(IdContext.class,0);
+		}
+		public Bind_parameterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bind_parameter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterBind_parameter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitBind_parameter(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitBind_parameter(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Bind_parameterContext bind_parameter() throws RecognitionException {
+		Bind_parameterContext _localctx = new Bind_parameterContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_bind_parameter);
+		try {
+			setState(160);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case QUESTION:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(157);
+				match(QUESTION);
+				}
+				break;
+			case COLON:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(158);
+				match(COLON);
+				setState(159);
+				id();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class Constant_expressionContext extends ParserRuleContext {
 		public TerminalNode NULL() { return getToken(HqlParser.NULL, 0); }
 		public ConstantContext constant() {
@@ -719,15 +814,15 @@ public class HqlParser extends Parser {
 
 	public final Constant_expressionContext constant_expression() throws RecognitionException {
 		Constant_expressionContext _localctx = new Constant_expressionContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_constant_expression);
+		enterRule(_localctx, 14, RULE_constant_expression);
 		try {
-			setState(151);
+			setState(168);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NULL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(145);
+				setState(162);
 				match(NULL);
 				}
 				break;
@@ -741,18 +836,18 @@ public class HqlParser extends Parser {
 			case MINUS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(146);
+				setState(163);
 				constant();
 				}
 				break;
 			case LR_BRACKET:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(147);
+				setState(164);
 				match(LR_BRACKET);
-				setState(148);
+				setState(165);
 				constant_expression();
-				setState(149);
+				setState(166);
 				match(RR_BRACKET);
 				}
 				break;
@@ -796,11 +891,11 @@ public class HqlParser extends Parser {
 
 	public final SubqueryContext subquery() throws RecognitionException {
 		SubqueryContext _localctx = new SubqueryContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_subquery);
+		enterRule(_localctx, 16, RULE_subquery);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(153);
+			setState(170);
 			select_statement();
 			}
 		}
@@ -847,26 +942,26 @@ public class HqlParser extends Parser {
 
 	public final Search_condition_listContext search_condition_list() throws RecognitionException {
 		Search_condition_listContext _localctx = new Search_condition_listContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_search_condition_list);
+		enterRule(_localctx, 18, RULE_search_condition_list);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(155);
+			setState(172);
 			search_condition();
-			setState(160);
+			setState(177);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(156);
+				setState(173);
 				match(COMMA);
-				setState(157);
+				setState(174);
 				search_condition();
 				}
 				}
-				setState(162);
+				setState(179);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -914,24 +1009,24 @@ public class HqlParser extends Parser {
 
 	public final Search_conditionContext search_condition() throws RecognitionException {
 		Search_conditionContext _localctx = new Search_conditionContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_search_condition);
+		enterRule(_localctx, 20, RULE_search_condition);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(163);
+			setState(180);
 			search_condition_and();
-			setState(167);
+			setState(184);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==OR) {
 				{
 				{
-				setState(164);
+				setState(181);
 				or_condition();
 				}
 				}
-				setState(169);
+				setState(186);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -979,24 +1074,24 @@ public class HqlParser extends Parser {
 
 	public final Search_condition_andContext search_condition_and() throws RecognitionException {
 		Search_condition_andContext _localctx = new Search_condition_andContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_search_condition_and);
+		enterRule(_localctx, 22, RULE_search_condition_and);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(170);
+			setState(187);
 			search_condition_not();
-			setState(174);
+			setState(191);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AND) {
 				{
 				{
-				setState(171);
+				setState(188);
 				and_condition();
 				}
 				}
-				setState(176);
+				setState(193);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1039,13 +1134,13 @@ public class HqlParser extends Parser {
 
 	public final Or_conditionContext or_condition() throws RecognitionException {
 		Or_conditionContext _localctx = new Or_conditionContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_or_condition);
+		enterRule(_localctx, 24, RULE_or_condition);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(177);
+			setState(194);
 			match(OR);
-			setState(178);
+			setState(195);
 			search_condition_and();
 			}
 		}
@@ -1086,13 +1181,13 @@ public class HqlParser extends Parser {
 
 	public final And_conditionContext and_condition() throws RecognitionException {
 		And_conditionContext _localctx = new And_conditionContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_and_condition);
+		enterRule(_localctx, 26, RULE_and_condition);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(180);
+			setState(197);
 			match(AND);
-			setState(181);
+			setState(198);
 			search_condition_not();
 			}
 		}
@@ -1133,21 +1228,22 @@ public class HqlParser extends Parser {
 
 	public final Search_condition_notContext search_condition_not() throws RecognitionException {
 		Search_condition_notContext _localctx = new Search_condition_notContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_search_condition_not);
+		enterRule(_localctx, 28, RULE_search_condition_not);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(184);
+			setState(201);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
-			case 1:
+			_la = _input.LA(1);
+			if (_la==NOT) {
 				{
-				setState(183);
+				setState(200);
 				match(NOT);
 				}
-				break;
 			}
-			setState(186);
+
+			setState(203);
 			predicate();
 			}
 		}
@@ -1195,55 +1291,28 @@ public class HqlParser extends Parser {
 
 	public final PredicateContext predicate() throws RecognitionException {
 		PredicateContext _localctx = new PredicateContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_predicate);
+		enterRule(_localctx, 30, RULE_predicate);
 		try {
-			setState(204);
+			setState(212);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(188);
+				setState(205);
 				lhs_expression();
-				setState(189);
+				setState(206);
 				rhs_expression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(191);
-				lhs_expression();
-				setState(192);
-				rhs_expression();
-				}
-				break;
-			case 3:
-				enterOuterAlt(_localctx, 3);
-				{
-				setState(194);
-				lhs_expression();
-				setState(195);
-				rhs_expression();
-				}
-				break;
-			case 4:
-				enterOuterAlt(_localctx, 4);
-				{
-				setState(197);
-				lhs_expression();
-				setState(198);
-				rhs_expression();
-				}
-				break;
-			case 5:
-				enterOuterAlt(_localctx, 5);
-				{
-				setState(200);
+				setState(208);
 				match(LR_BRACKET);
-				setState(201);
+				setState(209);
 				search_condition();
-				setState(202);
+				setState(210);
 				match(RR_BRACKET);
 				}
 				break;
@@ -1285,11 +1354,11 @@ public class HqlParser extends Parser {
 
 	public final Lhs_expressionContext lhs_expression() throws RecognitionException {
 		Lhs_expressionContext _localctx = new Lhs_expressionContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_lhs_expression);
+		enterRule(_localctx, 32, RULE_lhs_expression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(206);
+			setState(214);
 			expression(0);
 			}
 		}
@@ -1347,81 +1416,81 @@ public class HqlParser extends Parser {
 
 	public final Rhs_expressionContext rhs_expression() throws RecognitionException {
 		Rhs_expressionContext _localctx = new Rhs_expressionContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_rhs_expression);
+		enterRule(_localctx, 34, RULE_rhs_expression);
 		int _la;
 		try {
-			setState(232);
+			setState(240);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(208);
+				setState(216);
 				comparison_operator();
-				setState(209);
+				setState(217);
 				expression(0);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(212);
+				setState(220);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(211);
+					setState(219);
 					match(NOT);
 					}
 				}
 
-				setState(214);
+				setState(222);
 				match(BETWEEN);
-				setState(215);
+				setState(223);
 				expression(0);
-				setState(216);
+				setState(224);
 				match(AND);
-				setState(217);
+				setState(225);
 				expression(0);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(220);
+				setState(228);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(219);
+					setState(227);
 					match(NOT);
 					}
 				}
 
-				setState(222);
+				setState(230);
 				match(IN);
-				setState(223);
+				setState(231);
 				match(LR_BRACKET);
-				setState(224);
+				setState(232);
 				expression_list();
-				setState(225);
+				setState(233);
 				match(RR_BRACKET);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(228);
+				setState(236);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==NOT) {
 					{
-					setState(227);
+					setState(235);
 					match(NOT);
 					}
 				}
 
-				setState(230);
+				setState(238);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ILIKE) | (1L << LIKE) | (1L << REGEX))) != 0)) ) {
 				_errHandler.recoverInline(this);
@@ -1431,7 +1500,7 @@ public class HqlParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(231);
+				setState(239);
 				expression(0);
 				}
 				break;
@@ -1478,26 +1547,26 @@ public class HqlParser extends Parser {
 
 	public final Query_expressionContext query_expression() throws RecognitionException {
 		Query_expressionContext _localctx = new Query_expressionContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_query_expression);
+		enterRule(_localctx, 36, RULE_query_expression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(239);
+			setState(247);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case SELECT:
 				{
-				setState(234);
+				setState(242);
 				query_specification();
 				}
 				break;
 			case LR_BRACKET:
 				{
-				setState(235);
+				setState(243);
 				match(LR_BRACKET);
-				setState(236);
+				setState(244);
 				query_expression();
-				setState(237);
+				setState(245);
 				match(RR_BRACKET);
 				}
 				break;
@@ -1527,9 +1596,15 @@ public class HqlParser extends Parser {
 		public Where_clauseContext where_clause() {
 			return getRuleContext(Where_clauseContext.class,0);
 		}
+		public Group_by_clauseContext group_by_clause() {
+			return getRuleContext(Group_by_clauseContext.class,0);
+		}
 		public Order_by_clauseContext order_by_clause() {
 			return getRuleContext(Order_by_clauseContext.class,0);
 		}
+		public Limit_clauseContext limit_clause() {
+			return getRuleContext(Limit_clauseContext.class,0);
+		}
 		public Query_specificationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1551,35 +1626,55 @@ public class HqlParser extends Parser {
 
 	public final Query_specificationContext query_specification() throws RecognitionException {
 		Query_specificationContext _localctx = new Query_specificationContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_query_specification);
+		enterRule(_localctx, 38, RULE_query_specification);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(241);
+			setState(249);
 			select_clause();
-			setState(242);
+			setState(250);
 			from_clause();
-			setState(244);
+			setState(252);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==WHERE) {
 				{
-				setState(243);
+				setState(251);
 				where_clause();
 				}
 			}
 
-			setState(247);
+			setState(255);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==GROUP) {
+				{
+				setState(254);
+				group_by_clause();
+				}
+			}
+
+			setState(258);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ORDER) {
 				{
-				setState(246);
+				setState(257);
 				order_by_clause();
 				}
 			}
 
+			setState(261);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LIMIT) {
+				{
+				setState(260);
+				limit_clause();
+				}
+			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1598,6 +1693,7 @@ public class HqlParser extends Parser {
 		public Select_listContext select_list() {
 			return getRuleContext(Select_listContext.class,0);
 		}
+		public TerminalNode DISTINCT() { return getToken(HqlParser.DISTINCT, 0); }
 		public Select_clauseContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1619,13 +1715,23 @@ public class HqlParser extends Parser {
 
 	public final Select_clauseContext select_clause() throws RecognitionException {
 		Select_clauseContext _localctx = new Select_clauseContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_select_clause);
+		enterRule(_localctx, 40, RULE_select_clause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(249);
+			setState(263);
 			match(SELECT);
-			setState(250);
+			setState(265);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+			case 1:
+				{
+				setState(264);
+				match(DISTINCT);
+				}
+				break;
+			}
+			setState(267);
 			select_list();
 			}
 		}
@@ -1640,6 +1746,80 @@ public class HqlParser extends Parser {
 		return _localctx;
 	}
 
+	public static class Group_by_clauseContext extends ParserRuleContext {
+		public TerminalNode GROUP() { return getToken(HqlParser.GROUP, 0); }
+		public TerminalNode BY() { return getToken(HqlParser.BY, 0); }
+		public List<Full_column_nameContext> full_column_name() {
+			return getRuleContexts(Full_column_nameContext.class);
+		}
+		public Full_column_nameContext full_column_name(int i) {
+			return getRuleContext(Full_column_nameContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(HqlParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(HqlParser.COMMA, i);
+		}
+		public Group_by_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_group_by_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterGroup_by_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitGroup_by_clause(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitGroup_by_clause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Group_by_clauseContext group_by_clause() throws RecognitionException {
+		Group_by_clauseContext _localctx = new Group_by_clauseContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_group_by_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(269);
+			match(GROUP);
+			setState(270);
+			match(BY);
+			setState(271);
+			full_column_name();
+			setState(276);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(272);
+				match(COMMA);
+				setState(273);
+				full_column_name();
+				}
+				}
+				setState(278);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class Order_by_clauseContext extends ParserRuleContext {
 		public TerminalNode ORDER() { return getToken(HqlParser.ORDER, 0); }
 		public TerminalNode BY() { return getToken(HqlParser.BY, 0); }
@@ -1674,30 +1854,30 @@ public class HqlParser extends Parser {
 
 	public final Order_by_clauseContext order_by_clause() throws RecognitionException {
 		Order_by_clauseContext _localctx = new Order_by_clauseContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_order_by_clause);
+		enterRule(_localctx, 44, RULE_order_by_clause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(252);
+			setState(279);
 			match(ORDER);
-			setState(253);
+			setState(280);
 			match(BY);
-			setState(254);
+			setState(281);
 			order_by_expression();
-			setState(259);
+			setState(286);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(255);
+				setState(282);
 				match(COMMA);
-				setState(256);
+				setState(283);
 				order_by_expression();
 				}
 				}
-				setState(261);
+				setState(288);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1715,6 +1895,9 @@ public class HqlParser extends Parser {
 	}
 
 	public static class Order_by_expressionContext extends ParserRuleContext {
+		public Aggregate_functionContext aggregate_function() {
+			return getRuleContext(Aggregate_functionContext.class,0);
+		}
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
@@ -1741,19 +1924,33 @@ public class HqlParser extends Parser {
 
 	public final Order_by_expressionContext order_by_expression() throws RecognitionException {
 		Order_by_expressionContext _localctx = new Order_by_expressionContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_order_by_expression);
+		enterRule(_localctx, 46, RULE_order_by_expression);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
-			expression(0);
-			setState(264);
+			setState(291);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			case 1:
+				{
+				setState(289);
+				aggregate_function();
+				}
+				break;
+			case 2:
+				{
+				setState(290);
+				expression(0);
+				}
+				break;
+			}
+			setState(294);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASC || _la==DESC) {
 				{
-				setState(263);
+				setState(293);
 				_la = _input.LA(1);
 				if ( !(_la==ASC || _la==DESC) ) {
 				_errHandler.recoverInline(this);
@@ -1779,9 +1976,80 @@ public class HqlParser extends Parser {
 		return _localctx;
 	}
 
+	public static class Limit_clauseContext extends ParserRuleContext {
+		public Token limit;
+		public Token offset;
+		public TerminalNode LIMIT() { return getToken(HqlParser.LIMIT, 0); }
+		public List<TerminalNode> DECIMAL() { return getTokens(HqlParser.DECIMAL); }
+		public TerminalNode DECIMAL(int i) {
+			return getToken(HqlParser.DECIMAL, i);
+		}
+		public TerminalNode OFFSET() { return getToken(HqlParser.OFFSET, 0); }
+		public Limit_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_limit_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterLimit_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitLimit_clause(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitLimit_clause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Limit_clauseContext limit_clause() throws RecognitionException {
+		Limit_clauseContext _localctx = new Limit_clauseContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_limit_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(296);
+			match(LIMIT);
+			setState(297);
+			((Limit_clauseContext)_localctx).limit = match(DECIMAL);
+			setState(300);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==OFFSET) {
+				{
+				setState(298);
+				match(OFFSET);
+				setState(299);
+				((Limit_clauseContext)_localctx).offset = match(DECIMAL);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class Select_listContext extends ParserRuleContext {
-		public Select_list_elemContext select_list_elem() {
-			return getRuleContext(Select_list_elemContext.class,0);
+		public List<Select_list_elemContext> select_list_elem() {
+			return getRuleContexts(Select_list_elemContext.class);
+		}
+		public Select_list_elemContext select_list_elem(int i) {
+			return getRuleContext(Select_list_elemContext.class,i);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(HqlParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(HqlParser.COMMA, i);
 		}
 		public Select_listContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1802,14 +2070,136 @@ public class HqlParser extends Parser {
 		}
 	}
 
-	public final Select_listContext select_list() throws RecognitionException {
-		Select_listContext _localctx = new Select_listContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_select_list);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(266);
-			select_list_elem();
+	public final Select_listContext select_list() throws RecognitionException {
+		Select_listContext _localctx = new Select_listContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_select_list);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(302);
+			select_list_elem();
+			setState(307);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(303);
+				match(COMMA);
+				setState(304);
+				select_list_elem();
+				}
+				}
+				setState(309);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Select_list_elemContext extends ParserRuleContext {
+		public TerminalNode STAR() { return getToken(HqlParser.STAR, 0); }
+		public Aggregate_functionContext aggregate_function() {
+			return getRuleContext(Aggregate_functionContext.class,0);
+		}
+		public Column_aliasContext column_alias() {
+			return getRuleContext(Column_aliasContext.class,0);
+		}
+		public TerminalNode AS() { return getToken(HqlParser.AS, 0); }
+		public Full_column_nameContext full_column_name() {
+			return getRuleContext(Full_column_nameContext.class,0);
+		}
+		public Select_list_elemContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_select_list_elem; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterSelect_list_elem(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitSelect_list_elem(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitSelect_list_elem(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Select_list_elemContext select_list_elem() throws RecognitionException {
+		Select_list_elemContext _localctx = new Select_list_elemContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_select_list_elem);
+		int _la;
+		try {
+			setState(323);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(310);
+				match(STAR);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(311);
+				aggregate_function();
+				setState(316);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+				case 1:
+					{
+					setState(313);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+					case 1:
+						{
+						setState(312);
+						match(AS);
+						}
+						break;
+					}
+					setState(315);
+					column_alias();
+					}
+					break;
+				}
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(318);
+				full_column_name();
+				setState(321);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==AS) {
+					{
+					setState(319);
+					match(AS);
+					setState(320);
+					column_alias();
+					}
+				}
+
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -1823,35 +2213,155 @@ public class HqlParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Select_list_elemContext extends ParserRuleContext {
+	public static class Aggregate_functionContext extends ParserRuleContext {
+		public TerminalNode COUNT() { return getToken(HqlParser.COUNT, 0); }
+		public TerminalNode LR_BRACKET() { return getToken(HqlParser.LR_BRACKET, 0); }
+		public TerminalNode RR_BRACKET() { return getToken(HqlParser.RR_BRACKET, 0); }
 		public TerminalNode STAR() { return getToken(HqlParser.STAR, 0); }
-		public Select_list_elemContext(ParserRuleContext parent, int invokingState) {
+		public Full_column_nameContext full_column_name() {
+			return getRuleContext(Full_column_nameContext.class,0);
+		}
+		public TerminalNode DISTINCT() { return getToken(HqlParser.DISTINCT, 0); }
+		public TerminalNode SUM() { return getToken(HqlParser.SUM, 0); }
+		public TerminalNode AVG() { return getToken(HqlParser.AVG, 0); }
+		public TerminalNode MIN() { return getToken(HqlParser.MIN, 0); }
+		public TerminalNode MAX() { return getToken(HqlParser.MAX, 0); }
+		public Aggregate_functionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_select_list_elem; }
+		@Override public int getRuleIndex() { return RULE_aggregate_function; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterSelect_list_elem(this);
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterAggregate_function(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitSelect_list_elem(this);
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitAggregate_function(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitSelect_list_elem(this);
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitAggregate_function(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Select_list_elemContext select_list_elem() throws RecognitionException {
-		Select_list_elemContext _localctx = new Select_list_elemContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_select_list_elem);
+	public final Aggregate_functionContext aggregate_function() throws RecognitionException {
+		Aggregate_functionContext _localctx = new Aggregate_functionContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_aggregate_function);
+		int _la;
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(268);
-			match(STAR);
+			setState(340);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case COUNT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(325);
+				match(COUNT);
+				setState(326);
+				match(LR_BRACKET);
+				setState(332);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case STAR:
+					{
+					setState(327);
+					match(STAR);
+					}
+					break;
+				case AND:
+				case AS:
+				case BETWEEN:
+				case BY:
+				case DELETE:
+				case DISTINCT:
+				case DOUBLE:
+				case ENTRIES:
+				case EXPLAIN:
+				case FROM:
+				case ILIKE:
+				case IN:
+				case KEY:
+				case KEYS:
+				case LIKE:
+				case NULL:
+				case NVL:
+				case OR:
+				case ORDER:
+				case REGEX:
+				case SET:
+				case SELECT:
+				case VALUE:
+				case VALUES:
+				case WHERE:
+				case ABSOLUTE:
+				case AVG:
+				case COUNT:
+				case COUNT_BIG:
+				case LTRIM:
+				case MAX:
+				case MIN:
+				case NUMBER:
+				case PARTITION:
+				case PATH:
+				case RTRIM:
+				case STDEV:
+				case SUM:
+				case TRIM:
+				case TYPE:
+				case DOUBLE_QUOTE_ID:
+				case SQUARE_BRACKET_ID:
+				case ID:
+				case DOT:
+				case DIVIDE:
+					{
+					setState(329);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+					case 1:
+						{
+						setState(328);
+						match(DISTINCT);
+						}
+						break;
+					}
+					setState(331);
+					full_column_name();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(334);
+				match(RR_BRACKET);
+				}
+				break;
+			case AVG:
+			case MAX:
+			case MIN:
+			case SUM:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(335);
+				_la = _input.LA(1);
+				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << AVG) | (1L << MAX) | (1L << MIN) | (1L << SUM))) != 0)) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				setState(336);
+				match(LR_BRACKET);
+				setState(337);
+				full_column_name();
+				setState(338);
+				match(RR_BRACKET);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1891,19 +2401,19 @@ public class HqlParser extends Parser {
 
 	public final From_clauseContext from_clause() throws RecognitionException {
 		From_clauseContext _localctx = new From_clauseContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_from_clause);
+		enterRule(_localctx, 56, RULE_from_clause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(272);
+			setState(344);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==FROM) {
 				{
-				setState(270);
+				setState(342);
 				match(FROM);
-				setState(271);
+				setState(343);
 				path_source();
 				}
 			}
@@ -1948,18 +2458,18 @@ public class HqlParser extends Parser {
 
 	public final Where_clauseContext where_clause() throws RecognitionException {
 		Where_clauseContext _localctx = new Where_clauseContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_where_clause);
+		enterRule(_localctx, 58, RULE_where_clause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(274);
+			setState(346);
 			match(WHERE);
-			setState(276);
+			setState(348);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,21,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 			case 1:
 				{
-				setState(275);
+				setState(347);
 				((Where_clauseContext)_localctx).where = search_condition();
 				}
 				break;
@@ -1981,6 +2491,9 @@ public class HqlParser extends Parser {
 		public Path_source_itemContext path_source_item() {
 			return getRuleContext(Path_source_itemContext.class,0);
 		}
+		public Join_clauseContext join_clause() {
+			return getRuleContext(Join_clauseContext.class,0);
+		}
 		public TerminalNode LR_BRACKET() { return getToken(HqlParser.LR_BRACKET, 0); }
 		public TerminalNode RR_BRACKET() { return getToken(HqlParser.RR_BRACKET, 0); }
 		public Path_sourceContext(ParserRuleContext parent, int invokingState) {
@@ -2004,9 +2517,10 @@ public class HqlParser extends Parser {
 
 	public final Path_sourceContext path_source() throws RecognitionException {
 		Path_sourceContext _localctx = new Path_sourceContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_path_source);
+		enterRule(_localctx, 60, RULE_path_source);
+		int _la;
 		try {
-			setState(283);
+			setState(358);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case AND:
@@ -2017,13 +2531,13 @@ public class HqlParser extends Parser {
 			case DISTINCT:
 			case DOUBLE:
 			case ENTRIES:
+			case EXPLAIN:
 			case FROM:
 			case ILIKE:
 			case IN:
 			case KEY:
 			case KEYS:
 			case LIKE:
-			case NOT:
 			case NULL:
 			case NVL:
 			case OR:
@@ -2035,6 +2549,7 @@ public class HqlParser extends Parser {
 			case VALUES:
 			case WHERE:
 			case ABSOLUTE:
+			case AVG:
 			case COUNT:
 			case COUNT_BIG:
 			case LTRIM:
@@ -2052,18 +2567,28 @@ public class HqlParser extends Parser {
 			case DIVIDE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(278);
+				setState(350);
 				path_source_item();
+				setState(352);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==INNER || _la==JOIN) {
+					{
+					setState(351);
+					join_clause();
+					}
+				}
+
 				}
 				break;
 			case LR_BRACKET:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(279);
+				setState(354);
 				match(LR_BRACKET);
-				setState(280);
+				setState(355);
 				path_source_item();
-				setState(281);
+				setState(356);
 				match(RR_BRACKET);
 				}
 				break;
@@ -2082,6 +2607,125 @@ public class HqlParser extends Parser {
 		return _localctx;
 	}
 
+	public static class Join_clauseContext extends ParserRuleContext {
+		public TerminalNode JOIN() { return getToken(HqlParser.JOIN, 0); }
+		public Path_source_itemContext path_source_item() {
+			return getRuleContext(Path_source_itemContext.class,0);
+		}
+		public TerminalNode ON() { return getToken(HqlParser.ON, 0); }
+		public Join_conditionContext join_condition() {
+			return getRuleContext(Join_conditionContext.class,0);
+		}
+		public TerminalNode INNER() { return getToken(HqlParser.INNER, 0); }
+		public Join_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_join_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterJoin_clause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitJoin_clause(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitJoin_clause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Join_clauseContext join_clause() throws RecognitionException {
+		Join_clauseContext _localctx = new Join_clauseContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_join_clause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(361);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==INNER) {
+				{
+				setState(360);
+				match(INNER);
+				}
+			}
+
+			setState(363);
+			match(JOIN);
+			setState(364);
+			path_source_item();
+			setState(365);
+			match(ON);
+			setState(366);
+			join_condition();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Join_conditionContext extends ParserRuleContext {
+		public List<Full_column_nameContext> full_column_name() {
+			return getRuleContexts(Full_column_nameContext.class);
+		}
+		public Full_column_nameContext full_column_name(int i) {
+			return getRuleContext(Full_column_nameContext.class,i);
+		}
+		public TerminalNode EQUAL() { return getToken(HqlParser.EQUAL, 0); }
+		public Join_conditionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_join_condition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).enterJoin_condition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof HqlListener ) ((HqlListener)listener).exitJoin_condition(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof HqlVisitor ) return ((HqlVisitor<? extends T>)visitor).visitJoin_condition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Join_conditionContext join_condition() throws RecognitionException {
+		Join_conditionContext _localctx = new Join_conditionContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_join_condition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(368);
+			full_column_name();
+			setState(369);
+			match(EQUAL);
+			setState(370);
+			full_column_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class Path_source_itemContext extends ParserRuleContext {
 		public PathContext path() {
 			return getRuleContext(PathContext.class,0);
@@ -2114,31 +2758,31 @@ public class HqlParser extends Parser {
 
 	public final Path_source_itemContext path_source_item() throws RecognitionException {
 		Path_source_itemContext _localctx = new Path_source_itemContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_path_source_item);
+		enterRule(_localctx, 66, RULE_path_source_item);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(285);
+			setState(372);
 			path();
-			setState(288);
+			setState(375);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==DOT) {
 				{
-				setState(286);
+				setState(373);
 				match(DOT);
-				setState(287);
+				setState(374);
 				set_type();
 				}
 			}
 
-			setState(291);
+			setState(378);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
 			case 1:
 				{
-				setState(290);
+				setState(377);
 				as_path_alias();
 				}
 				break;
@@ -2181,12 +2825,12 @@ public class HqlParser extends Parser {
 
 	public final Set_typeContext set_type() throws RecognitionException {
 		Set_typeContext _localctx = new Set_typeContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_set_type);
+		enterRule(_localctx, 68, RULE_set_type);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(293);
+			setState(380);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << ENTRIES) | (1L << KEYS) | (1L << VALUES))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -2235,21 +2879,21 @@ public class HqlParser extends Parser {
 
 	public final As_path_aliasContext as_path_alias() throws RecognitionException {
 		As_path_aliasContext _localctx = new As_path_aliasContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_as_path_alias);
+		enterRule(_localctx, 70, RULE_as_path_alias);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(296);
+			setState(383);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 			case 1:
 				{
-				setState(295);
+				setState(382);
 				match(AS);
 				}
 				break;
 			}
-			setState(298);
+			setState(385);
 			path_alias();
 			}
 		}
@@ -2302,23 +2946,23 @@ public class HqlParser extends Parser {
 
 	public final Path_aliasContext path_alias() throws RecognitionException {
 		Path_aliasContext _localctx = new Path_aliasContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_path_alias);
+		enterRule(_localctx, 72, RULE_path_alias);
 		int _la;
 		try {
-			setState(312);
+			setState(399);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(300);
+				setState(387);
 				id();
-				setState(302);
+				setState(389);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
 				case 1:
 					{
-					setState(301);
+					setState(388);
 					column_alias();
 					}
 					break;
@@ -2328,21 +2972,21 @@ public class HqlParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(304);
+				setState(391);
 				path_hint();
-				setState(309);
+				setState(396);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(305);
+					setState(392);
 					match(COMMA);
-					setState(306);
+					setState(393);
 					path_hint();
 					}
 					}
-					setState(311);
+					setState(398);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -2384,11 +3028,11 @@ public class HqlParser extends Parser {
 
 	public final Path_hintContext path_hint() throws RecognitionException {
 		Path_hintContext _localctx = new Path_hintContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_path_hint);
+		enterRule(_localctx, 74, RULE_path_hint);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(314);
+			setState(401);
 			match(ID);
 			}
 		}
@@ -2437,32 +3081,32 @@ public class HqlParser extends Parser {
 
 	public final Column_alias_listContext column_alias_list() throws RecognitionException {
 		Column_alias_listContext _localctx = new Column_alias_listContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_column_alias_list);
+		enterRule(_localctx, 76, RULE_column_alias_list);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(316);
+			setState(403);
 			match(LR_BRACKET);
-			setState(317);
+			setState(404);
 			column_alias();
-			setState(322);
+			setState(409);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(318);
+				setState(405);
 				match(COMMA);
-				setState(319);
+				setState(406);
 				column_alias();
 				}
 				}
-				setState(324);
+				setState(411);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(325);
+			setState(412);
 			match(RR_BRACKET);
 			}
 		}
@@ -2503,9 +3147,9 @@ public class HqlParser extends Parser {
 
 	public final Column_aliasContext column_alias() throws RecognitionException {
 		Column_aliasContext _localctx = new Column_aliasContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_column_alias);
+		enterRule(_localctx, 78, RULE_column_alias);
 		try {
-			setState(329);
+			setState(416);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case AND:
@@ -2516,13 +3160,13 @@ public class HqlParser extends Parser {
 			case DISTINCT:
 			case DOUBLE:
 			case ENTRIES:
+			case EXPLAIN:
 			case FROM:
 			case ILIKE:
 			case IN:
 			case KEY:
 			case KEYS:
 			case LIKE:
-			case NOT:
 			case NULL:
 			case NVL:
 			case OR:
@@ -2534,6 +3178,7 @@ public class HqlParser extends Parser {
 			case VALUES:
 			case WHERE:
 			case ABSOLUTE:
+			case AVG:
 			case COUNT:
 			case COUNT_BIG:
 			case LTRIM:
@@ -2552,14 +3197,14 @@ public class HqlParser extends Parser {
 			case ID:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(327);
+				setState(414);
 				id();
 				}
 				break;
 			case STRING:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(328);
+				setState(415);
 				match(STRING);
 				}
 				break;
@@ -2610,26 +3255,26 @@ public class HqlParser extends Parser {
 
 	public final Expression_listContext expression_list() throws RecognitionException {
 		Expression_listContext _localctx = new Expression_listContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_expression_list);
+		enterRule(_localctx, 80, RULE_expression_list);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(331);
+			setState(418);
 			expression(0);
-			setState(336);
+			setState(423);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(332);
+				setState(419);
 				match(COMMA);
-				setState(333);
+				setState(420);
 				expression(0);
 				}
 				}
-				setState(338);
+				setState(425);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2671,11 +3316,11 @@ public class HqlParser extends Parser {
 
 	public final Path_nameContext path_name() throws RecognitionException {
 		Path_nameContext _localctx = new Path_nameContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_path_name);
+		enterRule(_localctx, 82, RULE_path_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(339);
+			setState(426);
 			simple_id();
 			}
 		}
@@ -2722,36 +3367,36 @@ public class HqlParser extends Parser {
 
 	public final PathContext path() throws RecognitionException {
 		PathContext _localctx = new PathContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_path);
+		enterRule(_localctx, 84, RULE_path);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(342);
+			setState(429);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==DIVIDE) {
 				{
-				setState(341);
+				setState(428);
 				match(DIVIDE);
 				}
 			}
 
-			setState(344);
+			setState(431);
 			path_name();
-			setState(349);
+			setState(436);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==DIVIDE) {
 				{
 				{
-				setState(345);
+				setState(432);
 				match(DIVIDE);
-				setState(346);
+				setState(433);
 				path_name();
 				}
 				}
-				setState(351);
+				setState(438);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2802,28 +3447,28 @@ public class HqlParser extends Parser {
 
 	public final Full_column_nameContext full_column_name() throws RecognitionException {
 		Full_column_nameContext _localctx = new Full_column_nameContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_full_column_name);
+		enterRule(_localctx, 86, RULE_full_column_name);
 		int _la;
 		try {
-			setState(369);
+			setState(456);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(355);
+				setState(442);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
 				case 1:
 					{
-					setState(352);
+					setState(439);
 					path();
-					setState(353);
+					setState(440);
 					match(DOT);
 					}
 					break;
 				}
-				setState(357);
+				setState(444);
 				_la = _input.LA(1);
 				if ( !(_la==KEY || _la==VALUE) ) {
 				_errHandler.recoverInline(this);
@@ -2838,24 +3483,24 @@ public class HqlParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(361);
+				setState(448);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
 				case 1:
 					{
-					setState(358);
+					setState(445);
 					path();
-					setState(359);
+					setState(446);
 					match(DOT);
 					}
 					break;
 				}
-				setState(364);
+				setState(451);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==KEY || _la==VALUE) {
 					{
-					setState(363);
+					setState(450);
 					_la = _input.LA(1);
 					if ( !(_la==KEY || _la==VALUE) ) {
 					_errHandler.recoverInline(this);
@@ -2868,16 +3513,16 @@ public class HqlParser extends Parser {
 					}
 				}
 
-				setState(366);
+				setState(453);
 				match(DOT);
-				setState(367);
+				setState(454);
 				column_name();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(368);
+				setState(455);
 				column_name();
 				}
 				break;
@@ -2926,26 +3571,26 @@ public class HqlParser extends Parser {
 
 	public final Column_name_listContext column_name_list() throws RecognitionException {
 		Column_name_listContext _localctx = new Column_name_listContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_column_name_list);
+		enterRule(_localctx, 88, RULE_column_name_list);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(371);
+			setState(458);
 			column_name();
-			setState(376);
+			setState(463);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(372);
+				setState(459);
 				match(COMMA);
-				setState(373);
+				setState(460);
 				column_name();
 				}
 				}
-				setState(378);
+				setState(465);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2997,34 +3642,34 @@ public class HqlParser extends Parser {
 
 	public final Column_nameContext column_name() throws RecognitionException {
 		Column_nameContext _localctx = new Column_nameContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_column_name);
+		enterRule(_localctx, 90, RULE_column_name);
 		try {
-			setState(392);
+			setState(479);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(382);
+				setState(469);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
 				case 1:
 					{
-					setState(379);
+					setState(466);
 					id();
-					setState(380);
+					setState(467);
 					match(DOT);
 					}
 					break;
 				}
-				setState(384);
+				setState(471);
 				id();
-				setState(386);
+				setState(473);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
 				case 1:
 					{
-					setState(385);
+					setState(472);
 					column_alias();
 					}
 					break;
@@ -3034,17 +3679,17 @@ public class HqlParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(389);
+				setState(476);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
 				case 1:
 					{
-					setState(388);
+					setState(475);
 					path_alias();
 					}
 					break;
 				}
-				setState(391);
+				setState(478);
 				id();
 				}
 				break;
@@ -3092,23 +3737,23 @@ public class HqlParser extends Parser {
 
 	public final Simple_nameContext simple_name() throws RecognitionException {
 		Simple_nameContext _localctx = new Simple_nameContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_simple_name);
+		enterRule(_localctx, 92, RULE_simple_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(397);
+			setState(484);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
 			case 1:
 				{
-				setState(394);
+				setState(481);
 				((Simple_nameContext)_localctx).schema = id();
-				setState(395);
+				setState(482);
 				match(DOT);
 				}
 				break;
 			}
-			setState(399);
+			setState(486);
 			((Simple_nameContext)_localctx).name = id();
 			}
 		}
@@ -3147,22 +3792,22 @@ public class HqlParser extends Parser {
 
 	public final Null_notnullContext null_notnull() throws RecognitionException {
 		Null_notnullContext _localctx = new Null_notnullContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_null_notnull);
+		enterRule(_localctx, 94, RULE_null_notnull);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(402);
+			setState(489);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==NOT) {
 				{
-				setState(401);
+				setState(488);
 				match(NOT);
 				}
 			}
 
-			setState(404);
+			setState(491);
 			match(NULL);
 			}
 		}
@@ -3203,15 +3848,15 @@ public class HqlParser extends Parser {
 
 	public final Default_valueContext default_value() throws RecognitionException {
 		Default_valueContext _localctx = new Default_valueContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_default_value);
+		enterRule(_localctx, 96, RULE_default_value);
 		try {
-			setState(408);
+			setState(495);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NULL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(406);
+				setState(493);
 				match(NULL);
 				}
 				break;
@@ -3225,7 +3870,7 @@ public class HqlParser extends Parser {
 			case MINUS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(407);
+				setState(494);
 				constant();
 				}
 				break;
@@ -3278,47 +3923,47 @@ public class HqlParser extends Parser {
 
 	public final ConstantContext constant() throws RecognitionException {
 		ConstantContext _localctx = new ConstantContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_constant);
+		enterRule(_localctx, 98, RULE_constant);
 		int _la;
 		try {
-			setState(422);
+			setState(509);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(410);
+				setState(497);
 				match(STRING);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(411);
+				setState(498);
 				match(BINARY);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(412);
+				setState(499);
 				number();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(414);
+				setState(501);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==PLUS || _la==MINUS) {
 					{
-					setState(413);
+					setState(500);
 					sign();
 					}
 				}
 
-				setState(416);
+				setState(503);
 				_la = _input.LA(1);
 				if ( !(_la==FLOAT || _la==REAL) ) {
 				_errHandler.recoverInline(this);
@@ -3333,19 +3978,19 @@ public class HqlParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(418);
+				setState(505);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==PLUS || _la==MINUS) {
 					{
-					setState(417);
+					setState(504);
 					sign();
 					}
 				}
 
-				setState(420);
+				setState(507);
 				match(DOLLAR);
-				setState(421);
+				setState(508);
 				_la = _input.LA(1);
 				if ( !(_la==DECIMAL || _la==FLOAT) ) {
 				_errHandler.recoverInline(this);
@@ -3396,22 +4041,22 @@ public class HqlParser extends Parser {
 
 	public final NumberContext number() throws RecognitionException {
 		NumberContext _localctx = new NumberContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_number);
+		enterRule(_localctx, 100, RULE_number);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(425);
+			setState(512);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==PLUS || _la==MINUS) {
 				{
-				setState(424);
+				setState(511);
 				sign();
 				}
 			}
 
-			setState(427);
+			setState(514);
 			match(DECIMAL);
 			}
 		}
@@ -3450,12 +4095,12 @@ public class HqlParser extends Parser {
 
 	public final SignContext sign() throws RecognitionException {
 		SignContext _localctx = new SignContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_sign);
+		enterRule(_localctx, 102, RULE_sign);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(429);
+			setState(516);
 			_la = _input.LA(1);
 			if ( !(_la==PLUS || _la==MINUS) ) {
 			_errHandler.recoverInline(this);
@@ -3505,9 +4150,9 @@ public class HqlParser extends Parser {
 
 	public final IdContext id() throws RecognitionException {
 		IdContext _localctx = new IdContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_id);
+		enterRule(_localctx, 104, RULE_id);
 		try {
-			setState(434);
+			setState(521);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case AND:
@@ -3518,13 +4163,13 @@ public class HqlParser extends Parser {
 			case DISTINCT:
 			case DOUBLE:
 			case ENTRIES:
+			case EXPLAIN:
 			case FROM:
 			case ILIKE:
 			case IN:
 			case KEY:
 			case KEYS:
 			case LIKE:
-			case NOT:
 			case NULL:
 			case NVL:
 			case OR:
@@ -3536,6 +4181,7 @@ public class HqlParser extends Parser {
 			case VALUES:
 			case WHERE:
 			case ABSOLUTE:
+			case AVG:
 			case COUNT:
 			case COUNT_BIG:
 			case LTRIM:
@@ -3552,21 +4198,21 @@ public class HqlParser extends Parser {
 			case ID:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(431);
+				setState(518);
 				simple_id();
 				}
 				break;
 			case DOUBLE_QUOTE_ID:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(432);
+				setState(519);
 				match(DOUBLE_QUOTE_ID);
 				}
 				break;
 			case SQUARE_BRACKET_ID:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(433);
+				setState(520);
 				match(SQUARE_BRACKET_ID);
 				}
 				break;
@@ -3588,6 +4234,7 @@ public class HqlParser extends Parser {
 	public static class Simple_idContext extends ParserRuleContext {
 		public TerminalNode ID() { return getToken(HqlParser.ID, 0); }
 		public TerminalNode ABSOLUTE() { return getToken(HqlParser.ABSOLUTE, 0); }
+		public TerminalNode AVG() { return getToken(HqlParser.AVG, 0); }
 		public TerminalNode COUNT() { return getToken(HqlParser.COUNT, 0); }
 		public TerminalNode COUNT_BIG() { return getToken(HqlParser.COUNT_BIG, 0); }
 		public TerminalNode MAX() { return getToken(HqlParser.MAX, 0); }
@@ -3622,99 +4269,106 @@ public class HqlParser extends Parser {
 
 	public final Simple_idContext simple_id() throws RecognitionException {
 		Simple_idContext _localctx = new Simple_idContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_simple_id);
+		enterRule(_localctx, 106, RULE_simple_id);
 		try {
-			setState(449);
+			setState(537);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(436);
+				setState(523);
 				match(ID);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(437);
+				setState(524);
 				match(ABSOLUTE);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(438);
-				match(COUNT);
+				setState(525);
+				match(AVG);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(439);
-				match(COUNT_BIG);
+				setState(526);
+				match(COUNT);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(440);
-				match(MAX);
+				setState(527);
+				match(COUNT_BIG);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(441);
-				match(MIN);
+				setState(528);
+				match(MAX);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(442);
-				match(NUMBER);
+				setState(529);
+				match(MIN);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(443);
-				match(PARTITION);
+				setState(530);
+				match(NUMBER);
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(444);
-				match(PATH);
+				setState(531);
+				match(PARTITION);
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(445);
-				match(STDEV);
+				setState(532);
+				match(PATH);
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(446);
-				match(SUM);
+				setState(533);
+				match(STDEV);
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(447);
-				match(TYPE);
+				setState(534);
+				match(SUM);
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(448);
+				setState(535);
+				match(TYPE);
+				}
+				break;
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(536);
 				keywordsCanBeId();
 				}
 				break;
@@ -3740,13 +4394,13 @@ public class HqlParser extends Parser {
 		public TerminalNode DISTINCT() { return getToken(HqlParser.DISTINCT, 0); }
 		public TerminalNode DOUBLE() { return getToken(HqlParser.DOUBLE, 0); }
 		public TerminalNode ENTRIES() { return getToken(HqlParser.ENTRIES, 0); }
+		public TerminalNode EXPLAIN() { return getToken(HqlParser.EXPLAIN, 0); }
 		public TerminalNode FROM() { return getToken(HqlParser.FROM, 0); }
 		public TerminalNode ILIKE() { return getToken(HqlParser.ILIKE, 0); }
 		public TerminalNode IN() { return getToken(HqlParser.IN, 0); }
 		public TerminalNode KEY() { return getToken(HqlParser.KEY, 0); }
 		public TerminalNode KEYS() { return getToken(HqlParser.KEYS, 0); }
 		public TerminalNode LIKE() { return getToken(HqlParser.LIKE, 0); }
-		public TerminalNode NOT() { return getToken(HqlParser.NOT, 0); }
 		public TerminalNode NULL() { return getToken(HqlParser.NULL, 0); }
 		public TerminalNode NVL() { return getToken(HqlParser.NVL, 0); }
 		public TerminalNode OR() { return getToken(HqlParser.OR, 0); }
@@ -3758,6 +4412,7 @@ public class HqlParser extends Parser {
 		public TerminalNode VALUES() { return getToken(HqlParser.VALUES, 0); }
 		public TerminalNode WHERE() { return getToken(HqlParser.WHERE, 0); }
 		public TerminalNode ABSOLUTE() { return getToken(HqlParser.ABSOLUTE, 0); }
+		public TerminalNode AVG() { return getToken(HqlParser.AVG, 0); }
 		public TerminalNode COUNT() { return getToken(HqlParser.COUNT, 0); }
 		public TerminalNode COUNT_BIG() { return getToken(HqlParser.COUNT_BIG, 0); }
 		public TerminalNode LTRIM() { return getToken(HqlParser.LTRIM, 0); }
@@ -3792,14 +4447,14 @@ public class HqlParser extends Parser {
 
 	public final KeywordsCanBeIdContext keywordsCanBeId() throws RecognitionException {
 		KeywordsCanBeIdContext _localctx = new KeywordsCanBeIdContext(_ctx, getState());
-		enterRule(_localctx, 96, RULE_keywordsCanBeId);
+		enterRule(_localctx, 108, RULE_keywordsCanBeId);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(451);
+			setState(539);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << AND) | (1L << AS) | (1L << BETWEEN) | (1L << BY) | (1L << DELETE) | (1L << DISTINCT) | (1L << DOUBLE) | (1L << ENTRIES) | (1L << FROM) | (1L << ILIKE) | (1L << IN) | (1L << KEY) | (1L << KEYS) | (1L << LIKE) | (1L << NOT) | (1L << NULL) | (1L << NVL) | (1L << OR) | (1L << ORDER) | (1L << REGEX) | (1L << SET) | (1L << SELECT) | (1L << VALUE) | (1L << VALUES) | (1L << WHERE) | (1L << ABSOLUTE) | (1L << COUNT) | (1L << COUNT_BIG) | (1L << LTRIM) | (1L << MAX) | (1L << MIN) | (1L << NUMBER) | (1L << PARTITION) | (1L << PATH) | (1L << RTRIM) | (1L << STDEV) | (1L << SUM) | (1L << TRIM) | (1L << TYPE))) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << AND) | (1L << AS) | (1L << BETWEEN) | (1L << BY) | (1L << DELETE) | (1L << DISTINCT) | (1L << DOUBLE) | (1L << ENTRIES) | (1L << EXPLAIN) | (1L << FROM) | (1L << ILIKE) | (1L << IN) | (1L << KEY) | (1L << KEYS) | (1L << LIKE) | (1L << NULL) | (1L << NVL) | (1L << OR) | (1L << ORDER) | (1L << REGEX) | (1L << SET) | (1L << SELECT) | (1L << VALUE) | (1L << VALUES) | (1L << WHERE) | (1L << ABSOLUTE) | (1L << AVG) | (1L << COUNT) | (1L << COUNT_BIG) | (1L << LTRIM) | (1L << MAX) | (1L << MIN) | (1L << NUMBER) | (1L << PARTITION) | (1L << PATH) | (1L << RTRIM) | (1L << STDEV) | (1L << SUM) | (1L << TRIM) | (1L << TYPE))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -3846,56 +4501,56 @@ public class HqlParser extends Parser {
 
 	public final Comparison_operatorContext comparison_operator() throws RecognitionException {
 		Comparison_operatorContext _localctx = new Comparison_operatorContext(_ctx, getState());
-		enterRule(_localctx, 98, RULE_comparison_operator);
+		enterRule(_localctx, 110, RULE_comparison_operator);
 		try {
-			setState(462);
+			setState(550);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(453);
+				setState(541);
 				match(EQUAL);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(454);
+				setState(542);
 				match(GREATER);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(455);
+				setState(543);
 				match(LESS);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(456);
+				setState(544);
 				match(LESS);
-				setState(457);
+				setState(545);
 				match(EQUAL);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(458);
+				setState(546);
 				match(GREATER);
-				setState(459);
+				setState(547);
 				match(EQUAL);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(460);
+				setState(548);
 				match(EXCLAMATION);
-				setState(461);
+				setState(549);
 				match(EQUAL);
 				}
 				break;
@@ -3922,188 +4577,223 @@ public class HqlParser extends Parser {
 	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
 		switch (predIndex) {
 		case 0:
-			return precpred(_ctx, 4);
+			return precpred(_ctx, 3);
 		case 1:
-			return precpred(_ctx, 2);
-		case 2:
 			return precpred(_ctx, 1);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3V\u01d3\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3_\u022b\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
 		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
-		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\3\2\7\2"+
-		"h\n\2\f\2\16\2k\13\2\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\5\5u\n\5\3\6\3\6"+
-		"\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7\u0083\n\7\3\7\3\7\3\7\3\7"+
-		"\3\7\3\7\3\7\3\7\3\7\3\7\7\7\u008f\n\7\f\7\16\7\u0092\13\7\3\b\3\b\3\b"+
-		"\3\b\3\b\3\b\5\b\u009a\n\b\3\t\3\t\3\n\3\n\3\n\7\n\u00a1\n\n\f\n\16\n"+
-		"\u00a4\13\n\3\13\3\13\7\13\u00a8\n\13\f\13\16\13\u00ab\13\13\3\f\3\f\7"+
-		"\f\u00af\n\f\f\f\16\f\u00b2\13\f\3\r\3\r\3\r\3\16\3\16\3\16\3\17\5\17"+
-		"\u00bb\n\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20"+
-		"\3\20\3\20\3\20\3\20\3\20\3\20\5\20\u00cf\n\20\3\21\3\21\3\22\3\22\3\22"+
-		"\3\22\5\22\u00d7\n\22\3\22\3\22\3\22\3\22\3\22\3\22\5\22\u00df\n\22\3"+
-		"\22\3\22\3\22\3\22\3\22\3\22\5\22\u00e7\n\22\3\22\3\22\5\22\u00eb\n\22"+
-		"\3\23\3\23\3\23\3\23\3\23\5\23\u00f2\n\23\3\24\3\24\3\24\5\24\u00f7\n"+
-		"\24\3\24\5\24\u00fa\n\24\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\7\26"+
-		"\u0104\n\26\f\26\16\26\u0107\13\26\3\27\3\27\5\27\u010b\n\27\3\30\3\30"+
-		"\3\31\3\31\3\32\3\32\5\32\u0113\n\32\3\33\3\33\5\33\u0117\n\33\3\34\3"+
-		"\34\3\34\3\34\3\34\5\34\u011e\n\34\3\35\3\35\3\35\5\35\u0123\n\35\3\35"+
-		"\5\35\u0126\n\35\3\36\3\36\3\37\5\37\u012b\n\37\3\37\3\37\3 \3 \5 \u0131"+
-		"\n \3 \3 \3 \7 \u0136\n \f \16 \u0139\13 \5 \u013b\n \3!\3!\3\"\3\"\3"+
-		"\"\3\"\7\"\u0143\n\"\f\"\16\"\u0146\13\"\3\"\3\"\3#\3#\5#\u014c\n#\3$"+
-		"\3$\3$\7$\u0151\n$\f$\16$\u0154\13$\3%\3%\3&\5&\u0159\n&\3&\3&\3&\7&\u015e"+
-		"\n&\f&\16&\u0161\13&\3\'\3\'\3\'\5\'\u0166\n\'\3\'\3\'\3\'\3\'\5\'\u016c"+
-		"\n\'\3\'\5\'\u016f\n\'\3\'\3\'\3\'\5\'\u0174\n\'\3(\3(\3(\7(\u0179\n("+
-		"\f(\16(\u017c\13(\3)\3)\3)\5)\u0181\n)\3)\3)\5)\u0185\n)\3)\5)\u0188\n"+
-		")\3)\5)\u018b\n)\3*\3*\3*\5*\u0190\n*\3*\3*\3+\5+\u0195\n+\3+\3+\3,\3"+
-		",\5,\u019b\n,\3-\3-\3-\3-\5-\u01a1\n-\3-\3-\5-\u01a5\n-\3-\3-\5-\u01a9"+
-		"\n-\3.\5.\u01ac\n.\3.\3.\3/\3/\3\60\3\60\3\60\5\60\u01b5\n\60\3\61\3\61"+
-		"\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\5\61\u01c4\n\61"+
-		"\3\62\3\62\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\5\63\u01d1\n\63"+
-		"\3\63\2\3\f\64\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64"+
-		"\668:<>@BDFHJLNPRTVXZ\\^`bd\2\f\3\2QR\3\2NP\4\2QRTV\5\2\16\16\22\22\30"+
-		"\30\4\2\5\5\t\t\5\2\f\f\21\21\34\34\4\2\20\20\33\33\3\2\66\67\4\2\62\62"+
-		"\66\66\6\2\3\4\6\b\n#%,\2\u01f3\2i\3\2\2\2\4n\3\2\2\2\6p\3\2\2\2\br\3"+
-		"\2\2\2\nv\3\2\2\2\f\u0082\3\2\2\2\16\u0099\3\2\2\2\20\u009b\3\2\2\2\22"+
-		"\u009d\3\2\2\2\24\u00a5\3\2\2\2\26\u00ac\3\2\2\2\30\u00b3\3\2\2\2\32\u00b6"+
-		"\3\2\2\2\34\u00ba\3\2\2\2\36\u00ce\3\2\2\2 \u00d0\3\2\2\2\"\u00ea\3\2"+
-		"\2\2$\u00f1\3\2\2\2&\u00f3\3\2\2\2(\u00fb\3\2\2\2*\u00fe\3\2\2\2,\u0108"+
-		"\3\2\2\2.\u010c\3\2\2\2\60\u010e\3\2\2\2\62\u0112\3\2\2\2\64\u0114\3\2"+
-		"\2\2\66\u011d\3\2\2\28\u011f\3\2\2\2:\u0127\3\2\2\2<\u012a\3\2\2\2>\u013a"+
-		"\3\2\2\2@\u013c\3\2\2\2B\u013e\3\2\2\2D\u014b\3\2\2\2F\u014d\3\2\2\2H"+
-		"\u0155\3\2\2\2J\u0158\3\2\2\2L\u0173\3\2\2\2N\u0175\3\2\2\2P\u018a\3\2"+
-		"\2\2R\u018f\3\2\2\2T\u0194\3\2\2\2V\u019a\3\2\2\2X\u01a8\3\2\2\2Z\u01ab"+
-		"\3\2\2\2\\\u01af\3\2\2\2^\u01b4\3\2\2\2`\u01c3\3\2\2\2b\u01c5\3\2\2\2"+
-		"d\u01d0\3\2\2\2fh\5\4\3\2gf\3\2\2\2hk\3\2\2\2ig\3\2\2\2ij\3\2\2\2jl\3"+
-		"\2\2\2ki\3\2\2\2lm\7\2\2\3m\3\3\2\2\2no\5\6\4\2o\5\3\2\2\2pq\5\b\5\2q"+
-		"\7\3\2\2\2rt\5$\23\2su\5\n\6\2ts\3\2\2\2tu\3\2\2\2u\t\3\2\2\2vw\7L\2\2"+
-		"w\13\3\2\2\2xy\b\7\1\2y\u0083\7\24\2\2z\u0083\5X-\2{\u0083\5L\'\2|}\7"+
-		"I\2\2}~\5\f\7\2~\177\7J\2\2\177\u0083\3\2\2\2\u0080\u0081\t\2\2\2\u0081"+
-		"\u0083\5\f\7\5\u0082x\3\2\2\2\u0082z\3\2\2\2\u0082{\3\2\2\2\u0082|\3\2"+
-		"\2\2\u0082\u0080\3\2\2\2\u0083\u0090\3\2\2\2\u0084\u0085\f\6\2\2\u0085"+
-		"\u0086\t\3\2\2\u0086\u008f\5\f\7\7\u0087\u0088\f\4\2\2\u0088\u0089\t\4"+
-		"\2\2\u0089\u008f\5\f\7\5\u008a\u008b\f\3\2\2\u008b\u008c\5d\63\2\u008c"+
-		"\u008d\5\f\7\4\u008d\u008f\3\2\2\2\u008e\u0084\3\2\2\2\u008e\u0087\3\2"+
-		"\2\2\u008e\u008a\3\2\2\2\u008f\u0092\3\2\2\2\u0090\u008e\3\2\2\2\u0090"+
-		"\u0091\3\2\2\2\u0091\r\3\2\2\2\u0092\u0090\3\2\2\2\u0093\u009a\7\24\2"+
-		"\2\u0094\u009a\5X-\2\u0095\u0096\7I\2\2\u0096\u0097\5\16\b\2\u0097\u0098"+
-		"\7J\2\2\u0098\u009a\3\2\2\2\u0099\u0093\3\2\2\2\u0099\u0094\3\2\2\2\u0099"+
-		"\u0095\3\2\2\2\u009a\17\3\2\2\2\u009b\u009c\5\b\5\2\u009c\21\3\2\2\2\u009d"+
-		"\u00a2\5\24\13\2\u009e\u009f\7K\2\2\u009f\u00a1\5\24\13\2\u00a0\u009e"+
-		"\3\2\2\2\u00a1\u00a4\3\2\2\2\u00a2\u00a0\3\2\2\2\u00a2\u00a3\3\2\2\2\u00a3"+
-		"\23\3\2\2\2\u00a4\u00a2\3\2\2\2\u00a5\u00a9\5\26\f\2\u00a6\u00a8\5\30"+
-		"\r\2\u00a7\u00a6\3\2\2\2\u00a8\u00ab\3\2\2\2\u00a9\u00a7\3\2\2\2\u00a9"+
-		"\u00aa\3\2\2\2\u00aa\25\3\2\2\2\u00ab\u00a9\3\2\2\2\u00ac\u00b0\5\34\17"+
-		"\2\u00ad\u00af\5\32\16\2\u00ae\u00ad\3\2\2\2\u00af\u00b2\3\2\2\2\u00b0"+
-		"\u00ae\3\2\2\2\u00b0\u00b1\3\2\2\2\u00b1\27\3\2\2\2\u00b2\u00b0\3\2\2"+
-		"\2\u00b3\u00b4\7\26\2\2\u00b4\u00b5\5\26\f\2\u00b5\31\3\2\2\2\u00b6\u00b7"+
-		"\7\3\2\2\u00b7\u00b8\5\34\17\2\u00b8\33\3\2\2\2\u00b9\u00bb\7\23\2\2\u00ba"+
-		"\u00b9\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb\u00bc\3\2\2\2\u00bc\u00bd\5\36"+
-		"\20\2\u00bd\35\3\2\2\2\u00be\u00bf\5 \21\2\u00bf\u00c0\5\"\22\2\u00c0"+
-		"\u00cf\3\2\2\2\u00c1\u00c2\5 \21\2\u00c2\u00c3\5\"\22\2\u00c3\u00cf\3"+
-		"\2\2\2\u00c4\u00c5\5 \21\2\u00c5\u00c6\5\"\22\2\u00c6\u00cf\3\2\2\2\u00c7"+
-		"\u00c8\5 \21\2\u00c8\u00c9\5\"\22\2\u00c9\u00cf\3\2\2\2\u00ca\u00cb\7"+
-		"I\2\2\u00cb\u00cc\5\24\13\2\u00cc\u00cd\7J\2\2\u00cd\u00cf\3\2\2\2\u00ce"+
-		"\u00be\3\2\2\2\u00ce\u00c1\3\2\2\2\u00ce\u00c4\3\2\2\2\u00ce\u00c7\3\2"+
-		"\2\2\u00ce\u00ca\3\2\2\2\u00cf\37\3\2\2\2\u00d0\u00d1\5\f\7\2\u00d1!\3"+
-		"\2\2\2\u00d2\u00d3\5d\63\2\u00d3\u00d4\5\f\7\2\u00d4\u00eb\3\2\2\2\u00d5"+
-		"\u00d7\7\23\2\2\u00d6\u00d5\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7\u00d8\3"+
-		"\2\2\2\u00d8\u00d9\7\6\2\2\u00d9\u00da\5\f\7\2\u00da\u00db\7\3\2\2\u00db"+
-		"\u00dc\5\f\7\2\u00dc\u00eb\3\2\2\2\u00dd\u00df\7\23\2\2\u00de\u00dd\3"+
-		"\2\2\2\u00de\u00df\3\2\2\2\u00df\u00e0\3\2\2\2\u00e0\u00e1\7\17\2\2\u00e1"+
-		"\u00e2\7I\2\2\u00e2\u00e3\5F$\2\u00e3\u00e4\7J\2\2\u00e4\u00eb\3\2\2\2"+
-		"\u00e5\u00e7\7\23\2\2\u00e6\u00e5\3\2\2\2\u00e6\u00e7\3\2\2\2\u00e7\u00e8"+
-		"\3\2\2\2\u00e8\u00e9\t\5\2\2\u00e9\u00eb\5\f\7\2\u00ea\u00d2\3\2\2\2\u00ea"+
-		"\u00d6\3\2\2\2\u00ea\u00de\3\2\2\2\u00ea\u00e6\3\2\2\2\u00eb#\3\2\2\2"+
-		"\u00ec\u00f2\5&\24\2\u00ed\u00ee\7I\2\2\u00ee\u00ef\5$\23\2\u00ef\u00f0"+
-		"\7J\2\2\u00f0\u00f2\3\2\2\2\u00f1\u00ec\3\2\2\2\u00f1\u00ed\3\2\2\2\u00f2"+
-		"%\3\2\2\2\u00f3\u00f4\5(\25\2\u00f4\u00f6\5\62\32\2\u00f5\u00f7\5\64\33"+
-		"\2\u00f6\u00f5\3\2\2\2\u00f6\u00f7\3\2\2\2\u00f7\u00f9\3\2\2\2\u00f8\u00fa"+
-		"\5*\26\2\u00f9\u00f8\3\2\2\2\u00f9\u00fa\3\2\2\2\u00fa\'\3\2\2\2\u00fb"+
-		"\u00fc\7\32\2\2\u00fc\u00fd\5.\30\2\u00fd)\3\2\2\2\u00fe\u00ff\7\27\2"+
-		"\2\u00ff\u0100\7\7\2\2\u0100\u0105\5,\27\2\u0101\u0102\7K\2\2\u0102\u0104"+
-		"\5,\27\2\u0103\u0101\3\2\2\2\u0104\u0107\3\2\2\2\u0105\u0103\3\2\2\2\u0105"+
-		"\u0106\3\2\2\2\u0106+\3\2\2\2\u0107\u0105\3\2\2\2\u0108\u010a\5\f\7\2"+
-		"\u0109\u010b\t\6\2\2\u010a\u0109\3\2\2\2\u010a\u010b\3\2\2\2\u010b-\3"+
-		"\2\2\2\u010c\u010d\5\60\31\2\u010d/\3\2\2\2\u010e\u010f\7N\2\2\u010f\61"+
-		"\3\2\2\2\u0110\u0111\7\r\2\2\u0111\u0113\5\66\34\2\u0112\u0110\3\2\2\2"+
-		"\u0112\u0113\3\2\2\2\u0113\63\3\2\2\2\u0114\u0116\7\35\2\2\u0115\u0117"+
-		"\5\24\13\2\u0116\u0115\3\2\2\2\u0116\u0117\3\2\2\2\u0117\65\3\2\2\2\u0118"+
-		"\u011e\58\35\2\u0119\u011a\7I\2\2\u011a\u011b\58\35\2\u011b\u011c\7J\2"+
-		"\2\u011c\u011e\3\2\2\2\u011d\u0118\3\2\2\2\u011d\u0119\3\2\2\2\u011e\67"+
-		"\3\2\2\2\u011f\u0122\5J&\2\u0120\u0121\7D\2\2\u0121\u0123\5:\36\2\u0122"+
-		"\u0120\3\2\2\2\u0122\u0123\3\2\2\2\u0123\u0125\3\2\2\2\u0124\u0126\5<"+
-		"\37\2\u0125\u0124\3\2\2\2\u0125\u0126\3\2\2\2\u01269\3\2\2\2\u0127\u0128"+
-		"\t\7\2\2\u0128;\3\2\2\2\u0129\u012b\7\4\2\2\u012a\u0129\3\2\2\2\u012a"+
-		"\u012b\3\2\2\2\u012b\u012c\3\2\2\2\u012c\u012d\5> \2\u012d=\3\2\2\2\u012e"+
-		"\u0130\5^\60\2\u012f\u0131\5D#\2\u0130\u012f\3\2\2\2\u0130\u0131\3\2\2"+
-		"\2\u0131\u013b\3\2\2\2\u0132\u0137\5@!\2\u0133\u0134\7K\2\2\u0134\u0136"+
-		"\5@!\2\u0135\u0133\3\2\2\2\u0136\u0139\3\2\2\2\u0137\u0135\3\2\2\2\u0137"+
-		"\u0138\3\2\2\2\u0138\u013b\3\2\2\2\u0139\u0137\3\2\2\2\u013a\u012e\3\2"+
-		"\2\2\u013a\u0132\3\2\2\2\u013b?\3\2\2\2\u013c\u013d\7\63\2\2\u013dA\3"+
-		"\2\2\2\u013e\u013f\7I\2\2\u013f\u0144\5D#\2\u0140\u0141\7K\2\2\u0141\u0143"+
-		"\5D#\2\u0142\u0140\3\2\2\2\u0143\u0146\3\2\2\2\u0144\u0142\3\2\2\2\u0144"+
-		"\u0145\3\2\2\2\u0145\u0147\3\2\2\2\u0146\u0144\3\2\2\2\u0147\u0148\7J"+
-		"\2\2\u0148C\3\2\2\2\u0149\u014c\5^\60\2\u014a\u014c\7\64\2\2\u014b\u0149"+
-		"\3\2\2\2\u014b\u014a\3\2\2\2\u014cE\3\2\2\2\u014d\u0152\5\f\7\2\u014e"+
-		"\u014f\7K\2\2\u014f\u0151\5\f\7\2\u0150\u014e\3\2\2\2\u0151\u0154\3\2"+
-		"\2\2\u0152\u0150\3\2\2\2\u0152\u0153\3\2\2\2\u0153G\3\2\2\2\u0154\u0152"+
-		"\3\2\2\2\u0155\u0156\5`\61\2\u0156I\3\2\2\2\u0157\u0159\7O\2\2\u0158\u0157"+
-		"\3\2\2\2\u0158\u0159\3\2\2\2\u0159\u015a\3\2\2\2\u015a\u015f\5H%\2\u015b"+
-		"\u015c\7O\2\2\u015c\u015e\5H%\2\u015d\u015b\3\2\2\2\u015e\u0161\3\2\2"+
-		"\2\u015f\u015d\3\2\2\2\u015f\u0160\3\2\2\2\u0160K\3\2\2\2\u0161\u015f"+
-		"\3\2\2\2\u0162\u0163\5J&\2\u0163\u0164\7D\2\2\u0164\u0166\3\2\2\2\u0165"+
-		"\u0162\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0167\3\2\2\2\u0167\u0174\t\b"+
-		"\2\2\u0168\u0169\5J&\2\u0169\u016a\7D\2\2\u016a\u016c\3\2\2\2\u016b\u0168"+
-		"\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u016e\3\2\2\2\u016d\u016f\t\b\2\2\u016e"+
-		"\u016d\3\2\2\2\u016e\u016f\3\2\2\2\u016f\u0170\3\2\2\2\u0170\u0171\7D"+
-		"\2\2\u0171\u0174\5P)\2\u0172\u0174\5P)\2\u0173\u0165\3\2\2\2\u0173\u016b"+
-		"\3\2\2\2\u0173\u0172\3\2\2\2\u0174M\3\2\2\2\u0175\u017a\5P)\2\u0176\u0177"+
-		"\7K\2\2\u0177\u0179\5P)\2\u0178\u0176\3\2\2\2\u0179\u017c\3\2\2\2\u017a"+
-		"\u0178\3\2\2\2\u017a\u017b\3\2\2\2\u017bO\3\2\2\2\u017c\u017a\3\2\2\2"+
-		"\u017d\u017e\5^\60\2\u017e\u017f\7D\2\2\u017f\u0181\3\2\2\2\u0180\u017d"+
-		"\3\2\2\2\u0180\u0181\3\2\2\2\u0181\u0182\3\2\2\2\u0182\u0184\5^\60\2\u0183"+
-		"\u0185\5D#\2\u0184\u0183\3\2\2\2\u0184\u0185\3\2\2\2\u0185\u018b\3\2\2"+
-		"\2\u0186\u0188\5> \2\u0187\u0186\3\2\2\2\u0187\u0188\3\2\2\2\u0188\u0189"+
-		"\3\2\2\2\u0189\u018b\5^\60\2\u018a\u0180\3\2\2\2\u018a\u0187\3\2\2\2\u018b"+
-		"Q\3\2\2\2\u018c\u018d\5^\60\2\u018d\u018e\7D\2\2\u018e\u0190\3\2\2\2\u018f"+
-		"\u018c\3\2\2\2\u018f\u0190\3\2\2\2\u0190\u0191\3\2\2\2\u0191\u0192\5^"+
-		"\60\2\u0192S\3\2\2\2\u0193\u0195\7\23\2\2\u0194\u0193\3\2\2\2\u0194\u0195"+
-		"\3\2\2\2\u0195\u0196\3\2\2\2\u0196\u0197\7\24\2\2\u0197U\3\2\2\2\u0198"+
-		"\u019b\7\24\2\2\u0199\u019b\5X-\2\u019a\u0198\3\2\2\2\u019a\u0199\3\2"+
-		"\2\2\u019bW\3\2\2\2\u019c\u01a9\7\64\2\2\u019d\u01a9\7\65\2\2\u019e\u01a9"+
-		"\5Z.\2\u019f\u01a1\5\\/\2\u01a0\u019f\3\2\2\2\u01a0\u01a1\3\2\2\2\u01a1"+
-		"\u01a2\3\2\2\2\u01a2\u01a9\t\t\2\2\u01a3\u01a5\5\\/\2\u01a4\u01a3\3\2"+
-		"\2\2\u01a4\u01a5\3\2\2\2\u01a5\u01a6\3\2\2\2\u01a6\u01a7\7H\2\2\u01a7"+
-		"\u01a9\t\n\2\2\u01a8\u019c\3\2\2\2\u01a8\u019d\3\2\2\2\u01a8\u019e\3\2"+
-		"\2\2\u01a8\u01a0\3\2\2\2\u01a8\u01a4\3\2\2\2\u01a9Y\3\2\2\2\u01aa\u01ac"+
-		"\5\\/\2\u01ab\u01aa\3\2\2\2\u01ab\u01ac\3\2\2\2\u01ac\u01ad\3\2\2\2\u01ad"+
-		"\u01ae\7\62\2\2\u01ae[\3\2\2\2\u01af\u01b0\t\2\2\2\u01b0]\3\2\2\2\u01b1"+
-		"\u01b5\5`\61\2\u01b2\u01b5\7\60\2\2\u01b3\u01b5\7\61\2\2\u01b4\u01b1\3"+
-		"\2\2\2\u01b4\u01b2\3\2\2\2\u01b4\u01b3\3\2\2\2\u01b5_\3\2\2\2\u01b6\u01c4"+
-		"\7\63\2\2\u01b7\u01c4\7\36\2\2\u01b8\u01c4\7\37\2\2\u01b9\u01c4\7 \2\2"+
-		"\u01ba\u01c4\7\"\2\2\u01bb\u01c4\7#\2\2\u01bc\u01c4\7%\2\2\u01bd\u01c4"+
-		"\7&\2\2\u01be\u01c4\7\'\2\2\u01bf\u01c4\7)\2\2\u01c0\u01c4\7*\2\2\u01c1"+
-		"\u01c4\7,\2\2\u01c2\u01c4\5b\62\2\u01c3\u01b6\3\2\2\2\u01c3\u01b7\3\2"+
-		"\2\2\u01c3\u01b8\3\2\2\2\u01c3\u01b9\3\2\2\2\u01c3\u01ba\3\2\2\2\u01c3"+
-		"\u01bb\3\2\2\2\u01c3\u01bc\3\2\2\2\u01c3\u01bd\3\2\2\2\u01c3\u01be\3\2"+
-		"\2\2\u01c3\u01bf\3\2\2\2\u01c3\u01c0\3\2\2\2\u01c3\u01c1\3\2\2\2\u01c3"+
-		"\u01c2\3\2\2\2\u01c4a\3\2\2\2\u01c5\u01c6\t\13\2\2\u01c6c\3\2\2\2\u01c7"+
-		"\u01d1\78\2\2\u01c8\u01d1\79\2\2\u01c9\u01d1\7:\2\2\u01ca\u01cb\7:\2\2"+
-		"\u01cb\u01d1\78\2\2\u01cc\u01cd\79\2\2\u01cd\u01d1\78\2\2\u01ce\u01cf"+
-		"\7;\2\2\u01cf\u01d1\78\2\2\u01d0\u01c7\3\2\2\2\u01d0\u01c8\3\2\2\2\u01d0"+
-		"\u01c9\3\2\2\2\u01d0\u01ca\3\2\2\2\u01d0\u01cc\3\2\2\2\u01d0\u01ce\3\2"+
-		"\2\2\u01d1e\3\2\2\2\67it\u0082\u008e\u0090\u0099\u00a2\u00a9\u00b0\u00ba"+
-		"\u00ce\u00d6\u00de\u00e6\u00ea\u00f1\u00f6\u00f9\u0105\u010a\u0112\u0116"+
-		"\u011d\u0122\u0125\u012a\u0130\u0137\u013a\u0144\u014b\u0152\u0158\u015f"+
-		"\u0165\u016b\u016e\u0173\u017a\u0180\u0184\u0187\u018a\u018f\u0194\u019a"+
-		"\u01a0\u01a4\u01a8\u01ab\u01b4\u01c3\u01d0";
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\3\2\7\2t\n\2\f\2\16\2w\13"+
+		"\2\3\2\3\2\3\3\5\3|\n\3\3\3\3\3\3\4\3\4\3\5\3\5\5\5\u0084\n\5\3\6\3\6"+
+		"\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7\u0093\n\7\3\7\3\7\3\7"+
+		"\3\7\3\7\3\7\7\7\u009b\n\7\f\7\16\7\u009e\13\7\3\b\3\b\3\b\5\b\u00a3\n"+
+		"\b\3\t\3\t\3\t\3\t\3\t\3\t\5\t\u00ab\n\t\3\n\3\n\3\13\3\13\3\13\7\13\u00b2"+
+		"\n\13\f\13\16\13\u00b5\13\13\3\f\3\f\7\f\u00b9\n\f\f\f\16\f\u00bc\13\f"+
+		"\3\r\3\r\7\r\u00c0\n\r\f\r\16\r\u00c3\13\r\3\16\3\16\3\16\3\17\3\17\3"+
+		"\17\3\20\5\20\u00cc\n\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21"+
+		"\5\21\u00d7\n\21\3\22\3\22\3\23\3\23\3\23\3\23\5\23\u00df\n\23\3\23\3"+
+		"\23\3\23\3\23\3\23\3\23\5\23\u00e7\n\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\5\23\u00ef\n\23\3\23\3\23\5\23\u00f3\n\23\3\24\3\24\3\24\3\24\3\24\5"+
+		"\24\u00fa\n\24\3\25\3\25\3\25\5\25\u00ff\n\25\3\25\5\25\u0102\n\25\3\25"+
+		"\5\25\u0105\n\25\3\25\5\25\u0108\n\25\3\26\3\26\5\26\u010c\n\26\3\26\3"+
+		"\26\3\27\3\27\3\27\3\27\3\27\7\27\u0115\n\27\f\27\16\27\u0118\13\27\3"+
+		"\30\3\30\3\30\3\30\3\30\7\30\u011f\n\30\f\30\16\30\u0122\13\30\3\31\3"+
+		"\31\5\31\u0126\n\31\3\31\5\31\u0129\n\31\3\32\3\32\3\32\3\32\5\32\u012f"+
+		"\n\32\3\33\3\33\3\33\7\33\u0134\n\33\f\33\16\33\u0137\13\33\3\34\3\34"+
+		"\3\34\5\34\u013c\n\34\3\34\5\34\u013f\n\34\3\34\3\34\3\34\5\34\u0144\n"+
+		"\34\5\34\u0146\n\34\3\35\3\35\3\35\3\35\5\35\u014c\n\35\3\35\5\35\u014f"+
+		"\n\35\3\35\3\35\3\35\3\35\3\35\3\35\5\35\u0157\n\35\3\36\3\36\5\36\u015b"+
+		"\n\36\3\37\3\37\5\37\u015f\n\37\3 \3 \5 \u0163\n \3 \3 \3 \3 \5 \u0169"+
+		"\n \3!\5!\u016c\n!\3!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3#\3#\3#\5#\u017a\n"+
+		"#\3#\5#\u017d\n#\3$\3$\3%\5%\u0182\n%\3%\3%\3&\3&\5&\u0188\n&\3&\3&\3"+
+		"&\7&\u018d\n&\f&\16&\u0190\13&\5&\u0192\n&\3\'\3\'\3(\3(\3(\3(\7(\u019a"+
+		"\n(\f(\16(\u019d\13(\3(\3(\3)\3)\5)\u01a3\n)\3*\3*\3*\7*\u01a8\n*\f*\16"+
+		"*\u01ab\13*\3+\3+\3,\5,\u01b0\n,\3,\3,\3,\7,\u01b5\n,\f,\16,\u01b8\13"+
+		",\3-\3-\3-\5-\u01bd\n-\3-\3-\3-\3-\5-\u01c3\n-\3-\5-\u01c6\n-\3-\3-\3"+
+		"-\5-\u01cb\n-\3.\3.\3.\7.\u01d0\n.\f.\16.\u01d3\13.\3/\3/\3/\5/\u01d8"+
+		"\n/\3/\3/\5/\u01dc\n/\3/\5/\u01df\n/\3/\5/\u01e2\n/\3\60\3\60\3\60\5\60"+
+		"\u01e7\n\60\3\60\3\60\3\61\5\61\u01ec\n\61\3\61\3\61\3\62\3\62\5\62\u01f2"+
+		"\n\62\3\63\3\63\3\63\3\63\5\63\u01f8\n\63\3\63\3\63\5\63\u01fc\n\63\3"+
+		"\63\3\63\5\63\u0200\n\63\3\64\5\64\u0203\n\64\3\64\3\64\3\65\3\65\3\66"+
+		"\3\66\3\66\5\66\u020c\n\66\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67"+
+		"\3\67\3\67\3\67\3\67\3\67\5\67\u021c\n\67\38\38\39\39\39\39\39\39\39\3"+
+		"9\39\59\u0229\n9\39\2\3\f:\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$"+
+		"&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnp\2\r\3\2Z[\3\2WY\4\2Z["+
+		"]_\5\2\20\20\26\26\37\37\4\2\5\5\t\t\5\2&&*+\62\62\5\2\f\f\25\25##\4\2"+
+		"\24\24\"\"\3\2>?\4\2::>>\n\2\3\4\6\b\n\16\20\21\24\26\31\32\35+-\64\2"+
+		"\u0256\2u\3\2\2\2\4{\3\2\2\2\6\177\3\2\2\2\b\u0081\3\2\2\2\n\u0085\3\2"+
+		"\2\2\f\u0092\3\2\2\2\16\u00a2\3\2\2\2\20\u00aa\3\2\2\2\22\u00ac\3\2\2"+
+		"\2\24\u00ae\3\2\2\2\26\u00b6\3\2\2\2\30\u00bd\3\2\2\2\32\u00c4\3\2\2\2"+
+		"\34\u00c7\3\2\2\2\36\u00cb\3\2\2\2 \u00d6\3\2\2\2\"\u00d8\3\2\2\2$\u00f2"+
+		"\3\2\2\2&\u00f9\3\2\2\2(\u00fb\3\2\2\2*\u0109\3\2\2\2,\u010f\3\2\2\2."+
+		"\u0119\3\2\2\2\60\u0125\3\2\2\2\62\u012a\3\2\2\2\64\u0130\3\2\2\2\66\u0145"+
+		"\3\2\2\28\u0156\3\2\2\2:\u015a\3\2\2\2<\u015c\3\2\2\2>\u0168\3\2\2\2@"+
+		"\u016b\3\2\2\2B\u0172\3\2\2\2D\u0176\3\2\2\2F\u017e\3\2\2\2H\u0181\3\2"+
+		"\2\2J\u0191\3\2\2\2L\u0193\3\2\2\2N\u0195\3\2\2\2P\u01a2\3\2\2\2R\u01a4"+
+		"\3\2\2\2T\u01ac\3\2\2\2V\u01af\3\2\2\2X\u01ca\3\2\2\2Z\u01cc\3\2\2\2\\"+
+		"\u01e1\3\2\2\2^\u01e6\3\2\2\2`\u01eb\3\2\2\2b\u01f1\3\2\2\2d\u01ff\3\2"+
+		"\2\2f\u0202\3\2\2\2h\u0206\3\2\2\2j\u020b\3\2\2\2l\u021b\3\2\2\2n\u021d"+
+		"\3\2\2\2p\u0228\3\2\2\2rt\5\4\3\2sr\3\2\2\2tw\3\2\2\2us\3\2\2\2uv\3\2"+
+		"\2\2vx\3\2\2\2wu\3\2\2\2xy\7\2\2\3y\3\3\2\2\2z|\7\r\2\2{z\3\2\2\2{|\3"+
+		"\2\2\2|}\3\2\2\2}~\5\6\4\2~\5\3\2\2\2\177\u0080\5\b\5\2\u0080\7\3\2\2"+
+		"\2\u0081\u0083\5&\24\2\u0082\u0084\5\n\6\2\u0083\u0082\3\2\2\2\u0083\u0084"+
+		"\3\2\2\2\u0084\t\3\2\2\2\u0085\u0086\7T\2\2\u0086\13\3\2\2\2\u0087\u0088"+
+		"\b\7\1\2\u0088\u0093\7\31\2\2\u0089\u0093\5d\63\2\u008a\u0093\5\16\b\2"+
+		"\u008b\u0093\5X-\2\u008c\u008d\7Q\2\2\u008d\u008e\5\f\7\2\u008e\u008f"+
+		"\7R\2\2\u008f\u0093\3\2\2\2\u0090\u0091\t\2\2\2\u0091\u0093\5\f\7\4\u0092"+
+		"\u0087\3\2\2\2\u0092\u0089\3\2\2\2\u0092\u008a\3\2\2\2\u0092\u008b\3\2"+
+		"\2\2\u0092\u008c\3\2\2\2\u0092\u0090\3\2\2\2\u0093\u009c\3\2\2\2\u0094"+
+		"\u0095\f\5\2\2\u0095\u0096\t\3\2\2\u0096\u009b\5\f\7\6\u0097\u0098\f\3"+
+		"\2\2\u0098\u0099\t\4\2\2\u0099\u009b\5\f\7\4\u009a\u0094\3\2\2\2\u009a"+
+		"\u0097\3\2\2\2\u009b\u009e\3\2\2\2\u009c\u009a\3\2\2\2\u009c\u009d\3\2"+
+		"\2\2\u009d\r\3\2\2\2\u009e\u009c\3\2\2\2\u009f\u00a3\7V\2\2\u00a0\u00a1"+
+		"\7U\2\2\u00a1\u00a3\5j\66\2\u00a2\u009f\3\2\2\2\u00a2\u00a0\3\2\2\2\u00a3"+
+		"\17\3\2\2\2\u00a4\u00ab\7\31\2\2\u00a5\u00ab\5d\63\2\u00a6\u00a7\7Q\2"+
+		"\2\u00a7\u00a8\5\20\t\2\u00a8\u00a9\7R\2\2\u00a9\u00ab\3\2\2\2\u00aa\u00a4"+
+		"\3\2\2\2\u00aa\u00a5\3\2\2\2\u00aa\u00a6\3\2\2\2\u00ab\21\3\2\2\2\u00ac"+
+		"\u00ad\5\b\5\2\u00ad\23\3\2\2\2\u00ae\u00b3\5\26\f\2\u00af\u00b0\7S\2"+
+		"\2\u00b0\u00b2\5\26\f\2\u00b1\u00af\3\2\2\2\u00b2\u00b5\3\2\2\2\u00b3"+
+		"\u00b1\3\2\2\2\u00b3\u00b4\3\2\2\2\u00b4\25\3\2\2\2\u00b5\u00b3\3\2\2"+
+		"\2\u00b6\u00ba\5\30\r\2\u00b7\u00b9\5\32\16\2\u00b8\u00b7\3\2\2\2\u00b9"+
+		"\u00bc\3\2\2\2\u00ba\u00b8\3\2\2\2\u00ba\u00bb\3\2\2\2\u00bb\27\3\2\2"+
+		"\2\u00bc\u00ba\3\2\2\2\u00bd\u00c1\5\36\20\2\u00be\u00c0\5\34\17\2\u00bf"+
+		"\u00be\3\2\2\2\u00c0\u00c3\3\2\2\2\u00c1\u00bf\3\2\2\2\u00c1\u00c2\3\2"+
+		"\2\2\u00c2\31\3\2\2\2\u00c3\u00c1\3\2\2\2\u00c4\u00c5\7\35\2\2\u00c5\u00c6"+
+		"\5\30\r\2\u00c6\33\3\2\2\2\u00c7\u00c8\7\3\2\2\u00c8\u00c9\5\36\20\2\u00c9"+
+		"\35\3\2\2\2\u00ca\u00cc\7\30\2\2\u00cb\u00ca\3\2\2\2\u00cb\u00cc\3\2\2"+
+		"\2\u00cc\u00cd\3\2\2\2\u00cd\u00ce\5 \21\2\u00ce\37\3\2\2\2\u00cf\u00d0"+
+		"\5\"\22\2\u00d0\u00d1\5$\23\2\u00d1\u00d7\3\2\2\2\u00d2\u00d3\7Q\2\2\u00d3"+
+		"\u00d4\5\26\f\2\u00d4\u00d5\7R\2\2\u00d5\u00d7\3\2\2\2\u00d6\u00cf\3\2"+
+		"\2\2\u00d6\u00d2\3\2\2\2\u00d7!\3\2\2\2\u00d8\u00d9\5\f\7\2\u00d9#\3\2"+
+		"\2\2\u00da\u00db\5p9\2\u00db\u00dc\5\f\7\2\u00dc\u00f3\3\2\2\2\u00dd\u00df"+
+		"\7\30\2\2\u00de\u00dd\3\2\2\2\u00de\u00df\3\2\2\2\u00df\u00e0\3\2\2\2"+
+		"\u00e0\u00e1\7\6\2\2\u00e1\u00e2\5\f\7\2\u00e2\u00e3\7\3\2\2\u00e3\u00e4"+
+		"\5\f\7\2\u00e4\u00f3\3\2\2\2\u00e5\u00e7\7\30\2\2\u00e6\u00e5\3\2\2\2"+
+		"\u00e6\u00e7\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00e9\7\21\2\2\u00e9\u00ea"+
+		"\7Q\2\2\u00ea\u00eb\5R*\2\u00eb\u00ec\7R\2\2\u00ec\u00f3\3\2\2\2\u00ed"+
+		"\u00ef\7\30\2\2\u00ee\u00ed\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00f0\3"+
+		"\2\2\2\u00f0\u00f1\t\5\2\2\u00f1\u00f3\5\f\7\2\u00f2\u00da\3\2\2\2\u00f2"+
+		"\u00de\3\2\2\2\u00f2\u00e6\3\2\2\2\u00f2\u00ee\3\2\2\2\u00f3%\3\2\2\2"+
+		"\u00f4\u00fa\5(\25\2\u00f5\u00f6\7Q\2\2\u00f6\u00f7\5&\24\2\u00f7\u00f8"+
+		"\7R\2\2\u00f8\u00fa\3\2\2\2\u00f9\u00f4\3\2\2\2\u00f9\u00f5\3\2\2\2\u00fa"+
+		"\'\3\2\2\2\u00fb\u00fc\5*\26\2\u00fc\u00fe\5:\36\2\u00fd\u00ff\5<\37\2"+
+		"\u00fe\u00fd\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff\u0101\3\2\2\2\u0100\u0102"+
+		"\5,\27\2\u0101\u0100\3\2\2\2\u0101\u0102\3\2\2\2\u0102\u0104\3\2\2\2\u0103"+
+		"\u0105\5.\30\2\u0104\u0103\3\2\2\2\u0104\u0105\3\2\2\2\u0105\u0107\3\2"+
+		"\2\2\u0106\u0108\5\62\32\2\u0107\u0106\3\2\2\2\u0107\u0108\3\2\2\2\u0108"+
+		")\3\2\2\2\u0109\u010b\7!\2\2\u010a\u010c\7\n\2\2\u010b\u010a\3\2\2\2\u010b"+
+		"\u010c\3\2\2\2\u010c\u010d\3\2\2\2\u010d\u010e\5\64\33\2\u010e+\3\2\2"+
+		"\2\u010f\u0110\7\17\2\2\u0110\u0111\7\7\2\2\u0111\u0116\5X-\2\u0112\u0113"+
+		"\7S\2\2\u0113\u0115\5X-\2\u0114\u0112\3\2\2\2\u0115\u0118\3\2\2\2\u0116"+
+		"\u0114\3\2\2\2\u0116\u0117\3\2\2\2\u0117-\3\2\2\2\u0118\u0116\3\2\2\2"+
+		"\u0119\u011a\7\36\2\2\u011a\u011b\7\7\2\2\u011b\u0120\5\60\31\2\u011c"+
+		"\u011d\7S\2\2\u011d\u011f\5\60\31\2\u011e\u011c\3\2\2\2\u011f\u0122\3"+
+		"\2\2\2\u0120\u011e\3\2\2\2\u0120\u0121\3\2\2\2\u0121/\3\2\2\2\u0122\u0120"+
+		"\3\2\2\2\u0123\u0126\58\35\2\u0124\u0126\5\f\7\2\u0125\u0123\3\2\2\2\u0125"+
+		"\u0124\3\2\2\2\u0126\u0128\3\2\2\2\u0127\u0129\t\6\2\2\u0128\u0127\3\2"+
+		"\2\2\u0128\u0129\3\2\2\2\u0129\61\3\2\2\2\u012a\u012b\7\27\2\2\u012b\u012e"+
+		"\7:\2\2\u012c\u012d\7\33\2\2\u012d\u012f\7:\2\2\u012e\u012c\3\2\2\2\u012e"+
+		"\u012f\3\2\2\2\u012f\63\3\2\2\2\u0130\u0135\5\66\34\2\u0131\u0132\7S\2"+
+		"\2\u0132\u0134\5\66\34\2\u0133\u0131\3\2\2\2\u0134\u0137\3\2\2\2\u0135"+
+		"\u0133\3\2\2\2\u0135\u0136\3\2\2\2\u0136\65\3\2\2\2\u0137\u0135\3\2\2"+
+		"\2\u0138\u0146\7W\2\2\u0139\u013e\58\35\2\u013a\u013c\7\4\2\2\u013b\u013a"+
+		"\3\2\2\2\u013b\u013c\3\2\2\2\u013c\u013d\3\2\2\2\u013d\u013f\5P)\2\u013e"+
+		"\u013b\3\2\2\2\u013e\u013f\3\2\2\2\u013f\u0146\3\2\2\2\u0140\u0143\5X"+
+		"-\2\u0141\u0142\7\4\2\2\u0142\u0144\5P)\2\u0143\u0141\3\2\2\2\u0143\u0144"+
+		"\3\2\2\2\u0144\u0146\3\2\2\2\u0145\u0138\3\2\2\2\u0145\u0139\3\2\2\2\u0145"+
+		"\u0140\3\2\2\2\u0146\67\3\2\2\2\u0147\u0148\7\'\2\2\u0148\u014e\7Q\2\2"+
+		"\u0149\u014f\7W\2\2\u014a\u014c\7\n\2\2\u014b\u014a\3\2\2\2\u014b\u014c"+
+		"\3\2\2\2\u014c\u014d\3\2\2\2\u014d\u014f\5X-\2\u014e\u0149\3\2\2\2\u014e"+
+		"\u014b\3\2\2\2\u014f\u0150\3\2\2\2\u0150\u0157\7R\2\2\u0151\u0152\t\7"+
+		"\2\2\u0152\u0153\7Q\2\2\u0153\u0154\5X-\2\u0154\u0155\7R\2\2\u0155\u0157"+
+		"\3\2\2\2\u0156\u0147\3\2\2\2\u0156\u0151\3\2\2\2\u01579\3\2\2\2\u0158"+
+		"\u0159\7\16\2\2\u0159\u015b\5> \2\u015a\u0158\3\2\2\2\u015a\u015b\3\2"+
+		"\2\2\u015b;\3\2\2\2\u015c\u015e\7$\2\2\u015d\u015f\5\26\f\2\u015e\u015d"+
+		"\3\2\2\2\u015e\u015f\3\2\2\2\u015f=\3\2\2\2\u0160\u0162\5D#\2\u0161\u0163"+
+		"\5@!\2\u0162\u0161\3\2\2\2\u0162\u0163\3\2\2\2\u0163\u0169\3\2\2\2\u0164"+
+		"\u0165\7Q\2\2\u0165\u0166\5D#\2\u0166\u0167\7R\2\2\u0167\u0169\3\2\2\2"+
+		"\u0168\u0160\3\2\2\2\u0168\u0164\3\2\2\2\u0169?\3\2\2\2\u016a\u016c\7"+
+		"\22\2\2\u016b\u016a\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u016d\3\2\2\2\u016d"+
+		"\u016e\7\23\2\2\u016e\u016f\5D#\2\u016f\u0170\7\34\2\2\u0170\u0171\5B"+
+		"\"\2\u0171A\3\2\2\2\u0172\u0173\5X-\2\u0173\u0174\7@\2\2\u0174\u0175\5"+
+		"X-\2\u0175C\3\2\2\2\u0176\u0179\5V,\2\u0177\u0178\7L\2\2\u0178\u017a\5"+
+		"F$\2\u0179\u0177\3\2\2\2\u0179\u017a\3\2\2\2\u017a\u017c\3\2\2\2\u017b"+
+		"\u017d\5H%\2\u017c\u017b\3\2\2\2\u017c\u017d\3\2\2\2\u017dE\3\2\2\2\u017e"+
+		"\u017f\t\b\2\2\u017fG\3\2\2\2\u0180\u0182\7\4\2\2\u0181\u0180\3\2\2\2"+
+		"\u0181\u0182\3\2\2\2\u0182\u0183\3\2\2\2\u0183\u0184\5J&\2\u0184I\3\2"+
+		"\2\2\u0185\u0187\5j\66\2\u0186\u0188\5P)\2\u0187\u0186\3\2\2\2\u0187\u0188"+
+		"\3\2\2\2\u0188\u0192\3\2\2\2\u0189\u018e\5L\'\2\u018a\u018b\7S\2\2\u018b"+
+		"\u018d\5L\'\2\u018c\u018a\3\2\2\2\u018d\u0190\3\2\2\2\u018e\u018c\3\2"+
+		"\2\2\u018e\u018f\3\2\2\2\u018f\u0192\3\2\2\2\u0190\u018e\3\2\2\2\u0191"+
+		"\u0185\3\2\2\2\u0191\u0189\3\2\2\2\u0192K\3\2\2\2\u0193\u0194\7;\2\2\u0194"+
+		"M\3\2\2\2\u0195\u0196\7Q\2\2\u0196\u019b\5P)\2\u0197\u0198\7S\2\2\u0198"+
+		"\u019a\5P)\2\u0199\u0197\3\2\2\2\u019a\u019d\3\2\2\2\u019b\u0199\3\2\2"+
+		"\2\u019b\u019c\3\2\2\2\u019c\u019e\3\2\2\2\u019d\u019b\3\2\2\2\u019e\u019f"+
+		"\7R\2\2\u019fO\3\2\2\2\u01a0\u01a3\5j\66\2\u01a1\u01a3\7<\2\2\u01a2\u01a0"+
+		"\3\2\2\2\u01a2\u01a1\3\2\2\2\u01a3Q\3\2\2\2\u01a4\u01a9\5\f\7\2\u01a5"+
+		"\u01a6\7S\2\2\u01a6\u01a8\5\f\7\2\u01a7\u01a5\3\2\2\2\u01a8\u01ab\3\2"+
+		"\2\2\u01a9\u01a7\3\2\2\2\u01a9\u01aa\3\2\2\2\u01aaS\3\2\2\2\u01ab\u01a9"+
+		"\3\2\2\2\u01ac\u01ad\5l\67\2\u01adU\3\2\2\2\u01ae\u01b0\7X\2\2\u01af\u01ae"+
+		"\3\2\2\2\u01af\u01b0\3\2\2\2\u01b0\u01b1\3\2\2\2\u01b1\u01b6\5T+\2\u01b2"+
+		"\u01b3\7X\2\2\u01b3\u01b5\5T+\2\u01b4\u01b2\3\2\2\2\u01b5\u01b8\3\2\2"+
+		"\2\u01b6\u01b4\3\2\2\2\u01b6\u01b7\3\2\2\2\u01b7W\3\2\2\2\u01b8\u01b6"+
+		"\3\2\2\2\u01b9\u01ba\5V,\2\u01ba\u01bb\7L\2\2\u01bb\u01bd\3\2\2\2\u01bc"+
+		"\u01b9\3\2\2\2\u01bc\u01bd\3\2\2\2\u01bd\u01be\3\2\2\2\u01be\u01cb\t\t"+
+		"\2\2\u01bf\u01c0\5V,\2\u01c0\u01c1\7L\2\2\u01c1\u01c3\3\2\2\2\u01c2\u01bf"+
+		"\3\2\2\2\u01c2\u01c3\3\2\2\2\u01c3\u01c5\3\2\2\2\u01c4\u01c6\t\t\2\2\u01c5"+
+		"\u01c4\3\2\2\2\u01c5\u01c6\3\2\2\2\u01c6\u01c7\3\2\2\2\u01c7\u01c8\7L"+
+		"\2\2\u01c8\u01cb\5\\/\2\u01c9\u01cb\5\\/\2\u01ca\u01bc\3\2\2\2\u01ca\u01c2"+
+		"\3\2\2\2\u01ca\u01c9\3\2\2\2\u01cbY\3\2\2\2\u01cc\u01d1\5\\/\2\u01cd\u01ce"+
+		"\7S\2\2\u01ce\u01d0\5\\/\2\u01cf\u01cd\3\2\2\2\u01d0\u01d3\3\2\2\2\u01d1"+
+		"\u01cf\3\2\2\2\u01d1\u01d2\3\2\2\2\u01d2[\3\2\2\2\u01d3\u01d1\3\2\2\2"+
+		"\u01d4\u01d5\5j\66\2\u01d5\u01d6\7L\2\2\u01d6\u01d8\3\2\2\2\u01d7\u01d4"+
+		"\3\2\2\2\u01d7\u01d8\3\2\2\2\u01d8\u01d9\3\2\2\2\u01d9\u01db\5j\66\2\u01da"+
+		"\u01dc\5P)\2\u01db\u01da\3\2\2\2\u01db\u01dc\3\2\2\2\u01dc\u01e2\3\2\2"+
+		"\2\u01dd\u01df\5J&\2\u01de\u01dd\3\2\2\2\u01de\u01df\3\2\2\2\u01df\u01e0"+
+		"\3\2\2\2\u01e0\u01e2\5j\66\2\u01e1\u01d7\3\2\2\2\u01e1\u01de\3\2\2\2\u01e2"+
+		"]\3\2\2\2\u01e3\u01e4\5j\66\2\u01e4\u01e5\7L\2\2\u01e5\u01e7\3\2\2\2\u01e6"+
+		"\u01e3\3\2\2\2\u01e6\u01e7\3\2\2\2\u01e7\u01e8\3\2\2\2\u01e8\u01e9\5j"+
+		"\66\2\u01e9_\3\2\2\2\u01ea\u01ec\7\30\2\2\u01eb\u01ea\3\2\2\2\u01eb\u01ec"+
+		"\3\2\2\2\u01ec\u01ed\3\2\2\2\u01ed\u01ee\7\31\2\2\u01eea\3\2\2\2\u01ef"+
+		"\u01f2\7\31\2\2\u01f0\u01f2\5d\63\2\u01f1\u01ef\3\2\2\2\u01f1\u01f0\3"+
+		"\2\2\2\u01f2c\3\2\2\2\u01f3\u0200\7<\2\2\u01f4\u0200\7=\2\2\u01f5\u0200"+
+		"\5f\64\2\u01f6\u01f8\5h\65\2\u01f7\u01f6\3\2\2\2\u01f7\u01f8\3\2\2\2\u01f8"+
+		"\u01f9\3\2\2\2\u01f9\u0200\t\n\2\2\u01fa\u01fc\5h\65\2\u01fb\u01fa\3\2"+
+		"\2\2\u01fb\u01fc\3\2\2\2\u01fc\u01fd\3\2\2\2\u01fd\u01fe\7P\2\2\u01fe"+
+		"\u0200\t\13\2\2\u01ff\u01f3\3\2\2\2\u01ff\u01f4\3\2\2\2\u01ff\u01f5\3"+
+		"\2\2\2\u01ff\u01f7\3\2\2\2\u01ff\u01fb\3\2\2\2\u0200e\3\2\2\2\u0201\u0203"+
+		"\5h\65\2\u0202\u0201\3\2\2\2\u0202\u0203\3\2\2\2\u0203\u0204\3\2\2\2\u0204"+
+		"\u0205\7:\2\2\u0205g\3\2\2\2\u0206\u0207\t\2\2\2\u0207i\3\2\2\2\u0208"+
+		"\u020c\5l\67\2\u0209\u020c\78\2\2\u020a\u020c\79\2\2\u020b\u0208\3\2\2"+
+		"\2\u020b\u0209\3\2\2\2\u020b\u020a\3\2\2\2\u020ck\3\2\2\2\u020d\u021c"+
+		"\7;\2\2\u020e\u021c\7%\2\2\u020f\u021c\7&\2\2\u0210\u021c\7\'\2\2\u0211"+
+		"\u021c\7(\2\2\u0212\u021c\7*\2\2\u0213\u021c\7+\2\2\u0214\u021c\7-\2\2"+
+		"\u0215\u021c\7.\2\2\u0216\u021c\7/\2\2\u0217\u021c\7\61\2\2\u0218\u021c"+
+		"\7\62\2\2\u0219\u021c\7\64\2\2\u021a\u021c\5n8\2\u021b\u020d\3\2\2\2\u021b"+
+		"\u020e\3\2\2\2\u021b\u020f\3\2\2\2\u021b\u0210\3\2\2\2\u021b\u0211\3\2"+
+		"\2\2\u021b\u0212\3\2\2\2\u021b\u0213\3\2\2\2\u021b\u0214\3\2\2\2\u021b"+
+		"\u0215\3\2\2\2\u021b\u0216\3\2\2\2\u021b\u0217\3\2\2\2\u021b\u0218\3\2"+
+		"\2\2\u021b\u0219\3\2\2\2\u021b\u021a\3\2\2\2\u021cm\3\2\2\2\u021d\u021e"+
+		"\t\f\2\2\u021eo\3\2\2\2\u021f\u0229\7@\2\2\u0220\u0229\7A\2\2\u0221\u0229"+
+		"\7B\2\2\u0222\u0223\7B\2\2\u0223\u0229\7@\2\2\u0224\u0225\7A\2\2\u0225"+
+		"\u0229\7@\2\2\u0226\u0227\7C\2\2\u0227\u0229\7@\2\2\u0228\u021f\3\2\2"+
+		"\2\u0228\u0220\3\2\2\2\u0228\u0221\3\2\2\2\u0228\u0222\3\2\2\2\u0228\u0224"+
+		"\3\2\2\2\u0228\u0226\3\2\2\2\u0229q\3\2\2\2Iu{\u0083\u0092\u009a\u009c"+
+		"\u00a2\u00aa\u00b3\u00ba\u00c1\u00cb\u00d6\u00de\u00e6\u00ee\u00f2\u00f9"+
+		"\u00fe\u0101\u0104\u0107\u010b\u0116\u0120\u0125\u0128\u012e\u0135\u013b"+
+		"\u013e\u0143\u0145\u014b\u014e\u0156\u015a\u015e\u0162\u0168\u016b\u0179"+
+		"\u017c\u0181\u0187\u018e\u0191\u019b\u01a2\u01a9\u01af\u01b6\u01bc\u01c2"+
+		"\u01c5\u01ca\u01d1\u01d7\u01db\u01de\u01e1\u01e6\u01eb\u01f1\u01f7\u01fb"+
+		"\u01ff\u0202\u020b\u021b\u0228";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
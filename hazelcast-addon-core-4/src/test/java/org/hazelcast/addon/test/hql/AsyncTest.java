@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.CompiledQuery;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701) and the test files included in the distribution in the
+ * following directory:
+ * 
+ * <pre>
+ * test / hql
+ * </pre>
+ * 
+ * @author dpark
+ *
+ */
+public class AsyncTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Map.Entry<String, Order>> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		HazelcastClient.shutdownAll();
+	}
+
+	@Test
+	public void testExecuteAsync() throws IOException, HqlException, InterruptedException, ExecutionException {
+		CompiledQuery<Map.Entry<String, Order>> cq = hql.compile(Paths.get("test/hql/and_or1.txt"));
+		cq.dump();
+		IPageResults<Map.Entry<String, Order>> results = cq.executeAsync().toCompletableFuture().get();
+		Assert.assertEquals(cq.execute().getSize(), results.getSize());
+		System.out.println("size=" + results.getSize());
+		System.out.println();
+	}
+
+	@Test
+	public void testExecuteBatch() throws IOException, HqlException, InterruptedException, ExecutionException {
+		List<CompiledQuery<Map.Entry<String, Order>>> queries = new ArrayList<CompiledQuery<Map.Entry<String, Order>>>();
+		queries.add(hql.compile(Paths.get("test/hql/and_or1.txt")));
+		queries.add(hql.compile(Paths.get("test/hql/entries1.txt")));
+		queries.add(hql.compile(Paths.get("test/hql/values1.txt")));
+		List<IPageResults<Map.Entry<String, Order>>> resultsList = hql.executeBatch(queries).toCompletableFuture()
+				.get();
+		Assert.assertEquals(queries.size(), resultsList.size());
+		for (int i = 0; i < queries.size(); i++) {
+			Assert.assertEquals(queries.get(i).execute().getSize(), resultsList.get(i).getSize());
+			System.out.println(i + ". size=" + resultsList.get(i).getSize());
+		}
+		System.out.println();
+	}
+
+	@Test
+	public void testPrefetch() throws IOException, HqlException {
+		CompiledQuery<Map.Entry<String, Order>> cq = hql.compile("select * from nw/orders.entries e order by e.value.orderId", 10);
+		IPageResults<Map.Entry<String, Order>> results = cq.execute();
+		IPageResults<Map.Entry<String, Order>> prefetchResults = cq.execute();
+		prefetchResults.setPrefetchEnabled(true);
+		Assert.assertTrue(prefetchResults.isPrefetchEnabled());
+		do {
+			Assert.assertEquals(results.getPage(), prefetchResults.getPage());
+			Assert.assertEquals(keys(results), keys(prefetchResults));
+			prefetchResults.nextPage();
+		} while (results.nextPage());
+		System.out.println("pages=" + results.getPage());
+		System.out.println();
+	}
+
+	private List<String> keys(IPageResults<Map.Entry<String, Order>> results) {
+		List<String> keyList = new ArrayList<String>(results.getSize());
+		for (Map.Entry<String, Order> entry : results.getResults()) {
+			keyList.add(entry.getKey());
+		}
+		return keyList;
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void testExecuteAsyncInvalidQuery() throws InterruptedException, ExecutionException {
+		hql.executeAsync("select * from nw/orders where freight <", 100).toCompletableFuture().get();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.impl.IndexAdvisor;
+import org.hazelcast.addon.hql.impl.IndexInfo;
+import org.hazelcast.addon.hql.impl.IndexRecommendation;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701).
+ *
+ * @author dpark
+ *
+ */
+public class IndexAdvisorTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Order> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+		hql.enableIndexAdvisor();
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		hql.disableIndexAdvisor();
+		HazelcastClient.shutdownAll();
+	}
+
+	@Before
+	public void reset() {
+		hql.getIndexAdvisor().reset();
+	}
+
+	@Test
+	public void testRecordUsage() throws HqlException {
+		String query = "select * from nw/orders where customerId=? and freight > 10 order by shipCountry";
+		hql.execute(query, 10, "ALFKI");
+		hql.execute(query, 10, "ANATR");
+		IndexAdvisor indexAdvisor = hql.getIndexAdvisor();
+		Assert.assertEquals(2, indexAdvisor.getQueryCount("nw/orders"));
+		Map<String, IndexAdvisor.AttributeStats> statsMap = indexAdvisor.getAttributeStats("nw/orders");
+		System.out.println(statsMap);
+		Assert.assertEquals(2, statsMap.get("customerId").getEqualityCount());
+		Assert.assertEquals(0, statsMap.get("customerId").getRangeCount());
+		Assert.assertEquals(2, statsMap.get("freight").getRangeCount());
+		Assert.assertEquals(2, statsMap.get("shipCountry").getOrderByCount());
+		System.out.println();
+	}
+
+	@Test
+	public void testNotIgnored() throws HqlException {
+		hql.execute("select * from nw/orders where not (shipVia='1') and customerId in ('ALFKI', 'ANATR')");
+		Map<String, IndexAdvisor.AttributeStats> statsMap = hql.getIndexAdvisor().getAttributeStats("nw/orders");
+		System.out.println(statsMap);
+		Assert.assertNull(statsMap.get("shipVia"));
+		Assert.assertEquals(1, statsMap.get("customerId").getEqualityCount());
+		System.out.println();
+	}
+
+	@Test
+	public void testRecommendations() throws HqlException {
+		hql.execute("select * from nw/orders where customerId='ALFKI'");
+		hql.execute("select * from nw/orders where shipCountry='France' and freight between 10 and 20");
+		hql.scan("select * from nw/orders where shipCountry='Germany'").count();
+		IndexAdvisor indexAdvisor = hql.getIndexAdvisor();
+		System.out.println(indexAdvisor.getReport());
+		List<IndexRecommendation> recommendations = indexAdvisor.getRecommendations();
+		long totalLatency = Long.MAX_VALUE;
+		for (IndexRecommendation recommendation : recommendations) {
+			Assert.assertTrue(recommendation.getTotalLatencyInMsec() <= totalLatency);
+			totalLatency = recommendation.getTotalLatencyInMsec();
+			if (recommendation.getAttribute().equals("freight")) {
+				Assert.assertEquals(IndexInfo.Type.SORTED, recommendation.getType());
+			} else {
+				Assert.assertEquals(IndexInfo.Type.HASH, recommendation.getType());
+			}
+		}
+		Assert.assertEquals(0, indexAdvisor.getRecommendations(Long.MAX_VALUE).size());
+		System.out.println();
+	}
+
+	@Test
+	public void testOrderByNotRecommended() throws HqlException {
+		hql.execute("select * from nw/orders where shipName='Vins et alcools Chevalier' order by shipCity");
+		hql.execute("select * from nw/orders where shipCity='Lyon' and shipRegion > 'A' order by shipPostalCode");
+		IndexAdvisor indexAdvisor = hql.getIndexAdvisor();
+		System.out.println(indexAdvisor.getReport());
+		Map<String, IndexAdvisor.AttributeStats> statsMap = indexAdvisor.getAttributeStats("nw/orders");
+		Assert.assertEquals(1, statsMap.get("shipPostalCode").getOrderByCount());
+		for (IndexRecommendation recommendation : indexAdvisor.getRecommendations()) {
+			Assert.assertNotEquals("shipPostalCode", recommendation.getAttribute());
+			if (recommendation.getAttribute().equals("shipCity")) {
+				// Used in order by and equality
+				Assert.assertEquals(IndexInfo.Type.HASH, recommendation.getType());
+			}
+		}
+		System.out.println();
+	}
+}
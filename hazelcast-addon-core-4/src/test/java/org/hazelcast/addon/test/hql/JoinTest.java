@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.demo.nw.data.Customer;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701).
+ *
+ * @author dpark
+ *
+ */
+public class JoinTest {
+
+	private static final int SOLO_ORDER_COUNT = 50;
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Object[]> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+		IMap<String, Customer> customers = hz.getMap("nw/customers");
+		for (int i = 0; i < 3; i++) {
+			Customer customer = new Customer();
+			customer.setCustomerId("JoinTestC" + i);
+			customer.setCompanyName("JoinTest Company " + i);
+			customer.setCountry(i == 0 ? "JoinTestA" : "JoinTestB");
+			customers.set(customer.getCustomerId(), customer);
+		}
+		IMap<String, Order> orders = hz.getMap("nw/orders");
+		for (int i = 0; i < 6; i++) {
+			Order order = new Order();
+			order.setOrderId("JoinTestO" + i);
+			order.setCustomerId("JoinTestC" + (i % 3));
+			order.setFreight(1000000 + i);
+			orders.set(order.getOrderId(), order);
+		}
+		// The orders of one customer spread over all partitions, i.e., the orders
+		// and customers are not co-partitioned.
+		Customer customer = new Customer();
+		customer.setCustomerId("JoinTestSolo");
+		customer.setCompanyName("JoinTest Solo");
+		customer.setCountry("JoinTestSolo");
+		customers.set(customer.getCustomerId(), customer);
+		for (int i = 0; i < SOLO_ORDER_COUNT; i++) {
+			Order order = new Order();
+			order.setOrderId("JoinTestSoloO" + i);
+			order.setCustomerId("JoinTestSolo");
+			order.setFreight(2000000 + i);
+			orders.set(order.getOrderId(), order);
+		}
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		IMap<String, Customer> customers = hz.getMap("nw/customers");
+		for (int i = 0; i < 3; i++) {
+			customers.remove("JoinTestC" + i);
+		}
+		customers.remove("JoinTestSolo");
+		IMap<String, Order> orders = hz.getMap("nw/orders");
+		for (int i = 0; i < 6; i++) {
+			orders.remove("JoinTestO" + i);
+		}
+		for (int i = 0; i < SOLO_ORDER_COUNT; i++) {
+			orders.remove("JoinTestSoloO" + i);
+		}
+		HazelcastClient.shutdownAll();
+	}
+
+	private List<Object[]> execute(String query, Object... params) {
+		IPageResults<Object[]> results = hql.execute(query, 100, params);
+		List<Object[]> rows = results.toList();
+		rows.forEach(row -> System.out.println(Arrays.toString(row)));
+		return rows;
+	}
+
+	@Test
+	public void testJoinByKey() {
+		List<Object[]> rows = execute(
+				"select o.orderId, c.companyName from nw/orders o join nw/customers c on o.customerId = c.key where o.freight >= ? and c.country = ? order by o.orderId",
+				1000000, "JoinTestB");
+		Assert.assertEquals(4, rows.size());
+		Assert.assertEquals("JoinTestO1", rows.get(0)[0]);
+		Assert.assertEquals("JoinTest Company 1", rows.get(0)[1]);
+		Assert.assertEquals("JoinTestO5", rows.get(3)[0]);
+		Assert.assertEquals("JoinTest Company 2", rows.get(3)[1]);
+	}
+
+	@Test
+	public void testJoinNotCoPartitioned() {
+		// The members that own no matching customer must still detect that the
+		// orders are not co-partitioned so that the join falls back to broadcast.
+		List<Object[]> rows = execute(
+				"select o.orderId, c.companyName from nw/orders o join nw/customers c on o.customerId = c.key where c.country = ?",
+				"JoinTestSolo");
+		Assert.assertEquals(SOLO_ORDER_COUNT, rows.size());
+		for (Object[] row : rows) {
+			Assert.assertEquals("JoinTest Solo", row[1]);
+		}
+		rows = execute(
+				"select o.orderId from nw/orders o join nw/customers c on o.customerId = c.key where c.country = ? limit 5",
+				"JoinTestSolo");
+		Assert.assertEquals(5, rows.size());
+	}
+
+	@Test
+	public void testJoinByField() {
+		List<Object[]> rows = execute(
+				"select c.customerId, o.freight from nw/customers c inner join nw/orders o on c.customerId = o.customerId where o.freight >= 1000000 order by 2 desc limit 2 offset 1");
+		Assert.assertEquals(2, rows.size());
+		Assert.assertEquals("JoinTestC1", rows.get(0)[0]);
+		Assert.assertEquals(1000004.0, rows.get(0)[1]);
+		Assert.assertEquals("JoinTestC0", rows.get(1)[0]);
+	}
+
+	@Test
+	public void testDistinct() {
+		List<Object[]> rows = execute(
+				"select distinct c.country from nw/orders o join nw/customers c on o.customerId = c.key where o.freight >= 1000000 order by 1");
+		Assert.assertEquals(2, rows.size());
+		Assert.assertEquals("JoinTestA", rows.get(0)[0]);
+		Assert.assertEquals("JoinTestB", rows.get(1)[0]);
+	}
+
+	@Test
+	public void testBroadcastLimit() {
+		hql.setJoinBroadcastLimit(2);
+		try {
+			execute("select c.companyName from nw/customers c join nw/orders o on c.key = o.customerId where o.freight >= 1000000");
+			Assert.fail("HqlException expected");
+		} catch (HqlException ex) {
+			System.out.println(ex.getMessage());
+		} finally {
+			hql.setJoinBroadcastLimit(10000);
+		}
+	}
+
+	@Test(expected = HqlException.class)
+	public void testMixedCondition() {
+		execute("select o.orderId from nw/orders o join nw/customers c on o.customerId = c.key where o.freight >= 1000000 or c.country = 'JoinTestA'");
+	}
+}
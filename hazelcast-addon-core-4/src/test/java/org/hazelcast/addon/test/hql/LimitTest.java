@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.CompiledQuery;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.addon.hql.data.OrderBy;
+import org.hazelcast.addon.hql.data.OrderByField;
+import org.hazelcast.addon.hql.impl.SearchType;
+import org.hazelcast.addon.hql.impl.TopKAggregator;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701) and the test files included in the distribution in the
+ * following directory:
+ * 
+ * <pre>
+ * test / hql
+ * </pre>
+ * 
+ * @author dpark
+ *
+ */
+public class LimitTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Object> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		HazelcastClient.shutdownAll();
+	}
+
+	private List<Object> execute(String filePath) throws IOException, HqlException {
+		Path path = Paths.get(filePath);
+		System.out.println(path);
+		CompiledQuery<Object> cq = hql.compile(path);
+		cq.dump();
+		List<Object> results = cq.stream().collect(Collectors.toList());
+		System.out.println("size=" + results.size());
+		System.out.println();
+		return results;
+	}
+
+	@Test
+	public void testLimit1() throws IOException, HqlException {
+		List<Object> results = execute("test/hql/limit1.txt");
+		Assert.assertTrue(results.size() <= 10);
+	}
+
+	@Test
+	public void testLimit2() throws IOException, HqlException {
+		List<Object> results = execute("test/hql/limit2.txt");
+		Assert.assertTrue(results.size() <= 20);
+	}
+
+	@Test
+	public void testLimitOrderBy() throws HqlException {
+		String query = "select * from nw/orders where freight > 10 order by freight desc";
+		List<Object> expected = hql.compile(query).stream().skip(3).limit(5).collect(Collectors.toList());
+		IPageResults<Object> results = hql.execute(query + " limit 5 offset 3", 2);
+		List<Object> actual = results.stream().collect(Collectors.toList());
+		Assert.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(((Order) expected.get(i)).getFreight(), ((Order) actual.get(i)).getFreight(), 0);
+		}
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void testTopKKeysOrderByValue() throws HqlException {
+		// The keys-only aggregator compares the values and returns the keys
+		List<Object> expected = hql.execute("select * from nw/orders where freight > 10 order by freight desc limit 5", 10)
+				.stream().collect(Collectors.toList());
+		OrderBy orderBy = new OrderBy(new OrderByField("freight", SearchType.VALUE_FIELD, false));
+		TopKAggregator aggregator = new TopKAggregator(5, orderBy, true);
+		Predicate predicate = Predicates.greaterThan("freight", 10);
+		IMap map = hz.getMap("nw/orders");
+		List<Map.Entry> actual = (List<Map.Entry>) map.aggregate(aggregator, predicate);
+		Assert.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertNull(actual.get(i).getValue());
+			Assert.assertEquals(((Order) expected.get(i)).getFreight(), ((Order) map.get(actual.get(i).getKey())).getFreight(), 0);
+		}
+	}
+
+	@Test
+	public void testLimitZero() throws HqlException {
+		Assert.assertEquals(0, hql.execute("select * from nw/orders limit 0", 10).getSize());
+	}
+
+	@Test(expected = HqlException.class)
+	public void testLimitOutOfRange() throws HqlException {
+		hql.compile("select * from nw/orders limit 2147483647 offset 1");
+	}
+}
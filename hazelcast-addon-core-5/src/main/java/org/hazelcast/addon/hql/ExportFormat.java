@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql;
+
+/**
+ * ExportFormat is the file format of the results exported by
+ * {@link CompiledQuery#export(java.nio.channels.WritableByteChannel, ExportFormat, Object...)}.
+ *
+ * @author dpark
+ *
+ */
+public enum ExportFormat {
+	/**
+	 * Comma-separated values (RFC 4180) with the header line.
+	 */
+	CSV,
+
+	/**
+	 * Newline-delimited JSON. One JSON object per line.
+	 */
+	JSON;
+
+	/**
+	 * Returns the export format determined by the specified file name extension.
+	 * ".json", ".jsonl", and ".ndjson" are {@link #JSON}. All others are
+	 * {@link #CSV}.
+	 *
+	 * @param fileName File name
+	 */
+	public static ExportFormat getExportFormat(String fileName) {
+		String name = fileName.toLowerCase();
+		if (name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+			return JSON;
+		}
+		return CSV;
+	}
+}
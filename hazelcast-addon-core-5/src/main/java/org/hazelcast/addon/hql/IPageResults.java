@@ -17,7 +17,9 @@
 package org.hazelcast.addon.hql;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.hazelcast.query.PagingPredicate;
 
@@ -52,6 +54,19 @@ public interface IPageResults<T> {
 	 */
 	public int getVisitedTotalSize();
 
+	/**
+	 * Returns the exact number of results in the entire result set. If the
+	 * results are paged by the members, then the results are counted on the
+	 * members by the count aggregator with the query predicate without returning
+	 * them. The count is executed in parallel with the first page fetch if
+	 * enabled by {@link HqlQuery#setTotalCountEnabled(boolean)}, otherwise when
+	 * this method is first invoked. The count is not updated by subsequent page
+	 * fetches and may differ from the paged results if the map changes.
+	 * Otherwise, all results are already in the client and their number is
+	 * returned.
+	 */
+	public long getTotalSize();
+
 	/**
 	 * Returns the results in the form of {@link List}.
 	 */
@@ -128,4 +143,39 @@ public interface IPageResults<T> {
 	 * Returns the size of the largest page visited.
 	 */
 	public int getLargestPageVisitedSize();
+
+	/**
+	 * Returns an iterator over the entire result set beginning from the first
+	 * result, independent of the current page. Unlike {@link #nextPage()}, which
+	 * re-executes the query for each page, the iterator does not page the entire
+	 * result set. If the query has no order-by clause, then each partition is
+	 * read once, one partition at a time, so that the client memory is bounded
+	 * by the largest partition result. Otherwise, each partition is read in
+	 * sorted pages of the fetch size, each anchored at the last entry of the
+	 * previous page, and the pages are merged in the client, which holds at most
+	 * one page per partition. The first pages of all partitions are read
+	 * concurrently before the first result is returned.
+	 */
+	public Iterator<T> iterator();
+
+	/**
+	 * Returns a sequential stream over the entire result set. See
+	 * {@link #iterator()} for details.
+	 */
+	public Stream<T> stream();
+
+	/**
+	 * Enables or disables page prefetch. If enabled, the page after the current
+	 * page is fetched in the background while the current page is consumed so
+	 * that {@link #nextPage()} does not wait for the remote call. Disabled by
+	 * default.
+	 * 
+	 * @param isPrefetchEnabled true to enable page prefetch
+	 */
+	public void setPrefetchEnabled(boolean isPrefetchEnabled);
+
+	/**
+	 * Returns true if page prefetch is enabled.
+	 */
+	public boolean isPrefetchEnabled();
 }
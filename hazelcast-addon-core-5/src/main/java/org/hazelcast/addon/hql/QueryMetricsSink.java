@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql;
+
+/**
+ * QueryMetricsSink receives the raw measurements of the queries executed by an
+ * {@link HqlQuery} with the metrics enabled, so that they can be forwarded to
+ * an external metrics system. Sinks are added by
+ * {@link org.hazelcast.addon.hql.impl.HqlMetrics#addSink(QueryMetricsSink)}.
+ * The query is the normalized query string without the bind parameter values,
+ * which identifies the query shape.
+ * <p>
+ * The methods are invoked synchronously by the query threads and must be
+ * thread-safe. They should return quickly. The methods do nothing by default.
+ *
+ * @author dpark
+ *
+ */
+public interface QueryMetricsSink {
+
+	/**
+	 * Invoked when a query is compiled.
+	 *
+	 * @param query        Normalized query string
+	 * @param elapsedNanos Compile time in nanoseconds
+	 */
+	public default void onCompile(String query, long elapsedNanos) {
+	}
+
+	/**
+	 * Invoked when a query is executed.
+	 *
+	 * @param query        Normalized query string
+	 * @param elapsedNanos Time to receive the first page or the row query result
+	 *                     set in nanoseconds
+	 * @param rows         Number of results received
+	 * @param bytes        Estimated number of bytes deserialized
+	 */
+	public default void onExecute(String query, long elapsedNanos, long rows, long bytes) {
+	}
+
+	/**
+	 * Invoked when a page after the first page is fetched.
+	 *
+	 * @param query        Normalized query string
+	 * @param elapsedNanos Page fetch time in nanoseconds
+	 * @param rows         Number of results received
+	 * @param bytes        Estimated number of bytes deserialized
+	 */
+	public default void onPage(String query, long elapsedNanos, long rows, long bytes) {
+	}
+
+	/**
+	 * Invoked when a query execution exceeds the slow query threshold.
+	 *
+	 * @param query        Normalized query string
+	 * @param elapsedNanos Execute time in nanoseconds
+	 * @param plan         Query plan. null if not available.
+	 */
+	public default void onSlowQuery(String query, long elapsedNanos, String plan) {
+	}
+}
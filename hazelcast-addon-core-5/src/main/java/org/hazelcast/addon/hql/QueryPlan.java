@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hazelcast.addon.hql.impl.IndexInfo;
+import org.hazelcast.addon.hql.impl.PredicatePlan;
+
+/**
+ * QueryPlan is the result of explaining a query by
+ * {@link CompiledQuery#explain()} or by executing a query prefixed with
+ * <code>explain</code>. It reports the where clause predicate tree annotated
+ * with index usage and estimated selectivity, the indexes of the map including
+ * the indexes added at runtime, and how much of the result set is materialized by sorting
+ * and paging. The query is not executed.
+ * 
+ * @author dpark
+ *
+ */
+public class QueryPlan {
+	private String mapName;
+	private ResultType resultType;
+	private PredicatePlan predicatePlan;
+	private List<IndexInfo> indexes;
+	private int mapSize;
+	private String materialization;
+
+	/**
+	 * Constructs a QueryPlan object.
+	 * 
+	 * @param mapName         Map name
+	 * @param resultType      Query result type
+	 * @param predicatePlan   Where clause plan. null if the query has no where
+	 *                        clause.
+	 * @param indexes         Indexes defined in the map configuration
+	 * @param mapSize         Number of map entries
+	 * @param materialization Description of the result set materialization
+	 */
+	QueryPlan(String mapName, ResultType resultType, PredicatePlan predicatePlan, List<IndexInfo> indexes,
+			int mapSize, String materialization) {
+		this.mapName = mapName;
+		this.resultType = resultType;
+		this.predicatePlan = predicatePlan;
+		this.indexes = Collections.unmodifiableList(indexes);
+		this.mapSize = mapSize;
+		this.materialization = materialization;
+	}
+
+	public String getMapName() {
+		return mapName;
+	}
+
+	public ResultType getResultType() {
+		return resultType;
+	}
+
+	/**
+	 * Returns the where clause plan. null if the query has no where clause.
+	 */
+	public PredicatePlan getPredicatePlan() {
+		return predicatePlan;
+	}
+
+	/**
+	 * Returns the indexes of the map, i.e., the indexes defined in the member map
+	 * configuration and the indexes added at runtime by
+	 * <code>IMap.addIndex()</code>.
+	 */
+	public List<IndexInfo> getIndexes() {
+		return indexes;
+	}
+
+	/**
+	 * Returns true if the members evaluate the where clause by using indexes
+	 * rather than by scanning all entries.
+	 */
+	public boolean isIndexed() {
+		return predicatePlan != null && predicatePlan.isIndexed();
+	}
+
+	/**
+	 * Returns the estimated fraction of the map entries that match the where
+	 * clause. 1 if the query has no where clause.
+	 */
+	public double getSelectivity() {
+		return predicatePlan == null ? 1 : predicatePlan.getSelectivity();
+	}
+
+	/**
+	 * Returns the number of map entries at the time the plan was created.
+	 */
+	public int getMapSize() {
+		return mapSize;
+	}
+
+	/**
+	 * Returns the estimated number of matching entries.
+	 */
+	public long getEstimatedSize() {
+		return Math.round(mapSize * getSelectivity());
+	}
+
+	/**
+	 * Returns the description of how much of the result set is materialized by
+	 * sorting and paging.
+	 */
+	public String getMaterialization() {
+		return materialization;
+	}
+
+	/**
+	 * Returns the plan as text lines.
+	 */
+	public List<String> getLines() {
+		List<String> lines = new ArrayList<String>();
+		lines.add("Map: " + mapName + " (" + mapSize + " entries)");
+		lines.add("Result Type: " + resultType);
+		if (indexes.isEmpty()) {
+			lines.add("Indexes: none");
+		} else {
+			lines.add("Indexes:");
+			for (IndexInfo index : indexes) {
+				lines.add("  " + index);
+			}
+		}
+		if (predicatePlan == null) {
+			lines.add("Predicate: none");
+		} else {
+			lines.add("Predicate:");
+			predicatePlan.appendTo(lines, "  ");
+		}
+		lines.add("Access: " + (isIndexed() ? "index scan" : "full scan"));
+		lines.add("Selectivity: " + PredicatePlan.formatSelectivity(getSelectivity()) + " (estimated "
+				+ getEstimatedSize() + " of " + mapSize + " entries)");
+		lines.add("Materialization: " + materialization);
+		return lines;
+	}
+
+	@Override
+	public String toString() {
+		return String.join(System.lineSeparator(), getLines());
+	}
+}
@@ -17,7 +17,6 @@
 package org.hazelcast.addon.hql.data;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -25,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.hazelcast.addon.hql.impl.FieldAccessor;
 import org.hazelcast.addon.hql.impl.PortableFactoryImpl;
 import org.hazelcast.addon.hql.impl.SearchType;
 
@@ -40,7 +40,9 @@ import com.hazelcast.nio.serialization.VersionedPortable;
  * property names of key or value objects, i.e., the getter methods.
  * <p>
  * <b>Note:</b> Field names are case-sensitive. They must exactly match the
- * getter method name without the prefix "get".</b>
+ * getter method name without the prefix "get".</b> The getters are resolved
+ * once per class and field name and invoked without reflection. See
+ * {@link FieldAccessor}.
  * <p>
  * <b>PortableFactory:</b> To use this class, the following PortableFactory must
  * be registered in both server and client sides:
@@ -181,7 +183,8 @@ public class OrderBy<K, V> implements VersionedPortable, Comparator<Map.Entry<K,
 	}
 
 	/**
-	 * Compares the specified field value in the specified objects.
+	 * Compares the specified field value in the specified objects. The field
+	 * values are read by the accessors cached per class and field name.
 	 * 
 	 * @param v1
 	 * @param v2
@@ -191,37 +194,21 @@ public class OrderBy<K, V> implements VersionedPortable, Comparator<Map.Entry<K,
 	private int compareField(Object v1, Object v2, String fieldName, boolean isAsc) {
 		if (fieldName == null) {
 			return compareAsc(v1, v2);
-		} else {
-			Method method = null;
-			try {
-				method = v1.getClass().getMethod("get" + fieldName);
-			} catch (Exception e) {
-				// ignores
-			}
-			try {
-				if (method == null) {
-					method = v1.getClass().getMethod(
-							"get" + Character.toString(fieldName.charAt(0)).toUpperCase() + fieldName.substring(1));
-				}
-				if (method == null) {
-					return 0;
-				}
-
-				Object o1 = method.invoke(v1);
-				Object o2 = method.invoke(v2);
-
-				if (isAsc) {
-					return compareAsc(o1, o2);
-				} else {
-					return compareAsc(o2, o1);
-				}
-
-			} catch (Exception e) {
-				// ignore
-			}
-
+		}
+		if (v1 == null || v2 == null) {
+			return isAsc ? compareAsc(v1, v2) : compareAsc(v2, v1);
+		}
+		FieldAccessor accessor = FieldAccessor.getAccessor(v1.getClass(), fieldName);
+		if (accessor.isDefined() == false) {
 			return 0;
 		}
+		if (v1.getClass() == v2.getClass()) {
+			return isAsc ? accessor.compare(v1, v2) : accessor.compare(v2, v1);
+		}
+		// Different classes. Read each value with its own class accessor.
+		Object o1 = accessor.get(v1);
+		Object o2 = FieldAccessor.getAccessor(v2.getClass(), fieldName).get(v2);
+		return isAsc ? compareAsc(o1, o2) : compareAsc(o2, o1);
 	}
 
 	/**
@@ -230,30 +217,8 @@ public class OrderBy<K, V> implements VersionedPortable, Comparator<Map.Entry<K,
 	 * @param o1
 	 * @param o2
 	 */
-	@SuppressWarnings("unchecked")
 	private int compareAsc(Object o1, Object o2) {
-
-		if (o1 == null) {
-			return -1;
-		}
-		if (o2 == null) {
-			return 1;
-		}
-		if (o1 instanceof Comparable && o2 instanceof Comparable) {
-			int c = ((Comparable) o1).compareTo(o2);
-			if (c != 0) {
-				return c;
-			}
-		}
-		// This should not occur.
-		if (o1.equals(o2) == false) {
-			if (o1.hashCode() > o2.hashCode()) {
-				return 1;
-			} else if (o1.hashCode() < o2.hashCode()) {
-				return -1;
-			}
-		}
-		return 0;
+		return FieldAccessor.compareAsc(o1, o2);
 	}
 
 	@Override
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ChannelWriter writes characters to a {@link WritableByteChannel} in UTF-8.
+ * The characters are collected in a char buffer, encoded by a single reused
+ * {@link CharsetEncoder} into a direct byte buffer, and written to the channel
+ * only when the byte buffer is full. No objects are allocated per write, so
+ * the heap usage is constant regardless of the number of characters written.
+ * <p>
+ * This class is not thread safe. It does not close the channel.
+ *
+ * @author dpark
+ *
+ */
+public class ChannelWriter {
+	private static final int CHAR_BUFFER_SIZE = 8 * 1024;
+	private static final int BYTE_BUFFER_SIZE = 64 * 1024;
+
+	private final WritableByteChannel channel;
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	private final CharBuffer charBuffer = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+	private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE);
+	private long byteCount;
+
+	/**
+	 * Constructs a ChannelWriter.
+	 *
+	 * @param channel Channel to write to
+	 */
+	public ChannelWriter(WritableByteChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * Writes the specified character.
+	 */
+	public void write(char c) throws IOException {
+		if (charBuffer.hasRemaining() == false) {
+			encode(false);
+		}
+		charBuffer.put(c);
+	}
+
+	/**
+	 * Writes the specified characters.
+	 */
+	public void write(CharSequence str) throws IOException {
+		int start = 0;
+		int length = str.length();
+		while (start < length) {
+			if (charBuffer.hasRemaining() == false) {
+				encode(false);
+			}
+			int end = Math.min(length, start + charBuffer.remaining());
+			charBuffer.append(str, start, end);
+			start = end;
+		}
+	}
+
+	/**
+	 * Encodes the buffered characters. A high surrogate at the end of the buffer
+	 * is kept until its low surrogate is written.
+	 */
+	private void encode(boolean isEndOfInput) throws IOException {
+		charBuffer.flip();
+		while (encoder.encode(charBuffer, byteBuffer, isEndOfInput) == CoderResult.OVERFLOW) {
+			drain();
+		}
+		charBuffer.compact();
+	}
+
+	private void drain() throws IOException {
+		byteBuffer.flip();
+		while (byteBuffer.hasRemaining()) {
+			byteCount += channel.write(byteBuffer);
+		}
+		byteBuffer.clear();
+	}
+
+	/**
+	 * Writes all buffered characters to the channel.
+	 */
+	public void flush() throws IOException {
+		encode(false);
+		drain();
+	}
+
+	/**
+	 * Writes all buffered characters to the channel and resets the encoder. This
+	 * method must be invoked after the last write.
+	 */
+	public void finish() throws IOException {
+		encode(true);
+		while (encoder.flush(byteBuffer) == CoderResult.OVERFLOW) {
+			drain();
+		}
+		drain();
+		encoder.reset();
+	}
+
+	/**
+	 * Returns the number of bytes written to the channel.
+	 */
+	public long getByteCount() {
+		return byteCount;
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * FieldAccessor reads a field (getter) value of objects of a given class
+ * without reflection. Accessors are built once per class and field name on
+ * first use and cached. Each accessor is backed by a lambda generated with
+ * {@link LambdaMetafactory}, or by a {@link MethodHandle} if the lambda cannot
+ * be generated, e.g., the class is not visible from this class loader.
+ * <p>
+ * Getters returning <code>int</code>, <code>long</code>, <code>double</code>,
+ * and {@link String} are compared without boxing by
+ * {@link #compare(Object, Object)}.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public abstract class FieldAccessor {
+
+	enum Kind {
+		INT, LONG, DOUBLE, STRING, OBJECT, UNDEFINED
+	}
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final ClassValue<ConcurrentHashMap<String, FieldAccessor>> ACCESSOR_CACHE = new ClassValue<ConcurrentHashMap<String, FieldAccessor>>() {
+		@Override
+		protected ConcurrentHashMap<String, FieldAccessor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<String, FieldAccessor>(4);
+		}
+	};
+
+	private static final FieldAccessor UNDEFINED_ACCESSOR = new FieldAccessor(Kind.UNDEFINED) {
+		@Override
+		public Object get(Object obj) {
+			return null;
+		}
+	};
+
+	final Kind kind;
+
+	FieldAccessor(Kind kind) {
+		this.kind = kind;
+	}
+
+	/**
+	 * Returns the cached accessor of the specified field. The accessor is built
+	 * on first use.
+	 *
+	 * @param clazz     Object class
+	 * @param fieldName Field name. The getter method name without the prefix
+	 *                  "get". The first letter is case-insensitive.
+	 */
+	public static FieldAccessor getAccessor(Class<?> clazz, String fieldName) {
+		ConcurrentHashMap<String, FieldAccessor> map = ACCESSOR_CACHE.get(clazz);
+		FieldAccessor accessor = map.get(fieldName);
+		if (accessor == null) {
+			accessor = createAccessor(clazz, fieldName);
+			FieldAccessor existing = map.putIfAbsent(fieldName, accessor);
+			if (existing != null) {
+				accessor = existing;
+			}
+		}
+		return accessor;
+	}
+
+	/**
+	 * Returns the field value of the specified object.
+	 *
+	 * @param obj Object of the class for which this accessor was built
+	 */
+	public abstract Object get(Object obj);
+
+	/**
+	 * Returns true if the getter was found.
+	 */
+	public boolean isDefined() {
+		return kind != Kind.UNDEFINED;
+	}
+
+	/**
+	 * Compares the field values of the specified objects in ascending order. Both
+	 * objects must be of the class for which this accessor was built. A null
+	 * value is less than any non-null value.
+	 */
+	public int compare(Object o1, Object o2) {
+		return compareAsc(get(o1), get(o2));
+	}
+
+	/**
+	 * Compares the specified objects in ascending order. A null value is less than
+	 * any non-null value. Numbers of different types, e.g., {@link Long} and
+	 * {@link BigDecimal} sums of different groups, are compared by value.
+	 * Non-comparable objects that are not equal are ordered by hash code.
+	 */
+	public static int compareAsc(Object o1, Object o2) {
+		if (o1 == o2) {
+			return 0;
+		}
+		if (o1 == null) {
+			return -1;
+		}
+		if (o2 == null) {
+			return 1;
+		}
+		if (o1 instanceof Number && o2 instanceof Number && o1.getClass() != o2.getClass()) {
+			return compareNumbers((Number) o1, (Number) o2);
+		}
+		if (o1 instanceof Comparable && o2 instanceof Comparable) {
+			int c = ((Comparable) o1).compareTo(o2);
+			if (c != 0) {
+				return c;
+			}
+		}
+		// This should not occur.
+		if (o1.equals(o2) == false) {
+			if (o1.hashCode() > o2.hashCode()) {
+				return 1;
+			} else if (o1.hashCode() < o2.hashCode()) {
+				return -1;
+			}
+		}
+		return 0;
+	}
+
+	private static int compareNumbers(Number n1, Number n2) {
+		if ((isDecimal(n1) || isDecimal(n2)) && isFinite(n1) && isFinite(n2)) {
+			return toBigDecimal(n1).compareTo(toBigDecimal(n2));
+		} else if (n1 instanceof Double || n1 instanceof Float || n2 instanceof Double || n2 instanceof Float) {
+			return Double.compare(n1.doubleValue(), n2.doubleValue());
+		}
+		return Long.compare(n1.longValue(), n2.longValue());
+	}
+
+	private static boolean isFinite(Number n) {
+		return (n instanceof Double || n instanceof Float) == false || Double.isFinite(n.doubleValue());
+	}
+
+	private static boolean isDecimal(Number n) {
+		return n instanceof BigDecimal || n instanceof BigInteger;
+	}
+
+	private static BigDecimal toBigDecimal(Number n) {
+		if (n instanceof BigDecimal) {
+			return (BigDecimal) n;
+		} else if (n instanceof BigInteger) {
+			return new BigDecimal((BigInteger) n);
+		} else if (n instanceof Double || n instanceof Float) {
+			return BigDecimal.valueOf(n.doubleValue());
+		}
+		return BigDecimal.valueOf(n.longValue());
+	}
+
+	private static Method findGetter(Class<?> clazz, String fieldName) {
+		String[] names = { "get" + fieldName,
+				"get" + Character.toString(fieldName.charAt(0)).toUpperCase() + fieldName.substring(1),
+				"is" + Character.toString(fieldName.charAt(0)).toUpperCase() + fieldName.substring(1) };
+		for (String name : names) {
+			try {
+				Method method = clazz.getMethod(name);
+				if (method.getReturnType() != void.class) {
+					return method;
+				}
+			} catch (NoSuchMethodException e) {
+				// try next
+			}
+		}
+		return null;
+	}
+
+	private static FieldAccessor createAccessor(Class<?> clazz, String fieldName) {
+		Method method = findGetter(clazz, fieldName);
+		if (method == null) {
+			return UNDEFINED_ACCESSOR;
+		}
+		MethodHandle handle;
+		try {
+			handle = LOOKUP.unreflect(method);
+		} catch (IllegalAccessException e) {
+			try {
+				method.setAccessible(true);
+				handle = LOOKUP.unreflect(method);
+			} catch (Exception ex) {
+				return UNDEFINED_ACCESSOR;
+			}
+		}
+		Class<?> returnType = method.getReturnType();
+		try {
+			if (returnType == int.class || returnType == short.class || returnType == byte.class
+					|| returnType == char.class) {
+				return new IntAccessor(
+						(ToIntFunction) createLambda(ToIntFunction.class, "applyAsInt", int.class, handle, clazz));
+			} else if (returnType == long.class) {
+				return new LongAccessor(
+						(ToLongFunction) createLambda(ToLongFunction.class, "applyAsLong", long.class, handle, clazz));
+			} else if (returnType == double.class || returnType == float.class) {
+				return new DoubleAccessor((ToDoubleFunction) createLambda(ToDoubleFunction.class, "applyAsDouble",
+						double.class, handle, clazz));
+			} else {
+				Function function = (Function) createLambda(Function.class, "apply", Object.class, handle, clazz);
+				return new ObjectAccessor(returnType == String.class ? Kind.STRING : Kind.OBJECT, function);
+			}
+		} catch (Throwable e) {
+			// LambdaMetafactory fails if the class is not visible from this class
+			// loader. Fall back to the method handle.
+			return new MethodHandleAccessor(returnType, handle.asType(MethodType.methodType(Object.class, Object.class)));
+		}
+	}
+
+	private static Object createLambda(Class<?> functionalInterface, String methodName, Class<?> returnType,
+			MethodHandle handle, Class<?> clazz) throws Throwable {
+		MethodType erased = MethodType.methodType(returnType, Object.class);
+		MethodType instantiated = MethodType.methodType(handle.type().returnType(), clazz);
+		CallSite site = LambdaMetafactory.metafactory(LOOKUP, methodName, MethodType.methodType(functionalInterface),
+				erased, handle, instantiated);
+		return site.getTarget().invoke();
+	}
+
+	static class IntAccessor extends FieldAccessor {
+		private final ToIntFunction function;
+
+		IntAccessor(ToIntFunction function) {
+			super(Kind.INT);
+			this.function = function;
+		}
+
+		@Override
+		public Object get(Object obj) {
+			return function.applyAsInt(obj);
+		}
+
+		@Override
+		public int compare(Object o1, Object o2) {
+			return Integer.compare(function.applyAsInt(o1), function.applyAsInt(o2));
+		}
+	}
+
+	static class LongAccessor extends FieldAccessor {
+		private final ToLongFunction function;
+
+		LongAccessor(ToLongFunction function) {
+			super(Kind.LONG);
+			this.function = function;
+		}
+
+		@Override
+		public Object get(Object obj) {
+			return function.applyAsLong(obj);
+		}
+
+		@Override
+		public int compare(Object o1, Object o2) {
+			return Long.compare(function.applyAsLong(o1), function.applyAsLong(o2));
+		}
+	}
+
+	static class DoubleAccessor extends FieldAccessor {
+		private final ToDoubleFunction function;
+
+		DoubleAccessor(ToDoubleFunction function) {
+			super(Kind.DOUBLE);
+			this.function = function;
+		}
+
+		@Override
+		public Object get(Object obj) {
+			return function.applyAsDouble(obj);
+		}
+
+		@Override
+		public int compare(Object o1, Object o2) {
+			return Double.compare(function.applyAsDouble(o1), function.applyAsDouble(o2));
+		}
+	}
+
+	static class ObjectAccessor extends FieldAccessor {
+		private final Function function;
+
+		ObjectAccessor(Kind kind, Function function) {
+			super(kind);
+			this.function = function;
+		}
+
+		@Override
+		public Object get(Object obj) {
+			return function.apply(obj);
+		}
+
+		@Override
+		public int compare(Object o1, Object o2) {
+			if (kind == Kind.STRING) {
+				String s1 = (String) function.apply(o1);
+				String s2 = (String) function.apply(o2);
+				if (s1 == s2) {
+					return 0;
+				} else if (s1 == null) {
+					return -1;
+				} else if (s2 == null) {
+					return 1;
+				}
+				return s1.compareTo(s2);
+			}
+			return compareAsc(function.apply(o1), function.apply(o2));
+		}
+	}
+
+	static class MethodHandleAccessor extends FieldAccessor {
+		private final MethodHandle handle;
+
+		MethodHandleAccessor(Class<?> returnType, MethodHandle handle) {
+			super(returnType == String.class ? Kind.STRING : Kind.OBJECT);
+			this.handle = handle;
+		}
+
+		@Override
+		public Object get(Object obj) {
+			try {
+				return handle.invokeExact(obj);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -1,85 +1,171 @@
-/*
- * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package org.hazelcast.addon.hql.impl;
-
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Path;
-
-import javax.xml.transform.TransformerException;
-
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.hazelcast.addon.exception.HqlException;
-import org.hazelcast.addon.hql.internal.antlr4.generated.HqlLexer;
-import org.hazelcast.addon.hql.internal.antlr4.generated.HqlParser;
-
-/**
- * HqlEvalDriver evaluates the specified HQL statement(s).
- * 
- * @author dpark
- *
- */
-public class HqlEvalDriver {
-	private CharStream cs;
-	private HqlEvalListenerImpl evalProp;
-
-	public HqlEvalDriver(String queryString) {
-		cs = CharStreams.fromString(queryString);
-	}
-
-	public HqlEvalDriver(Path path) throws IOException {
-		cs = CharStreams.fromPath(path);
-	}
-
-	public HqlEvalDriver(InputStream is) throws IOException {
-		cs = CharStreams.fromStream(is);
-	}
-
-	public HqlContext getHqlContext() {
-		return evalProp.getHqlContext();
-	}
-
-	public void dump() throws TransformerException {
-		evalProp.dump();
-	}
-
-	public void execute() {
-		HqlLexer lexer = new HqlLexer(cs);
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-		HqlParser parser = new HqlParser(tokens);
-		parser.setBuildParseTree(true); // tell ANTLR to build a parse tree
-		parser.setErrorHandler(new BailErrorStrategy());
-		ParseTree tree;
-		try {
-			tree = parser.hql_file(); // parse
-		} catch (Throwable th) {
-			throw new HqlException(th);
-		}
-		// show tree in text form
-//		System.out.println(tree.toStringTree(parser));
-
-		// Listener
-		ParseTreeWalker walker = new ParseTreeWalker();
-		evalProp = new HqlEvalListenerImpl();
-		walker.walk(evalProp, tree);
-	}
-}
\ No newline at end of file
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.xml.transform.TransformerException;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.internal.antlr4.generated.HqlLexer;
+import org.hazelcast.addon.hql.internal.antlr4.generated.HqlParser;
+
+/**
+ * HqlEvalDriver evaluates the specified HQL statement(s).
+ * <p>
+ * The statements are parsed in two stages. The first stage uses the faster SLL
+ * prediction mode, which parses all valid HQL statements except for rare
+ * ambiguous constructs. The second stage re-parses with the full LL prediction
+ * mode only if the first stage fails. The lexers and parsers are reused from a
+ * pool bounded by the number of processors rather than per thread, so that
+ * they are also reused by the short-lived virtual threads that run
+ * asynchronous executions and batches. The DFA cache that the ANTLR prediction
+ * builds is shared by all parsers. {@link #warmUp()} populates the DFA cache with a set of
+ * representative statements so that the first queries do not pay for it.
+ * 
+ * @author dpark
+ *
+ */
+public class HqlEvalDriver {
+	private static final String[] WARM_UP_QUERIES = { "select * from map;",
+			"select * from map.entries e where e.value.a='x' and (e.value.b>1 or e.key<10) order by e.value.a desc;",
+			"select * from map.keys k where k>1000 order by k;",
+			"select * from map.values v where v.a in ('x', 'y') and v.b between 1 and 10 and not v.c like 'x%';",
+			"select * from map where a regex 'x.*' or a ilike 'x%' and b != :b and c = :c;",
+			"select a, b as x from map where c >= 1*2 order by 1;",
+			"select distinct a from map;",
+			"select a, count(*), sum(b), avg(b), min(c), max(c), count(distinct d) from map where e > ? group by a order by 2 desc;",
+			"select m.a, n.b from map m join map2 n on m.c = n.key where m.d > 1 order by 1 limit 10;" };
+
+	// Idle parsers. A new parser is created if none is idle, and the parsers
+	// returned to a full pool are discarded.
+	private static final BlockingQueue<ParserHolder> parserHolderPool = new ArrayBlockingQueue<ParserHolder>(
+			Runtime.getRuntime().availableProcessors());
+
+	private CharStream cs;
+	private HqlEvalListenerImpl evalProp;
+
+	public HqlEvalDriver(String queryString) {
+		cs = CharStreams.fromString(queryString);
+	}
+
+	public HqlEvalDriver(Path path) throws IOException {
+		cs = CharStreams.fromPath(path);
+	}
+
+	public HqlEvalDriver(InputStream is) throws IOException {
+		cs = CharStreams.fromStream(is);
+	}
+
+	/**
+	 * Returns the query string.
+	 */
+	public String getQueryString() {
+		return cs.toString();
+	}
+
+	public HqlContext getHqlContext() {
+		return evalProp.getHqlContext();
+	}
+
+	public void dump() throws TransformerException {
+		evalProp.dump();
+	}
+
+	public void execute() {
+		ParserHolder holder = parserHolderPool.poll();
+		if (holder == null) {
+			holder = new ParserHolder();
+		}
+		try {
+			ParseTree tree;
+			try {
+				tree = holder.parse(cs);
+			} catch (Throwable th) {
+				throw new HqlException(th);
+			}
+			// show tree in text form
+//			System.out.println(tree.toStringTree(holder.parser));
+
+			// Listener
+			ParseTreeWalker walker = new ParseTreeWalker();
+			evalProp = new HqlEvalListenerImpl();
+			walker.walk(evalProp, tree);
+		} finally {
+			parserHolderPool.offer(holder);
+		}
+	}
+
+	/**
+	 * Parses a set of representative HQL statements to populate the DFA cache
+	 * shared by all parsers.
+	 */
+	public static void warmUp() {
+		for (String query : WARM_UP_QUERIES) {
+			new HqlEvalDriver(query).execute();
+		}
+	}
+
+	/**
+	 * ParserHolder holds the lexer, token stream, and parser used by one thread
+	 * at a time.
+	 */
+	private static class ParserHolder {
+		final HqlLexer lexer = new HqlLexer(null);
+		final CommonTokenStream tokens = new CommonTokenStream(lexer);
+		final HqlParser parser = new HqlParser(tokens);
+
+		ParserHolder() {
+			parser.setBuildParseTree(true); // tell ANTLR to build a parse tree
+			parser.setErrorHandler(new BailErrorStrategy());
+		}
+
+		ParseTree parse(CharStream cs) {
+			lexer.setInputStream(cs);
+			tokens.setTokenSource(lexer);
+			parser.setTokenStream(tokens);
+
+			// Stage 1: SLL. Errors are not reported since the statement may be
+			// valid in LL.
+			parser.removeErrorListeners();
+			parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			try {
+				return parser.hql_file(); // parse
+			} catch (ParseCancellationException ex) {
+				// Stage 2: LL
+				tokens.seek(0);
+				parser.reset();
+				parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+				parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+				return parser.hql_file(); // parse
+			}
+		}
+	}
+}
@@ -16,19 +16,27 @@
 
 package org.hazelcast.addon.hql.impl;
 
-import org.antlr.v4.runtime.misc.Interval;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.hazelcast.addon.exception.HqlException;
 import org.hazelcast.addon.hql.ResultType;
+import org.hazelcast.addon.hql.impl.PredicateNode.Operator;
 import org.hazelcast.addon.hql.internal.antlr4.generated.HqlBaseListener;
 import org.hazelcast.addon.hql.internal.antlr4.generated.HqlParser;
 
 import com.hazelcast.query.PagingPredicate;
-import com.hazelcast.query.impl.predicates.SqlPredicate;
 
 /**
  * HqlEvalListenerImpl parses HQL queries and builds {@link HqlContext} that
- * contain context information needed for creating {@link SqlPredicate} and
- * {@link PagingPredicate}.
+ * contain context information needed for creating the query predicate and
+ * {@link PagingPredicate}. The where clause is built into a
+ * {@link PredicateNode} tree which is converted to a native Hazelcast predicate
+ * at execution time.
  * 
  * @author dpark
  *
@@ -36,13 +44,22 @@ import com.hazelcast.query.impl.predicates.SqlPredicate;
 public class HqlEvalListenerImpl extends HqlBaseListener {
 
 	enum ClauseType {
-		UNDEFINED, SELECT, FROM, WHERE, ORDER_BY
+		UNDEFINED, SELECT, FROM, WHERE, GROUP_BY, ORDER_BY
 	}
 
 	private boolean isDebug = false;
 	private HqlContext context;
 	private ClauseType clauseType = ClauseType.UNDEFINED;
-	private StringBuilder predicateBuilder = new StringBuilder();
+	private int positionalParameterCount = 0;
+	private Set<String> parameterNameSet = new LinkedHashSet<String>();
+
+	// The select list and group by clause are resolved after the from clause
+	private HqlParser.Select_clauseContext selectClauseCtx;
+	private HqlParser.Group_by_clauseContext groupByClauseCtx;
+	private boolean isRowQuery;
+	private List<HqlParser.Order_by_expressionContext> rowOrderByList = new ArrayList<HqlParser.Order_by_expressionContext>();
+	// Alias of the joined map. null if the query has no join clause.
+	private String joinPathAlias;
 
 	// Temporary fields used to extract out order-by expression information
 	SearchType searchType;
@@ -66,6 +83,11 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 		}
 	}
 
+	@Override
+	public void enterHql_clause(HqlParser.Hql_clauseContext ctx) {
+		context.setExplain(ctx.EXPLAIN() != null);
+	}
+
 	@Override
 	public void enterSelect_clause(HqlParser.Select_clauseContext ctx) {
 		clauseType = ClauseType.SELECT;
@@ -74,6 +96,22 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 	@Override
 	public void exitSelect_clause(HqlParser.Select_clauseContext ctx) {
 		clauseType = ClauseType.UNDEFINED;
+		selectClauseCtx = ctx;
+		isRowQuery = ctx.DISTINCT() != null || ctx.select_list().select_list_elem().size() > 1
+				|| ctx.select_list().select_list_elem(0).aggregate_function() != null
+				|| ctx.select_list().select_list_elem(0).full_column_name() != null;
+	}
+
+	@Override
+	public void enterGroup_by_clause(HqlParser.Group_by_clauseContext ctx) {
+		clauseType = ClauseType.GROUP_BY;
+		isRowQuery = true;
+	}
+
+	@Override
+	public void exitGroup_by_clause(HqlParser.Group_by_clauseContext ctx) {
+		clauseType = ClauseType.UNDEFINED;
+		groupByClauseCtx = ctx;
 	}
 
 	@Override
@@ -84,6 +122,10 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 	@Override
 	public void exitWhere_clause(HqlParser.Where_clauseContext ctx) {
 		clauseType = ClauseType.UNDEFINED;
+		if (ctx.search_condition() != null) {
+			PredicateNode node = buildSearchCondition(ctx.search_condition());
+			context.setWherePredicate(node.optimize());
+		}
 	}
 
 	@Override
@@ -108,12 +150,68 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 
 	@Override
 	public void exitPath_source_item(HqlParser.Path_source_itemContext ctx) {
+		if (isJoinItem(ctx)) {
+			// Handled by exitJoin_clause()
+			return;
+		}
 		String path = ctx.path().getText();
 		context.setPath(path);
 	}
 
+	/**
+	 * Returns true if the specified context is a part of the map item of the join
+	 * clause.
+	 */
+	private boolean isJoinItem(ParserRuleContext ctx) {
+		while (ctx != null && ctx instanceof HqlParser.Path_source_itemContext == false) {
+			ctx = ctx.getParent();
+		}
+		return ctx != null && ctx.getParent() instanceof HqlParser.Join_clauseContext;
+	}
+
+	@Override
+	public void exitJoin_clause(HqlParser.Join_clauseContext ctx) {
+		HqlParser.Path_source_itemContext leftCtx = ((HqlParser.Path_sourceContext) ctx.getParent())
+				.path_source_item();
+		HqlParser.Path_source_itemContext rightCtx = ctx.path_source_item();
+		if (leftCtx.set_type() != null || rightCtx.set_type() != null) {
+			throw new HqlException(
+					"Invalid query: Join does not support keys, values, or entries [" + leftCtx.path().getText() + " "
+							+ rightCtx.path().getText() + "]");
+		}
+		if (context.isPathAlias() == false) {
+			throw new HqlException("Invalid query: Join requires map aliases [" + leftCtx.getText() + "]");
+		}
+		if (rightCtx.as_path_alias() == null) {
+			throw new HqlException("Invalid query: Join requires map aliases [" + rightCtx.getText() + "]");
+		}
+		joinPathAlias = rightCtx.as_path_alias().path_alias().getText();
+		if (joinPathAlias.equals(context.getPathAlias())) {
+			throw new HqlException("Invalid query: Duplicate map alias [" + joinPathAlias + "]");
+		}
+
+		// Normalize the condition to "left = right"
+		String leftAttribute = getJoinAttribute(ctx.join_condition().full_column_name(0), "join condition");
+		String rightAttribute = getJoinAttribute(ctx.join_condition().full_column_name(1), "join condition");
+		if (leftAttribute.startsWith(joinPathAlias + ".")) {
+			String attribute = leftAttribute;
+			leftAttribute = rightAttribute;
+			rightAttribute = attribute;
+		}
+		if (leftAttribute.startsWith(context.getPathAlias() + ".") == false
+				|| rightAttribute.startsWith(joinPathAlias + ".") == false) {
+			throw new HqlException("Invalid query: Join condition must compare a column of each map ["
+					+ ctx.join_condition().getText() + "]");
+		}
+		context.setJoin(rightCtx.path().getText(), joinPathAlias, leftAttribute, rightAttribute);
+		isRowQuery = true;
+	}
+
 	@Override
 	public void exitSet_type(HqlParser.Set_typeContext ctx) {
+		if (isJoinItem(ctx)) {
+			return;
+		}
 		if (ctx.KEYS() != null) {
 			context.setResultType(ResultType.KEYS);
 		} else if (ctx.ENTRIES() != null) {
@@ -125,6 +223,9 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 
 	@Override
 	public void exitPath_alias(HqlParser.Path_aliasContext ctx) {
+		if (isJoinItem(ctx)) {
+			return;
+		}
 		String pathAlias = ctx.getText();
 		context.setPathAlias(pathAlias);
 	}
@@ -137,45 +238,57 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 	@Override
 	public void exitFull_column_name(HqlParser.Full_column_nameContext ctx) {
 		switch (clauseType) {
-		case WHERE:
-			handleWhereClauseFullColumnName(ctx);
-			break;
 		case ORDER_BY:
-			handleOrderByClauseFullColumnName(ctx);
+			if (isRowQuery == false) {
+				handleOrderByClauseFullColumnName(ctx);
+			}
 			break;
 		default:
 			break;
 		}
 	}
 
-	private void handleWhereClauseFullColumnName(HqlParser.Full_column_nameContext ctx) {
+	/**
+	 * Returns the attribute name of the specified where clause, select list, or
+	 * group by clause column.
+	 * 
+	 * @param ctx        Column
+	 * @param clauseName Clause name used in the error messages, e.g., "where
+	 *                   clause"
+	 * @throws HqlException Thrown if the column is invalid
+	 */
+	private String getAttribute(HqlParser.Full_column_nameContext ctx, String clauseName) {
+		if (context.isJoin()) {
+			return getJoinAttribute(ctx, clauseName);
+		}
+		String columnName;
 		if (context.getResultType() == ResultType.KEYS_VALUES) {
 			if (context.isPathAlias() && ctx.path() == null) {
-				throw new HqlException("Invalid query: No map reference in where clause [" + ctx.getText() + "]");
+				throw new HqlException("Invalid query: No map reference in " + clauseName + " [" + ctx.getText() + "]");
 			}
 
 			if (context.isPathAlias() == false && ctx.path() != null) {
 				throw new HqlException(
-						"Invalid query: Reference to undefined map alias in where clause [" + ctx.getText() + "]");
+						"Invalid query: Reference to undefined map alias in " + clauseName + " [" + ctx.getText() + "]");
 			}
 			if (ctx.KEY() != null) {
 				if (ctx.column_name() == null) {
-					buildSpaceAfter("__key");
+					return "__key";
 				} else {
 					throw new HqlException(
-							"Invalid query: KEY field not allowed in the where clause for the type ENTRIES ["
+							"Invalid query: KEY field not allowed in the " + clauseName + " for the type ENTRIES ["
 									+ ctx.getText() + "]");
 				}
 			} else if (ctx.VALUE() != null) {
 				if (ctx.column_name() == null) {
 					throw new HqlException("Invalid query: VALUE field missing [" + ctx.getText() + "]");
 				} else {
-					buildSpaceAfter(ctx.column_name().getText());
+					return ctx.column_name().getText();
 				}
 			} else {
 				if (ctx.DOT() == null) {
 					if (context.getPathAlias() == null) {
-						buildSpaceAfter(ctx.column_name().getText());
+						return ctx.column_name().getText();
 					} else {
 						throw new HqlException("Invalid query: KEY or VALUE type missing [" + ctx.getText() + "]");
 					}
@@ -188,7 +301,7 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 				if (ctx.KEY() != null) {
 					if (ctx.path() == null) {
 						throw new HqlException(
-								"Invalid query: No map reference in the where clause [" + ctx.getText() + "]");
+								"Invalid query: No map reference in the " + clauseName + " [" + ctx.getText() + "]");
 					}
 					if (ctx.column_name() != null) {
 						columnName = "key." + ctx.column_name().getText();
@@ -198,7 +311,7 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 				} else if (ctx.VALUE() != null) {
 					if (ctx.path() == null) {
 						throw new HqlException(
-								"Invalid query: No map reference in the where clause [" + ctx.getText() + "]");
+								"Invalid query: No map reference in the " + clauseName + " [" + ctx.getText() + "]");
 					}
 					if (ctx.column_name() != null) {
 						columnName = "value." + ctx.column_name().getText();
@@ -217,17 +330,67 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 								}
 							} else if (ctx.column_name().DOT() != null) {
 								columnName = ctx.column_name().id(1).getText();
+							} else {
+								columnName = ctx.column_name().getText();
 							}
 						} else {
 							throw new HqlException("Invalid query: Map alias not specified [" + ctx.getText() + "]");
 						}
+					} else {
+						columnName = ctx.column_name().getText();
 					}
 				}
 			} else {
 				columnName = ctx.getText();
 			}
-			buildSpaceAfter(columnName);
+			return columnName;
+		}
+	}
+
+	/**
+	 * Returns the attribute name of the specified column of a join query
+	 * qualified by the map alias, e.g., "o.customerId" for
+	 * <code>o.customerId</code> and <code>o.value.customerId</code>, "o.__key"
+	 * for <code>o.key</code>, "o.__key.id" for <code>o.key.id</code>, and
+	 * "o.this" for <code>o</code> and <code>o.value</code>.
+	 * 
+	 * @param ctx        Column
+	 * @param clauseName Clause name used in the error messages
+	 * @throws HqlException Thrown if the column is not qualified by a map alias
+	 */
+	private String getJoinAttribute(HqlParser.Full_column_nameContext ctx, String clauseName) {
+		String text = ctx.getText();
+		String[] tokens = text.split("\\.");
+		String alias = tokens[0];
+		if (alias.equals(context.getPathAlias()) == false && alias.equals(joinPathAlias) == false) {
+			throw new HqlException(
+					"Invalid query: Join column must be qualified by a map alias in " + clauseName + " [" + text + "]");
+		}
+		StringBuilder buffer = new StringBuilder(text.length() + 8);
+		buffer.append(alias);
+		buffer.append('.');
+		int index = 1;
+		if (tokens.length == 1) {
+			buffer.append("this");
+		} else if (tokens[1].equalsIgnoreCase("key")) {
+			buffer.append("__key");
+			index = 2;
+			if (tokens.length > 2) {
+				buffer.append('.');
+			}
+		} else if (tokens[1].equalsIgnoreCase("value")) {
+			index = 2;
+			if (tokens.length == 2) {
+				buffer.append("this");
+			}
+		}
+		for (int i = index; i < tokens.length; i++) {
+			if (i > index) {
+				buffer.append('.');
+			}
+			buffer.append(tokens[i]);
 		}
+		return buffer.toString();
 	}
 
 	private void handleOrderByClauseFullColumnName(HqlParser.Full_column_nameContext ctx) {
@@ -343,36 +506,471 @@ public class HqlEvalListenerImpl extends HqlBaseListener {
 
 	@Override
 	public void exitOrder_by_expression(HqlParser.Order_by_expressionContext ctx) {
-		context.addOrderByExpression(columnName, searchType, ctx.DESC() == null);
+		if (isRowQuery) {
+			// Resolved against the select list in exitQuery_specification()
+			rowOrderByList.add(ctx);
+		} else if (ctx.aggregate_function() != null) {
+			throw new HqlException("Invalid query: Aggregate function in order by requires aggregate query ["
+					+ ctx.getText() + "]");
+		} else {
+			context.addOrderByExpression(columnName, searchType, ctx.DESC() == null);
+		}
 	}
 
-	private void buildSpaceAfter(String token) {
-		predicateBuilder.append(token);
-		predicateBuilder.append(" ");
+	@Override
+	public void exitLimit_clause(HqlParser.Limit_clauseContext ctx) {
+		long limit = parseLimitValue(ctx.limit.getText());
+		long offset = ctx.offset == null ? 0 : parseLimitValue(ctx.offset.getText());
+		if (limit + offset > Integer.MAX_VALUE) {
+			throw new HqlException("Invalid query: Limit plus offset out of range [" + ctx.getText() + "]");
+		}
+		context.setLimit((int) limit, (int) offset);
 	}
 
-	@Override
-	public void enterOr_condition(HqlParser.Or_conditionContext ctx) {
-		buildSpaceAfter(ctx.OR().getText());
+	private long parseLimitValue(String text) {
+		try {
+			return Integer.parseInt(text);
+		} catch (NumberFormatException ex) {
+			throw new HqlException("Invalid query: Limit value out of range [" + text + "]");
+		}
 	}
 
 	@Override
-	public void enterAnd_condition(HqlParser.And_conditionContext ctx) {
-		buildSpaceAfter(ctx.AND().getText());
+	public void exitBind_parameter(HqlParser.Bind_parameterContext ctx) {
+		if (clauseType != ClauseType.WHERE) {
+			throw new HqlException(
+					"Invalid query: Bind parameters are allowed only in the where clause [" + ctx.getText() + "]");
+		}
 	}
 
-	@Override
-	public void exitRhs_expression(HqlParser.Rhs_expressionContext ctx) {
-		int a = ctx.start.getStartIndex();
-		int b = ctx.stop.getStopIndex();
-		Interval interval = new Interval(a, b);
-		String rhs = ctx.getStart().getInputStream().getText(interval);
-		buildSpaceAfter(rhs);
+	private PredicateNode buildSearchCondition(HqlParser.Search_conditionContext ctx) {
+		PredicateNode node = buildSearchConditionAnd(ctx.search_condition_and());
+		List<HqlParser.Or_conditionContext> orList = ctx.or_condition();
+		if (orList.size() == 0) {
+			return node;
+		}
+		List<PredicateNode> children = new ArrayList<PredicateNode>(orList.size() + 1);
+		children.add(node);
+		for (HqlParser.Or_conditionContext orCtx : orList) {
+			children.add(buildSearchConditionAnd(orCtx.search_condition_and()));
+		}
+		return PredicateNode.or(children);
+	}
+
+	private PredicateNode buildSearchConditionAnd(HqlParser.Search_condition_andContext ctx) {
+		PredicateNode node = buildSearchConditionNot(ctx.search_condition_not());
+		List<HqlParser.And_conditionContext> andList = ctx.and_condition();
+		if (andList.size() == 0) {
+			return node;
+		}
+		List<PredicateNode> children = new ArrayList<PredicateNode>(andList.size() + 1);
+		children.add(node);
+		for (HqlParser.And_conditionContext andCtx : andList) {
+			children.add(buildSearchConditionNot(andCtx.search_condition_not()));
+		}
+		return PredicateNode.and(children);
+	}
+
+	private PredicateNode buildSearchConditionNot(HqlParser.Search_condition_notContext ctx) {
+		PredicateNode node = buildPredicate(ctx.predicate());
+		if (ctx.NOT() != null) {
+			node = PredicateNode.not(node);
+		}
+		return node;
+	}
+
+	private PredicateNode buildPredicate(HqlParser.PredicateContext ctx) {
+		if (ctx.search_condition() != null) {
+			return buildSearchCondition(ctx.search_condition());
+		}
+		String attribute = getLhsAttribute(ctx.lhs_expression().expression());
+		HqlParser.Rhs_expressionContext rhs = ctx.rhs_expression();
+		List<Object> operands;
+		PredicateNode node;
+		if (rhs.comparison_operator() != null) {
+			Operator operator = Operator.getComparisonOperator(rhs.comparison_operator().getText());
+			operands = new ArrayList<Object>(1);
+			operands.add(evaluate(rhs.expression(0)));
+			node = PredicateNode.leaf(operator, attribute, operands);
+		} else if (rhs.BETWEEN() != null) {
+			operands = new ArrayList<Object>(2);
+			operands.add(evaluate(rhs.expression(0)));
+			operands.add(evaluate(rhs.expression(1)));
+			node = PredicateNode.leaf(Operator.BETWEEN, attribute, operands);
+		} else if (rhs.IN() != null) {
+			List<HqlParser.ExpressionContext> list = rhs.expression_list().expression();
+			operands = new ArrayList<Object>(list.size());
+			for (HqlParser.ExpressionContext exprCtx : list) {
+				operands.add(evaluate(exprCtx));
+			}
+			node = PredicateNode.leaf(Operator.IN, attribute, operands);
+		} else {
+			Operator operator;
+			if (rhs.LIKE() != null) {
+				operator = Operator.LIKE;
+			} else if (rhs.ILIKE() != null) {
+				operator = Operator.ILIKE;
+			} else {
+				operator = Operator.REGEX;
+			}
+			operands = new ArrayList<Object>(1);
+			operands.add(evaluate(rhs.expression(0)));
+			node = PredicateNode.leaf(operator, attribute, operands);
+		}
+		if (rhs.NOT() != null) {
+			node = PredicateNode.not(node);
+		}
+		return node;
+	}
+
+	private String getLhsAttribute(HqlParser.ExpressionContext ctx) {
+		if (ctx instanceof HqlParser.Bracket_expressionContext) {
+			return getLhsAttribute(((HqlParser.Bracket_expressionContext) ctx).expression());
+		} else if (ctx instanceof HqlParser.Column_ref_expressionContext) {
+			return getAttribute(((HqlParser.Column_ref_expressionContext) ctx).full_column_name(), "where clause");
+		} else if (ctx instanceof HqlParser.Bind_parameter_expressionContext) {
+			throw new HqlException("Invalid query: Bind parameters are not allowed in the left-hand side expression ["
+					+ ctx.getText() + "]");
+		} else {
+			throw new HqlException(
+					"Invalid query: Left-hand side expression must be a column [" + ctx.getText() + "]");
+		}
+	}
+
+	/**
+	 * Evaluates the specified rhs expression. Constant arithmetic is folded at
+	 * compile time. A column reference on the rhs is treated as a string literal
+	 * to be converted to the attribute type by Hazelcast.
+	 * 
+	 * @param ctx Rhs expression
+	 * @return Literal value or {@link BindParameter}
+	 * @throws HqlException Thrown if the expression cannot be evaluated
+	 */
+	private Object evaluate(HqlParser.ExpressionContext ctx) {
+		if (ctx instanceof HqlParser.Primitive_expressionContext) {
+			HqlParser.Primitive_expressionContext primitiveCtx = (HqlParser.Primitive_expressionContext) ctx;
+			if (primitiveCtx.NULL() != null) {
+				return null;
+			}
+			return evaluateConstant(primitiveCtx.constant());
+		} else if (ctx instanceof HqlParser.Bind_parameter_expressionContext) {
+			return createBindParameter(((HqlParser.Bind_parameter_expressionContext) ctx).bind_parameter());
+		} else if (ctx instanceof HqlParser.Column_ref_expressionContext) {
+			return ctx.getText();
+		} else if (ctx instanceof HqlParser.Bracket_expressionContext) {
+			return evaluate(((HqlParser.Bracket_expressionContext) ctx).expression());
+		} else if (ctx instanceof HqlParser.Unary_operator_expressionContext) {
+			HqlParser.Unary_operator_expressionContext unaryCtx = (HqlParser.Unary_operator_expressionContext) ctx;
+			Object value = evaluate(unaryCtx.expression());
+			if (value instanceof Number == false) {
+				throw new HqlException("Invalid query: Unary operator requires a numeric constant [" + ctx.getText() + "]");
+			}
+			if (unaryCtx.MINUS() == null) {
+				return value;
+			}
+			if (value instanceof Long) {
+				return -(Long) value;
+			} else if (value instanceof BigDecimal) {
+				return ((BigDecimal) value).negate();
+			} else {
+				return -((Number) value).doubleValue();
+			}
+		} else if (ctx instanceof HqlParser.Binary_operator_expressionContext) {
+			HqlParser.Binary_operator_expressionContext binaryCtx = (HqlParser.Binary_operator_expressionContext) ctx;
+			Object left = evaluate(binaryCtx.expression(0));
+			Object right = evaluate(binaryCtx.expression(1));
+			return fold(binaryCtx.op.getText(), left, right, ctx);
+		} else {
+			throw new HqlException("Invalid query: Unsupported expression [" + ctx.getText() + "]");
+		}
+	}
+
+	private Object evaluateConstant(HqlParser.ConstantContext ctx) {
+		String text = ctx.getText();
+		if (ctx.STRING() != null) {
+			if (text.charAt(0) == 'N' || text.charAt(0) == 'n') {
+				text = text.substring(1);
+			}
+			return text.substring(1, text.length() - 1).replace("''", "'");
+		} else if (ctx.BINARY() != null) {
+			return text;
+		} else if (ctx.number() != null) {
+			try {
+				return Long.parseLong(text);
+			} catch (NumberFormatException ex) {
+				return new BigDecimal(text);
+			}
+		} else {
+			// float, real, or money
+			return Double.parseDouble(text.replace("$", ""));
+		}
+	}
+
+	private BindParameter createBindParameter(HqlParser.Bind_parameterContext ctx) {
+		if (ctx.id() == null) {
+			if (parameterNameSet.size() > 0) {
+				throw new HqlException(
+						"Invalid query: Positional (?) and named (:name) bind parameters cannot be mixed");
+			}
+			return new BindParameter(positionalParameterCount++);
+		} else {
+			if (positionalParameterCount > 0) {
+				throw new HqlException(
+						"Invalid query: Positional (?) and named (:name) bind parameters cannot be mixed");
+			}
+			String name = ctx.id().getText();
+			parameterNameSet.add(name);
+			return new BindParameter(name);
+		}
+	}
+
+	private Object fold(String op, Object left, Object right, HqlParser.ExpressionContext ctx) {
+		if (left instanceof BindParameter || right instanceof BindParameter) {
+			throw new HqlException(
+					"Invalid query: Bind parameters are not allowed in arithmetic expressions [" + ctx.getText() + "]");
+		}
+		if (op.equals("+") && (left instanceof String || right instanceof String)) {
+			return String.valueOf(left) + String.valueOf(right);
+		}
+		if (left instanceof Number == false || right instanceof Number == false) {
+			throw new HqlException("Invalid query: Arithmetic requires numeric constants [" + ctx.getText() + "]");
+		}
+		if (left instanceof Long && right instanceof Long) {
+			long l = (Long) left;
+			long r = (Long) right;
+			switch (op) {
+			case "+":
+				return l + r;
+			case "-":
+				return l - r;
+			case "*":
+				return l * r;
+			case "/":
+			case "%":
+				if (r == 0) {
+					throw new HqlException("Invalid query: Division by zero [" + ctx.getText() + "]");
+				}
+				return op.equals("/") ? l / r : l % r;
+			case "&":
+				return l & r;
+			case "^":
+				return l ^ r;
+			case "|":
+				return l | r;
+			default:
+				break;
+			}
+		} else {
+			double l = ((Number) left).doubleValue();
+			double r = ((Number) right).doubleValue();
+			switch (op) {
+			case "+":
+				return l + r;
+			case "-":
+				return l - r;
+			case "*":
+				return l * r;
+			case "/":
+				return l / r;
+			case "%":
+				return l % r;
+			default:
+				break;
+			}
+		}
+		throw new HqlException("Invalid query: Unsupported operator [" + op + "] in [" + ctx.getText() + "]");
+	}
+
+	/**
+	 * Builds the select items and the group by attributes, and validates them
+	 * against each other. Invoked only for row queries, i.e., queries with a
+	 * select column list, aggregate functions, distinct, or group by.
+	 */
+	private void buildRowQuery() {
+		List<SelectItem> selectItemList = new ArrayList<SelectItem>();
+		for (HqlParser.Select_list_elemContext elemCtx : selectClauseCtx.select_list().select_list_elem()) {
+			String alias = elemCtx.column_alias() == null ? null : getAlias(elemCtx.column_alias());
+			if (elemCtx.aggregate_function() != null) {
+				AggregateFunction function = buildAggregateFunction(elemCtx.aggregate_function());
+				selectItemList.add(new SelectItem(function, alias == null ? function.toString() : alias));
+			} else if (elemCtx.full_column_name() != null) {
+				HqlParser.Full_column_nameContext columnCtx = elemCtx.full_column_name();
+				String attribute = getSelectAttribute(columnCtx);
+				String label = columnCtx.getText();
+				if (columnCtx.column_name() != null && columnCtx.column_name().column_alias() != null) {
+					// Alias without AS is parsed as part of the column name
+					String aliasText = columnCtx.column_name().column_alias().getText();
+					attribute = attribute.substring(0, attribute.length() - aliasText.length());
+					label = label.substring(0, label.length() - aliasText.length());
+					if (alias == null) {
+						alias = getAlias(columnCtx.column_name().column_alias());
+					}
+				}
+				selectItemList.add(new SelectItem(attribute, alias == null ? label : alias));
+			} else if (context.isJoin() && selectClauseCtx.select_list().select_list_elem().size() == 1) {
+				// '*' selects the value objects of both maps
+				selectItemList.add(new SelectItem(context.getPathAlias() + ".this", context.getPathAlias()));
+				selectItemList.add(new SelectItem(joinPathAlias + ".this", joinPathAlias));
+			} else {
+				throw new HqlException(
+						"Invalid query: '*' cannot be combined with columns, aggregate functions, distinct, or group by ["
+								+ selectClauseCtx.select_list().getText() + "]");
+			}
+		}
+
+		List<String> groupByList = new ArrayList<String>();
+		if (groupByClauseCtx != null) {
+			for (HqlParser.Full_column_nameContext columnCtx : groupByClauseCtx.full_column_name()) {
+				String attribute = getAttribute(columnCtx, "group by clause");
+				if (groupByList.contains(attribute) == false) {
+					groupByList.add(attribute);
+				}
+			}
+		}
+
+		boolean isAggregate = false;
+		for (SelectItem item : selectItemList) {
+			if (item.isAggregate()) {
+				isAggregate = true;
+				break;
+			}
+		}
+		for (SelectItem item : selectItemList) {
+			if (item.isAggregate() == false) {
+				if (groupByClauseCtx != null) {
+					if (groupByList.contains(item.getAttribute()) == false) {
+						throw new HqlException("Invalid query: Column must be in group by or aggregate function ["
+								+ item.getLabel() + "]");
+					}
+				} else if (isAggregate && selectClauseCtx.DISTINCT() == null) {
+					throw new HqlException(
+							"Invalid query: Column requires group by when mixed with aggregate functions ["
+									+ item.getLabel() + "]");
+				}
+			}
+		}
+
+		context.setDistinct(selectClauseCtx.DISTINCT() != null);
+		context.setSelectItems(selectItemList);
+		context.setGroupByAttributes(groupByList);
+
+		for (HqlParser.Order_by_expressionContext orderByCtx : rowOrderByList) {
+			int index = getRowOrderByIndex(orderByCtx, selectItemList);
+			context.addRowOrderBy(index, orderByCtx.DESC() == null);
+		}
+	}
+
+	/**
+	 * Returns the attribute name of the specified select list column. Unlike the
+	 * where clause, the map alias or <code>value</code> by itself selects the
+	 * value object, and <code>key</code> selects the key object.
+	 */
+	private String getSelectAttribute(HqlParser.Full_column_nameContext ctx) {
+		if (context.isJoin()) {
+			return getJoinAttribute(ctx, "select list");
+		}
+		if (ctx.column_name() == null) {
+			if (ctx.KEY() != null) {
+				return "__key";
+			} else if (ctx.VALUE() != null && context.getResultType() != ResultType.KEYS) {
+				return "this";
+			}
+		} else if (ctx.path() == null && ctx.DOT().isEmpty() && ctx.column_name().DOT() == null
+				&& ctx.column_name().column_alias() == null
+				&& ctx.column_name().getText().equals(context.getPathAlias())) {
+			return context.getResultType() == ResultType.KEYS ? "__key" : "this";
+		}
+		return getAttribute(ctx, "select list");
+	}
+
+	/**
+	 * Returns the select list index of the specified order by expression of a row
+	 * query. The expression must be a select list column alias, a column or
+	 * aggregate function in the select list, or a select list position beginning
+	 * from 1.
+	 * 
+	 * @throws HqlException Thrown if the expression is not in the select list
+	 */
+	private int getRowOrderByIndex(HqlParser.Order_by_expressionContext ctx, List<SelectItem> selectItemList) {
+		String function = null;
+		String attribute = null;
+		String text;
+		if (ctx.aggregate_function() != null) {
+			function = buildAggregateFunction(ctx.aggregate_function()).toString();
+			text = function;
+		} else {
+			text = ctx.expression().getText();
+			if (ctx.expression() instanceof HqlParser.Primitive_expressionContext
+					&& ((HqlParser.Primitive_expressionContext) ctx.expression()).constant() != null
+					&& ((HqlParser.Primitive_expressionContext) ctx.expression()).constant().number() != null) {
+				// Select list position beginning from 1
+				int position = Integer.parseInt(text);
+				if (position < 1 || position > selectItemList.size()) {
+					throw new HqlException("Invalid query: Order by position out of range [" + text + "]");
+				}
+				return position - 1;
+			} else if (ctx.expression() instanceof HqlParser.Column_ref_expressionContext) {
+				HqlParser.Full_column_nameContext columnCtx = ((HqlParser.Column_ref_expressionContext) ctx
+						.expression()).full_column_name();
+				attribute = getAttribute(columnCtx, "order by");
+			}
+		}
+		for (int i = 0; i < selectItemList.size(); i++) {
+			if (selectItemList.get(i).getLabel().equals(text)) {
+				return i;
+			}
+		}
+		for (int i = 0; i < selectItemList.size(); i++) {
+			SelectItem item = selectItemList.get(i);
+			if (item.isAggregate()) {
+				if (item.getFunction().toString().equals(function)) {
+					return i;
+				}
+			} else if (item.getAttribute().equals(attribute)) {
+				return i;
+			}
+		}
+		throw new HqlException("Invalid query: Order by column must be in the select list [" + text + "]");
+	}
+
+	private AggregateFunction buildAggregateFunction(HqlParser.Aggregate_functionContext ctx) {
+		AggregateFunction.Type type;
+		if (ctx.COUNT() != null) {
+			if (ctx.full_column_name() == null) {
+				return new AggregateFunction(AggregateFunction.Type.COUNT, null);
+			}
+			type = ctx.DISTINCT() == null ? AggregateFunction.Type.COUNT : AggregateFunction.Type.COUNT_DISTINCT;
+		} else if (ctx.SUM() != null) {
+			type = AggregateFunction.Type.SUM;
+		} else if (ctx.AVG() != null) {
+			type = AggregateFunction.Type.AVG;
+		} else if (ctx.MIN() != null) {
+			type = AggregateFunction.Type.MIN;
+		} else {
+			type = AggregateFunction.Type.MAX;
+		}
+		return new AggregateFunction(type, getAttribute(ctx.full_column_name(), "aggregate function"));
+	}
+
+	private String getAlias(HqlParser.Column_aliasContext ctx) {
+		if (ctx.STRING() != null) {
+			String text = ctx.getText();
+			return text.substring(1, text.length() - 1).replace("''", "'");
+		}
+		return ctx.getText();
 	}
 
 	@Override
 	public void exitQuery_specification(HqlParser.Query_specificationContext ctx) {
-		context.setWhereClause(predicateBuilder.toString().trim());
+		context.setPositionalParameterCount(positionalParameterCount);
+		context.setParameterNames(parameterNameSet);
+		if (isRowQuery) {
+			buildRowQuery();
+		}
+		if (context.isJoin() && (context.isAggregate() || context.getGroupByAttributes().size() > 0)) {
+			throw new HqlException("Invalid query: Join does not support aggregate functions or group by ["
+					+ context.getPath() + " " + context.getJoinPath() + "]");
+		}
 		println("exitQuery_specification(): whereClause=" + context.getWhereClause());
 	}
 
@@ -51,8 +51,11 @@ public class PortableFactoryImpl implements PortableFactory {
 
 	public static final int OrderBy_CLASS_ID = __FIRST_CLASS_ID;
 	public static final int OrderByField_CLASS_ID = OrderBy_CLASS_ID + 1;
+	public static final int TopKAggregator_CLASS_ID = OrderByField_CLASS_ID + 1;
+	public static final int JoinTask_CLASS_ID = TopKAggregator_CLASS_ID + 1;
+	public static final int KeysetPredicate_CLASS_ID = JoinTask_CLASS_ID + 1;
 
-	private static final int __LAST_CLASS_ID = OrderByField_CLASS_ID;
+	private static final int __LAST_CLASS_ID = KeysetPredicate_CLASS_ID;
 
 	public static final int X = 1;
 
@@ -61,6 +64,12 @@ public class PortableFactoryImpl implements PortableFactory {
 			return new OrderBy<Object, Object>();
 		} else if (classId == OrderByField_CLASS_ID) {
 			return new OrderByField();
+		} else if (classId == TopKAggregator_CLASS_ID) {
+			return new TopKAggregator();
+		} else if (classId == JoinTask_CLASS_ID) {
+			return new JoinTask();
+		} else if (classId == KeysetPredicate_CLASS_ID) {
+			return new KeysetPredicate();
 		} else {
 			return null;
 		}
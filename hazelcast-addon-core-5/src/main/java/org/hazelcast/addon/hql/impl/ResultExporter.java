@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hazelcast.addon.hql.ExportFormat;
+import org.hazelcast.addon.hql.ResultType;
+
+/**
+ * ResultExporter writes query results to a {@link WritableByteChannel} in CSV
+ * or newline-delimited JSON as they are iterated, so that the results are
+ * never held in memory. The characters are encoded by {@link ChannelWriter}.
+ * <p>
+ * The columns are determined by the first result. Row results have the select
+ * list columns. Keys and values of {@link String}, {@link Number},
+ * {@link Boolean}, {@link Date}, and other scalar types have the single column
+ * "key" or "value". Other objects have one column per getter in the
+ * alphabetical order, excluding the getters of the Hazelcast serialization
+ * interfaces such as <code>getFactoryId()</code>. The key columns of entries
+ * are prefixed with "key.". Results of other classes are read by the same
+ * getter names, and a getter not found is written as null.
+ * <p>
+ * Dates are written in ISO-8601 UTC. In CSV, null is an empty field, and the
+ * fields containing commas, quotes, or line breaks are quoted.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings("rawtypes")
+public class ResultExporter {
+
+	private static final ClassValue<String[]> PROPERTY_NAMES = new ClassValue<String[]>() {
+		@Override
+		protected String[] computeValue(Class<?> type) {
+			return createPropertyNames(type);
+		}
+	};
+
+	private final ExportFormat format;
+	private final ResultType resultType;
+	private final String[] columnLabels;
+
+	private String[] columnNames;
+	// null if the key or value is scalar
+	private String[] keyProperties;
+	private String[] valueProperties;
+	private long byteCount;
+
+	/**
+	 * Constructs a ResultExporter.
+	 *
+	 * @param format       Export format
+	 * @param resultType   Result type
+	 * @param columnLabels Select list column labels. Used only if the result type
+	 *                     is {@link ResultType#ROWS}.
+	 */
+	public ResultExporter(ExportFormat format, ResultType resultType, String[] columnLabels) {
+		this.format = format;
+		this.resultType = resultType;
+		this.columnLabels = columnLabels;
+	}
+
+	/**
+	 * Writes the specified results to the specified channel and returns the
+	 * number of results written. The channel is not closed.
+	 *
+	 * @param results Results of the result type
+	 * @param channel Channel to write to
+	 * @throws IOException Thrown if the channel write fails
+	 */
+	public long export(Iterator<?> results, WritableByteChannel channel) throws IOException {
+		ChannelWriter writer = new ChannelWriter(channel);
+		long count = 0;
+		if (resultType == ResultType.ROWS) {
+			columnNames = columnLabels;
+			writeHeader(writer);
+		}
+		while (results.hasNext()) {
+			Object result = results.next();
+			if (columnNames == null) {
+				initColumns(result);
+				writeHeader(writer);
+			}
+			writeResult(writer, result);
+			count++;
+		}
+		writer.finish();
+		byteCount = writer.getByteCount();
+		return count;
+	}
+
+	/**
+	 * Returns the number of bytes written by the last export.
+	 */
+	public long getByteCount() {
+		return byteCount;
+	}
+
+	private void initColumns(Object result) {
+		List<String> nameList = new ArrayList<String>();
+		switch (resultType) {
+		case KEYS:
+			keyProperties = getPropertyNames(result);
+			addColumnNames(nameList, "key", null, keyProperties);
+			break;
+		case VALUES:
+			valueProperties = getPropertyNames(result);
+			addColumnNames(nameList, "value", null, valueProperties);
+			break;
+		default:
+			Map.Entry entry = (Map.Entry) result;
+			keyProperties = getPropertyNames(entry.getKey());
+			valueProperties = getPropertyNames(entry.getValue());
+			addColumnNames(nameList, "key", "key.", keyProperties);
+			addColumnNames(nameList, "value", null, valueProperties);
+			break;
+		}
+		columnNames = nameList.toArray(new String[nameList.size()]);
+	}
+
+	private static void addColumnNames(List<String> nameList, String scalarName, String prefix, String[] properties) {
+		if (properties == null) {
+			nameList.add(scalarName);
+		} else {
+			for (String property : properties) {
+				nameList.add(prefix == null ? property : prefix + property);
+			}
+		}
+	}
+
+	/**
+	 * Returns the getter property names of the specified object's class. null if
+	 * the object is scalar or null.
+	 */
+	private static String[] getPropertyNames(Object obj) {
+		if (obj == null || isScalar(obj)) {
+			return null;
+		}
+		String[] names = PROPERTY_NAMES.get(obj.getClass());
+		return names.length == 0 ? null : names;
+	}
+
+	private static boolean isScalar(Object obj) {
+		return obj instanceof CharSequence || obj instanceof Number || obj instanceof Boolean
+				|| obj instanceof Character || obj instanceof Date || obj instanceof TemporalAccessor
+				|| obj instanceof Enum || obj instanceof UUID || obj.getClass().isArray();
+	}
+
+	private static String[] createPropertyNames(Class<?> clazz) {
+		List<String> nameList = new ArrayList<String>();
+		for (Method method : clazz.getMethods()) {
+			if (method.getParameterCount() > 0 || method.getReturnType() == void.class
+					|| Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == Object.class
+					|| isHazelcastMethod(clazz, method.getName())) {
+				continue;
+			}
+			String name = method.getName();
+			String property;
+			if (name.startsWith("get") && name.length() > 3) {
+				property = name.substring(3);
+			} else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+				property = name.substring(2);
+			} else {
+				continue;
+			}
+			property = Character.toLowerCase(property.charAt(0)) + property.substring(1);
+			if (nameList.contains(property) == false) {
+				nameList.add(property);
+			}
+		}
+		Collections.sort(nameList);
+		return nameList.toArray(new String[nameList.size()]);
+	}
+
+	/**
+	 * Returns true if the specified getter is declared by a Hazelcast interface
+	 * implemented by the specified class, e.g., <code>getClassId()</code> of
+	 * Portable.
+	 */
+	private static boolean isHazelcastMethod(Class<?> clazz, String methodName) {
+		for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+			for (Class<?> iface : c.getInterfaces()) {
+				if (isHazelcastInterfaceMethod(iface, methodName)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isHazelcastInterfaceMethod(Class<?> iface, String methodName) {
+		if (iface.getName().startsWith("com.hazelcast.")) {
+			try {
+				iface.getMethod(methodName);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not declared
+			}
+		}
+		for (Class<?> superIface : iface.getInterfaces()) {
+			if (isHazelcastInterfaceMethod(superIface, methodName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeHeader(ChannelWriter writer) throws IOException {
+		if (format == ExportFormat.CSV) {
+			for (int i = 0; i < columnNames.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writeCsv(writer, columnNames[i]);
+			}
+			writer.write('\n');
+		}
+	}
+
+	private void writeResult(ChannelWriter writer, Object result) throws IOException {
+		int column = 0;
+		if (format == ExportFormat.JSON) {
+			writer.write('{');
+		}
+		switch (resultType) {
+		case ROWS:
+			for (Object value : (Object[]) result) {
+				writeValue(writer, column++, value);
+			}
+			break;
+		case KEYS:
+			writeObject(writer, column, result, keyProperties);
+			break;
+		case VALUES:
+			writeObject(writer, column, result, valueProperties);
+			break;
+		default:
+			Map.Entry entry = (Map.Entry) result;
+			column = writeObject(writer, column, entry.getKey(), keyProperties);
+			writeObject(writer, column, entry.getValue(), valueProperties);
+			break;
+		}
+		if (format == ExportFormat.JSON) {
+			writer.write('}');
+		}
+		writer.write('\n');
+	}
+
+	/**
+	 * Writes the properties of the specified object and returns the next column
+	 * index.
+	 */
+	private int writeObject(ChannelWriter writer, int column, Object obj, String[] properties) throws IOException {
+		if (properties == null) {
+			writeValue(writer, column++, obj);
+		} else {
+			for (String property : properties) {
+				Object value = null;
+				if (obj != null) {
+					FieldAccessor accessor = FieldAccessor.getAccessor(obj.getClass(), property);
+					value = accessor.get(obj);
+				}
+				writeValue(writer, column++, value);
+			}
+		}
+		return column;
+	}
+
+	private void writeValue(ChannelWriter writer, int column, Object value) throws IOException {
+		if (format == ExportFormat.CSV) {
+			if (column > 0) {
+				writer.write(',');
+			}
+			if (value != null) {
+				writeCsv(writer, toText(value));
+			}
+			return;
+		}
+		if (column > 0) {
+			writer.write(',');
+		}
+		writeJsonString(writer, column < columnNames.length ? columnNames[column] : "column" + column);
+		writer.write(':');
+		if (value == null) {
+			writer.write("null");
+		} else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+				|| value instanceof Short || value instanceof Byte) {
+			writer.write(value.toString());
+		} else if (value instanceof Number) {
+			double d = ((Number) value).doubleValue();
+			if (Double.isNaN(d) || Double.isInfinite(d)) {
+				writer.write("null");
+			} else {
+				writer.write(value.toString());
+			}
+		} else {
+			writeJsonString(writer, toText(value));
+		}
+	}
+
+	private static String toText(Object value) {
+		if (value instanceof Date) {
+			return Instant.ofEpochMilli(((Date) value).getTime()).toString();
+		}
+		return value.toString();
+	}
+
+	private static void writeCsv(ChannelWriter writer, String str) throws IOException {
+		boolean isQuote = false;
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+				isQuote = true;
+				break;
+			}
+		}
+		if (isQuote == false) {
+			writer.write(str);
+			return;
+		}
+		writer.write('"');
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (c == '"') {
+				writer.write('"');
+			}
+			writer.write(c);
+		}
+		writer.write('"');
+	}
+
+	private static void writeJsonString(ChannelWriter writer, String str) throws IOException {
+		writer.write('"');
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			switch (c) {
+			case '"':
+				writer.write("\\\"");
+				break;
+			case '\\':
+				writer.write("\\\\");
+				break;
+			case '\n':
+				writer.write("\\n");
+				break;
+			case '\r':
+				writer.write("\\r");
+				break;
+			case '\t':
+				writer.write("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					writer.write("\\u00");
+					writer.write(Character.forDigit(c >> 4, 16));
+					writer.write(Character.forDigit(c & 0xF, 16));
+				} else {
+					writer.write(c);
+				}
+				break;
+			}
+		}
+		writer.write('"');
+	}
+}
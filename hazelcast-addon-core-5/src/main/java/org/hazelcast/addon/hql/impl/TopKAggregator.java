@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.hql.impl;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.hazelcast.addon.hql.data.OrderBy;
+import org.hazelcast.addon.hql.data.OrderByField;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.PortableReader;
+import com.hazelcast.nio.serialization.PortableWriter;
+import com.hazelcast.nio.serialization.VersionedPortable;
+import com.hazelcast.query.impl.Extractable;
+
+/**
+ * TopKAggregator returns the first K results of a query with the limit clause.
+ * Each member keeps only the best K entries in a bounded heap ordered by the
+ * order by clause, so that the member memory and the number of results sent to
+ * the client are bounded by K regardless of the number of matching entries.
+ * The client merges at most K results per member. Without the order by clause,
+ * the first K matching entries are kept.
+ * <p>
+ * Entry queries keep {@link Map.Entry} objects compared by {@link OrderBy}. If
+ * only the keys are returned, then the value is kept only if the order by
+ * clause refers to the value, and it is dropped from the results returned by
+ * {@link #aggregate()}. Column list queries keep rows
+ * of the projected attribute values compared by {@link RowComparator}.
+ * {@link #aggregate()} returns the results sorted in the order by clause
+ * order.
+ * <p>
+ * Unlike {@link GroupByAggregator}, this class is {@link VersionedPortable} so
+ * that the kept keys and values are serialized by Hazelcast.
+ *
+ * @author dpark
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class TopKAggregator implements Aggregator<Map.Entry, List>, VersionedPortable {
+	private static final long serialVersionUID = 1L;
+
+	private static final Comparator NO_ORDER = (o1, o2) -> 0;
+
+	private int k;
+	// Entry query fields. orderBy is null if the query has no order by clause.
+	private OrderBy orderBy;
+	private boolean isKeysOnly;
+	// Column list query fields. null if entry query.
+	private String[] attributes;
+	private RowComparator rowComparator;
+
+	private transient Comparator comparator;
+	private transient PriorityQueue heap;
+	// true if the entry value is kept for the order by comparison or the results
+	private transient boolean isValueKept;
+
+	public TopKAggregator() {
+	}
+
+	/**
+	 * Constructs a TopKAggregator for an entry query.
+	 *
+	 * @param k          Maximum number of entries to return
+	 * @param orderBy    Order by clause. null if none.
+	 * @param isKeysOnly true to return keys only
+	 */
+	public TopKAggregator(int k, OrderBy orderBy, boolean isKeysOnly) {
+		this.k = k;
+		this.orderBy = orderBy;
+		this.isKeysOnly = isKeysOnly;
+		init();
+	}
+
+	/**
+	 * Constructs a TopKAggregator for a column list query.
+	 *
+	 * @param k             Maximum number of rows to return
+	 * @param attributes    Select list attribute names
+	 * @param rowComparator Order by clause. null if none.
+	 */
+	public TopKAggregator(int k, String[] attributes, RowComparator rowComparator) {
+		this.k = k;
+		this.attributes = attributes;
+		this.rowComparator = rowComparator;
+		init();
+	}
+
+	private void init() {
+		if (attributes == null) {
+			comparator = orderBy;
+			isValueKept = isKeysOnly == false || isValueOrdered(orderBy);
+		} else {
+			comparator = rowComparator;
+		}
+		// The head is the worst of the kept results
+		heap = new PriorityQueue(Math.max(1, Math.min(k, 256)),
+				Collections.reverseOrder(comparator == null ? NO_ORDER : comparator));
+	}
+
+	/**
+	 * Returns true if the specified order by clause refers to the entry value.
+	 */
+	private static boolean isValueOrdered(OrderBy orderBy) {
+		if (orderBy == null || orderBy.getFieldList() == null) {
+			return false;
+		}
+		for (Object field : orderBy.getFieldList()) {
+			SearchType searchType = ((OrderByField) field).getSearchType();
+			if (searchType == SearchType.VALUE_FIELD || searchType == SearchType.VALUE_OBJECT) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void offer(Object result) {
+		if (heap.size() < k) {
+			heap.add(result);
+		} else if (comparator != null && k > 0 && comparator.compare(result, heap.peek()) < 0) {
+			heap.poll();
+			heap.add(result);
+		}
+	}
+
+	@Override
+	public void accumulate(Map.Entry entry) {
+		if (heap.size() >= k && comparator == null) {
+			return;
+		}
+		if (attributes == null) {
+			Object value = isValueKept ? entry.getValue() : null;
+			offer(new AbstractMap.SimpleImmutableEntry(entry.getKey(), value));
+		} else {
+			Extractable extractable = (Extractable) entry;
+			Object[] row = new Object[attributes.length];
+			for (int i = 0; i < attributes.length; i++) {
+				row[i] = extractable.getAttributeValue(attributes[i]);
+			}
+			offer(row);
+		}
+	}
+
+	@Override
+	public void combine(Aggregator aggregator) {
+		TopKAggregator other = (TopKAggregator) aggregator;
+		for (Object result : other.heap) {
+			offer(result);
+		}
+	}
+
+	/**
+	 * Returns the kept results sorted in the order by clause order. The results
+	 * are {@link Map.Entry} objects for entry queries and <code>Object[]</code>
+	 * rows for column list queries. The entry values are null if only the keys
+	 * are returned.
+	 */
+	@Override
+	public List aggregate() {
+		List results = new ArrayList(heap);
+		if (comparator != null) {
+			Collections.sort(results, comparator);
+		}
+		if (isKeysOnly && isValueKept) {
+			for (int i = 0; i < results.size(); i++) {
+				Map.Entry entry = (Map.Entry) results.get(i);
+				results.set(i, new AbstractMap.SimpleImmutableEntry(entry.getKey(), null));
+			}
+		}
+		return results;
+	}
+
+	@Override
+	public int getFactoryId() {
+		return PortableFactoryImpl.FACTORY_ID;
+	}
+
+	@Override
+	public int getClassId() {
+		return PortableFactoryImpl.TopKAggregator_CLASS_ID;
+	}
+
+	@Override
+	public int getClassVersion() {
+		return 1;
+	}
+
+	@Override
+	public void writePortable(PortableWriter writer) throws IOException {
+		writer.writeInt("k", k);
+		writer.writeBoolean("isKeysOnly", isKeysOnly);
+		ObjectDataOutput out = writer.getRawDataOutput();
+		out.writeObject(orderBy);
+		out.writeObject(attributes);
+		if (rowComparator == null) {
+			out.writeInt(0);
+		} else {
+			out.writeInt(rowComparator.getColumnCount());
+			for (int i = 0; i < rowComparator.getColumnCount(); i++) {
+				out.writeInt(rowComparator.getColumnIndex(i));
+				out.writeBoolean(rowComparator.isAsc(i));
+			}
+		}
+		out.writeInt(heap.size());
+		for (Object result : heap) {
+			if (attributes == null) {
+				Map.Entry entry = (Map.Entry) result;
+				out.writeObject(entry.getKey());
+				out.writeObject(entry.getValue());
+			} else {
+				for (Object value : (Object[]) result) {
+					out.writeObject(value);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void readPortable(PortableReader reader) throws IOException {
+		k = reader.readInt("k");
+		isKeysOnly = reader.readBoolean("isKeysOnly");
+		ObjectDataInput in = reader.getRawDataInput();
+		orderBy = in.readObject();
+		attributes = in.readObject();
+		int columnCount = in.readInt();
+		if (columnCount > 0) {
+			rowComparator = new RowComparator();
+			for (int i = 0; i < columnCount; i++) {
+				rowComparator.addColumn(in.readInt(), in.readBoolean());
+			}
+		}
+		init();
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			if (attributes == null) {
+				Object key = in.readObject();
+				Object value = in.readObject();
+				heap.add(new AbstractMap.SimpleImmutableEntry(key, value));
+			} else {
+				Object[] row = new Object[attributes.length];
+				for (int j = 0; j < row.length; j++) {
+					row[j] = in.readObject();
+				}
+				heap.add(row);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TopKAggregator [k=" + k + ", orderBy=" + orderBy + ", rowComparator=" + rowComparator + ", size="
+				+ (heap == null ? 0 : heap.size()) + "]";
+	}
+}
@@ -0,0 +1,173 @@
+package org.hazelcast.addon.test.cluster.junit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hazelcast.addon.cluster.MapStorePkDbImpl;
+import org.hazelcast.addon.cluster.util.HibernatePool;
+import org.hazelcast.demo.nw.data.Order;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+/**
+ * Tests the write-behind writes of {@link MapStorePkDbImpl} with the orders
+ * table. It starts a standalone member and requires the database configured in
+ * the Hibernate configuration file set by the system property
+ * "hazelcast-addon.hibernate.config".
+ *
+ * @author dpark
+ *
+ */
+public class MapStoreStoreTest {
+	private static final String MAP_NAME = "nw/store_orders";
+	private static final String KEY_PREFIX = "StoreTest-";
+	private static final int STORE_BATCH_SIZE = 10;
+
+	private static HazelcastInstance hz;
+	private static CountingMapStore mapStore;
+	private static List<String> keyList = new ArrayList<String>();
+
+	/**
+	 * CountingMapStore counts the entities passed to store() and storeAll().
+	 */
+	static class CountingMapStore extends MapStorePkDbImpl<String, Order> {
+		final AtomicInteger storedCount = new AtomicInteger();
+
+		@Override
+		public void store(String key, Order value) {
+			storedCount.incrementAndGet();
+			super.store(key, value);
+		}
+
+		@Override
+		public void storeAll(Map<String, Order> map) {
+			storedCount.addAndGet(map.size());
+			super.storeAll(map);
+		}
+	}
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		mapStore = new CountingMapStore();
+		MapStoreConfig mapStoreConfig = new MapStoreConfig();
+		mapStoreConfig.setEnabled(true);
+		mapStoreConfig.setImplementation(mapStore);
+		mapStoreConfig.setWriteDelaySeconds(1);
+		mapStoreConfig.setWriteCoalescing(true);
+		mapStoreConfig.setProperties(createProperties());
+		Config config = new Config();
+		config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+		config.getMapConfig(MAP_NAME).setMapStoreConfig(mapStoreConfig);
+		hz = Hazelcast.newHazelcastInstance(config);
+	}
+
+	private static Properties createProperties() {
+		Properties properties = new Properties();
+		properties.setProperty("entity.class", "org.hazelcast.demo.nw.data.Order");
+		properties.setProperty("entity.load.limit", "1");
+		properties.setProperty("entity.db.isWrite", "true");
+		properties.setProperty("entity.store.batch.size", Integer.toString(STORE_BATCH_SIZE));
+		properties.setProperty("entity.store.bulk", "true");
+		return properties;
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			Session session = lease.getSession();
+			Transaction transaction = session.beginTransaction();
+			for (String key : keyList) {
+				Order order = session.get(Order.class, key);
+				if (order != null) {
+					session.delete(order);
+				}
+			}
+			transaction.commit();
+		}
+		Hazelcast.shutdownAll();
+	}
+
+	private static Order createOrder(int index, double freight) {
+		Order order = new Order();
+		order.setOrderId(KEY_PREFIX + index);
+		order.setCustomerId("StoreTest");
+		order.setFreight(freight);
+		if (keyList.contains(order.getOrderId()) == false) {
+			keyList.add(order.getOrderId());
+		}
+		return order;
+	}
+
+	private static Order selectOrder(String orderId) throws InterruptedException {
+		try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+			return lease.getSession().get(Order.class, orderId);
+		}
+	}
+
+	@Test
+	public void testBatchedWrites() throws Exception {
+		IMap<String, Order> map = hz.getMap(MAP_NAME);
+
+		// More entities than the store batch size are inserted and then updated
+		int count = STORE_BATCH_SIZE * 3 + 5;
+		for (double freight = 1; freight <= 2; freight++) {
+			for (int i = 0; i < count; i++) {
+				Order order = createOrder(100 + i, freight * i);
+				map.set(order.getOrderId(), order);
+			}
+			map.flush();
+			for (int i = 0; i < count; i++) {
+				Order order = selectOrder(KEY_PREFIX + (100 + i));
+				Assert.assertNotNull(order);
+				Assert.assertEquals(freight * i, order.getFreight(), 0);
+			}
+		}
+	}
+
+	@Test
+	public void testCoalescedWrites() throws Exception {
+		IMap<String, Order> map = hz.getMap(MAP_NAME);
+		map.flush();
+		int storedCount = mapStore.storedCount.get();
+
+		// Updates of the same key within the write delay are written once
+		for (int i = 1; i <= 5; i++) {
+			Order order = createOrder(0, i);
+			map.set(order.getOrderId(), order);
+		}
+		map.flush();
+		Assert.assertEquals(storedCount + 1, mapStore.storedCount.get());
+		Assert.assertEquals(5, selectOrder(KEY_PREFIX + 0).getFreight(), 0);
+	}
+
+	@Test
+	public void testStoreAllFailure() throws Exception {
+		Map<String, Order> orderMap = new LinkedHashMap<String, Order>();
+		Order order = createOrder(200, 1);
+		orderMap.put(order.getOrderId(), order);
+		// Orders require the primary key
+		orderMap.put(KEY_PREFIX + "null", new Order());
+		try {
+			mapStore.storeAll(orderMap);
+			Assert.fail("Expected the write failure to be rethrown");
+		} catch (RuntimeException ex) {
+			System.out.println(ex);
+		}
+		// The transaction is rolled back
+		Assert.assertNull(selectOrder(order.getOrderId()));
+	}
+}
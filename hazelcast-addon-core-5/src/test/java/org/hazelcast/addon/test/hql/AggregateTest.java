@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.CompiledQuery;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.addon.hql.ResultType;
+import org.hazelcast.addon.hql.impl.AggregateFunction;
+import org.hazelcast.addon.hql.impl.AggregateFunction.Accumulator;
+import org.hazelcast.addon.hql.impl.RowPageResultsImpl;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701) and the test files included in the distribution in the
+ * following directory:
+ * 
+ * <pre>
+ * test / hql
+ * </pre>
+ * 
+ * @author dpark
+ *
+ */
+public class AggregateTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Object[]> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		HazelcastClient.shutdownAll();
+	}
+
+	private void execute(String filePath) throws IOException, HqlException {
+		Path path = Paths.get(filePath);
+		System.out.println(path);
+		CompiledQuery<Object[]> cq = hql.compile(path);
+		cq.dump();
+		Assert.assertEquals(ResultType.ROWS, cq.getResultType());
+		IPageResults<Object[]> results = cq.execute();
+		Assert.assertEquals(ResultType.ROWS, results.getResultType());
+		((RowPageResultsImpl) results).dump();
+		for (Object[] row : results.getResults()) {
+			Assert.assertEquals(cq.getColumnLabels().length, row.length);
+		}
+		System.out.println();
+	}
+
+	@Test
+	public void testAggregate1() throws IOException, HqlException {
+		execute("test/hql/aggregate1.txt");
+	}
+
+	@Test
+	public void testGroupBy1() throws IOException, HqlException {
+		execute("test/hql/group_by1.txt");
+	}
+
+	@Test
+	public void testDistinct1() throws IOException, HqlException {
+		execute("test/hql/distinct1.txt");
+	}
+
+	@Test(expected = HqlException.class)
+	public void testGroupByMissingColumn() throws HqlException {
+		hql.compile("select shipCountry, count(*) from nw/orders group by customerId");
+	}
+
+	@Test
+	public void testSumLong() {
+		Accumulator accumulator = new AggregateFunction(AggregateFunction.Type.SUM, "quantity").createAccumulator();
+		accumulator.accumulate(1);
+		accumulator.accumulate(2L);
+		accumulator.accumulate(null);
+		Assert.assertEquals(3L, accumulator.getResult());
+	}
+
+	@Test
+	public void testSumLongOverflow() {
+		Accumulator accumulator = new AggregateFunction(AggregateFunction.Type.SUM, "quantity").createAccumulator();
+		accumulator.accumulate(Long.MAX_VALUE);
+		accumulator.accumulate(Long.MAX_VALUE);
+		accumulator.accumulate(1);
+		Accumulator other = new AggregateFunction(AggregateFunction.Type.SUM, "quantity").createAccumulator();
+		other.accumulate(Long.MAX_VALUE);
+		accumulator.combine(other);
+		BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(3)).add(BigDecimal.ONE);
+		Assert.assertEquals(expected, accumulator.getResult());
+
+		Accumulator avg = new AggregateFunction(AggregateFunction.Type.AVG, "quantity").createAccumulator();
+		avg.accumulate(Long.MAX_VALUE);
+		avg.accumulate(Long.MAX_VALUE);
+		Assert.assertEquals((double) Long.MAX_VALUE, (Double) avg.getResult(), 0d);
+	}
+
+	@Test
+	public void testSumBigDecimal() {
+		Accumulator accumulator = new AggregateFunction(AggregateFunction.Type.SUM, "price").createAccumulator();
+		for (int i = 0; i < 10; i++) {
+			accumulator.accumulate(new BigDecimal("0.1"));
+		}
+		Assert.assertEquals(new BigDecimal("1.0"), accumulator.getResult());
+
+		Accumulator avg = new AggregateFunction(AggregateFunction.Type.AVG, "price").createAccumulator();
+		avg.accumulate(new BigDecimal("0.1"));
+		avg.accumulate(new BigDecimal("0.2"));
+		Assert.assertEquals(0, new BigDecimal("0.15").compareTo((BigDecimal) avg.getResult()));
+	}
+
+	@Test
+	public void testSumDouble() {
+		Accumulator accumulator = new AggregateFunction(AggregateFunction.Type.SUM, "freight").createAccumulator();
+		accumulator.accumulate(1.5d);
+		accumulator.accumulate(2);
+		Assert.assertEquals(3.5d, (Double) accumulator.getResult(), 0d);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.CompiledQuery;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.addon.hql.QueryPlan;
+import org.hazelcast.addon.hql.ResultType;
+import org.hazelcast.addon.hql.impl.IndexInfo;
+import org.hazelcast.addon.hql.impl.PredicatePlan;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701) and the test files included in the distribution in the
+ * following directory:
+ * 
+ * <pre>
+ * test / hql
+ * </pre>
+ * 
+ * @author dpark
+ *
+ */
+public class ExplainTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Object> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		HazelcastClient.shutdownAll();
+	}
+
+	@Test
+	public void testExplain1() throws IOException, HqlException {
+		Path path = Paths.get("test/hql/explain1.txt");
+		System.out.println(path);
+		CompiledQuery<Object> cq = hql.compile(path);
+		cq.dump();
+		Assert.assertEquals(ResultType.ROWS, cq.getResultType());
+		IPageResults<Object> results = cq.execute();
+		Assert.assertEquals(ResultType.ROWS, results.getResultType());
+		Assert.assertTrue(results.getResults().size() > 0);
+		for (Object row : results.getResults()) {
+			System.out.println(((Object[]) row)[0]);
+		}
+		System.out.println();
+	}
+
+	@Test
+	public void testExplainPlan() throws HqlException {
+		QueryPlan plan = hql.explain("select * from nw/orders where customerId=? or freight between 10 and 20 limit 10");
+		System.out.println(plan);
+		Assert.assertEquals("nw/orders", plan.getMapName());
+		Assert.assertEquals(ResultType.VALUES, plan.getResultType());
+		Assert.assertNotNull(plan.getPredicatePlan());
+		Assert.assertEquals(2, plan.getPredicatePlan().getChildren().size());
+		Assert.assertTrue(plan.getSelectivity() > 0 && plan.getSelectivity() < 1);
+		System.out.println();
+	}
+
+	@Test
+	public void testExplainNot() throws HqlException {
+		QueryPlan plan = hql.explain("select * from nw/orders where not (customerId=?)");
+		System.out.println(plan);
+		PredicatePlan notPlan = plan.getPredicatePlan();
+		Assert.assertEquals(1, notPlan.getChildren().size());
+		Assert.assertFalse(notPlan.isIndexed());
+		Assert.assertFalse(plan.isIndexed());
+		Assert.assertEquals(1 - notPlan.getChildren().get(0).getSelectivity(), notPlan.getSelectivity(), 0);
+		System.out.println();
+	}
+
+	@Test
+	public void testExplainNoWhereClause() throws HqlException {
+		QueryPlan plan = hql.explain("select customerId, count(*) from nw/orders group by customerId");
+		System.out.println(plan);
+		Assert.assertNull(plan.getPredicatePlan());
+		Assert.assertFalse(plan.isIndexed());
+		Assert.assertEquals(1, plan.getSelectivity(), 0);
+		System.out.println();
+	}
+
+	@Test
+	public void testExplainRuntimeIndex() throws HqlException {
+		IMap<String, Order> map = hz.getMap("nw/explain_runtime_index");
+		Order order = new Order();
+		order.setOrderId("ExplainTest");
+		map.set(order.getOrderId(), order);
+		map.addIndex(IndexType.HASH, "shipVia");
+		try {
+			QueryPlan plan = hql.explain("select * from nw/explain_runtime_index where shipVia=?");
+			System.out.println(plan);
+			boolean isFound = false;
+			for (IndexInfo index : plan.getIndexes()) {
+				isFound |= Arrays.asList(index.getAttributes()).contains("shipVia");
+			}
+			Assert.assertTrue(isFound);
+			Assert.assertTrue(plan.isIndexed());
+			System.out.println();
+		} finally {
+			map.destroy();
+		}
+	}
+}
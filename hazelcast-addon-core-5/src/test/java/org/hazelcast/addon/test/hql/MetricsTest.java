@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.addon.hql.QueryMetricsSink;
+import org.hazelcast.addon.hql.impl.HqlMetrics;
+import org.hazelcast.addon.hql.impl.QueryMetrics;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701).
+ *
+ * @author dpark
+ *
+ */
+public class MetricsTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Order> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+		hql.enableMetrics();
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		hql.disableMetrics();
+		HazelcastClient.shutdownAll();
+	}
+
+	@Before
+	public void reset() {
+		hql.getMetrics().reset();
+		hql.getMetrics().setSlowQueryThresholdMillis(1000);
+	}
+
+	@Test
+	public void testQueryShape() throws HqlException {
+		String query = "select * from nw/orders where customerId=? order by freight";
+		int pageCount = 0;
+		for (String customerId : new String[] { "ALFKI", "ANATR", "ANTON" }) {
+			IPageResults<Order> results = hql.execute(query, 10, customerId);
+			while (results.nextPage()) {
+				pageCount++;
+			}
+		}
+		HqlMetrics metrics = hql.getMetrics();
+		Assert.assertEquals(1, metrics.getQueryShapeCount());
+		QueryMetrics queryMetrics = metrics.getQueryMetrics().get(0);
+		System.out.println(queryMetrics);
+		Assert.assertEquals(3, queryMetrics.getExecuteCount());
+		Assert.assertEquals(pageCount, queryMetrics.getPageCount());
+		Assert.assertTrue(queryMetrics.getExecuteP99Micros() >= queryMetrics.getExecuteP50Micros());
+		Assert.assertTrue(queryMetrics.getExecuteMaxMicros() > 0);
+		if (queryMetrics.getRowCount() > 0) {
+			Assert.assertTrue(queryMetrics.getByteCount() > 0);
+		}
+	}
+
+	@Test
+	public void testSlowQuery() throws HqlException {
+		final List<String> slowQueryList = Collections.synchronizedList(new ArrayList<String>());
+		QueryMetricsSink sink = new QueryMetricsSink() {
+			@Override
+			public void onSlowQuery(String query, long elapsedNanos, String plan) {
+				slowQueryList.add(plan);
+			}
+		};
+		HqlMetrics metrics = hql.getMetrics();
+		metrics.addSink(sink);
+		try {
+			metrics.setSlowQueryThresholdMillis(0);
+			hql.execute("select * from nw/orders where freight < 10");
+			Assert.assertEquals(1, metrics.getSlowQueryCount());
+			Assert.assertEquals(1, slowQueryList.size());
+			System.out.println(slowQueryList.get(0));
+			Assert.assertTrue(slowQueryList.get(0).contains("Map: nw/orders"));
+
+			metrics.setSlowQueryThresholdMillis(-1);
+			hql.execute("select * from nw/orders where freight < 10");
+			Assert.assertEquals(1, metrics.getSlowQueryCount());
+		} finally {
+			metrics.removeSink(sink);
+		}
+	}
+
+	@Test
+	public void testMBean() throws Exception {
+		hql.execute("select * from nw/orders where freight < 10");
+		ObjectName objectName = hql.getMetrics().getObjectName();
+		Assert.assertNotNull(objectName);
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		Assert.assertEquals(1, mbeanServer.getAttribute(objectName, "QueryShapeCount"));
+		Assert.assertEquals(1L, mbeanServer.getAttribute(objectName, "ExecuteCount"));
+	}
+
+	@Test
+	public void testSharedMetrics() throws Exception {
+		HqlQuery<Order> hql2 = HqlQuery.newHqlQueryInstance(hz);
+		hql2.enableMetrics();
+		Assert.assertSame(hql.getMetrics(), hql2.getMetrics());
+		hql2.disableMetrics();
+		Assert.assertNotNull(hql.getMetrics().getObjectName());
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName pattern = new ObjectName(
+				HqlMetrics.JMX_DOMAIN + ":type=HqlMetrics,instance=" + ObjectName.quote(hz.getName()) + ",*");
+		Assert.assertEquals(1, mbeanServer.queryNames(pattern, null).size());
+	}
+
+	@Test
+	public void testUnregisterOnShutdown() throws Exception {
+		HazelcastInstance hz2 = HazelcastClient.newHazelcastClient();
+		HqlQuery<Order> hql2 = HqlQuery.newHqlQueryInstance(hz2);
+		hql2.enableMetrics();
+		ObjectName objectName = hql2.getMetrics().getObjectName();
+		Assert.assertNotNull(objectName);
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		Assert.assertTrue(mbeanServer.isRegistered(objectName));
+		hz2.shutdown();
+		Assert.assertFalse(mbeanServer.isRegistered(objectName));
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.addon.hql.impl.ResultCache;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701).
+ * 
+ * @author dpark
+ *
+ */
+public class ResultCacheTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Order> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+		hql.enableResultCache(100, 1, TimeUnit.MINUTES);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		hql.disableResultCache();
+		HazelcastClient.shutdownAll();
+	}
+
+	@Test
+	public void testHitAndInvalidation() throws HqlException, InterruptedException {
+		IMap<String, Order> map = hz.getMap("nw/orders");
+		ResultCache resultCache = hql.getResultCache();
+		String query = "select * from nw/orders where customerId=? order by orderId";
+
+		IPageResults<Order> results = hql.execute(query, 10, "ResultCacheTest");
+		Assert.assertEquals(0, results.getSize());
+		long hitCount = resultCache.getHitCount();
+		results = hql.execute(query, 10, "ResultCacheTest");
+		Assert.assertEquals(hitCount + 1, resultCache.getHitCount());
+
+		Order order = new Order();
+		order.setOrderId("ResultCacheTest");
+		order.setCustomerId("ResultCacheTest");
+		map.set(order.getOrderId(), order);
+		try {
+			long invalidationCount = resultCache.getInvalidationCount();
+			for (int i = 0; i < 50 && resultCache.getInvalidationCount() == invalidationCount; i++) {
+				results = hql.execute(query, 10, "ResultCacheTest");
+				Thread.sleep(100);
+			}
+			results = hql.execute(query, 10, "ResultCacheTest");
+			Assert.assertEquals(1, results.getSize());
+			System.out.println(resultCache);
+		} finally {
+			map.delete(order.getOrderId());
+		}
+	}
+
+	@Test
+	public void testEviction() throws HqlException {
+		HqlQuery<Order> hql = HqlQuery.newHqlQueryInstance(hz);
+		hql.enableResultCache(1, 0, TimeUnit.MILLISECONDS);
+		try {
+			hql.execute("select * from nw/orders where freight < 10", 10);
+			hql.execute("select * from nw/orders where freight < 20", 10);
+			Assert.assertEquals(1, hql.getResultCache().size());
+			Assert.assertEquals(1, hql.getResultCache().getEvictionCount());
+		} finally {
+			hql.disableResultCache();
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.CompiledQuery;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.IPageResults;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701) and the test files included in the distribution in the
+ * following directory:
+ * 
+ * <pre>
+ * test / hql
+ * </pre>
+ * 
+ * @author dpark
+ *
+ */
+public class StreamTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Map.Entry<String, Order>> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		HazelcastClient.shutdownAll();
+	}
+
+	@Test
+	public void testStream() throws IOException, HqlException {
+		Path path = Paths.get("test/hql/and_or1.txt");
+		System.out.println(path);
+		CompiledQuery<?> cq = hql.compile(path);
+		cq.dump();
+		IPageResults<?> results = cq.execute();
+		long count = cq.stream().count();
+		Assert.assertEquals(count, results.stream().count());
+		System.out.println("count=" + count);
+		System.out.println();
+	}
+
+	@Test
+	public void testStreamUnordered() throws IOException, HqlException {
+		Path path = Paths.get("test/hql/entries1.txt");
+		System.out.println(path);
+		CompiledQuery<?> cq = hql.compile(path);
+		cq.dump();
+		long count = cq.stream().count();
+		Assert.assertEquals(count, cq.stream().distinct().count());
+		System.out.println("count=" + count);
+		System.out.println();
+	}
+
+	@Test
+	public void testStreamOrdered() throws IOException, HqlException {
+		Path path = Paths.get("test/hql/and_or1.txt");
+		System.out.println(path);
+		CompiledQuery<?> cq = hql.compile(path);
+		cq.dump();
+		IPageResults<?> results = cq.execute();
+		List<?> list = cq.stream().collect(Collectors.toList());
+		Assert.assertEquals(results.stream().count(), list.size());
+		String prevCustomerId = null;
+		for (Object obj : list) {
+			String customerId = ((Order) obj).getCustomerId();
+			if (prevCustomerId != null) {
+				Assert.assertTrue(prevCustomerId.compareTo(customerId) <= 0);
+			}
+			prevCustomerId = customerId;
+		}
+		System.out.println("count=" + list.size());
+		System.out.println();
+	}
+
+	@Test
+	public void testStreamOrderedSmallPages() throws HqlException {
+		// Pages of 2 entries per partition with many ties on customerId
+		CompiledQuery<?> cq = hql.compile("select * from nw/orders order by customerId", 2);
+		List<?> list = cq.stream().collect(Collectors.toList());
+		Assert.assertEquals(hz.getMap("nw/orders").size(), list.size());
+		Set<String> orderIdSet = new HashSet<String>();
+		String prevCustomerId = null;
+		for (Object obj : list) {
+			Order order = (Order) obj;
+			Assert.assertTrue(orderIdSet.add(order.getOrderId()));
+			String customerId = order.getCustomerId();
+			if (prevCustomerId != null && customerId != null) {
+				Assert.assertTrue(prevCustomerId.compareTo(customerId) <= 0);
+			}
+			prevCustomerId = customerId;
+		}
+		System.out.println("count=" + list.size());
+		System.out.println();
+	}
+}
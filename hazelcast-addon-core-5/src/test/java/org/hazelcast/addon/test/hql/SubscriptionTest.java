@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2008-2019, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hazelcast.addon.test.hql;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.hazelcast.addon.exception.HqlException;
+import org.hazelcast.addon.hql.HqlQuery;
+import org.hazelcast.addon.hql.ISubscription;
+import org.hazelcast.addon.hql.ResultListener;
+import org.hazelcast.demo.nw.data.Order;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+/**
+ * This test requires the a Hazelcast cluster running on localhost with the
+ * default port (5701).
+ *
+ * @author dpark
+ *
+ */
+public class SubscriptionTest {
+
+	private static HazelcastInstance hz;
+	private static HqlQuery<Order> hql;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		setUpClient();
+	}
+
+	private static void setUpClient() {
+		hz = HazelcastClient.newHazelcastClient();
+		hql = HqlQuery.newHqlQueryInstance(hz);
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		HazelcastClient.shutdownAll();
+	}
+
+	@Test
+	public void testSnapshotAndDeltas() throws HqlException, InterruptedException {
+		IMap<String, Order> map = hz.getMap("nw/orders");
+		Order order = new Order();
+		order.setOrderId("SubscriptionTest1");
+		order.setCustomerId("SubscriptionTest");
+		order.setFreight(10);
+		map.set(order.getOrderId(), order);
+
+		EventQueue listener = new EventQueue();
+		ISubscription subscription = hql.subscribe("select * from nw/orders where customerId=? order by freight",
+				listener, "SubscriptionTest");
+		try {
+			Assert.assertEquals("snapshot 1", listener.poll());
+			Assert.assertEquals(1, subscription.size());
+
+			order.setOrderId("SubscriptionTest2");
+			order.setFreight(20);
+			map.set(order.getOrderId(), order);
+			Assert.assertEquals("added SubscriptionTest2 20.0", listener.poll());
+
+			order.setFreight(30);
+			map.set(order.getOrderId(), order);
+			Assert.assertEquals("updated SubscriptionTest2 30.0 20.0", listener.poll());
+
+			map.remove("SubscriptionTest1");
+			Assert.assertEquals("removed SubscriptionTest1 10.0", listener.poll());
+			Assert.assertEquals(1, subscription.size());
+		} finally {
+			subscription.close();
+			map.remove("SubscriptionTest1");
+			map.remove("SubscriptionTest2");
+		}
+		Assert.assertTrue(subscription.isClosed());
+	}
+
+	@Test(expected = HqlException.class)
+	public void testUnsupportedQuery() throws HqlException {
+		hql.subscribe("select customerId, freight from nw/orders", new EventQueue());
+	}
+
+	private static class EventQueue implements ResultListener<Order> {
+		private BlockingQueue<String> queue = new LinkedBlockingQueue<String>();
+
+		String poll() throws InterruptedException {
+			String event = queue.poll(10, TimeUnit.SECONDS);
+			System.out.println(event);
+			return event;
+		}
+
+		@Override
+		public void onSnapshot(List<Order> results) {
+			queue.add("snapshot " + results.size());
+		}
+
+		@Override
+		public void onAdded(Object key, Order result) {
+			queue.add("added " + key + " " + result.getFreight());
+		}
+
+		@Override
+		public void onUpdated(Object key, Order result, Order oldResult) {
+			queue.add("updated " + key + " " + result.getFreight() + " " + oldResult.getFreight());
+		}
+
+		@Override
+		public void onRemoved(Object key, Order oldResult) {
+			queue.add("removed " + key + " " + oldResult.getFreight());
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.junit.Test;
 import com.hazelcast.client.HazelcastClient;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
 
 public class UndefinedMapTest {
 
@@ -64,4 +65,44 @@ public class UndefinedMapTest {
 		}
 		Assert.assertNotNull(ex);
 	}
+
+	/**
+	 * Tests a query on a map created after the HqlQuery instance. The map is
+	 * registered by the distributed object listener without refresh().
+	 */
+	@Test
+	public void testNewMap() throws InterruptedException {
+		HqlQuery<String> hql = HqlQuery.newHqlQueryInstance(hz);
+		Assert.assertFalse(hql.isMapExist("new_map"));
+		IMap<String, String> map = hz.getMap("new_map");
+		try {
+			map.set("key", "value");
+			for (int i = 0; i < 50 && hql.isMapExist("new_map") == false; i++) {
+				Thread.sleep(100);
+			}
+			IPageResults<String> results = hql.execute("select * from new_map", 100);
+			Assert.assertEquals(1, results.getSize());
+		} finally {
+			map.destroy();
+		}
+	}
+
+	/**
+	 * Tests a lookup of a map created after the registry was last refreshed.
+	 * A miss refreshes the registry if the miss refresh interval has elapsed so
+	 * that the map is found without waiting for the listener event.
+	 */
+	@Test
+	public void testMissRefresh() throws InterruptedException {
+		HqlQuery<String> hql = HqlQuery.newHqlQueryInstance(hz);
+		Assert.assertFalse(hql.isMapExist("miss_map"));
+		Thread.sleep(1100);
+		IMap<String, String> map = hz.getMap("miss_map");
+		try {
+			map.set("key", "value");
+			Assert.assertTrue(hql.isMapExist("miss_map"));
+		} finally {
+			map.destroy();
+		}
+	}
 }
@@ -0,0 +1,112 @@
+package org.hazelcast.addon.test.jmh;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.hazelcast.addon.hql.impl.HqlEvalDriver;
+import org.hazelcast.addon.hql.impl.HqlEvalListenerImpl;
+import org.hazelcast.addon.hql.internal.antlr4.generated.HqlLexer;
+import org.hazelcast.addon.hql.internal.antlr4.generated.HqlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * HqlParseBenchmark measures the time it takes to parse and evaluate all of
+ * the HQL test queries in the <code>test/hql</code> directory, which are also
+ * used by the tests in <code>org.hazelcast.addon.test.hql</code>. It compares
+ * {@link HqlEvalDriver}, which parses in SLL mode first and reuses pooled
+ * lexers and parsers, against parsing with a new lexer and parser per
+ * query in the default LL mode, which HqlEvalDriver did previously. Both
+ * benchmarks parse each query and walk its parse tree with
+ * {@link HqlEvalListenerImpl} so that they measure the same work.
+ * <p>
+ * Run from the module directory after building the test classes:
+ *
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes:$(cat classpath.txt) org.hazelcast.addon.test.jmh.HqlParseBenchmark
+ * </pre>
+ *
+ * where classpath.txt is generated by
+ * <code>mvn dependency:build-classpath -Dmdep.outputFile=classpath.txt</code>.
+ *
+ * @author dpark
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HqlParseBenchmark {
+
+	private List<String> queryList;
+
+	@Setup
+	public void setup() throws IOException {
+		queryList = new ArrayList<String>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get("test/hql"), "*.txt")) {
+			for (Path path : stream) {
+				queryList.add(new String(Files.readAllBytes(path), "UTF-8"));
+			}
+		}
+		if (queryList.isEmpty()) {
+			throw new IllegalStateException("No test queries found in test/hql");
+		}
+		HqlEvalDriver.warmUp();
+	}
+
+	@Benchmark
+	public void parseWithDriver(Blackhole blackhole) {
+		for (String query : queryList) {
+			HqlEvalDriver driver = new HqlEvalDriver(query);
+			driver.execute();
+			blackhole.consume(driver.getHqlContext());
+		}
+	}
+
+	@Benchmark
+	public void parseWithNewParserLL(Blackhole blackhole) {
+		for (String query : queryList) {
+			HqlLexer lexer = new HqlLexer(CharStreams.fromString(query));
+			CommonTokenStream tokens = new CommonTokenStream(lexer);
+			HqlParser parser = new HqlParser(tokens);
+			parser.setBuildParseTree(true);
+			parser.setErrorHandler(new BailErrorStrategy());
+			ParseTree tree = parser.hql_file();
+			HqlEvalListenerImpl listener = new HqlEvalListenerImpl();
+			new ParseTreeWalker().walk(listener, tree);
+			blackhole.consume(listener.getHqlContext());
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(HqlParseBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
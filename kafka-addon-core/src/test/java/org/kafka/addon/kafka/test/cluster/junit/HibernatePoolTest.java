@@ -0,0 +1,133 @@
+package org.kafka.addon.kafka.test.cluster.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kafka.addon.cluster.util.HibernatePool;
+
+/**
+ * Tests the acquire timeout, the lease release, and the idle shrink of
+ * {@link HibernatePool}. It requires the database configured in the Hibernate
+ * configuration file set by the system property "kafka-addon.hibernate.config".
+ *
+ * @author dpark
+ *
+ */
+public class HibernatePoolTest {
+
+	private static HibernatePool pool;
+
+	@BeforeClass
+	public static void setUp() throws Exception {
+		pool = HibernatePool.getHibernatePool();
+		Assert.assertNotNull(pool.getSessionFactory());
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		pool.shutdown();
+	}
+
+	private List<HibernatePool.SessionLease> leaseAll() throws InterruptedException {
+		List<HibernatePool.SessionLease> leaseList = new ArrayList<HibernatePool.SessionLease>();
+		for (int i = 0; i < pool.getPoolSize(); i++) {
+			leaseList.add(pool.leaseSession());
+		}
+		return leaseList;
+	}
+
+	private void closeAll(List<HibernatePool.SessionLease> leaseList) {
+		for (HibernatePool.SessionLease lease : leaseList) {
+			lease.close();
+		}
+	}
+
+	@Test
+	public void testAcquireTimeout() throws InterruptedException {
+		List<HibernatePool.SessionLease> leaseList = leaseAll();
+		try {
+			long timeoutCount = pool.getTimeoutCount();
+			long startTime = System.currentTimeMillis();
+			try {
+				pool.leaseSession(200, TimeUnit.MILLISECONDS);
+				Assert.fail("Expected HibernateException");
+			} catch (HibernateException ex) {
+				System.out.println(ex.getMessage());
+			}
+			Assert.assertTrue(System.currentTimeMillis() - startTime >= 200);
+			Assert.assertEquals(timeoutCount + 1, pool.getTimeoutCount());
+		} finally {
+			closeAll(leaseList);
+		}
+
+		// A returned session is available again
+		try (HibernatePool.SessionLease lease = pool.leaseSession(200, TimeUnit.MILLISECONDS)) {
+			Assert.assertNotNull(lease.getSession());
+		}
+	}
+
+	@Test
+	public void testDoubleRelease() throws InterruptedException {
+		HibernatePool.SessionLease lease = pool.leaseSession();
+		Session session = lease.getSession();
+		int activeCount = pool.getActiveCount();
+		lease.close();
+		lease.close();
+		Assert.assertEquals(activeCount - 1, pool.getActiveCount());
+		try {
+			lease.getSession();
+			Assert.fail("Expected IllegalStateException");
+		} catch (IllegalStateException ex) {
+			// expected
+		}
+
+		// Returning the same session again is ignored
+		int idleCount = pool.getIdleCount();
+		int totalCount = pool.getTotalCount();
+		pool.offerSession(session);
+		Assert.assertEquals(idleCount, pool.getIdleCount());
+		Assert.assertEquals(totalCount, pool.getTotalCount());
+
+		// The double release did not add a permit
+		List<HibernatePool.SessionLease> leaseList = leaseAll();
+		try {
+			pool.leaseSession(100, TimeUnit.MILLISECONDS);
+			Assert.fail("Expected HibernateException");
+		} catch (HibernateException ex) {
+			// expected
+		} finally {
+			closeAll(leaseList);
+		}
+	}
+
+	@Test
+	public void testShrinkAfterIdle() throws InterruptedException {
+		Assume.assumeTrue("connection.pool_size must be greater than pool.min_size",
+				pool.getPoolSize() > pool.getMinSize());
+		long idleTimeoutMillis = pool.getIdleTimeoutMillis();
+		closeAll(leaseAll());
+		Assert.assertEquals(pool.getPoolSize(), pool.getTotalCount());
+		long destroyedCount = pool.getDestroyedCount();
+		pool.setIdleTimeoutMillis(100);
+		try {
+			// Housekeeping runs every 5 seconds
+			long timeout = System.currentTimeMillis() + 15000;
+			while (pool.getTotalCount() > pool.getMinSize() && System.currentTimeMillis() < timeout) {
+				Thread.sleep(100);
+			}
+			Assert.assertEquals(pool.getMinSize(), pool.getTotalCount());
+			Assert.assertEquals(pool.getMinSize(), pool.getIdleCount());
+			Assert.assertEquals(destroyedCount + pool.getPoolSize() - pool.getMinSize(), pool.getDestroyedCount());
+		} finally {
+			pool.setIdleTimeoutMillis(idleTimeoutMillis);
+		}
+	}
+}
@@ -1,8 +1,18 @@
 package org.redis.addon.cluster.util;
 
 import java.io.File;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -13,53 +23,129 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * HibernatePool is a Hibernate session pool for a general purpose use. The
- * session pool size is configurable by setting the Hibernate property,
- * "connection.pool_size". The default pool size is 1.
+ * HibernatePool is a Hibernate session pool for a general purpose use. The pool
+ * is elastic. It keeps at least "pool.min_size" sessions and creates sessions
+ * on demand up to "connection.pool_size" sessions. The sessions idle longer
+ * than "pool.idle_timeout" beyond the minimum size are closed.
+ * <p>
+ * The pool is configured by the following Hibernate properties.
+ * <table border="1">
+ * <tr>
+ * <td>Property</td>
+ * <td>Description</td>
+ * <td>Default</td>
+ * </tr>
+ * <tr>
+ * <td>connection.pool_size</td>
+ * <td>Maximum number of sessions</td>
+ * <td>1</td>
+ * </tr>
+ * <tr>
+ * <td>pool.min_size</td>
+ * <td>Minimum number of sessions kept in the pool</td>
+ * <td>1</td>
+ * </tr>
+ * <tr>
+ * <td>pool.acquire_timeout</td>
+ * <td>Maximum time in milliseconds to wait for a session. If <= 0 then the
+ * caller waits until a session becomes available.</td>
+ * <td>30000</td>
+ * </tr>
+ * <tr>
+ * <td>pool.idle_timeout</td>
+ * <td>Time in milliseconds after which an idle session beyond the minimum size
+ * is closed</td>
+ * <td>600000</td>
+ * </tr>
+ * <tr>
+ * <td>pool.validation_interval</td>
+ * <td>Idle time in milliseconds after which a session's JDBC connection is
+ * validated before the session is handed out. Sessions that fail validation
+ * are closed and replaced.</td>
+ * <td>30000</td>
+ * </tr>
+ * <tr>
+ * <td>pool.leak_detection_threshold</td>
+ * <td>Time in milliseconds a session can be held before it is logged as a
+ * possible leak along with the stack trace of the caller that took it. If <= 0
+ * then leak detection is disabled.</td>
+ * <td>0</td>
+ * </tr>
+ * </table>
  * <p>
  * HibernatePool enforces the following honor system.
  * <ul>
- * <li>Invoke takeSession() to get an available session.</li>
- * <li>Upon completion, return the session by invoking offerSession().</li>
- * <li>Once offerSession() is invoked, the caller must not use the session
- * again. The returned session maybe made available to another caller and
- * therefore the caller may experience conflicts if the returned session is
- * reused. If the caller requires a session, then it must invoke takeSession()
- * again to get the next available session.</li>
+ * <li>Invoke leaseSession() in a try-with-resources statement, or invoke
+ * takeSession() to get an available session.</li>
+ * <li>Upon completion, return the session by closing the lease or by invoking
+ * offerSession() in a finally block.</li>
+ * <li>Once the session is returned, the caller must not use the session again.
+ * The returned session maybe made available to another caller and therefore
+ * the caller may experience conflicts if the returned session is reused. If
+ * the caller requires a session, then it must take a session again.</li>
  * <li>The caller must not close the session, i.e., do not invoke
  * session.close().</li>
  * </ul>
  * <p>
- * <b>Example:</b> Note that takeSession() and offerSession() are always paired.
- * When you are done with the session make sure to invoke offerSession() to
- * return it to the pool for others to use.
- * 
+ * <b>Example:</b> The lease returns the session to the pool when it is closed,
+ * even if an exception is thrown.
+ *
  * <pre>
- * Session session = HibernatePool.getHibernatePool().takeSession();
- * CriteriaBuilder cb = session.getCriteriaBuilder();
- * CriteriaQuery<Customer> cr = cb.createQuery(Customer.class);
- * Root<Customer> root = cr.from(Customer.class);
- * cr.select(root);
- * Query<Customer> query = session.createQuery(cr);
- * List<Customer> customers = query.getResultList();
- * HibernatePool.getHibernatePool().offerSession(session);
- * customers.forEach(c -> System.out.println(c));
+ * try (HibernatePool.SessionLease lease = HibernatePool.getHibernatePool().leaseSession()) {
+ * 	Session session = lease.getSession();
+ * 	CriteriaBuilder cb = session.getCriteriaBuilder();
+ * 	CriteriaQuery<Customer> cr = cb.createQuery(Customer.class);
+ * 	Root<Customer> root = cr.from(Customer.class);
+ * 	cr.select(root);
+ * 	Query<Customer> query = session.createQuery(cr);
+ * 	List<Customer> customers = query.getResultList();
+ * 	customers.forEach(c -> System.out.println(c));
+ * }
  * </pre>
- * 
+ *
  * @author dpark
  *
  */
 public class HibernatePool {
 	private static final String PROPERTY_HIBERNATE_CONFIG_FILE = "hazelcast-addon.hibernate.config";
+	private static final String PROPERTY_POOL_SIZE = "connection.pool_size";
+	private static final String PROPERTY_MIN_SIZE = "pool.min_size";
+	private static final String PROPERTY_ACQUIRE_TIMEOUT = "pool.acquire_timeout";
+	private static final String PROPERTY_IDLE_TIMEOUT = "pool.idle_timeout";
+	private static final String PROPERTY_VALIDATION_INTERVAL = "pool.validation_interval";
+	private static final String PROPERTY_LEAK_DETECTION_THRESHOLD = "pool.leak_detection_threshold";
+	private static final long HOUSEKEEPING_INTERVAL_MILLIS = 5000;
+	private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
 	private static StandardServiceRegistry registry;
 	private static SessionFactory sessionFactory;
 	private static int poolSize = 1;
-	
 	final Logger logger = LoggerFactory.getLogger(getClass());
 
-	// Session is not thread-safe. This map holds Session objects created for
-	// individual threads
-	private static ArrayBlockingQueue<Session> sessionPoolQueue;
+	private int minSize = 1;
+	private long acquireTimeoutMillis = 30000;
+	private volatile long idleTimeoutMillis = 600000;
+	private long validationIntervalMillis = 30000;
+	private long leakDetectionThresholdMillis = 0;
+
+	// Session is not thread-safe. Each session is used by one caller at a time.
+	// A permit is held for each session taken from the pool.
+	private Semaphore permits;
+	private final LinkedBlockingDeque<IdleSession> idleDeque = new LinkedBlockingDeque<IdleSession>();
+	private final Map<Session, ActiveSession> activeMap = new ConcurrentHashMap<Session, ActiveSession>();
+	private final AtomicInteger totalCount = new AtomicInteger();
+	private ScheduledExecutorService housekeeper;
+
+	// Metrics
+	private final AtomicLong acquireCount = new AtomicLong();
+	private final AtomicLong acquireWaitNanos = new AtomicLong();
+	private final AtomicLong maxAcquireWaitNanos = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong createdCount = new AtomicLong();
+	private final AtomicLong destroyedCount = new AtomicLong();
+	private final AtomicLong validationFailureCount = new AtomicLong();
+	private final AtomicLong leakCount = new AtomicLong();
+	private final AtomicInteger peakActiveCount = new AtomicInteger();
 
 	private final static HibernatePool hibernatePool = new HibernatePool();
 
@@ -75,7 +161,8 @@ public class HibernatePool {
 	 * Returns the session factory that can be used to create additional sessions as
 	 * needed. If you create new sessions, then you have an option to offer (add)
 	 * them to HibernatePool by invoking the {@linkplain #offerSession(Session)}.
-	 * The offered sessions immediately become available to other callers.
+	 * The offered sessions immediately become available to other callers if the
+	 * pool is not full.
 	 */
 	public SessionFactory getSessionFactory() {
 		if (sessionFactory == null) {
@@ -96,14 +183,13 @@ public class HibernatePool {
 
 				// Create SessionFactory
 				sessionFactory = metadata.getSessionFactoryBuilder().build();
-				poolSize = Integer
-						.valueOf(sessionFactory.getProperties().getOrDefault("connection.pool_size", "1").toString());
+				poolSize = Integer.valueOf(getProperty(PROPERTY_POOL_SIZE, "1"));
 			} catch (Exception e) {
 				// Flush the error. The logger has no flush capability.
 				System.err.println("Hibernate initialization error.");
 				e.printStackTrace(System.err);
 				System.err.flush();
-				
+
 				logger.error("Hibernate initialization error.", e);
 				if (registry != null) {
 					StandardServiceRegistryBuilder.destroy(registry);
@@ -113,58 +199,497 @@ public class HibernatePool {
 		return sessionFactory;
 	}
 
+	private String getProperty(String name, String defaultValue) {
+		return sessionFactory.getProperties().getOrDefault(name, defaultValue).toString().trim();
+	}
+
 	private synchronized void init() {
-		if (sessionPoolQueue != null) {
+		if (permits != null) {
 			return;
 		}
 		SessionFactory sessionFactory = getSessionFactory();
-		sessionPoolQueue = new ArrayBlockingQueue<Session>(poolSize);
-		for (int i = 0; i < poolSize; i++) {
-			Session session = sessionFactory.openSession();
-			sessionPoolQueue.add(session);
+		if (sessionFactory != null) {
+			try {
+				minSize = Integer.valueOf(getProperty(PROPERTY_MIN_SIZE, "1"));
+				acquireTimeoutMillis = Long.valueOf(getProperty(PROPERTY_ACQUIRE_TIMEOUT, "30000"));
+				idleTimeoutMillis = Long.valueOf(getProperty(PROPERTY_IDLE_TIMEOUT, "600000"));
+				validationIntervalMillis = Long.valueOf(getProperty(PROPERTY_VALIDATION_INTERVAL, "30000"));
+				leakDetectionThresholdMillis = Long.valueOf(getProperty(PROPERTY_LEAK_DETECTION_THRESHOLD, "0"));
+			} catch (NumberFormatException ex) {
+				logger.warn("Invalid HibernatePool property. Using the default values for the rest.", ex);
+			}
 		}
+		if (poolSize < 1) {
+			poolSize = 1;
+		}
+		minSize = Math.max(0, Math.min(minSize, poolSize));
+		permits = new Semaphore(poolSize, true);
+		if (sessionFactory == null) {
+			return;
+		}
+		for (int i = 0; i < minSize; i++) {
+			idleDeque.offer(new IdleSession(createSession()));
+		}
+		housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "HibernatePool-housekeeper");
+			thread.setDaemon(true);
+			return thread;
+		});
+		housekeeper.scheduleWithFixedDelay(this::houseKeep, HOUSEKEEPING_INTERVAL_MILLIS,
+				HOUSEKEEPING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
 		String connectionUrl = (String) sessionFactory.getProperties().get("connection.url");
-		logger.info("Hibernate successfully initialized. [connection.url=" + connectionUrl + ", connection.pool_size="
-				+ poolSize + "]");
+		logger.info("Hibernate successfully initialized. [connection.url=" + connectionUrl + ", "
+				+ PROPERTY_POOL_SIZE + "=" + poolSize + ", " + PROPERTY_MIN_SIZE + "=" + minSize + ", "
+				+ PROPERTY_ACQUIRE_TIMEOUT + "=" + acquireTimeoutMillis + ", " + PROPERTY_IDLE_TIMEOUT + "="
+				+ idleTimeoutMillis + ", " + PROPERTY_VALIDATION_INTERVAL + "=" + validationIntervalMillis + ", "
+				+ PROPERTY_LEAK_DETECTION_THRESHOLD + "=" + leakDetectionThresholdMillis + "]");
+	}
+
+	private Session createSession() {
+		Session session = sessionFactory.openSession();
+		totalCount.incrementAndGet();
+		createdCount.incrementAndGet();
+		return session;
+	}
+
+	private void destroySession(Session session) {
+		totalCount.decrementAndGet();
+		destroyedCount.incrementAndGet();
+		try {
+			if (session.isOpen()) {
+				session.close();
+			}
+		} catch (Exception ex) {
+			logger.debug("Error closing session", ex);
+		}
 	}
 
 	/**
-	 * Takes the next available Hibernate session. This call blocks if there are no
-	 * sessions available.
-	 * 
-	 * @throws InterruptedException
+	 * Returns true if the specified idle session is usable. The JDBC connection
+	 * of a session that has been idle longer than the validation interval is
+	 * validated.
+	 */
+	private boolean isValid(IdleSession idleSession) {
+		Session session = idleSession.session;
+		if (session.isOpen() == false) {
+			return false;
+		}
+		if (validationIntervalMillis < 0
+				|| System.currentTimeMillis() - idleSession.idleSince < validationIntervalMillis) {
+			return true;
+		}
+		try {
+			return session.doReturningWork(connection -> connection.isValid(VALIDATION_TIMEOUT_SECONDS));
+		} catch (Exception ex) {
+			logger.debug("Session validation failed", ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Takes the next available Hibernate session. This call blocks up to the
+	 * acquire timeout ("pool.acquire_timeout") if there are no sessions
+	 * available.
+	 *
+	 * @throws InterruptedException Thrown if interrupted while waiting
+	 * @throws HibernateException   Thrown if no session becomes available within
+	 *                              the acquire timeout or Hibernate is not
+	 *                              initialized
 	 */
 	public Session takeSession() throws InterruptedException {
-		Session session = sessionPoolQueue.take();
+		return takeSession(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Takes the next available Hibernate session. This call blocks up to the
+	 * specified timeout if there are no sessions available.
+	 *
+	 * @param timeout Maximum time to wait. If <= 0 then it waits until a session
+	 *                becomes available.
+	 * @param unit    Time unit of the timeout
+	 * @throws InterruptedException Thrown if interrupted while waiting
+	 * @throws HibernateException   Thrown if no session becomes available within
+	 *                              the timeout or Hibernate is not initialized
+	 */
+	public Session takeSession(long timeout, TimeUnit unit) throws InterruptedException {
+		if (sessionFactory == null) {
+			throw new HibernateException("HibernatePool: Hibernate not initialized");
+		}
+		long startTime = System.nanoTime();
+		if (timeout <= 0) {
+			permits.acquire();
+		} else if (permits.tryAcquire(timeout, unit) == false) {
+			timeoutCount.incrementAndGet();
+			throw new HibernateException("HibernatePool: Timed out after " + unit.toMillis(timeout)
+					+ " msec waiting for a session [active=" + getActiveCount() + ", " + PROPERTY_POOL_SIZE + "="
+					+ poolSize + "]");
+		}
+		Session session = null;
+		try {
+			IdleSession idleSession;
+			while (session == null && (idleSession = idleDeque.pollFirst()) != null) {
+				if (isValid(idleSession)) {
+					session = idleSession.session;
+				} else {
+					validationFailureCount.incrementAndGet();
+					destroySession(idleSession.session);
+				}
+			}
+			if (session == null) {
+				session = createSession();
+			}
+		} catch (RuntimeException ex) {
+			permits.release();
+			throw ex;
+		}
+		long waitNanos = System.nanoTime() - startTime;
+		acquireCount.incrementAndGet();
+		acquireWaitNanos.addAndGet(waitNanos);
+		maxAcquireWaitNanos.accumulateAndGet(waitNanos, Math::max);
+		activeMap.put(session, new ActiveSession(
+				leakDetectionThresholdMillis > 0 ? new Exception("Session taken by " + Thread.currentThread()) : null));
+		peakActiveCount.accumulateAndGet(activeMap.size(), Math::max);
 		return session;
 	}
 
+	/**
+	 * Takes the next available session and returns its lease. The lease returns
+	 * the session to the pool when it is closed. Use it in a try-with-resources
+	 * statement so that the session is returned even if an exception is thrown.
+	 * This call blocks up to the acquire timeout ("pool.acquire_timeout") if
+	 * there are no sessions available.
+	 *
+	 * @throws InterruptedException Thrown if interrupted while waiting
+	 * @throws HibernateException   Thrown if no session becomes available within
+	 *                              the acquire timeout or Hibernate is not
+	 *                              initialized
+	 */
+	public SessionLease leaseSession() throws InterruptedException {
+		return new SessionLease(takeSession());
+	}
+
+	/**
+	 * Takes the next available session and returns its lease. This call blocks
+	 * up to the specified timeout if there are no sessions available.
+	 *
+	 * @param timeout Maximum time to wait. If <= 0 then it waits until a session
+	 *                becomes available.
+	 * @param unit    Time unit of the timeout
+	 * @throws InterruptedException Thrown if interrupted while waiting
+	 * @throws HibernateException   Thrown if no session becomes available within
+	 *                              the timeout or Hibernate is not initialized
+	 */
+	public SessionLease leaseSession(long timeout, TimeUnit unit) throws InterruptedException {
+		return new SessionLease(takeSession(timeout, unit));
+	}
+
 	/**
 	 * Offers (or returns) the specified session to the pool. Always invoke this
 	 * method when you are done with the session taken by invoking
-	 * {@linkplain #takeSession()}. It clears the session in order to prevent 
+	 * {@linkplain #takeSession()}. It clears the session in order to prevent
 	 * multiple sessions having the same values. If more than one session have
 	 * the same value then Hibernate throws an exception any may not work properly
 	 * thereafter. By clearing the session, we prevent the exception and also clear
-	 * the Hibernate cache.
-	 * 
+	 * the Hibernate cache. A transaction left active is rolled back. A session
+	 * that has been closed is replaced.
+	 *
 	 * @param session Hibernate session
 	 */
 	public void offerSession(Session session) {
 		if (session == null) {
 			return;
 		}
-		session.clear();
-		sessionPoolQueue.offer(session);
+		ActiveSession activeSession = activeMap.remove(session);
+		if (activeSession == null) {
+			offerExternalSession(session);
+			return;
+		}
+		try {
+			if (session.isOpen()) {
+				if (session.getTransaction().isActive()) {
+					logger.warn("Session returned with an active transaction. Rolling back.");
+					session.getTransaction().rollback();
+				}
+				session.clear();
+				idleDeque.offerFirst(new IdleSession(session));
+			} else {
+				destroySession(session);
+			}
+		} catch (Exception ex) {
+			logger.warn("Discarding a session that cannot be reset: " + ex.getMessage());
+			destroySession(session);
+		} finally {
+			permits.release();
+		}
 	}
 
 	/**
-	 * Shuts down Hibernate by destroying the {@link StandardServiceRegistry}
-	 * created by HibernatePool.
+	 * Adds the specified session created by the caller to the pool if the pool
+	 * is not full. Otherwise, closes it. A session that is already idle in the
+	 * pool is ignored.
+	 */
+	private void offerExternalSession(Session session) {
+		for (IdleSession idleSession : idleDeque) {
+			if (idleSession.session == session) {
+				logger.warn("Session already returned to the pool. Ignored.");
+				return;
+			}
+		}
+		if (session.isOpen() == false) {
+			return;
+		}
+		if (totalCount.incrementAndGet() <= poolSize) {
+			session.clear();
+			idleDeque.offerFirst(new IdleSession(session));
+		} else {
+			totalCount.decrementAndGet();
+			session.close();
+		}
+	}
+
+	/**
+	 * Closes the sessions idle longer than the idle timeout beyond the minimum
+	 * size, and logs the sessions held longer than the leak detection threshold.
+	 */
+	private void houseKeep() {
+		try {
+			long now = System.currentTimeMillis();
+			if (idleTimeoutMillis > 0) {
+				// The least recently used sessions are at the end of the deque
+				IdleSession idleSession;
+				while (totalCount.get() > minSize && (idleSession = idleDeque.peekLast()) != null
+						&& now - idleSession.idleSince > idleTimeoutMillis) {
+					if (idleDeque.removeLastOccurrence(idleSession)) {
+						destroySession(idleSession.session);
+					}
+				}
+			}
+			if (leakDetectionThresholdMillis > 0) {
+				for (ActiveSession activeSession : activeMap.values()) {
+					if (activeSession.isLeakReported == false
+							&& now - activeSession.takenTime > leakDetectionThresholdMillis) {
+						activeSession.isLeakReported = true;
+						leakCount.incrementAndGet();
+						logger.warn("Possible session leak. A session has been held for "
+								+ (now - activeSession.takenTime) + " msec.", activeSession.stackTrace);
+					}
+				}
+			}
+		} catch (Exception ex) {
+			logger.warn("HibernatePool housekeeping error", ex);
+		}
+	}
+
+	/**
+	 * Returns the maximum number of sessions in the pool, i.e., the Hibernate
+	 * property "connection.pool_size".
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * Returns the minimum number of sessions kept in the pool.
+	 */
+	public int getMinSize() {
+		return minSize;
+	}
+
+	/**
+	 * Returns the time in milliseconds after which an idle session beyond the
+	 * minimum size is closed.
+	 */
+	public long getIdleTimeoutMillis() {
+		return idleTimeoutMillis;
+	}
+
+	/**
+	 * Sets the time in milliseconds after which an idle session beyond the
+	 * minimum size is closed. It overrides "pool.idle_timeout" and takes effect
+	 * in the next housekeeping run, which occurs every 5 seconds. If <= 0 then
+	 * idle sessions are not closed.
+	 *
+	 * @param idleTimeoutMillis Idle timeout in milliseconds
+	 */
+	public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	/**
+	 * Returns the number of sessions currently taken from the pool.
+	 */
+	public int getActiveCount() {
+		return activeMap.size();
+	}
+
+	/**
+	 * Returns the number of idle sessions in the pool.
+	 */
+	public int getIdleCount() {
+		return idleDeque.size();
+	}
+
+	/**
+	 * Returns the number of open sessions, i.e., the active and idle sessions.
+	 */
+	public int getTotalCount() {
+		return totalCount.get();
+	}
+
+	/**
+	 * Returns the largest number of sessions taken at the same time.
+	 */
+	public int getPeakActiveCount() {
+		return peakActiveCount.get();
+	}
+
+	/**
+	 * Returns the number of callers waiting for a session.
+	 */
+	public int getWaitingCount() {
+		return permits.getQueueLength();
+	}
+
+	/**
+	 * Returns the number of sessions taken from the pool.
+	 */
+	public long getAcquireCount() {
+		return acquireCount.get();
+	}
+
+	/**
+	 * Returns the average time in milliseconds the callers waited for a session.
+	 */
+	public double getAverageAcquireWaitMillis() {
+		long count = acquireCount.get();
+		return count == 0 ? 0 : acquireWaitNanos.get() / 1_000_000d / count;
+	}
+
+	/**
+	 * Returns the longest time in milliseconds a caller waited for a session.
+	 */
+	public double getMaxAcquireWaitMillis() {
+		return maxAcquireWaitNanos.get() / 1_000_000d;
+	}
+
+	/**
+	 * Returns the number of session requests that timed out.
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	/**
+	 * Returns the number of sessions created by the pool.
+	 */
+	public long getCreatedCount() {
+		return createdCount.get();
+	}
+
+	/**
+	 * Returns the number of sessions closed by the pool.
+	 */
+	public long getDestroyedCount() {
+		return destroyedCount.get();
+	}
+
+	/**
+	 * Returns the number of idle sessions that failed validation.
+	 */
+	public long getValidationFailureCount() {
+		return validationFailureCount.get();
+	}
+
+	/**
+	 * Returns the number of sessions held longer than the leak detection
+	 * threshold.
+	 */
+	public long getLeakCount() {
+		return leakCount.get();
+	}
+
+	/**
+	 * Shuts down Hibernate by closing the idle sessions and destroying the
+	 * {@link StandardServiceRegistry} created by HibernatePool.
 	 */
 	public void shutdown() {
+		if (housekeeper != null) {
+			housekeeper.shutdownNow();
+		}
+		Iterator<IdleSession> iterator = idleDeque.iterator();
+		while (iterator.hasNext()) {
+			IdleSession idleSession = iterator.next();
+			iterator.remove();
+			destroySession(idleSession.session);
+		}
 		if (registry != null) {
 			StandardServiceRegistryBuilder.destroy(registry);
 		}
 	}
-}
\ No newline at end of file
+
+	@Override
+	public String toString() {
+		return "HibernatePool [poolSize=" + poolSize + ", minSize=" + minSize + ", active=" + getActiveCount()
+				+ ", idle=" + getIdleCount() + ", total=" + getTotalCount() + ", peakActive="
+				+ getPeakActiveCount() + ", waiting=" + getWaitingCount() + ", acquireCount=" + getAcquireCount()
+				+ ", avgAcquireWaitMsec=" + String.format("%.3f", getAverageAcquireWaitMillis())
+				+ ", maxAcquireWaitMsec=" + String.format("%.3f", getMaxAcquireWaitMillis()) + ", timeouts="
+				+ getTimeoutCount() + ", created=" + getCreatedCount() + ", destroyed=" + getDestroyedCount()
+				+ ", validationFailures=" + getValidationFailureCount() + ", leaks=" + getLeakCount() + "]";
+	}
+
+	/**
+	 * SessionLease holds a session taken from the pool and returns it to the
+	 * pool when it is closed.
+	 */
+	public class SessionLease implements AutoCloseable {
+		private Session session;
+
+		private SessionLease(Session session) {
+			this.session = session;
+		}
+
+		/**
+		 * Returns the leased session.
+		 *
+		 * @throws IllegalStateException Thrown if the lease has been closed
+		 */
+		public Session getSession() {
+			if (session == null) {
+				throw new IllegalStateException("Session lease closed");
+			}
+			return session;
+		}
+
+		/**
+		 * Returns the session to the pool. The session must not be used
+		 * thereafter.
+		 */
+		@Override
+		public void close() {
+			if (session != null) {
+				offerSession(session);
+				session = null;
+			}
+		}
+	}
+
+	private static class IdleSession {
+		final Session session;
+		final long idleSince = System.currentTimeMillis();
+
+		IdleSession(Session session) {
+			this.session = session;
+		}
+	}
+
+	private static class ActiveSession {
+		final long takenTime = System.currentTimeMillis();
+		final Exception stackTrace;
+		volatile boolean isLeakReported;
+
+		ActiveSession(Exception stackTrace) {
+			this.stackTrace = stackTrace;
+		}
+	}
+}